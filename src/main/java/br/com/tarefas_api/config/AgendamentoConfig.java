@@ -0,0 +1,12 @@
+package br.com.tarefas_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas da aplicação, como a reconciliação dos contadores de categoria.
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
@@ -0,0 +1,66 @@
+package br.com.tarefas_api.config;
+
+import br.com.tarefas_api.domain.Categoria;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Configuração do cache de segundo nível do Hibernate, baseado em JCache com Caffeine.
+ * As regiões da entidade Categoria e do seu natural-id são criadas com tamanho máximo e tempo de expiração
+ * configuráveis, e o CacheManager é entregue ao Hibernate pela propriedade hibernate.javax.cache.cache_manager.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Região do cache das entidades Categoria.
+     */
+    public static final String REGIAO_CATEGORIA = Categoria.class.getName();
+
+    /**
+     * Região do cache que resolve o natural-id (nome) de Categoria para o seu ID.
+     */
+    public static final String REGIAO_CATEGORIA_NATURAL_ID = REGIAO_CATEGORIA + "##NaturalId";
+
+    @Bean
+    public CacheManager hibernateCacheManager(
+            @Value("${tarefas.cache.categoria.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${tarefas.cache.categoria.expiracao:PT10M}") Duration expiracao) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+        configuracao.setMaximumSize(OptionalLong.of(tamanhoMaximo));
+        configuracao.setExpireAfterWrite(OptionalLong.of(expiracao.toNanos()));
+        configuracao.setStatisticsEnabled(true);
+
+        Set<String> existentes = new HashSet<>();
+        cacheManager.getCacheNames().forEach(existentes::add);
+        for (String regiao : List.of(REGIAO_CATEGORIA, REGIAO_CATEGORIA_NATURAL_ID)) {
+            // O CacheManager padrão é compartilhado na JVM (ex.: vários contextos de teste)
+            if (!existentes.contains(regiao)) {
+                cacheManager.createCache(regiao, configuracao);
+            }
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return propriedades -> propriedades.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+}
@@ -0,0 +1,156 @@
+package br.com.tarefas_api.config.formato;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.PaginaItensDTO;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversor de mensagens Protobuf (application/x-protobuf) baseado no Jackson.
+ * <p>
+ * Os schemas são lidos do arquivo {@value #SCHEMA}, que fixa o número de cada campo e é publicado em
+ * GET /protobuf/tarefas.proto para os clientes gerarem o seu código. Um campo novo de um DTO deve ser acrescentado ao
+ * arquivo com o próximo número livre. Como o Protobuf não tem listas na raiz, as listas de itens e de categorias são enviadas nas mensagens {@link ListaDeItens} e
+ * {@link ListaDeCategorias}. Os demais tipos de resposta não são oferecidos em Protobuf.
+ */
+public class ConversorProtobuf extends AbstractJackson2HttpMessageConverter {
+
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+    /**
+     * Arquivo .proto com as mensagens, no classpath.
+     */
+    public static final String SCHEMA = "protobuf/tarefas.proto";
+
+    /**
+     * Mensagens que podem ser lidas do corpo das requisições.
+     */
+    private static final List<Class<?>> MENSAGENS_DE_ENTRADA = List.of(ItemDTO.class, CategoriaDTO.class);
+
+    private final Map<Class<?>, ProtobufSchema> schemas;
+
+    public ConversorProtobuf(ProtobufMapper protobufMapper) {
+        super(protobufMapper, APPLICATION_PROTOBUF);
+        NativeProtobufSchema arquivo = lerSchema();
+        this.schemas = Map.of(
+                ItemDTO.class, arquivo.forType("ItemDTO"),
+                CategoriaDTO.class, arquivo.forType("CategoriaDTO"),
+                PaginaItensDTO.class, arquivo.forType("PaginaItensDTO"),
+                ListaDeItens.class, arquivo.forType("ListaDeItens"),
+                ListaDeCategorias.class, arquivo.forType("ListaDeCategorias"));
+    }
+
+    /**
+     * Retorna o schema de uma mensagem.
+     * @param mensagem Classe da mensagem.
+     * @return Schema da mensagem, ou null se a classe não for enviada em Protobuf.
+     */
+    public ProtobufSchema getSchema(Class<?> mensagem) {
+        return schemas.get(mensagem);
+    }
+
+    @Override
+    public boolean canRead(Type tipo, @Nullable Class<?> contexto, @Nullable MediaType mediaType) {
+        return tipo instanceof Class<?> classe && MENSAGENS_DE_ENTRADA.contains(classe)
+                && super.canRead(tipo, contexto, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type tipo, Class<?> classe, @Nullable MediaType mediaType) {
+        return mensagem(tipo != null ? ResolvableType.forType(tipo) : ResolvableType.forClass(classe)) != null
+                && super.canWrite(classe, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object objeto, @Nullable Type tipo, HttpOutputMessage saida)
+            throws IOException, HttpMessageNotWritableException {
+        Object mensagem = embrulhar(objeto, tipo);
+        super.writeInternal(mensagem, mensagem.getClass(), saida);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType tipo, @Nullable MediaType mediaType) {
+        return writer.with(schemas.get(tipo.getRawClass()));
+    }
+
+    @Override
+    protected ObjectReader customizeReader(ObjectReader reader, JavaType tipo) {
+        return reader.with(schemas.get(tipo.getRawClass()));
+    }
+
+    /**
+     * Identifica a mensagem que representa o tipo da resposta.
+     */
+    private Class<?> mensagem(ResolvableType tipo) {
+        Class<?> classe = tipo.toClass();
+        if (schemas.containsKey(classe)) {
+            return classe;
+        }
+        if (Collection.class.isAssignableFrom(classe)) {
+            Class<?> elemento = tipo.as(Collection.class).getGeneric(0).toClass();
+            if (elemento == ItemDTO.class) {
+                return ListaDeItens.class;
+            }
+            if (elemento == CategoriaDTO.class) {
+                return ListaDeCategorias.class;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object embrulhar(Object objeto, @Nullable Type tipo) {
+        Class<?> mensagem = mensagem(tipo != null ? ResolvableType.forType(tipo) : ResolvableType.forClass(objeto.getClass()));
+        if (mensagem == ListaDeItens.class) {
+            return new ListaDeItens((List<ItemDTO>) objeto);
+        }
+        if (mensagem == ListaDeCategorias.class) {
+            return new ListaDeCategorias((List<CategoriaDTO>) objeto);
+        }
+        return objeto;
+    }
+
+    private static NativeProtobufSchema lerSchema() {
+        try (InputStream entrada = new ClassPathResource(SCHEMA).getInputStream()) {
+            return ProtobufSchemaLoader.std.loadNative(entrada, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler o schema Protobuf " + SCHEMA, e);
+        }
+    }
+
+    /**
+     * Mensagem com uma lista de itens, como a de GET /itens.
+     */
+    public record ListaDeItens(List<ItemDTO> itens) {
+    }
+
+    /**
+     * Mensagem com uma lista de categorias, como a de GET /categorias.
+     */
+    public record ListaDeCategorias(List<CategoriaDTO> categorias) {
+    }
+
+}
@@ -0,0 +1,75 @@
+package br.com.tarefas_api.config.formato;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Negociação de formatos binários pelo cabeçalho Accept (e Content-Type nas requisições): CBOR (application/cbor),
+ * Smile (application/x-jackson-smile) e Protobuf (application/x-protobuf), além do JSON.
+ * <p>
+ * Os ObjectMappers dos formatos binários partem da mesma configuração do ObjectMapper JSON do Spring Boot, acrescida do
+ * {@link FormatosBinariosModule}. Os conversores são acrescentados após o JSON, que continua sendo o formato das
+ * requisições sem Accept ou com Accept: *&#47;*. Como uma mesma URL passa a ter várias representações, as respostas
+ * informam Vary: Accept para que os caches não entreguem um formato a um cliente que pediu outro, e as ETags recebem o
+ * sufixo do formato negociado ({@link br.com.tarefas_api.utils.EtagUtils#etagDoFormato}), já que uma ETag forte
+ * identifica uma única representação. O schema das mensagens
+ * Protobuf é publicado em GET /protobuf/tarefas.proto.
+ */
+@Configuration
+public class FormatosBinariosConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public FormatosBinariosConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Substitui os conversores CBOR e Smile registrados pelo Spring MVC, que não têm o módulo dos formatos binários
+        converters.removeIf(conversor -> conversor instanceof MappingJackson2CborHttpMessageConverter
+                || conversor instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(builder().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(builder().factory(new SmileFactory()).build()));
+        ProtobufMapper protobufMapper = new ProtobufMapper();
+        builder().configure(protobufMapper);
+        converters.add(new ConversorProtobuf(protobufMapper));
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/protobuf/**").addResourceLocations("classpath:/protobuf/");
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/itens/**", "/categorias/**");
+    }
+
+    private Jackson2ObjectMapperBuilder builder() {
+        return objectMapperBuilder.getObject().modulesToInstall(new FormatosBinariosModule());
+    }
+
+}
@@ -0,0 +1,84 @@
+package br.com.tarefas_api.config.formato;
+
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.ListaItensDTO;
+import br.com.tarefas_api.dto.ListaItensSerializer;
+import br.com.tarefas_api.utils.DateUtils;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.StdConverter;
+
+import java.util.UUID;
+
+/**
+ * Ajusta a representação dos DTOs nos formatos binários (CBOR, Smile e Protobuf): as datas, que no JSON são textos
+ * no formato dd/MM/yyyy HH:mm, são escritas e lidas em milissegundos desde a época, e as listagens de itens usam a
+ * variante binária do {@link ListaItensSerializer}. Os IDs já são escritos em 16 bytes pelo próprio Jackson nesses
+ * formatos.
+ * <p>
+ * O ItemDTO é convertido para {@link ItemBinario}, que tem as datas em long: assim o schema Protobuf gerado declara as
+ * datas como int64, e o ItemDTO e o JSON permanecem inalterados.
+ */
+public class FormatosBinariosModule extends SimpleModule {
+
+    public FormatosBinariosModule() {
+        super(FormatosBinariosModule.class.getSimpleName());
+        setMixInAnnotation(ItemDTO.class, ItemDTOBinario.class);
+        setMixInAnnotation(ListaItensDTO.class, ListaItensDTOBinaria.class);
+    }
+
+    /**
+     * Representação do ItemDTO nos formatos binários, com os mesmos campos, na mesma ordem.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ItemBinario(UUID id, String descricao, boolean concluido, Long dataCriacao, Long dataAtualizacao,
+                              Long dataLimite, UUID categoriaId) {
+    }
+
+    @JsonSerialize(converter = ParaItemBinario.class)
+    @JsonDeserialize(converter = DeItemBinario.class)
+    private abstract static class ItemDTOBinario {
+    }
+
+    @JsonSerialize(using = ListaItensSerializer.Binario.class)
+    private abstract static class ListaItensDTOBinaria {
+    }
+
+    static class ParaItemBinario extends StdConverter<ItemDTO, ItemBinario> {
+
+        @Override
+        public ItemBinario convert(ItemDTO item) {
+            return new ItemBinario(item.getId(), item.getDescricao(), item.isConcluido(), emEpoch(item.getDataCriacao()),
+                    emEpoch(item.getDataAtualizacao()), emEpoch(item.getDataLimite()), item.getCategoriaId());
+        }
+
+        private static Long emEpoch(String data) {
+            return data == null ? null : DateUtils.toEpochMilli(DateUtils.parseDate(data));
+        }
+
+    }
+
+    static class DeItemBinario extends StdConverter<ItemBinario, ItemDTO> {
+
+        @Override
+        public ItemDTO convert(ItemBinario item) {
+            return ItemDTO.builder()
+                    .id(item.id())
+                    .descricao(item.descricao())
+                    .concluido(item.concluido())
+                    .dataCriacao(formatada(item.dataCriacao()))
+                    .dataAtualizacao(formatada(item.dataAtualizacao()))
+                    .dataLimite(formatada(item.dataLimite()))
+                    .categoriaId(item.categoriaId())
+                    .build();
+        }
+
+        private static String formatada(Long epochMilli) {
+            return epochMilli == null ? null : DateUtils.formatDate(DateUtils.fromEpochMilli(epochMilli));
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.com.tarefas_api.config.metricas;
+
+/**
+ * Acesso ao banco de dados acumulado durante uma requisição HTTP: comandos SQL executados, tempo gasto na execução
+ * desses comandos pelo driver JDBC e entidades carregadas pelo Hibernate.
+ * <p>
+ * As estatísticas ficam associadas à thread que atende a requisição, pois os ouvintes do Hibernate que as alimentam
+ * são instanciados pelo próprio Hibernate, fora do contexto do Spring.
+ */
+public final class EstatisticasDeBanco {
+
+    private static final ThreadLocal<EstatisticasDeBanco> ATUAL = new ThreadLocal<>();
+
+    private int comandos;
+    private long nanosJdbc;
+    private int entidadesCarregadas;
+
+    /**
+     * Inicia a contagem na thread atual.
+     *
+     * @return Estatísticas da thread atual, zeradas.
+     */
+    static EstatisticasDeBanco iniciar() {
+        EstatisticasDeBanco estatisticas = new EstatisticasDeBanco();
+        ATUAL.set(estatisticas);
+        return estatisticas;
+    }
+
+    /**
+     * Encerra a contagem na thread atual.
+     */
+    static void encerrar() {
+        ATUAL.remove();
+    }
+
+    /**
+     * Estatísticas da thread atual, ou {@code null} fora de uma requisição.
+     */
+    static EstatisticasDeBanco atual() {
+        return ATUAL.get();
+    }
+
+    void registrarComando(long nanos) {
+        comandos++;
+        nanosJdbc += nanos;
+    }
+
+    void registrarEntidadeCarregada() {
+        entidadesCarregadas++;
+    }
+
+    public int comandos() {
+        return comandos;
+    }
+
+    public long nanosJdbc() {
+        return nanosJdbc;
+    }
+
+    public int entidadesCarregadas() {
+        return entidadesCarregadas;
+    }
+
+}
@@ -0,0 +1,36 @@
+package br.com.tarefas_api.config.metricas;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registra no Hibernate a contagem das entidades carregadas em cada requisição, tanto do banco quanto do cache de
+ * segundo nível. As consultas que retornam projeções não carregam entidades e, portanto, não entram na contagem.
+ */
+class IntegradorDeMetricas implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        PostLoadEventListener contador = evento -> {
+            EstatisticasDeBanco estatisticas = EstatisticasDeBanco.atual();
+            if (estatisticas != null) {
+                estatisticas.registrarEntidadeCarregada();
+            }
+        };
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, contador);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // Os ouvintes são descartados junto com a SessionFactory
+    }
+
+}
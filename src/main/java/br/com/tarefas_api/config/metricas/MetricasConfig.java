@@ -0,0 +1,38 @@
+package br.com.tarefas_api.config.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.SessionEventSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Instrumentação do acesso ao banco por requisição: os ouvintes do Hibernate acumulam os comandos SQL e as entidades
+ * carregadas da requisição, e o filtro {@link MetricasDeRequisicao} os publica como métricas do Micrometer.
+ */
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer metricasDeSessaoCustomizer() {
+        return propriedades -> {
+            propriedades.put(SessionEventSettings.AUTO_SESSION_EVENTS_LISTENER, OuvinteDeSessao.class.getName());
+            propriedades.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new IntegradorDeMetricas()));
+        };
+    }
+
+    @Bean
+    public MetricasDeRequisicao metricasDeRequisicao(
+            MeterRegistry meterRegistry,
+            @Value("${tarefas.requisicoes.lentas.limite:PT1S}") Duration limiteRequisicaoLenta) {
+        return new MetricasDeRequisicao(meterRegistry, limiteRequisicaoLenta);
+    }
+
+}
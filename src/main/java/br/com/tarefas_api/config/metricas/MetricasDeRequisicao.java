@@ -0,0 +1,93 @@
+package br.com.tarefas_api.config.metricas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica, por método de controller, os comandos SQL, o tempo de JDBC e as entidades carregadas em cada requisição,
+ * e registra no log as requisições que levam mais que o limite configurado, com o acesso ao banco que fizeram.
+ * <p>
+ * Métricas (tag {@code metodo}, ex.: {@code ItemController.listarItens}):
+ * <ul>
+ *     <li>{@code tarefas.requisicao.comandos}: comandos SQL executados pela requisição;</li>
+ *     <li>{@code tarefas.requisicao.jdbc}: tempo de execução desses comandos;</li>
+ *     <li>{@code tarefas.requisicao.entidades}: entidades carregadas pelo Hibernate.</li>
+ * </ul>
+ * Nos streams de eventos, somente a abertura da assinatura é medida. Os métodos anotados com
+ * {@link SemMetricasDeBanco}, como a importação e a exportação de itens por COPY, não são medidos: o COPY não passa pelos
+ * ouvintes do Hibernate e a exportação é executada depois que o filtro termina.
+ */
+@Slf4j
+public class MetricasDeRequisicao extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration limiteRequisicaoLenta;
+
+    public MetricasDeRequisicao(MeterRegistry meterRegistry, Duration limiteRequisicaoLenta) {
+        this.meterRegistry = meterRegistry;
+        this.limiteRequisicaoLenta = limiteRequisicaoLenta;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EstatisticasDeBanco estatisticas = EstatisticasDeBanco.iniciar();
+        long inicio = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long duracao = System.nanoTime() - inicio;
+            EstatisticasDeBanco.encerrar();
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                    && !handler.hasMethodAnnotation(SemMetricasDeBanco.class)) {
+                registrar(request, response, nome(handler), estatisticas, duracao);
+            }
+        }
+    }
+
+    private void registrar(HttpServletRequest request, HttpServletResponse response, String metodo,
+                           EstatisticasDeBanco estatisticas, long duracao) {
+        DistributionSummary.builder("tarefas.requisicao.comandos")
+                .description("Comandos SQL executados por requisição")
+                .baseUnit("comandos")
+                .tag("metodo", metodo)
+                .register(meterRegistry)
+                .record(estatisticas.comandos());
+        Timer.builder("tarefas.requisicao.jdbc")
+                .description("Tempo de execução dos comandos SQL por requisição")
+                .tag("metodo", metodo)
+                .register(meterRegistry)
+                .record(estatisticas.nanosJdbc(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("tarefas.requisicao.entidades")
+                .description("Entidades carregadas pelo Hibernate por requisição")
+                .baseUnit("entidades")
+                .tag("metodo", metodo)
+                .register(meterRegistry)
+                .record(estatisticas.entidadesCarregadas());
+
+        if (duracao >= limiteRequisicaoLenta.toNanos()) {
+            log.warn("Requisição lenta: {} {} ({}) respondeu {} em {} ms; {} comandos SQL em {} ms, {} entidades carregadas",
+                    request.getMethod(), request.getRequestURI(), metodo, response.getStatus(),
+                    TimeUnit.NANOSECONDS.toMillis(duracao), estatisticas.comandos(),
+                    TimeUnit.NANOSECONDS.toMillis(estatisticas.nanosJdbc()), estatisticas.entidadesCarregadas());
+        }
+    }
+
+    private static String nome(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+    }
+
+}
@@ -0,0 +1,42 @@
+package br.com.tarefas_api.config.metricas;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Registra nas {@link EstatisticasDeBanco} da requisição cada comando SQL executado por uma sessão do Hibernate.
+ * Um lote JDBC conta como um único comando, pois é enviado ao banco em uma única ida e volta.
+ * <p>
+ * O Hibernate cria uma instância por sessão a partir da propriedade hibernate.session.events.auto.
+ */
+public class OuvinteDeSessao implements SessionEventListener {
+
+    private long inicio;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        inicio = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        registrar();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        inicio = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        registrar();
+    }
+
+    private void registrar() {
+        EstatisticasDeBanco estatisticas = EstatisticasDeBanco.atual();
+        if (estatisticas != null) {
+            estatisticas.registrarComando(System.nanoTime() - inicio);
+        }
+    }
+
+}
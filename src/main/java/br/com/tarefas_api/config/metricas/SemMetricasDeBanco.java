@@ -0,0 +1,20 @@
+package br.com.tarefas_api.config.metricas;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Exclui um método de controller das métricas de acesso ao banco do {@link MetricasDeRequisicao}.
+ * <p>
+ * Destina-se aos endpoints cujo acesso ao banco não é visto pelo filtro: os que o executam fora da thread da requisição,
+ * como as respostas em streaming, e os que executam comandos pela conexão JDBC, sem passar pelos ouvintes do Hibernate,
+ * como o COPY. As métricas desses endpoints mostrariam quase nenhum comando e somente o tempo de preparação.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SemMetricasDeBanco {
+}
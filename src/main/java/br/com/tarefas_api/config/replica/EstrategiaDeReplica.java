@@ -0,0 +1,17 @@
+package br.com.tarefas_api.config.replica;
+
+/**
+ * Critério de escolha da réplica que atende uma transação somente leitura.
+ */
+public enum EstrategiaDeReplica {
+
+    /**
+     * Alterna entre as réplicas disponíveis, uma transação para cada.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Escolhe a réplica disponível com menos conexões em uso no pool.
+     */
+    MENOS_CONEXOES
+}
@@ -0,0 +1,110 @@
+package br.com.tarefas_api.config.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Garante que um cliente leia as próprias escritas: durante a janela configurada após uma escrita, as transações
+ * somente leitura do mesmo cliente são atendidas pelo primário, e não por uma réplica possivelmente atrasada.
+ * <p>
+ * O horário da última escrita é devolvido ao cliente em um cookie que expira junto com a janela, de modo que a
+ * regra vale mesmo que a requisição seguinte seja atendida por outra instância da aplicação.
+ */
+public class LeituraDasPropriasEscritas extends OncePerRequestFilter {
+
+    /**
+     * Cookie com o horário, em milissegundos desde a época, da última escrita do cliente.
+     */
+    public static final String COOKIE = "tarefas-ultima-escrita";
+
+    private final ThreadLocal<Requisicao> requisicaoAtual = new ThreadLocal<>();
+    private final Duration janela;
+
+    public LeituraDasPropriasEscritas(Duration janela) {
+        this.janela = janela;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (janela.isZero()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        requisicaoAtual.set(new Requisicao(response, ultimaEscrita(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            requisicaoAtual.remove();
+        }
+    }
+
+    /**
+     * Indica se a requisição atual vem de um cliente que escreveu dentro da janela. Só responde na thread da
+     * requisição; o trabalho executado em outra thread deve consultar antes e levar a decisão consigo.
+     *
+     * @return {@code true} se as leituras devem ir ao primário.
+     */
+    public boolean deveLerDoPrimario() {
+        Requisicao requisicao = requisicaoAtual.get();
+        return requisicao != null && requisicao.ultimaEscrita != null
+                && requisicao.ultimaEscrita.plus(janela).isAfter(Instant.now());
+    }
+
+    /**
+     * Registra uma escrita da requisição atual e envia o cookie ao cliente, se a resposta ainda não foi enviada.
+     */
+    void registrarEscrita() {
+        Requisicao requisicao = requisicaoAtual.get();
+        if (requisicao == null) {
+            return;
+        }
+        requisicao.ultimaEscrita = Instant.now();
+        if (!requisicao.cookieEnviado && !requisicao.resposta.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE, String.valueOf(requisicao.ultimaEscrita.toEpochMilli()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, janela.toSeconds()));
+            requisicao.resposta.addCookie(cookie);
+            requisicao.cookieEnviado = true;
+        }
+    }
+
+    private static Instant ultimaEscrita(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Instant.ofEpochMilli(Long.parseLong(cookie.getValue()));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class Requisicao {
+
+        private final HttpServletResponse resposta;
+        private Instant ultimaEscrita;
+        private boolean cookieEnviado;
+
+        private Requisicao(HttpServletResponse resposta, Instant ultimaEscrita) {
+            this.resposta = resposta;
+            this.ultimaEscrita = ultimaEscrita;
+        }
+
+    }
+
+}
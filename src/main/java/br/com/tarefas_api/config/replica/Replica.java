@@ -0,0 +1,101 @@
+package br.com.tarefas_api.config.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Réplica de leitura com o seu pool de conexões e a situação da última verificação.
+ */
+@Slf4j
+class Replica {
+
+    /**
+     * Atraso de replicação em segundos; zero no primário ou quando a réplica já aplicou tudo o que recebeu,
+     * pois sem escritas recentes o horário da última transação aplicada não indica atraso.
+     */
+    private static final String CONSULTA_ATRASO = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final String nome;
+    private final HikariDataSource dataSource;
+    private volatile boolean disponivel;
+
+    Replica(String nome, HikariDataSource dataSource) {
+        this.nome = nome;
+        this.dataSource = dataSource;
+    }
+
+    String nome() {
+        return nome;
+    }
+
+    boolean disponivel() {
+        return disponivel;
+    }
+
+    Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Conexões da réplica em uso no momento; zero enquanto o pool não foi iniciado.
+     */
+    int conexoesAtivas() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+
+    /**
+     * Consulta a réplica e a considera disponível se ela responder com atraso de replicação até o máximo informado.
+     *
+     * @param atrasoMaximo Maior atraso de replicação aceito para leituras.
+     * @param tempoLimite  Tempo máximo de espera pela consulta.
+     */
+    void verificar(Duration atrasoMaximo, Duration tempoLimite) {
+        try (Connection conexao = dataSource.getConnection();
+             Statement comando = conexao.createStatement()) {
+            comando.setQueryTimeout((int) Math.max(1, tempoLimite.toSeconds()));
+            try (ResultSet resultado = comando.executeQuery(CONSULTA_ATRASO)) {
+                resultado.next();
+                Duration atraso = Duration.ofMillis((long) (resultado.getDouble(1) * 1000));
+                if (atraso.compareTo(atrasoMaximo) > 0) {
+                    marcarIndisponivel("atraso de replicação de " + atraso.toMillis() + " ms");
+                } else {
+                    marcarDisponivel();
+                }
+            }
+        } catch (SQLException e) {
+            marcarIndisponivel(e.getMessage());
+        }
+    }
+
+    void marcarIndisponivel(String motivo) {
+        if (disponivel) {
+            log.warn("Réplica {} indisponível para leituras: {}", nome, motivo);
+        }
+        disponivel = false;
+    }
+
+    private void marcarDisponivel() {
+        if (!disponivel) {
+            log.info("Réplica {} disponível para leituras", nome);
+        }
+        disponivel = true;
+    }
+
+    void fechar() {
+        dataSource.close();
+    }
+
+}
@@ -0,0 +1,78 @@
+package br.com.tarefas_api.config.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roteamento das transações somente leitura para réplicas de leitura, habilitado por tarefas.replicas.habilitado.
+ * O primário continua configurado em spring.datasource.*; as réplicas usam as mesmas credenciais e o mesmo tamanho
+ * de pool, com um tempo limite de conexão curto para que uma réplica fora do ar devolva a leitura logo ao primário.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tarefas.replicas.habilitado", havingValue = "true")
+public class ReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties propriedades) {
+        HikariDataSource dataSource = propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    public LeituraDasPropriasEscritas leituraDasPropriasEscritas(
+            @Value("${tarefas.replicas.leitura-das-proprias-escritas:PT0S}") Duration janela) {
+        return new LeituraDasPropriasEscritas(janela);
+    }
+
+    @Bean
+    public RoteadorDeDataSource roteadorDeDataSource(
+            HikariDataSource dataSourcePrimario,
+            DataSourceProperties propriedades,
+            LeituraDasPropriasEscritas leituraDasPropriasEscritas,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${tarefas.replicas.urls}") List<String> urls,
+            @Value("${tarefas.replicas.estrategia:ROUND_ROBIN}") EstrategiaDeReplica estrategia,
+            @Value("${tarefas.replicas.atraso-maximo:PT10S}") Duration atrasoMaximo,
+            @Value("${tarefas.replicas.tempo-limite-conexao:PT1S}") Duration tempoLimite) {
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + (i + 1));
+            dataSource.setJdbcUrl(urls.get(i));
+            dataSource.setUsername(propriedades.determineUsername());
+            dataSource.setPassword(propriedades.determinePassword());
+            dataSource.setMaximumPoolSize(dataSourcePrimario.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(tempoLimite.toMillis());
+            dataSource.setReadOnly(true);
+            // O pool é iniciado na primeira conexão, para que uma réplica fora do ar não impeça a inicialização
+            dataSource.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+            replicas.add(new Replica(dataSource.getPoolName(), dataSource));
+        }
+        return new RoteadorDeDataSource(dataSourcePrimario, replicas, estrategia, leituraDasPropriasEscritas,
+                atrasoMaximo, tempoLimite);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteadorDeDataSource roteadorDeDataSource) {
+        return new LazyConnectionDataSourceProxy(roteadorDeDataSource);
+    }
+
+}
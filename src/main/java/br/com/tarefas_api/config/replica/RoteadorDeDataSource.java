@@ -0,0 +1,114 @@
+package br.com.tarefas_api.config.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envia as transações somente leitura às réplicas e as demais ao primário.
+ * <p>
+ * A decisão depende da transação em curso, por isso este DataSource deve ser envolvido por um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: a conexão só é obtida no primeiro
+ * comando, quando o Spring já marcou a transação como somente leitura. As réplicas são verificadas periodicamente;
+ * as que não respondem ou estão atrasadas além do limite deixam de receber leituras até a próxima verificação
+ * bem-sucedida. Sem réplica disponível, ou se a conexão com a escolhida falhar, a leitura vai ao primário.
+ */
+@Slf4j
+public class RoteadorDeDataSource extends AbstractDataSource implements DisposableBean {
+
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final EstrategiaDeReplica estrategia;
+    private final LeituraDasPropriasEscritas leituraDasPropriasEscritas;
+    private final Duration atrasoMaximo;
+    private final Duration tempoLimite;
+    private final AtomicInteger proxima = new AtomicInteger();
+
+    RoteadorDeDataSource(DataSource primario,
+                         List<Replica> replicas,
+                         EstrategiaDeReplica estrategia,
+                         LeituraDasPropriasEscritas leituraDasPropriasEscritas,
+                         Duration atrasoMaximo,
+                         Duration tempoLimite) {
+        this.primario = primario;
+        this.replicas = List.copyOf(replicas);
+        this.estrategia = estrategia;
+        this.leituraDasPropriasEscritas = leituraDasPropriasEscritas;
+        this.atrasoMaximo = atrasoMaximo;
+        this.tempoLimite = tempoLimite;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                leituraDasPropriasEscritas.registrarEscrita();
+            }
+            return primario.getConnection();
+        }
+        if (!leituraDasPropriasEscritas.deveLerDoPrimario()) {
+            Replica replica = selecionarReplica();
+            if (replica != null) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    replica.marcarIndisponivel(e.getMessage());
+                }
+            }
+        }
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primario.getConnection(username, password);
+    }
+
+    /**
+     * Verifica todas as réplicas e atualiza quais podem receber leituras.
+     */
+    @Scheduled(fixedDelayString = "${tarefas.replicas.verificacao:PT5S}")
+    public void verificarReplicas() {
+        for (Replica replica : replicas) {
+            replica.verificar(atrasoMaximo, tempoLimite);
+        }
+    }
+
+    /**
+     * Quantidade de réplicas que recebem leituras no momento.
+     *
+     * @return Réplicas disponíveis.
+     */
+    public long replicasDisponiveis() {
+        return replicas.stream().filter(Replica::disponivel).count();
+    }
+
+    Replica selecionarReplica() {
+        List<Replica> disponiveis = replicas.stream().filter(Replica::disponivel).toList();
+        if (disponiveis.isEmpty()) {
+            return null;
+        }
+        return switch (estrategia) {
+            case ROUND_ROBIN -> disponiveis.get(Math.floorMod(proxima.getAndIncrement(), disponiveis.size()));
+            case MENOS_CONEXOES -> disponiveis.stream()
+                    .min(Comparator.comparingInt(Replica::conexoesAtivas))
+                    .orElseThrow();
+        };
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(Replica::fechar);
+    }
+
+}
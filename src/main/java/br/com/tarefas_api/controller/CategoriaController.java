@@ -1,15 +1,26 @@
 package br.com.tarefas_api.controller;
 
 import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ResumoCategoriaDTO;
+import br.com.tarefas_api.dto.VersaoDTO;
+import br.com.tarefas_api.repository.CampoDeCategoria;
 import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.eventos.EventosDeCategoriaService;
+import br.com.tarefas_api.utils.CamposUtils;
+import br.com.tarefas_api.utils.EtagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 
@@ -22,9 +33,11 @@ import java.util.UUID;
 public class CategoriaController {
 
     private final CategoriaService categoriaService;
+    private final EventosDeCategoriaService eventosDeCategoriaService;
 
-    public CategoriaController(CategoriaService categoriaService) {
+    public CategoriaController(CategoriaService categoriaService, EventosDeCategoriaService eventosDeCategoriaService) {
         this.categoriaService = categoriaService;
+        this.eventosDeCategoriaService = eventosDeCategoriaService;
     }
 
     /**
@@ -42,16 +55,38 @@ public class CategoriaController {
 
     /**
      * Lista todas as categorias.
+     * Responde 304 (Not Modified) quando a versão da listagem coincide com If-None-Match. A listagem não envia
+     * Last-Modified: a maior data de modificação não avança quando uma categoria é excluída.
      *
-     * @return ResponseEntity com a lista de categorias e status 200 (OK).
+     * @param fields Campos das categorias na resposta, separados por vírgula (ex.: nome). Omitir para todos.
+     * @param request Requisição, utilizada para avaliar os cabeçalhos condicionais.
+     * @return ResponseEntity com a lista de categorias e status 200 (OK), ou status 304 (Not Modified).
      */
     @GetMapping
     @Operation(summary = "Listar todas as categorias", description = "Retorna todas as categorias cadastradas.")
-    public ResponseEntity<List<CategoriaDTO>> listarCategorias() {
-        List<CategoriaDTO> categorias = categoriaService.listarCategorias();
+    public ResponseEntity<List<CategoriaDTO>> listarCategorias(@RequestParam(required = false) String fields,
+                                                               WebRequest request) {
+        Set<CampoDeCategoria> campos = CamposUtils.camposDeCategoria(fields);
+        VersaoDTO versao = categoriaService.buscarVersaoDasCategorias();
+        if (request.checkNotModified(EtagUtils.etagDoFormato(versao.getEtag(), request.getHeaderValues(HttpHeaders.ACCEPT)))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        List<CategoriaDTO> categorias = categoriaService.listarCategorias(campos);
         return ResponseEntity.ok(categorias);
     }
 
+    /**
+     * Lista o resumo de todas as categorias.
+     *
+     * @return ResponseEntity com o total de itens, concluídos e vencidos de cada categoria e status 200 (OK).
+     */
+    @GetMapping("/resumo")
+    @Operation(summary = "Resumo das categorias", description = "Retorna, para cada categoria, o total de itens, os concluídos e os vencidos.")
+    public ResponseEntity<List<ResumoCategoriaDTO>> listarResumo() {
+        return ResponseEntity.ok(categoriaService.listarResumo());
+    }
+
     /**
      * Busca uma categoria pelo ID.
      *
@@ -65,6 +100,21 @@ public class CategoriaController {
         return ResponseEntity.ok(categoriaDTO);
     }
 
+    /**
+     * Assina o stream de alterações dos itens de uma categoria (Server-Sent Events).
+     * Cada criação, atualização ou remoção de item é enviada após o commit, com o nome do evento
+     * CRIADO, ATUALIZADO ou REMOVIDO; RECARREGAR indica que a listagem da categoria deve ser recarregada.
+     *
+     * @param id Identificador da categoria.
+     * @return Emitter SSE com as alterações dos itens da categoria.
+     */
+    @GetMapping(path = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Assinar alterações dos itens de uma categoria",
+            description = "Stream Server-Sent Events com as criações, atualizações e remoções de itens da categoria.")
+    public SseEmitter assinarEventos(@PathVariable UUID id) {
+        return eventosDeCategoriaService.assinar(id);
+    }
+
     /**
      * Atualiza uma categoria existente pelo ID.
      *
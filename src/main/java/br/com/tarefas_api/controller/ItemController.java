@@ -1,15 +1,41 @@
 package br.com.tarefas_api.controller;
 
+import br.com.tarefas_api.config.metricas.SemMetricasDeBanco;
 import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.ListaItensDTO;
+import br.com.tarefas_api.dto.OperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.PaginaItensDTO;
+import br.com.tarefas_api.dto.ResultadoImportacaoDTO;
+import br.com.tarefas_api.dto.ResultadoLoteItemDTO;
+import br.com.tarefas_api.dto.ResultadoOperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.VersaoDTO;
+import br.com.tarefas_api.repository.CampoDeItem;
 import br.com.tarefas_api.service.ItemService;
+import br.com.tarefas_api.service.arquivamento.ItensArquivadosService;
+import br.com.tarefas_api.service.arquivo.ExportacaoDeItensService;
+import br.com.tarefas_api.service.arquivo.FormatoDeArquivo;
+import br.com.tarefas_api.service.arquivo.ImportacaoDeItensService;
+import br.com.tarefas_api.utils.CamposUtils;
+import br.com.tarefas_api.utils.EtagUtils;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -21,9 +47,18 @@ import java.util.UUID;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ImportacaoDeItensService importacaoDeItensService;
+    private final ExportacaoDeItensService exportacaoDeItensService;
+    private final ItensArquivadosService itensArquivadosService;
 
-    public ItemController(ItemService itemService) {
+    public ItemController(ItemService itemService,
+                          ImportacaoDeItensService importacaoDeItensService,
+                          ExportacaoDeItensService exportacaoDeItensService,
+                          ItensArquivadosService itensArquivadosService) {
         this.itemService = itemService;
+        this.importacaoDeItensService = importacaoDeItensService;
+        this.exportacaoDeItensService = exportacaoDeItensService;
+        this.itensArquivadosService = itensArquivadosService;
     }
 
     /**
@@ -39,43 +74,220 @@ public class ItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(novoItem);
     }
 
+    /**
+     * Cria vários itens em uma única requisição.
+     *
+     * @param itensDTO Lista de DTOs com os dados dos itens.
+     * @return ResponseEntity com o resultado de cada item do lote e status 200 (OK).
+     */
+    @PostMapping("/lote")
+    @Operation(summary = "Criar itens em lote", description = "Cria vários itens e retorna o resultado de cada linha do lote.")
+    public ResponseEntity<List<ResultadoLoteItemDTO>> criarItensEmLote(@RequestBody List<ItemDTO> itensDTO) {
+        List<ResultadoLoteItemDTO> resultados = itemService.criarItensEmLote(itensDTO);
+        return ResponseEntity.ok(resultados);
+    }
+
+    /**
+     * Importa itens em massa de um arquivo CSV ou NDJSON, lido em streaming.
+     *
+     * @param tipo Content-Type do arquivo: text/csv ou application/x-ndjson, com charset opcional (padrão UTF-8).
+     * @param arquivo Conteúdo do arquivo.
+     * @return ResponseEntity com a quantidade de itens importados, as linhas rejeitadas e status 200 (OK).
+     */
+    @SemMetricasDeBanco
+    @PostMapping(value = "/importacao", consumes = {FormatoDeArquivo.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Importar itens de um arquivo",
+            description = "Importa itens de um arquivo CSV (com cabeçalho) ou NDJSON e informa as linhas rejeitadas.")
+    public ResponseEntity<ResultadoImportacaoDTO> importarItens(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType tipo,
+                                                                InputStream arquivo) {
+        ResultadoImportacaoDTO resultado = importacaoDeItensService.importar(arquivo, FormatoDeArquivo.doTipo(tipo),
+                tipo.getCharset() != null ? tipo.getCharset() : StandardCharsets.UTF_8);
+        return ResponseEntity.ok(resultado);
+    }
+
+    /**
+     * Exporta os itens em CSV ou NDJSON, enviados à medida que são lidos do banco.
+     *
+     * @param idCategoria ID da categoria dos itens. Omitir para exportar todos os itens.
+     * @param formato Formato do arquivo: CSV (padrão) ou NDJSON.
+     * @return ResponseEntity com o arquivo em anexo, codificado em UTF-8, e status 200 (OK).
+     */
+    @SemMetricasDeBanco
+    @GetMapping("/exportacao")
+    @Operation(summary = "Exportar itens",
+            description = "Exporta os itens de todas as categorias, ou de uma categoria, em CSV (com cabeçalho) ou NDJSON.")
+    public ResponseEntity<StreamingResponseBody> exportarItens(
+            @RequestParam(required = false) UUID idCategoria,
+            @RequestParam(defaultValue = "CSV") FormatoDeArquivo formato) {
+        StreamingResponseBody arquivo = exportacaoDeItensService.exportar(idCategoria, formato);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(formato.getTipo(), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("itens." + formato.name().toLowerCase())
+                        .build()
+                        .toString())
+                .body(arquivo);
+    }
+
     /**
      * Lista os itens de uma categoria específica.
+     * Responde 304 (Not Modified) quando a versão da listagem coincide com If-None-Match.
      * @param idCategoria ID da categoria.
-     * @return ResponseEntity com a lista de itens e status 200 (OK).
+     * @param fields Campos dos itens na resposta, separados por vírgula (ex.: id,descricao,concluido). Omitir para todos.
+     * @param request Requisição, utilizada para avaliar os cabeçalhos condicionais.
+     * @return ResponseEntity com a lista de itens e status 200 (OK), ou status 304 (Not Modified).
      */
     @GetMapping
     @Operation(summary = "Listar todos os itens de uma categoria", description = "Retorna todos os itens cadastrados de uma categoria específica")
-    public ResponseEntity<List<ItemDTO>> listarItens(@RequestParam UUID idCategoria) {
-        List<ItemDTO> itens = itemService.listarItensDaCategoria(idCategoria);
+    public ResponseEntity<ListaItensDTO> listarItens(@RequestParam UUID idCategoria,
+                                                     @RequestParam(required = false) String fields,
+                                                     WebRequest request) {
+        Set<CampoDeItem> campos = CamposUtils.camposDeItem(fields);
+        VersaoDTO versao = itemService.buscarVersaoDosItensDaCategoria(idCategoria);
+        if (colecaoNaoModificada(request, versao)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        ListaItensDTO itens = itemService.listarItensDaCategoria(idCategoria, campos);
         return ResponseEntity.ok(itens);
     }
 
+    /**
+     * Lista os itens de uma categoria específica em páginas, utilizando paginação por cursor.
+     * @param idCategoria ID da categoria.
+     * @param cursor Cursor retornado pela página anterior. Omitir para a primeira página.
+     * @param limite Quantidade máxima de itens da página.
+     * @param fields Campos dos itens na resposta, separados por vírgula (ex.: id,descricao,concluido). Omitir para todos.
+     * @return ResponseEntity com a página de itens e status 200 (OK).
+     */
+    @GetMapping("/pagina")
+    @Operation(summary = "Listar itens de uma categoria com paginação por cursor",
+            description = "Retorna uma página de itens ordenados por data de criação e o cursor da próxima página")
+    public ResponseEntity<PaginaItensDTO> listarItensPaginados(
+            @RequestParam UUID idCategoria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limite,
+            @RequestParam(required = false) String fields) {
+        PaginaItensDTO pagina = itemService.listarItensDaCategoriaPaginado(
+                idCategoria, cursor, limite, CamposUtils.camposDeItem(fields));
+        return ResponseEntity.ok(pagina);
+    }
+
+    /**
+     * Lista os itens concluídos de uma categoria movidos para o arquivo, em páginas, pela data de conclusão.
+     * @param idCategoria ID da categoria.
+     * @param inicio Início do intervalo da data de conclusão (dd/MM/yyyy HH:mm), inclusive.
+     * @param fim Fim do intervalo da data de conclusão (dd/MM/yyyy HH:mm), exclusive.
+     * @param cursor Cursor retornado pela página anterior. Omitir para a primeira página.
+     * @param limite Quantidade máxima de itens da página.
+     * @return ResponseEntity com a página de itens arquivados e status 200 (OK).
+     */
+    @GetMapping("/arquivados")
+    @Operation(summary = "Listar itens arquivados de uma categoria",
+            description = "Retorna uma página dos itens concluídos movidos para o arquivo, ordenados por data de conclusão")
+    public ResponseEntity<PaginaItensDTO> listarItensArquivados(
+            @RequestParam UUID idCategoria,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy HH:mm") LocalDateTime inicio,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy HH:mm") LocalDateTime fim,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limite) {
+        return ResponseEntity.ok(itensArquivadosService.listarItensArquivados(idCategoria, inicio, fim, cursor, limite));
+    }
+
+    /**
+     * Lista os itens pendentes de todas as categorias com data limite vencida.
+     * @param limite Quantidade máxima de itens.
+     * @param fields Campos dos itens na resposta, separados por vírgula (ex.: id,descricao,concluido). Omitir para todos.
+     * @return ResponseEntity com os itens vencidos, dos mais atrasados para os mais recentes, e status 200 (OK).
+     */
+    @GetMapping("/vencidos")
+    @Operation(summary = "Listar itens vencidos",
+            description = "Retorna os itens pendentes de todas as categorias cuja data limite já passou")
+    public ResponseEntity<ListaItensDTO> listarItensVencidos(@RequestParam(defaultValue = "50") int limite,
+                                                             @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(itemService.listarItensVencidos(limite, CamposUtils.camposDeItem(fields)));
+    }
+
+    /**
+     * Lista os próximos itens pendentes a vencer, de todas as categorias.
+     * @param limite Quantidade de itens.
+     * @param fields Campos dos itens na resposta, separados por vírgula (ex.: id,descricao,concluido). Omitir para todos.
+     * @return ResponseEntity com os itens de data limite mais próxima e status 200 (OK).
+     */
+    @GetMapping("/proximos")
+    @Operation(summary = "Listar próximos itens a vencer",
+            description = "Retorna os N itens pendentes de todas as categorias com a data limite mais próxima")
+    public ResponseEntity<ListaItensDTO> listarProximosItens(@RequestParam(defaultValue = "10") int limite,
+                                                             @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(itemService.listarProximosItens(limite, CamposUtils.camposDeItem(fields)));
+    }
+
     /**
      * Busca um item pelo ID.
+     * Responde 304 (Not Modified) quando a versão do item coincide com If-None-Match ou If-Modified-Since.
      *
      * @param id Identificador do item.
-     * @return ResponseEntity com o DTO do item e status 200 (OK).
+     * @param request Requisição, utilizada para avaliar os cabeçalhos condicionais.
+     * @return ResponseEntity com o DTO do item e status 200 (OK), ou status 304 (Not Modified).
      */
     @GetMapping("/{id}")
     @Operation(summary = "Buscar item por ID", description = "Retorna um item específico com base no ID informado.")
-    public ResponseEntity<ItemDTO> buscarItemPorId(@PathVariable UUID id) {
+    public ResponseEntity<ItemDTO> buscarItemPorId(@PathVariable UUID id, WebRequest request) {
+        VersaoDTO versao = itemService.buscarVersao(id);
+        if (naoModificado(request, versao)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         ItemDTO item = itemService.buscarPorId(id);
         return ResponseEntity.ok(item);
     }
 
     /**
-     * Atualiza um item existente pelo ID.
+     * Atualiza um item existente pelo ID, substituindo os seus dados: um concluido ausente reabre o item.
      *
      * @param id      Identificador do item a ser atualizado.
      * @param itemDTO DTO com os novos dados do item.
-     * @return ResponseEntity com o DTO do item atualizado e status 200 (OK).
+     * @param ifMatch ETags do item conhecidas pelo cliente. Opcional.
+     * @param request Requisição, utilizada para gerar a ETag do formato negociado.
+     * @return ResponseEntity com o DTO do item atualizado, a nova ETag e status 200 (OK).
      */
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar item por ID", description = "Atualiza os dados de um item existente.")
-    public ResponseEntity<ItemDTO> atualizarItem(@PathVariable UUID id, @Valid @RequestBody ItemDTO itemDTO) {
-        ItemDTO itemAtualizado = itemService.atualizarItem(id, itemDTO);
-        return ResponseEntity.ok(itemAtualizado);
+    @Operation(summary = "Atualizar item por ID",
+            description = "Substitui os dados de um item existente; concluido ausente equivale a false. Retorna 409 se o "
+                    + "item foi alterado desde a versão do If-Match e 412 se o If-Match contiver uma ETag fraca.")
+    public ResponseEntity<ItemDTO> atualizarItem(
+            @PathVariable UUID id,
+            @Valid @RequestBody ItemDTO itemDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            WebRequest request) {
+        ItemDTO itemAtualizado = itemService.atualizarItem(id, itemDTO, EtagUtils.versoesDoIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(etagDoFormato(request, EtagUtils.etagDaVersao(itemAtualizado.getVersao())))
+                .body(itemAtualizado);
+    }
+
+    /**
+     * Atualiza parcialmente um item existente pelo ID (JSON Merge Patch).
+     *
+     * @param id      Identificador do item a ser atualizado.
+     * @param patch   Documento JSON Merge Patch com os campos a serem alterados.
+     * @param ifMatch ETags do item conhecidas pelo cliente. Opcional.
+     * @param request Requisição, utilizada para gerar a ETag do formato negociado.
+     * @return ResponseEntity com o DTO do item atualizado, a nova ETag e status 200 (OK).
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Atualizar parcialmente item por ID",
+            description = "Altera somente os campos informados. Retorna 409 se o item foi alterado desde a versão do If-Match "
+                    + "e 412 se o If-Match contiver uma ETag fraca.")
+    public ResponseEntity<ItemDTO> atualizarItemParcialmente(
+            @PathVariable UUID id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            WebRequest request) {
+        ItemDTO itemAtualizado = itemService.atualizarItemParcialmente(id, patch, EtagUtils.versoesDoIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(etagDoFormato(request, EtagUtils.etagDaVersao(itemAtualizado.getVersao())))
+                .body(itemAtualizado);
     }
 
     /**
@@ -91,4 +303,64 @@ public class ItemController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Marca como concluídos os itens pendentes de uma categoria ou de uma lista de IDs.
+     *
+     * @param operacao Seleção dos itens por categoria ou lista de IDs.
+     * @return ResponseEntity com a quantidade de itens atualizados e status 200 (OK).
+     */
+    @PostMapping("/concluir")
+    @Operation(summary = "Concluir itens em massa", description = "Marca como concluídos, em um único comando, os itens de uma categoria ou de uma lista de IDs.")
+    public ResponseEntity<ResultadoOperacaoEmMassaDTO> concluirItens(@RequestBody OperacaoEmMassaDTO operacao) {
+        return ResponseEntity.ok(itemService.concluirItens(operacao));
+    }
+
+    /**
+     * Exclui os itens de uma categoria ou de uma lista de IDs, opcionalmente somente os concluídos.
+     *
+     * @param operacao Seleção dos itens por categoria ou lista de IDs.
+     * @return ResponseEntity com a quantidade de itens removidos e status 200 (OK).
+     */
+    @PostMapping("/excluir")
+    @Operation(summary = "Excluir itens em massa", description = "Remove, em um único comando, os itens de uma categoria ou de uma lista de IDs.")
+    public ResponseEntity<ResultadoOperacaoEmMassaDTO> excluirItens(@RequestBody OperacaoEmMassaDTO operacao) {
+        return ResponseEntity.ok(itemService.excluirItens(operacao));
+    }
+
+    /**
+     * Move os itens de uma categoria ou de uma lista de IDs para a categoria de destino.
+     *
+     * @param operacao Seleção dos itens e categoria de destino.
+     * @return ResponseEntity com a quantidade de itens movidos e status 200 (OK).
+     */
+    @PostMapping("/mover")
+    @Operation(summary = "Mover itens em massa", description = "Move, em um único comando, os itens de uma categoria ou de uma lista de IDs para outra categoria.")
+    public ResponseEntity<ResultadoOperacaoEmMassaDTO> moverItens(@RequestBody OperacaoEmMassaDTO operacao) {
+        return ResponseEntity.ok(itemService.moverItens(operacao));
+    }
+
+    /**
+     * Avalia os cabeçalhos condicionais da requisição e define ETag e Last-Modified na resposta.
+     */
+    private boolean naoModificado(WebRequest request, VersaoDTO versao) {
+        return request.checkNotModified(etagDoFormato(request, versao.getEtag()),
+                EtagUtils.timestampEmMilissegundos(versao.getUltimaModificacao()));
+    }
+
+    /**
+     * Avalia somente o If-None-Match de uma listagem e define a ETag na resposta.
+     * A maior data de modificação não avança quando itens são removidos, movidos ou arquivados, e o Last-Modified tem
+     * resolução de segundos; por isso as listagens não enviam Last-Modified nem atendem If-Modified-Since.
+     */
+    private boolean colecaoNaoModificada(WebRequest request, VersaoDTO versao) {
+        return request.checkNotModified(etagDoFormato(request, versao.getEtag()));
+    }
+
+    /**
+     * Gera a ETag do formato negociado pelo Accept da requisição.
+     */
+    private static String etagDoFormato(WebRequest request, String etag) {
+        return EtagUtils.etagDoFormato(etag, request.getHeaderValues(HttpHeaders.ACCEPT));
+    }
+
 }
@@ -6,16 +6,26 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Representa uma categoria de itens na lista de tarefas.
+ * Mantida no cache de segundo nível, pois é lida com frequência e raramente alterada.
  */
 @Getter
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Table(name = "categoria")
 @Schema(description = "Entidade que representa uma categoria.")
 @AllArgsConstructor
@@ -23,20 +33,31 @@ import java.util.UUID;
 public class Categoria {
 
     /**
-     * Identificador único da categoria.
+     * Identificador único da categoria. UUID versão 7 gerado pela aplicação.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     @Schema(description = "ID único da categoria.", example = "1")
     private UUID id;
 
     /**
      * Nome da categoria. Deve ser único e não pode ser nulo.
+     * Mapeado como natural-id mutável, permitindo a busca por nome através do cache.
      */
+    @Setter
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false, length = 100)
     @Schema(description = "Nome da categoria. Deve ser único.", example = "Trabalho")
     private String nome;
 
+    /**
+     * Data da última atualização da categoria. Compõe a versão (ETag) da listagem de categorias.
+     */
+    @Setter
+    @Column(nullable = false)
+    @Schema(description = "Data da última atualização da categoria.", example = "2024-02-21T10:00:00")
+    private LocalDateTime dataAtualizacao;
+
     /**
      * Lista de itens associados a esta categoria.
      * Relacionamento bidirecional mapeado pelo atributo 'categoria' em Item.
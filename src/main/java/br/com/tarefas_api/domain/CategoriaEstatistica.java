@@ -0,0 +1,45 @@
+package br.com.tarefas_api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Contadores de itens de uma categoria, mantidos incrementalmente a cada escrita de item
+ * e reconstruídos periodicamente pela reconciliação.
+ */
+@Getter
+@Builder
+@Entity
+@Table(name = "categoria_estatistica")
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategoriaEstatistica {
+
+    /**
+     * ID da categoria à qual os contadores pertencem.
+     */
+    @Id
+    @Column(name = "categoria_id")
+    private UUID categoriaId;
+
+    /**
+     * Quantidade total de itens da categoria.
+     */
+    @Column(nullable = false)
+    private long total;
+
+    /**
+     * Quantidade de itens concluídos da categoria.
+     */
+    @Column(nullable = false)
+    private long concluidos;
+
+}
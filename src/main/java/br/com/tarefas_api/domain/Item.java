@@ -3,15 +3,18 @@ package br.com.tarefas_api.domain;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * Representa um item dentro de uma categoria.
+ * O UPDATE é gerado dinamicamente com somente as colunas alteradas.
  */
 @Getter
 @Entity
+@DynamicUpdate
 @Builder
 @Table(name = "item")
 @Schema(description = "Entidade que representa um item dentro de uma categoria.")
@@ -22,15 +25,17 @@ public class Item {
 
     /**
      * Identificador único do item.
+     * UUID versão 7 gerado pela aplicação antes do INSERT, o que mantém a inserção compatível com o batching JDBC.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     @Schema(description = "ID único do item.", example = "1")
     private UUID id;
 
     /**
      * Descrição do item. Não pode ser nula.
      */
+    @Setter
     @Column(nullable = false)
     @Schema(description = "Descrição do item.", example = "Enviar relatório mensal")
     private String descricao;
@@ -38,6 +43,7 @@ public class Item {
     /**
      * Indica se o item foi concluído.
      */
+    @Setter
     @Column(nullable = false)
     @Builder.Default
     @Schema(description = "Indica se o item foi concluído.", example = "false")
@@ -53,12 +59,14 @@ public class Item {
     /**
      * Data de atualização do item. Definida na atualização.
      */
+    @Setter
     @Schema(description = "Data de criação do item.", example = "2024-02-21T10:00:00")
     private LocalDateTime dataAtualizacao;
 
     /**
      * Data limite para conclusão do item.
      */
+    @Setter
     @Column
     @Schema(description = "Data limite para conclusão do item.", example = "2024-12-31T23:59:59")
     private LocalDateTime dataLimite;
@@ -66,9 +74,17 @@ public class Item {
     /**
      * Categoria à qual o item pertence.
      */
+    @Setter
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "categoria_id", nullable = false)
     @Schema(description = "Categoria associada ao item.")
     private Categoria categoria;
 
+    /**
+     * Versão do item, incrementada a cada atualização (concorrência otimista).
+     */
+    @Version
+    @Schema(description = "Versão do item.", example = "0")
+    private Long versao;
+
 }
@@ -0,0 +1,73 @@
+package br.com.tarefas_api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Item concluído retirado da tabela de itens pelo arquivador.
+ * Somente leitura: as linhas são gravadas pelo comando de arquivamento, na tabela item_arquivo, particionada por mês
+ * da data de atualização.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "item_arquivo")
+@NoArgsConstructor
+public class ItemArquivado {
+
+    /**
+     * Identificador do item, o mesmo que ele tinha na tabela de itens.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * Descrição do item.
+     */
+    @Column(nullable = false)
+    private String descricao;
+
+    /**
+     * Data limite para conclusão do item.
+     */
+    private LocalDateTime dataLimite;
+
+    /**
+     * Data da última atualização do item, que marca a sua conclusão. Chave de particionamento do arquivo.
+     */
+    @Column(nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    /**
+     * Data de criação do item.
+     */
+    @Column(nullable = false)
+    private LocalDateTime dataCriacao;
+
+    /**
+     * ID da categoria do item.
+     */
+    @Column(nullable = false)
+    private UUID categoriaId;
+
+    /**
+     * Versão do item quando foi arquivado.
+     */
+    @Column(nullable = false)
+    private long versao;
+
+    /**
+     * Data em que o item foi arquivado.
+     */
+    @Column(nullable = false)
+    private LocalDateTime dataArquivamento;
+
+}
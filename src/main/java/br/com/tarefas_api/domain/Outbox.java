@@ -0,0 +1,69 @@
+package br.com.tarefas_api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Evento de item ou categoria aguardando publicação pelo relay do outbox.
+ * Gravado na mesma transação da alteração que o originou e removido após ser publicado.
+ */
+@Getter
+@Builder
+@Entity
+@Table(name = "outbox")
+@AllArgsConstructor
+@NoArgsConstructor
+public class Outbox {
+
+    /**
+     * Identificador sequencial, que define a ordem de drenagem.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Tipo do agregado alterado: ITEM ou CATEGORIA.
+     */
+    @Column(nullable = false, length = 20)
+    private String agregado;
+
+    /**
+     * ID do item ou da categoria alterada.
+     */
+    @Column(name = "agregado_id", nullable = false)
+    private UUID agregadoId;
+
+    /**
+     * Tipo da alteração: CRIADO, ATUALIZADO ou REMOVIDO.
+     */
+    @Column(nullable = false, length = 20)
+    private String tipo;
+
+    /**
+     * Estado do agregado após a alteração, em JSON.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private String payload;
+
+    /**
+     * Instante da gravação do evento.
+     */
+    @Column(name = "data_criacao", nullable = false, insertable = false, updatable = false)
+    private Instant dataCriacao;
+
+}
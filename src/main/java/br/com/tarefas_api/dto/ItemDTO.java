@@ -1,6 +1,7 @@
 package br.com.tarefas_api.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
@@ -70,4 +71,10 @@ public class ItemDTO {
     @Schema(description = "ID da categoria associada ao item.", example = "1")
     private UUID categoriaId;
 
+    /**
+     * Versão do item. Não é serializada; é enviada no cabeçalho ETag das respostas.
+     */
+    @JsonIgnore
+    private Long versao;
+
 }
@@ -0,0 +1,30 @@
+package br.com.tarefas_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com uma linha rejeitada na importação de itens.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LinhaRejeitadaDTO {
+
+    /**
+     * Número da linha no arquivo, iniciando em 1. No CSV, a linha 1 é o cabeçalho.
+     */
+    @Schema(description = "Número da linha no arquivo, iniciando em 1.", example = "42")
+    private long linha;
+
+    /**
+     * Motivo da rejeição.
+     */
+    @Schema(description = "Motivo da rejeição.", example = "A descrição do item é obrigatória.")
+    private String mensagem;
+
+}
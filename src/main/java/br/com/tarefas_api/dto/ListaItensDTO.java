@@ -0,0 +1,75 @@
+package br.com.tarefas_api.dto;
+
+import br.com.tarefas_api.repository.CampoDeItem;
+import br.com.tarefas_api.repository.ItemResumo;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Lista de itens de uma resposta de listagem.
+ * Na serialização JSON, as projeções são escritas diretamente pelo {@link ListaItensSerializer}, sem criar um
+ * ItemDTO por item; o acesso como List converte cada projeção sob demanda e produz o mesmo conteúdo.
+ * <p>
+ * Quando o cliente seleciona os campos da resposta (parâmetro fields), somente esses campos são serializados.
+ */
+@JsonSerialize(using = ListaItensSerializer.class)
+public class ListaItensDTO extends AbstractList<ItemDTO> {
+
+    private final List<ItemResumo> itens;
+
+    private final Set<CampoDeItem> campos;
+
+    private final Function<ItemResumo, ItemDTO> conversor;
+
+    /**
+     * Construtor da lista, com todos os campos dos itens.
+     *
+     * @param itens Projeções dos itens da listagem.
+     * @param conversor Conversão de uma projeção para ItemDTO, usada no acesso como List.
+     */
+    public ListaItensDTO(List<ItemResumo> itens, Function<ItemResumo, ItemDTO> conversor) {
+        this(itens, CampoDeItem.TODOS, conversor);
+    }
+
+    /**
+     * Construtor da lista, com somente os campos selecionados dos itens.
+     *
+     * @param itens Projeções dos itens da listagem.
+     * @param campos Campos serializados de cada item.
+     * @param conversor Conversão de uma projeção para ItemDTO, usada no acesso como List.
+     */
+    public ListaItensDTO(List<ItemResumo> itens, Set<CampoDeItem> campos, Function<ItemResumo, ItemDTO> conversor) {
+        this.itens = itens;
+        this.campos = campos;
+        this.conversor = conversor;
+    }
+
+    /**
+     * Projeções dos itens, na ordem da resposta.
+     */
+    List<ItemResumo> getResumos() {
+        return itens;
+    }
+
+    /**
+     * Campos serializados de cada item.
+     */
+    Set<CampoDeItem> getCampos() {
+        return campos;
+    }
+
+    @Override
+    public ItemDTO get(int index) {
+        return conversor.apply(itens.get(index));
+    }
+
+    @Override
+    public int size() {
+        return itens.size();
+    }
+
+}
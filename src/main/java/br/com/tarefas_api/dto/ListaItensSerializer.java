@@ -0,0 +1,172 @@
+package br.com.tarefas_api.dto;
+
+import br.com.tarefas_api.repository.CampoDeItem;
+import br.com.tarefas_api.repository.ItemResumo;
+import br.com.tarefas_api.utils.DateUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Serializa uma {@link ListaItensDTO} escrevendo cada projeção diretamente no JsonGenerator.
+ * Produz exatamente os mesmos bytes que a serialização da lista de ItemDTO (mesma ordem de campos e campos nulos
+ * omitidos), sem criar o DTO, as strings das datas e dos IDs, nem usar reflexão. Somente os campos selecionados na
+ * lista são escritos.
+ * <p>
+ * Nos formatos binários ({@link Binario}), as datas são escritas em milissegundos desde a época e os IDs em 16 bytes,
+ * como na serialização de ItemDTO por esses formatos.
+ */
+public class ListaItensSerializer extends StdSerializer<ListaItensDTO> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString DESCRICAO = new SerializedString("descricao");
+    private static final SerializableString CONCLUIDO = new SerializedString("concluido");
+    private static final SerializableString DATA_CRIACAO = new SerializedString("dataCriacao");
+    private static final SerializableString DATA_ATUALIZACAO = new SerializedString("dataAtualizacao");
+    private static final SerializableString DATA_LIMITE = new SerializedString("dataLimite");
+    private static final SerializableString CATEGORIA_ID = new SerializedString("categoriaId");
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int TAMANHO_UUID = 36;
+
+    private static final int BYTES_UUID = 16;
+
+    private final boolean binario;
+
+    public ListaItensSerializer() {
+        this(false);
+    }
+
+    protected ListaItensSerializer(boolean binario) {
+        super(ListaItensDTO.class);
+        this.binario = binario;
+    }
+
+    @Override
+    public void serialize(ListaItensDTO lista, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        // Buffer reaproveitado por todas as datas e IDs da lista
+        char[] buffer = new char[Math.max(TAMANHO_UUID, DateUtils.TAMANHO_DATA_FORMATADA)];
+        byte[] bytesUuid = binario ? new byte[BYTES_UUID] : null;
+
+        Set<CampoDeItem> campos = lista.getCampos();
+        boolean id = campos.contains(CampoDeItem.ID);
+        boolean descricao = campos.contains(CampoDeItem.DESCRICAO);
+        boolean concluido = campos.contains(CampoDeItem.CONCLUIDO);
+        boolean dataCriacao = campos.contains(CampoDeItem.DATA_CRIACAO);
+        boolean dataAtualizacao = campos.contains(CampoDeItem.DATA_ATUALIZACAO);
+        boolean dataLimite = campos.contains(CampoDeItem.DATA_LIMITE);
+        boolean categoriaId = campos.contains(CampoDeItem.CATEGORIA_ID);
+
+        gen.writeStartArray(lista, lista.size());
+        for (ItemResumo item : lista.getResumos()) {
+            gen.writeStartObject(item);
+            if (id && item.id() != null) {
+                gen.writeFieldName(ID);
+                escreverUuid(gen, item.id(), buffer, bytesUuid);
+            }
+            if (descricao && item.descricao() != null) {
+                gen.writeFieldName(DESCRICAO);
+                gen.writeString(item.descricao());
+            }
+            if (concluido) {
+                gen.writeFieldName(CONCLUIDO);
+                gen.writeBoolean(item.concluido());
+            }
+            if (dataCriacao) {
+                escreverData(gen, DATA_CRIACAO, item.dataCriacao(), buffer, binario);
+            }
+            if (dataAtualizacao) {
+                escreverData(gen, DATA_ATUALIZACAO, item.dataAtualizacao(), buffer, binario);
+            }
+            if (dataLimite) {
+                escreverData(gen, DATA_LIMITE, item.dataLimite(), buffer, binario);
+            }
+            if (categoriaId && item.categoriaId() != null) {
+                gen.writeFieldName(CATEGORIA_ID);
+                escreverUuid(gen, item.categoriaId(), buffer, bytesUuid);
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static void escreverData(JsonGenerator gen, SerializableString campo, LocalDateTime data, char[] buffer,
+                                     boolean binario) throws IOException {
+        if (data == null) {
+            return;
+        }
+        gen.writeFieldName(campo);
+        if (binario) {
+            gen.writeNumber(DateUtils.toEpochMilli(data));
+        } else if (DateUtils.formatDate(data, buffer)) {
+            gen.writeString(buffer, 0, DateUtils.TAMANHO_DATA_FORMATADA);
+        } else {
+            gen.writeString(DateUtils.formatDate(data));
+        }
+    }
+
+    /**
+     * Escreve o UUID na forma canônica (8-4-4-4-12, hexadecimal minúsculo), como UUID.toString(), ou nos seus 16 bytes
+     * nos formatos binários, como o UUIDSerializer do Jackson.
+     */
+    private static void escreverUuid(JsonGenerator gen, UUID uuid, char[] buffer, byte[] bytes) throws IOException {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        if (bytes != null) {
+            for (int i = 0; i < 8; i++) {
+                bytes[i] = (byte) (msb >>> (56 - 8 * i));
+                bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+            }
+            gen.writeBinary(bytes, 0, BYTES_UUID);
+            return;
+        }
+        escreverHex(buffer, 0, msb >>> 32, 8);
+        buffer[8] = '-';
+        escreverHex(buffer, 9, msb >>> 16, 4);
+        buffer[13] = '-';
+        escreverHex(buffer, 14, msb, 4);
+        buffer[18] = '-';
+        escreverHex(buffer, 19, lsb >>> 48, 4);
+        buffer[23] = '-';
+        escreverHex(buffer, 24, lsb, 12);
+        gen.writeString(buffer, 0, TAMANHO_UUID);
+    }
+
+    private static void escreverHex(char[] destino, int posicao, long valor, int digitos) {
+        for (int i = digitos - 1; i >= 0; i--) {
+            destino[posicao + i] = HEX[(int) (valor & 0xF)];
+            valor >>>= 4;
+        }
+    }
+
+    /**
+     * Variante dos formatos binários (CBOR, Smile e Protobuf). Descreve a lista como uma lista de ItemDTO, para a
+     * geração do schema Protobuf.
+     */
+    public static class Binario extends ListaItensSerializer {
+
+        public Binario() {
+            super(true);
+        }
+
+        @Override
+        public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType tipo) throws JsonMappingException {
+            JavaType lista = visitor.getProvider().getTypeFactory().constructCollectionType(List.class, ItemDTO.class);
+            visitor.getProvider().findValueSerializer(lista).acceptJsonFormatVisitor(visitor, lista);
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package br.com.tarefas_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO que seleciona os itens afetados por uma operação em massa: todos os itens de uma categoria ou uma lista de IDs.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OperacaoEmMassaDTO {
+
+    /**
+     * ID da categoria cujos itens serão afetados. Não pode ser usado junto com ids.
+     */
+    @Schema(description = "ID da categoria cujos itens serão afetados.", example = "747ab89b-0e9e-4c21-aeda-36daec191de7")
+    private UUID idCategoria;
+
+    /**
+     * IDs dos itens afetados. Não pode ser usado junto com idCategoria.
+     */
+    @Schema(description = "IDs dos itens afetados.")
+    private List<UUID> ids;
+
+    /**
+     * Na exclusão, restringe a operação aos itens concluídos.
+     */
+    @Schema(description = "Na exclusão, remove somente os itens concluídos.", example = "true")
+    private boolean somenteConcluidos;
+
+    /**
+     * Na movimentação, ID da categoria de destino dos itens.
+     */
+    @Schema(description = "Na movimentação, ID da categoria de destino.", example = "0ec97cbd-d730-475a-bbe9-76ef76edf952")
+    private UUID idCategoriaDestino;
+
+}
@@ -0,0 +1,33 @@
+package br.com.tarefas_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO que representa uma página de itens na paginação por cursor.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginaItensDTO {
+
+    /**
+     * Itens da página, ordenados por data de criação e ID (no arquivo, por data de atualização e ID).
+     */
+    @Schema(description = "Itens da página, ordenados por data de criação e ID (no arquivo, por data de atualização e ID).")
+    private ListaItensDTO itens;
+
+    /**
+     * Cursor para buscar a próxima página. Ausente quando não há mais itens.
+     */
+    @Schema(description = "Cursor para buscar a próxima página. Ausente na última página.",
+            example = "MjAyNS0wMy0xMFQwOTo1MXwyMTdhZjgyYi00ODE5LTQ4MjQtYjk0Ny02MzkxNDA0NjAxMDg")
+    private String proximoCursor;
+
+}
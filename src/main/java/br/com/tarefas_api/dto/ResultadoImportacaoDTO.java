@@ -0,0 +1,38 @@
+package br.com.tarefas_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com o resultado da importação de itens.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultadoImportacaoDTO {
+
+    /**
+     * Quantidade de itens importados.
+     */
+    @Schema(description = "Quantidade de itens importados.", example = "99998")
+    private long importados;
+
+    /**
+     * Quantidade de linhas rejeitadas.
+     */
+    @Schema(description = "Quantidade de linhas rejeitadas.", example = "2")
+    private long rejeitados;
+
+    /**
+     * Linhas rejeitadas, em ordem, limitadas às primeiras tarefas.importacao.rejeicoes-detalhadas.
+     */
+    @Schema(description = "Linhas rejeitadas, em ordem, limitadas às primeiras rejeições.")
+    private List<LinhaRejeitadaDTO> linhasRejeitadas;
+
+}
@@ -0,0 +1,54 @@
+package br.com.tarefas_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO com o resultado do processamento de uma linha na criação de itens em lote.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoLoteItemDTO {
+
+    /**
+     * Situação de uma linha do lote.
+     */
+    public enum Status {
+        CRIADO,
+        REJEITADO
+    }
+
+    /**
+     * Posição do item na lista enviada, iniciando em 0.
+     */
+    @Schema(description = "Posição do item na lista enviada, iniciando em 0.", example = "0")
+    private int linha;
+
+    /**
+     * Situação do item após o processamento.
+     */
+    @Schema(description = "Situação do item após o processamento.", example = "CRIADO")
+    private Status status;
+
+    /**
+     * ID do item criado. Ausente quando o item é rejeitado.
+     */
+    @Schema(description = "ID do item criado.", example = "747ab89b-0e9e-4c21-aeda-36daec191de7")
+    private UUID id;
+
+    /**
+     * Motivo da rejeição do item. Ausente quando o item é criado.
+     */
+    @Schema(description = "Motivo da rejeição do item.", example = "A descrição do item é obrigatória.")
+    private String mensagem;
+
+}
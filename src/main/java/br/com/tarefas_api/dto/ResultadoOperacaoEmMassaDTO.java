@@ -0,0 +1,22 @@
+package br.com.tarefas_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado de uma operação em massa sobre itens.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultadoOperacaoEmMassaDTO {
+
+    /**
+     * Quantidade de itens afetados pela operação.
+     */
+    @Schema(description = "Quantidade de itens afetados pela operação.", example = "42")
+    private int afetados;
+
+}
@@ -0,0 +1,50 @@
+package br.com.tarefas_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO com o resumo dos itens de uma categoria.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResumoCategoriaDTO {
+
+    /**
+     * Id da categoria.
+     */
+    @Schema(description = "Id da categoria.", example = "747ab89b-0e9e-4c21-aeda-36daec191de7")
+    private UUID id;
+
+    /**
+     * Nome da categoria.
+     */
+    @Schema(description = "Nome da categoria.", example = "Trabalho")
+    private String nome;
+
+    /**
+     * Quantidade total de itens da categoria.
+     */
+    @Schema(description = "Quantidade total de itens da categoria.", example = "12")
+    private long total;
+
+    /**
+     * Quantidade de itens concluídos.
+     */
+    @Schema(description = "Quantidade de itens concluídos.", example = "7")
+    private long concluidos;
+
+    /**
+     * Quantidade de itens pendentes com data limite já ultrapassada.
+     */
+    @Schema(description = "Quantidade de itens pendentes com data limite já ultrapassada.", example = "2")
+    private long vencidos;
+
+}
@@ -0,0 +1,25 @@
+package br.com.tarefas_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO com a versão de um recurso, utilizada nas requisições condicionais (ETag e Last-Modified).
+ */
+@Getter
+@AllArgsConstructor
+public class VersaoDTO {
+
+    /**
+     * ETag forte do recurso, sem aspas.
+     */
+    private String etag;
+
+    /**
+     * Data da última modificação do recurso, ou null se desconhecida.
+     */
+    private LocalDateTime ultimaModificacao;
+
+}
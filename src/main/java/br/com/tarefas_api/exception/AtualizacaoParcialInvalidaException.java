@@ -0,0 +1,21 @@
+package br.com.tarefas_api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o documento JSON Merge Patch de um item é inválido.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class AtualizacaoParcialInvalidaException extends ItemException {
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param message Motivo da rejeição.
+     */
+    public AtualizacaoParcialInvalidaException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,29 @@
+package br.com.tarefas_api.exception;
+
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * Exceção lançada quando o parâmetro fields da listagem de categorias contém um campo desconhecido.
+ */
+@Getter
+public class CampoDeCategoriaInvalidoException extends CategoriaException {
+
+    /**
+     * Campo recebido na requisição.
+     */
+    private final String campo;
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param campo Campo desconhecido.
+     * @param disponiveis Nomes dos campos que podem ser selecionados.
+     */
+    public CampoDeCategoriaInvalidoException(String campo, Collection<String> disponiveis) {
+        super("Campo de categoria inválido: " + campo + ". Campos disponíveis: " + String.join(", ", disponiveis));
+        this.campo = campo;
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.tarefas_api.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Collection;
+
+/**
+ * Exceção lançada quando o parâmetro fields de uma listagem de itens contém um campo desconhecido.
+ */
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class CampoDeItemInvalidoException extends ItemException {
+
+    /**
+     * Campo recebido na requisição.
+     */
+    private final String campo;
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param campo Campo desconhecido.
+     * @param disponiveis Nomes dos campos que podem ser selecionados.
+     */
+    public CampoDeItemInvalidoException(String campo, Collection<String> disponiveis) {
+        super("Campo de item inválido: " + campo + ". Campos disponíveis: " + String.join(", ", disponiveis));
+        this.campo = campo;
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.com.tarefas_api.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando um item foi alterado por outra requisição desde a versão conhecida pelo cliente.
+ */
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflitoDeVersaoException extends ItemException {
+
+    /**
+     * ID do item em conflito.
+     */
+    private final UUID id;
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param id ID do item em conflito.
+     */
+    public ConflitoDeVersaoException(UUID id) {
+        super("O item com ID: " + id + " foi alterado por outra requisição. Consulte o item e tente novamente.");
+        this.id = id;
+    }
+
+}
@@ -0,0 +1,29 @@
+package br.com.tarefas_api.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o cursor de paginação informado não pode ser interpretado.
+ */
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class CursorInvalidoException extends ItemException {
+
+    /**
+     * Cursor recebido na requisição.
+     */
+    private final String cursor;
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param cursor Cursor inválido.
+     */
+    public CursorInvalidoException(String cursor) {
+        super("Cursor de paginação inválido: " + cursor);
+        this.cursor = cursor;
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.com.tarefas_api.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o cabeçalho If-Match contém uma ETag fraca (W/"..."), que não pode ser comparada pela
+ * comparação forte exigida pelo If-Match (RFC 7232, seção 3.1).
+ */
+@Getter
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class EtagFracoException extends ItemException {
+
+    /**
+     * ETag recebida na requisição.
+     */
+    private final String etag;
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param etag ETag fraca recebida.
+     */
+    public EtagFracoException(String etag) {
+        super("O If-Match não aceita ETags fracas: " + etag);
+        this.etag = etag;
+    }
+
+}
@@ -38,7 +38,7 @@ public class GlobalExceptionHandler {
         if (ex instanceof CategoriaNaoEncontradaException) {
             return HttpStatus.NOT_FOUND;
         }
-        if (ex instanceof CategoriaJaExistenteException) {
+        if (ex instanceof CategoriaJaExistenteException || ex instanceof CampoDeCategoriaInvalidoException) {
             return HttpStatus.BAD_REQUEST;
         }
         return HttpStatus.INTERNAL_SERVER_ERROR;
@@ -0,0 +1,22 @@
+package br.com.tarefas_api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o arquivo de importação de itens não pode ser processado, como um cabeçalho CSV inválido.
+ * As linhas inválidas não lançam exceção: são rejeitadas individualmente.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ImportacaoInvalidaException extends ItemException {
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param message Motivo da rejeição.
+     */
+    public ImportacaoInvalidaException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.tarefas_api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o início de um intervalo de datas não é anterior ao fim.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class IntervaloInvalidoException extends ItemException {
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param message Mensagem do erro.
+     */
+    public IntervaloInvalidoException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,29 @@
+package br.com.tarefas_api.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando um lote de itens excede a quantidade máxima permitida.
+ */
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class LoteExcedeLimiteException extends ItemException {
+
+    /**
+     * Quantidade máxima de itens por lote.
+     */
+    private final int limite;
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param limite Quantidade máxima de itens por lote.
+     */
+    public LoteExcedeLimiteException(int limite) {
+        super("O lote deve conter no máximo " + limite + " itens.");
+        this.limite = limite;
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.tarefas_api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a seleção de itens de uma operação em massa é inválida.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class OperacaoEmMassaInvalidaException extends ItemException {
+
+    /**
+     * Construtor da exceção.
+     *
+     * @param message Motivo da rejeição.
+     */
+    public OperacaoEmMassaInvalidaException(String message) {
+        super(message);
+    }
+
+}
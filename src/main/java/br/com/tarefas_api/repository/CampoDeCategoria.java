@@ -0,0 +1,44 @@
+package br.com.tarefas_api.repository;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de uma categoria que podem ser selecionados na listagem pelo parâmetro fields.
+ * Como em {@link CampoDeItem}, a consulta usa somente os caminhos JPQL declarados aqui, na ordem de declaração.
+ */
+public enum CampoDeCategoria {
+
+    ID("id", "c.id"),
+    NOME("nome", "c.nome");
+
+    /**
+     * Todos os campos, selecionados quando o parâmetro fields não é informado.
+     */
+    public static final Set<CampoDeCategoria> TODOS = Collections.unmodifiableSet(EnumSet.allOf(CampoDeCategoria.class));
+
+    private final String nome;
+
+    private final String caminho;
+
+    CampoDeCategoria(String nome, String caminho) {
+        this.nome = nome;
+        this.caminho = caminho;
+    }
+
+    /**
+     * Nome do campo no CategoriaDTO e no parâmetro fields.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Caminho do campo na entidade Categoria, com o alias c.
+     */
+    String getCaminho() {
+        return caminho;
+    }
+
+}
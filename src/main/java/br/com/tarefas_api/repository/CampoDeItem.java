@@ -0,0 +1,51 @@
+package br.com.tarefas_api.repository;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de um item que podem ser selecionados nas listagens pelo parâmetro fields.
+ * A consulta é montada somente com os caminhos JPQL declarados aqui, na ordem de declaração: o texto informado pelo
+ * cliente nunca é incluído na consulta, e cada combinação de campos gera sempre a mesma consulta, cujo plano é
+ * reaproveitado pelo Hibernate e pelo PostgreSQL.
+ */
+public enum CampoDeItem {
+
+    ID("id", "i.id"),
+    DESCRICAO("descricao", "i.descricao"),
+    CONCLUIDO("concluido", "i.concluido"),
+    DATA_CRIACAO("dataCriacao", "i.dataCriacao"),
+    DATA_ATUALIZACAO("dataAtualizacao", "i.dataAtualizacao"),
+    DATA_LIMITE("dataLimite", "i.dataLimite"),
+    CATEGORIA_ID("categoriaId", "i.categoria.id");
+
+    /**
+     * Todos os campos, selecionados quando o parâmetro fields não é informado.
+     */
+    public static final Set<CampoDeItem> TODOS = Collections.unmodifiableSet(EnumSet.allOf(CampoDeItem.class));
+
+    private final String nome;
+
+    private final String caminho;
+
+    CampoDeItem(String nome, String caminho) {
+        this.nome = nome;
+        this.caminho = caminho;
+    }
+
+    /**
+     * Nome do campo no ItemDTO e no parâmetro fields.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Caminho do campo na entidade Item, com o alias i.
+     */
+    String getCaminho() {
+        return caminho;
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.com.tarefas_api.repository;
+
+import br.com.tarefas_api.domain.CategoriaEstatistica;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+/**
+ * Repositório dos contadores de itens por categoria.
+ * Os comandos nativos declaram a tabela afetada (query spaces) para que o Hibernate não invalide
+ * o cache de segundo nível das demais entidades, como Categoria.
+ */
+public interface CategoriaEstatisticaRepository extends JpaRepository<CategoriaEstatistica, UUID> {
+
+    /**
+     * Soma as variações aos contadores da categoria, criando o registro se ainda não existir.
+     * @param categoriaId ID da categoria.
+     * @param total Variação da quantidade total de itens.
+     * @param concluidos Variação da quantidade de itens concluídos.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "categoria_estatistica"))
+    @Query(value = """
+            INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+            VALUES (:categoriaId, :total, :concluidos)
+            ON CONFLICT (categoria_id) DO UPDATE
+            SET total = e.total + EXCLUDED.total, concluidos = e.concluidos + EXCLUDED.concluidos
+            """, nativeQuery = true)
+    void ajustar(@Param("categoriaId") UUID categoriaId, @Param("total") long total, @Param("concluidos") long concluidos);
+
+    /**
+     * Bloqueia os contadores contra alterações concorrentes até o fim da transação.
+     * Escritas de itens já iniciadas terminam antes da reconstrução; as seguintes aguardam e aplicam suas
+     * variações sobre os valores reconstruídos.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "categoria_estatistica"))
+    @Query(value = "LOCK TABLE categoria_estatistica IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void bloquear();
+
+    /**
+     * Reconstrói os contadores de todas as categorias a partir da tabela de itens, com um único GROUP BY.
+     * @return Quantidade de categorias reconciliadas.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "categoria_estatistica"))
+    @Query(value = """
+            INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+            SELECT c.id, COUNT(i.id), COUNT(i.id) FILTER (WHERE i.concluido)
+            FROM categoria c
+            LEFT JOIN item i ON i.categoria_id = c.id
+            GROUP BY c.id
+            ON CONFLICT (categoria_id) DO UPDATE
+            SET total = EXCLUDED.total, concluidos = EXCLUDED.concluidos
+            """, nativeQuery = true)
+    int reconstruir();
+
+}
@@ -2,15 +2,67 @@ package br.com.tarefas_api.repository;
 
 import br.com.tarefas_api.domain.Categoria;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Repositório responsável pelas operações CRUD na entidade Categoria.
+ * A busca por nome é implementada em {@link CategoriaRepositoryCustom}, utilizando o cache de natural-id.
  */
-public interface CategoriaRepository extends JpaRepository<Categoria, UUID> {
+public interface CategoriaRepository extends JpaRepository<Categoria, UUID>, CategoriaRepositoryCustom {
 
-    Optional<Categoria> findByNome(String nome);
+    /**
+     * Retorna a versão agregada de todas as categorias (quantidade e maior data de atualização).
+     * @return Versão agregada das categorias.
+     */
+    @Query("SELECT new br.com.tarefas_api.repository.VersaoAgregada(COUNT(c), MAX(c.dataAtualizacao)) FROM Categoria c")
+    VersaoAgregada findVersaoAgregada();
+
+    /**
+     * Retorna todas as categorias como projeções somente leitura, com apenas as colunas da listagem.
+     * @return Lista de categorias.
+     */
+    @Query("SELECT new br.com.tarefas_api.repository.CategoriaResumo(c.id, c.nome) FROM Categoria c")
+    List<CategoriaResumo> findResumos();
+
+    /**
+     * Retorna os IDs de todas as categorias, utilizados para validar as linhas da importação de itens sem consultas
+     * por linha.
+     * @return IDs das categorias.
+     */
+    @Query("SELECT c.id FROM Categoria c")
+    List<UUID> findIds();
+
+    /**
+     * Retorna o resumo de todas as categorias, ordenado pelo nome.
+     * Total e concluídos vêm dos contadores mantidos em categoria_estatistica; os vencidos dependem do
+     * instante da consulta e são contados pelo índice parcial de itens pendentes por categoria e data limite.
+     * @param agora Instante de referência para os itens vencidos.
+     * @return Lista com o resumo de cada categoria.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.ResumoCategoria(
+                c.id, c.nome, COALESCE(e.total, 0), COALESCE(e.concluidos, 0),
+                (SELECT COUNT(i) FROM Item i
+                 WHERE i.categoria.id = c.id AND i.concluido = false AND i.dataLimite < :agora))
+            FROM Categoria c
+            LEFT JOIN CategoriaEstatistica e ON e.categoriaId = c.id
+            ORDER BY c.nome
+            """)
+    List<ResumoCategoria> findResumosComContadores(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Remove uma categoria pelo ID em um único comando, sem carregar a coleção de itens pelo cascade.
+     * Os registros dependentes são removidos pelas chaves estrangeiras e o Hibernate invalida o cache da categoria.
+     * @param id ID da categoria.
+     */
+    @Modifying
+    @Query("DELETE FROM Categoria c WHERE c.id = :id")
+    void excluirPorId(@Param("id") UUID id);
 
 }
@@ -0,0 +1,30 @@
+package br.com.tarefas_api.repository;
+
+import br.com.tarefas_api.domain.Categoria;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Consultas de Categoria implementadas manualmente para aproveitar recursos específicos do Hibernate.
+ */
+public interface CategoriaRepositoryCustom {
+
+    /**
+     * Busca uma categoria pelo nome, que é o natural-id da entidade.
+     * A consulta passa pelo cache de natural-id e pelo cache de segundo nível antes de ir ao banco.
+     * @param nome Nome da categoria.
+     * @return A categoria encontrada, se existir.
+     */
+    Optional<Categoria> findByNome(String nome);
+
+    /**
+     * Retorna todas as categorias com somente as colunas dos campos selecionados. Os campos não selecionados ficam
+     * nulos no CategoriaResumo.
+     * @param campos Campos selecionados.
+     * @return Lista de categorias.
+     */
+    List<CategoriaResumo> findResumos(Set<CampoDeCategoria> campos);
+
+}
@@ -0,0 +1,62 @@
+package br.com.tarefas_api.repository;
+
+import br.com.tarefas_api.domain.Categoria;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação das consultas customizadas de Categoria.
+ */
+class CategoriaRepositoryCustomImpl implements CategoriaRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    CategoriaRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Categoria> findByNome(String nome) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Categoria.class)
+                .loadOptional(nome);
+    }
+
+    /**
+     * Monta o SELECT com os caminhos de CampoDeCategoria na ordem de declaração, como nas listagens de itens: cada
+     * combinação de campos produz o mesmo JPQL e reaproveita o plano já interpretado.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoriaResumo> findResumos(Set<CampoDeCategoria> campos) {
+        List<CampoDeCategoria> selecionados = List.copyOf(campos);
+        String jpql = selecionados.stream()
+                .map(CampoDeCategoria::getCaminho)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM Categoria c"));
+
+        return entityManager.createQuery(jpql, Object[].class)
+                .getResultList()
+                .stream()
+                .map(linha -> {
+                    UUID id = null;
+                    String nome = null;
+                    for (int i = 0; i < linha.length; i++) {
+                        switch (selecionados.get(i)) {
+                            case ID -> id = (UUID) linha[i];
+                            case NOME -> nome = (String) linha[i];
+                        }
+                    }
+                    return new CategoriaResumo(id, nome);
+                })
+                .toList();
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.com.tarefas_api.repository;
+
+import java.util.UUID;
+
+/**
+ * Projeção somente leitura com as colunas de uma categoria exibidas na listagem.
+ *
+ * @param id ID da categoria.
+ * @param nome Nome da categoria.
+ */
+public record CategoriaResumo(UUID id, String nome) {
+}
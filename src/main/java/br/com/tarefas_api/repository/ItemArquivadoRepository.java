@@ -0,0 +1,122 @@
+package br.com.tarefas_api.repository;
+
+import br.com.tarefas_api.domain.ItemArquivado;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório do arquivo de itens concluídos (item_arquivo, particionado por mês da data de atualização).
+ * As consultas restringem a data de atualização ao intervalo pedido, o que permite ao PostgreSQL ler somente as
+ * partições desse intervalo (partition pruning).
+ */
+public interface ItemArquivadoRepository extends JpaRepository<ItemArquivado, UUID> {
+
+    /**
+     * Retorna a primeira página dos itens arquivados de uma categoria no intervalo, ordenados por data de atualização
+     * e ID.
+     * @param categoriaId ID da categoria.
+     * @param inicio Início do intervalo da data de atualização, inclusive.
+     * @param fim Fim do intervalo da data de atualização, exclusive.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.ItemResumo(
+                a.id, a.descricao, true, a.dataCriacao, a.dataAtualizacao, a.dataLimite, a.categoriaId)
+            FROM ItemArquivado a
+            WHERE a.categoriaId = :categoriaId
+              AND a.dataAtualizacao >= :inicio AND a.dataAtualizacao < :fim
+            ORDER BY a.dataAtualizacao, a.id
+            """)
+    List<ItemResumo> findPrimeiraPagina(@Param("categoriaId") UUID categoriaId,
+                                        @Param("inicio") LocalDateTime inicio,
+                                        @Param("fim") LocalDateTime fim,
+                                        Limit limite);
+
+    /**
+     * Retorna os itens arquivados de uma categoria no intervalo posicionados após o cursor informado (keyset
+     * pagination), percorrendo o índice idx_item_arquivo_categoria_data_atualizacao_id de cada partição.
+     * @param categoriaId ID da categoria.
+     * @param inicio Início do intervalo da data de atualização, inclusive.
+     * @param fim Fim do intervalo da data de atualização, exclusive.
+     * @param dataAtualizacao Data de atualização do último item da página anterior.
+     * @param id ID do último item da página anterior.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.ItemResumo(
+                a.id, a.descricao, true, a.dataCriacao, a.dataAtualizacao, a.dataLimite, a.categoriaId)
+            FROM ItemArquivado a
+            WHERE a.categoriaId = :categoriaId
+              AND a.dataAtualizacao >= :inicio AND a.dataAtualizacao < :fim
+              AND (a.dataAtualizacao, a.id) > (:dataAtualizacao, :id)
+            ORDER BY a.dataAtualizacao, a.id
+            """)
+    List<ItemResumo> findPaginaAposCursor(@Param("categoriaId") UUID categoriaId,
+                                          @Param("inicio") LocalDateTime inicio,
+                                          @Param("fim") LocalDateTime fim,
+                                          @Param("dataAtualizacao") LocalDateTime dataAtualizacao,
+                                          @Param("id") UUID id,
+                                          Limit limite);
+
+    /**
+     * Cria as partições mensais do arquivo necessárias para arquivar os itens concluídos antes do limite.
+     * @param limite Data limite do arquivamento.
+     * @return Quantidade de partições criadas.
+     */
+    @Query(value = "SELECT item_arquivo_criar_particoes(:limite)", nativeQuery = true)
+    int criarParticoes(@Param("limite") LocalDateTime limite);
+
+    /**
+     * Move para o arquivo um lote dos itens concluídos mais antigos, com última modificação anterior ao limite, e
+     * atualiza os contadores e o outbox no mesmo comando. Os itens bloqueados por outras transações são ignorados
+     * (SKIP LOCKED): o arquivamento não espera pelas edições em andamento nem as bloqueia além do lote.
+     * @param limite Data limite da última modificação dos itens.
+     * @param agora Data do arquivamento.
+     * @param tamanhoLote Quantidade máxima de itens arquivados.
+     * @return Quantidade de itens arquivados por categoria.
+     */
+    @Query(value = """
+            WITH lote AS (
+                SELECT id
+                FROM item
+                WHERE concluido = true AND COALESCE(data_atualizacao, data_criacao) < :limite
+                ORDER BY COALESCE(data_atualizacao, data_criacao), id
+                LIMIT :tamanhoLote
+                FOR UPDATE SKIP LOCKED
+            ), removidos AS (
+                DELETE FROM item i
+                USING lote l
+                WHERE i.id = l.id
+                RETURNING i.id, i.descricao, i.data_limite, COALESCE(i.data_atualizacao, i.data_criacao) AS data_atualizacao,
+                          i.data_criacao, i.categoria_id, i.versao
+            ), arquivados AS (
+                INSERT INTO item_arquivo (id, descricao, data_limite, data_atualizacao, data_criacao, categoria_id, versao,
+                                          data_arquivamento)
+                SELECT id, descricao, data_limite, data_atualizacao, data_criacao, categoria_id, versao, :agora
+                FROM removidos
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT categoria_id, -COUNT(*), -COUNT(*)
+                FROM removidos
+                GROUP BY categoria_id
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET total = e.total + EXCLUDED.total, concluidos = e.concluidos + EXCLUDED.concluidos
+            ), eventos AS (
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', id, 'ARQUIVADO', jsonb_build_object('id', id, 'categoriaId', categoria_id) FROM removidos
+            )
+            SELECT categoria_id AS "categoriaId", COUNT(*) AS "afetados" FROM removidos GROUP BY categoria_id
+            """, nativeQuery = true)
+    List<ItensAfetadosPorCategoria> arquivarLote(@Param("limite") LocalDateTime limite,
+                                                 @Param("agora") LocalDateTime agora,
+                                                 @Param("tamanhoLote") int tamanhoLote);
+
+}
@@ -0,0 +1,16 @@
+package br.com.tarefas_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Item validado de um arquivo de importação, gravado na tabela temporária item_importacao pelo COPY.
+ *
+ * @param id ID do item (UUID v7), gerado pela aplicação.
+ * @param descricao Descrição do item.
+ * @param concluido Indica se o item foi concluído.
+ * @param dataLimite Data limite para conclusão do item, ou null.
+ * @param categoriaId ID da categoria do item.
+ */
+public record ItemImportado(UUID id, String descricao, boolean concluido, LocalDateTime dataLimite, UUID categoriaId) {
+}
@@ -1,28 +1,423 @@
 package br.com.tarefas_api.repository;
 
 import br.com.tarefas_api.domain.Item;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repositório responsável pelas operações CRUD na entidade Item.
+ * O COPY da importação é implementado em {@link ItemRepositoryCustom}.
  */
-public interface ItemRepository extends JpaRepository<Item, UUID> {
+public interface ItemRepository extends JpaRepository<Item, UUID>, ItemRepositoryCustom {
 
     /**
-     * Verifica se existe pelo menos um item associado a uma determinada categoria.
+     * Verifica, em um único comando, se existe pelo menos um item associado a uma determinada categoria, na tabela de
+     * itens ou no arquivo de itens concluídos.
      * @param id ID da categoria.
-     * @return true se existir pelo menos um item associado à categoria, caso contrário false.
+     * @return true se existir pelo menos um item, ativo ou arquivado, associado à categoria, caso contrário false.
      */
-    boolean existsByCategoriaId(UUID id);
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM item WHERE categoria_id = :id)
+                OR EXISTS (SELECT 1 FROM item_arquivo WHERE categoria_id = :id)
+            """, nativeQuery = true)
+    boolean existsAtivoOuArquivadoByCategoriaId(@Param("id") UUID id);
 
     /**
-     * Retorna uma lista de itens associados a uma determinada categoria.
+     * Retorna os itens de uma categoria como projeções somente leitura, com apenas as colunas da listagem.
      * @param categoriaId ID da categoria.
      * @return Lista de itens associados à categoria fornecida.
      */
-    List<Item> findByCategoriaId(UUID categoriaId);
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.ItemResumo(
+                i.id, i.descricao, i.concluido, i.dataCriacao, i.dataAtualizacao, i.dataLimite, i.categoria.id)
+            FROM Item i
+            WHERE i.categoria.id = :categoriaId
+            """)
+    List<ItemResumo> findResumosByCategoriaId(@Param("categoriaId") UUID categoriaId);
+
+    /**
+     * Retorna a versão e a data da última modificação de um item, sem carregar a entidade.
+     * @param id ID do item.
+     * @return A versão do item e a data de atualização ou, se ele nunca foi atualizado, a data de criação.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.VersaoRegistro(i.versao, COALESCE(i.dataAtualizacao, i.dataCriacao))
+            FROM Item i
+            WHERE i.id = :id
+            """)
+    Optional<VersaoRegistro> findVersaoById(@Param("id") UUID id);
+
+    /**
+     * Retorna a versão agregada dos itens de uma categoria (quantidade e maior data de modificação) sem percorrer os
+     * itens: a quantidade vem do contador em categoria_estatistica e a maior data do fim do índice
+     * idx_item_categoria_modificacao.
+     * @param categoriaId ID da categoria.
+     * @return Versão agregada dos itens da categoria, ou vazio se a categoria ainda não tiver contadores.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.VersaoAgregada(e.total,
+                (SELECT MAX(COALESCE(i.dataAtualizacao, i.dataCriacao)) FROM Item i WHERE i.categoria.id = :categoriaId))
+            FROM CategoriaEstatistica e
+            WHERE e.categoriaId = :categoriaId
+            """)
+    Optional<VersaoAgregada> findVersaoAgregadaByCategoriaId(@Param("categoriaId") UUID categoriaId);
+
+    /**
+     * Retorna a primeira página dos itens de uma categoria, ordenados por data de criação e ID.
+     * @param categoriaId ID da categoria.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.ItemResumo(
+                i.id, i.descricao, i.concluido, i.dataCriacao, i.dataAtualizacao, i.dataLimite, i.categoria.id)
+            FROM Item i
+            WHERE i.categoria.id = :categoriaId
+            ORDER BY i.dataCriacao, i.id
+            """)
+    List<ItemResumo> findPrimeiraPaginaByCategoriaId(@Param("categoriaId") UUID categoriaId, Limit limite);
+
+    /**
+     * Retorna os itens de uma categoria posicionados após o cursor informado (keyset pagination).
+     * A comparação de linha (data_criacao, id) permite que o PostgreSQL percorra o índice
+     * idx_item_categoria_data_criacao_id a partir do cursor, sem descartar as linhas anteriores.
+     * @param categoriaId ID da categoria.
+     * @param dataCriacao Data de criação do último item da página anterior.
+     * @param id ID do último item da página anterior.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.ItemResumo(
+                i.id, i.descricao, i.concluido, i.dataCriacao, i.dataAtualizacao, i.dataLimite, i.categoria.id)
+            FROM Item i
+            WHERE i.categoria.id = :categoriaId
+              AND (i.dataCriacao, i.id) > (:dataCriacao, :id)
+            ORDER BY i.dataCriacao, i.id
+            """)
+    List<ItemResumo> findPaginaByCategoriaIdAposCursor(@Param("categoriaId") UUID categoriaId,
+                                                       @Param("dataCriacao") LocalDateTime dataCriacao,
+                                                       @Param("id") UUID id,
+                                                       Limit limite);
+
+    /**
+     * Retorna os itens pendentes de todas as categorias com data limite anterior à data de referência,
+     * dos mais atrasados para os mais recentes.
+     * A ordenação coincide com o índice parcial idx_item_pendente_data_limite_id, de modo que o PostgreSQL
+     * lê somente as primeiras entradas do índice, sem ordenar a tabela.
+     * @param agora Data de referência.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens vencidos.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.ItemResumo(
+                i.id, i.descricao, i.concluido, i.dataCriacao, i.dataAtualizacao, i.dataLimite, i.categoria.id)
+            FROM Item i
+            WHERE i.concluido = false AND i.dataLimite < :agora
+            ORDER BY i.dataLimite, i.id
+            """)
+    List<ItemResumo> findVencidos(@Param("agora") LocalDateTime agora, Limit limite);
+
+    /**
+     * Retorna os itens pendentes de todas as categorias cuja data limite ainda não passou, dos mais próximos
+     * para os mais distantes (top-K), lidos em ordem do índice parcial idx_item_pendente_data_limite_id.
+     * @param agora Data de referência.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.ItemResumo(
+                i.id, i.descricao, i.concluido, i.dataCriacao, i.dataAtualizacao, i.dataLimite, i.categoria.id)
+            FROM Item i
+            WHERE i.concluido = false AND i.dataLimite >= :agora
+            ORDER BY i.dataLimite, i.id
+            """)
+    List<ItemResumo> findProximos(@Param("agora") LocalDateTime agora, Limit limite);
+
+    /**
+     * Retorna, em ordem de data limite e ID, os prazos dos itens pendentes posteriores ao cursor e até a data final,
+     * percorrendo o índice parcial idx_item_pendente_data_limite_id.
+     * @param dataLimite Data limite do último prazo já carregado.
+     * @param id ID do último item já carregado.
+     * @param fim Data final da janela, inclusive.
+     * @param limite Quantidade máxima de prazos retornados.
+     * @return Lista com no máximo {@code limite} prazos.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.PrazoItem(i.id, i.dataLimite)
+            FROM Item i
+            WHERE i.concluido = false
+              AND (i.dataLimite, i.id) > (:dataLimite, :id)
+              AND i.dataLimite <= :fim
+            ORDER BY i.dataLimite, i.id
+            """)
+    List<PrazoItem> findPrazosPendentesAposCursor(@Param("dataLimite") LocalDateTime dataLimite,
+                                                  @Param("id") UUID id,
+                                                  @Param("fim") LocalDateTime fim,
+                                                  Limit limite);
+
+    /**
+     * Retorna os prazos atuais dos itens informados que continuam pendentes.
+     * @param ids IDs dos itens.
+     * @return Prazos dos itens pendentes com data limite.
+     */
+    @Query("""
+            SELECT new br.com.tarefas_api.repository.PrazoItem(i.id, i.dataLimite)
+            FROM Item i
+            WHERE i.id IN :ids AND i.concluido = false AND i.dataLimite IS NOT NULL
+            """)
+    List<PrazoItem> findPrazosPendentesByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Remove um item pelo ID em um único comando, sem carregar a entidade, e desconta o item dos contadores
+     * da categoria.
+     * @param id ID do item.
+     * @return ID da categoria do item removido, ou vazio se o item não existir.
+     */
+    @Query(value = """
+            WITH removidos AS (
+                DELETE FROM item
+                WHERE id = :id
+                RETURNING categoria_id, concluido
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT categoria_id, -COUNT(*), -COUNT(*) FILTER (WHERE concluido)
+                FROM removidos
+                GROUP BY categoria_id
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET total = e.total + EXCLUDED.total, concluidos = e.concluidos + EXCLUDED.concluidos
+            )
+            SELECT categoria_id FROM removidos
+            """, nativeQuery = true)
+    Optional<UUID> excluirPorId(@Param("id") UUID id);
+
+    /**
+     * Copia para a tabela de itens os itens gravados na tabela temporária item_importacao pelo
+     * {@link ItemRepositoryCustom#copiarParaImportacao COPY}, e atualiza os contadores e o outbox no mesmo comando.
+     * @param agora Data de criação dos itens.
+     * @return Quantidade de itens importados por categoria.
+     */
+    @Query(value = """
+            WITH importados AS (
+                INSERT INTO item AS i (id, descricao, concluido, data_limite, data_atualizacao, data_criacao, categoria_id, versao)
+                SELECT id, descricao, concluido, data_limite, NULL, :agora, categoria_id, 0
+                FROM item_importacao
+                RETURNING i.id, i.categoria_id, i.concluido, item_payload(i) AS payload
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT categoria_id, COUNT(*), COUNT(*) FILTER (WHERE concluido)
+                FROM importados
+                GROUP BY categoria_id
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET total = e.total + EXCLUDED.total, concluidos = e.concluidos + EXCLUDED.concluidos
+            ), eventos AS (
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', id, 'CRIADO', payload FROM importados
+            )
+            SELECT categoria_id AS "categoriaId", COUNT(*) AS "afetados" FROM importados GROUP BY categoria_id
+            """, nativeQuery = true)
+    List<ItensAfetadosPorCategoria> inserirImportados(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Marca como concluídos todos os itens pendentes de uma categoria e atualiza os contadores e o outbox
+     * no mesmo comando.
+     * @param categoriaId ID da categoria.
+     * @param agora Data de atualização dos itens.
+     * @return Quantidade de itens atualizados por categoria.
+     */
+    @Query(value = """
+            WITH concluidos AS (
+                UPDATE item i
+                SET concluido = true, data_atualizacao = :agora, versao = i.versao + 1
+                WHERE categoria_id = :categoriaId AND concluido = false
+                RETURNING i.id, i.categoria_id, item_payload(i) AS payload
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT categoria_id, 0, COUNT(*)
+                FROM concluidos
+                GROUP BY categoria_id
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET concluidos = e.concluidos + EXCLUDED.concluidos
+            ), eventos AS (
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', id, 'ATUALIZADO', payload FROM concluidos
+            )
+            SELECT categoria_id AS "categoriaId", COUNT(*) AS "afetados" FROM concluidos GROUP BY categoria_id
+            """, nativeQuery = true)
+    List<ItensAfetadosPorCategoria> concluirPorCategoria(@Param("categoriaId") UUID categoriaId, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Marca como concluídos os itens pendentes da lista de IDs e atualiza os contadores e o outbox no mesmo comando.
+     * O array é enviado como um único parâmetro, mantendo o mesmo plano de execução para qualquer quantidade de IDs.
+     * @param ids IDs dos itens.
+     * @param agora Data de atualização dos itens.
+     * @return Quantidade de itens atualizados por categoria.
+     */
+    @Query(value = """
+            WITH concluidos AS (
+                UPDATE item i
+                SET concluido = true, data_atualizacao = :agora, versao = i.versao + 1
+                WHERE id = ANY(:ids) AND concluido = false
+                RETURNING i.id, i.categoria_id, item_payload(i) AS payload
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT categoria_id, 0, COUNT(*)
+                FROM concluidos
+                GROUP BY categoria_id
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET concluidos = e.concluidos + EXCLUDED.concluidos
+            ), eventos AS (
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', id, 'ATUALIZADO', payload FROM concluidos
+            )
+            SELECT categoria_id AS "categoriaId", COUNT(*) AS "afetados" FROM concluidos GROUP BY categoria_id
+            """, nativeQuery = true)
+    List<ItensAfetadosPorCategoria> concluirPorIds(@Param("ids") UUID[] ids, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Remove os itens de uma categoria, opcionalmente somente os concluídos, e atualiza os contadores
+     * e o outbox no mesmo comando.
+     * @param categoriaId ID da categoria.
+     * @param somenteConcluidos Se true, remove somente os itens concluídos.
+     * @return Quantidade de itens removidos por categoria.
+     */
+    @Query(value = """
+            WITH removidos AS (
+                DELETE FROM item
+                WHERE categoria_id = :categoriaId AND (:somenteConcluidos = false OR concluido = true)
+                RETURNING id, categoria_id, concluido
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT categoria_id, -COUNT(*), -COUNT(*) FILTER (WHERE concluido)
+                FROM removidos
+                GROUP BY categoria_id
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET total = e.total + EXCLUDED.total, concluidos = e.concluidos + EXCLUDED.concluidos
+            ), eventos AS (
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', id, 'REMOVIDO', jsonb_build_object('id', id, 'categoriaId', categoria_id) FROM removidos
+            )
+            SELECT categoria_id AS "categoriaId", COUNT(*) AS "afetados" FROM removidos GROUP BY categoria_id
+            """, nativeQuery = true)
+    List<ItensAfetadosPorCategoria> excluirPorCategoria(@Param("categoriaId") UUID categoriaId, @Param("somenteConcluidos") boolean somenteConcluidos);
+
+    /**
+     * Remove os itens da lista de IDs, opcionalmente somente os concluídos, e atualiza os contadores
+     * e o outbox no mesmo comando.
+     * @param ids IDs dos itens.
+     * @param somenteConcluidos Se true, remove somente os itens concluídos.
+     * @return Quantidade de itens removidos por categoria.
+     */
+    @Query(value = """
+            WITH removidos AS (
+                DELETE FROM item
+                WHERE id = ANY(:ids) AND (:somenteConcluidos = false OR concluido = true)
+                RETURNING id, categoria_id, concluido
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT categoria_id, -COUNT(*), -COUNT(*) FILTER (WHERE concluido)
+                FROM removidos
+                GROUP BY categoria_id
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET total = e.total + EXCLUDED.total, concluidos = e.concluidos + EXCLUDED.concluidos
+            ), eventos AS (
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', id, 'REMOVIDO', jsonb_build_object('id', id, 'categoriaId', categoria_id) FROM removidos
+            )
+            SELECT categoria_id AS "categoriaId", COUNT(*) AS "afetados" FROM removidos GROUP BY categoria_id
+            """, nativeQuery = true)
+    List<ItensAfetadosPorCategoria> excluirPorIds(@Param("ids") UUID[] ids, @Param("somenteConcluidos") boolean somenteConcluidos);
+
+    /**
+     * Move todos os itens de uma categoria para outra categoria, transfere os contadores e grava o outbox
+     * no mesmo comando.
+     * @param categoriaId ID da categoria de origem.
+     * @param categoriaDestinoId ID da categoria de destino.
+     * @param agora Data de atualização dos itens.
+     * @return Quantidade de itens movidos por categoria de origem.
+     */
+    @Query(value = """
+            WITH selecionados AS (
+                SELECT id, categoria_id
+                FROM item
+                WHERE categoria_id = :categoriaId AND categoria_id <> :categoriaDestinoId
+                FOR UPDATE
+            ), movidos AS (
+                UPDATE item i
+                SET categoria_id = :categoriaDestinoId, data_atualizacao = :agora, versao = i.versao + 1
+                FROM selecionados s
+                WHERE i.id = s.id
+                RETURNING i.id, s.categoria_id AS origem, i.concluido, item_payload(i) AS payload
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT origem, -COUNT(*), -COUNT(*) FILTER (WHERE concluido)
+                FROM movidos
+                GROUP BY origem
+                UNION ALL
+                SELECT :categoriaDestinoId, COUNT(*), COUNT(*) FILTER (WHERE concluido)
+                FROM movidos
+                HAVING COUNT(*) > 0
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET total = e.total + EXCLUDED.total, concluidos = e.concluidos + EXCLUDED.concluidos
+            ), eventos AS (
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', id, 'ATUALIZADO', payload FROM movidos
+            )
+            SELECT origem AS "categoriaId", COUNT(*) AS "afetados" FROM movidos GROUP BY origem
+            """, nativeQuery = true)
+    List<ItensAfetadosPorCategoria> moverPorCategoria(@Param("categoriaId") UUID categoriaId,
+                                                      @Param("categoriaDestinoId") UUID categoriaDestinoId,
+                                                      @Param("agora") LocalDateTime agora);
+
+    /**
+     * Move os itens da lista de IDs para outra categoria, transfere os contadores e grava o outbox
+     * no mesmo comando.
+     * A categoria de origem de cada item é lida na subconsulta selecionados, pois o RETURNING do UPDATE
+     * só enxerga os valores novos.
+     * @param ids IDs dos itens.
+     * @param categoriaDestinoId ID da categoria de destino.
+     * @param agora Data de atualização dos itens.
+     * @return Quantidade de itens movidos por categoria de origem.
+     */
+    @Query(value = """
+            WITH selecionados AS (
+                SELECT id, categoria_id
+                FROM item
+                WHERE id = ANY(:ids) AND categoria_id <> :categoriaDestinoId
+                FOR UPDATE
+            ), movidos AS (
+                UPDATE item i
+                SET categoria_id = :categoriaDestinoId, data_atualizacao = :agora, versao = i.versao + 1
+                FROM selecionados s
+                WHERE i.id = s.id
+                RETURNING i.id, s.categoria_id AS origem, i.concluido, item_payload(i) AS payload
+            ), ajuste AS (
+                INSERT INTO categoria_estatistica AS e (categoria_id, total, concluidos)
+                SELECT origem, -COUNT(*), -COUNT(*) FILTER (WHERE concluido)
+                FROM movidos
+                GROUP BY origem
+                UNION ALL
+                SELECT :categoriaDestinoId, COUNT(*), COUNT(*) FILTER (WHERE concluido)
+                FROM movidos
+                HAVING COUNT(*) > 0
+                ON CONFLICT (categoria_id) DO UPDATE
+                SET total = e.total + EXCLUDED.total, concluidos = e.concluidos + EXCLUDED.concluidos
+            ), eventos AS (
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', id, 'ATUALIZADO', payload FROM movidos
+            )
+            SELECT origem AS "categoriaId", COUNT(*) AS "afetados" FROM movidos GROUP BY origem
+            """, nativeQuery = true)
+    List<ItensAfetadosPorCategoria> moverPorIds(@Param("ids") UUID[] ids,
+                                                @Param("categoriaDestinoId") UUID categoriaDestinoId,
+                                                @Param("agora") LocalDateTime agora);
 
 }
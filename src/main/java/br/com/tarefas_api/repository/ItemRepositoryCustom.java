@@ -0,0 +1,96 @@
+package br.com.tarefas_api.repository;
+
+import org.springframework.data.domain.Limit;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Operações de Item implementadas manualmente para aproveitar recursos específicos do driver do PostgreSQL, e
+ * listagens com projeção dinâmica, que selecionam somente as colunas dos campos pedidos pelo cliente.
+ * <p>
+ * Nas listagens com projeção dinâmica, os campos não selecionados ficam nulos (ou false, em concluido) no ItemResumo.
+ * Os filtros e a ordenação são os das consultas equivalentes de {@link ItemRepository}.
+ */
+public interface ItemRepositoryCustom {
+
+    /**
+     * Cria, na transação atual, a tabela temporária item_importacao (descartada no commit) e grava nela os itens
+     * por meio do COPY FROM STDIN, à medida que o iterador os produz. Os itens são copiados para a tabela de itens
+     * por {@link ItemRepository#inserirImportados}.
+     * @param itens Itens validados. O iterador é consumido uma única vez, sem manter os itens em memória.
+     */
+    void copiarParaImportacao(Iterator<ItemImportado> itens);
+
+    /**
+     * Escreve os itens em CSV, com cabeçalho, por meio do COPY TO STDOUT: as linhas produzidas pelo PostgreSQL são
+     * repassadas à saída sem serem mantidas em memória. As datas seguem o formato de DateUtils.
+     * @param categoriaId ID da categoria dos itens, ou null para todos os itens.
+     * @param saida Destino do CSV.
+     * @return Quantidade de itens escritos.
+     * @throws java.io.UncheckedIOException Se a escrita na saída falhar. O COPY é cancelado.
+     */
+    long copiarParaCsv(UUID categoriaId, OutputStream saida);
+
+    /**
+     * Escreve os itens em NDJSON, um objeto por linha no formato dos eventos do outbox, por meio do COPY TO STDOUT.
+     * @param categoriaId ID da categoria dos itens, ou null para todos os itens.
+     * @param saida Destino do NDJSON.
+     * @return Quantidade de itens escritos.
+     * @throws java.io.UncheckedIOException Se a escrita na saída falhar. O COPY é cancelado.
+     */
+    long copiarParaNdjson(UUID categoriaId, OutputStream saida);
+
+    /**
+     * Retorna os itens de uma categoria com somente os campos selecionados.
+     * @param categoriaId ID da categoria.
+     * @param campos Campos selecionados.
+     * @return Lista de itens associados à categoria fornecida.
+     */
+    List<ItemResumo> findResumosByCategoriaId(UUID categoriaId, Set<CampoDeItem> campos);
+
+    /**
+     * Retorna a primeira página dos itens de uma categoria, ordenados por data de criação e ID, com somente os campos
+     * selecionados.
+     * @param categoriaId ID da categoria.
+     * @param campos Campos selecionados.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens.
+     */
+    List<ItemResumo> findPrimeiraPaginaByCategoriaId(UUID categoriaId, Set<CampoDeItem> campos, Limit limite);
+
+    /**
+     * Retorna os itens de uma categoria posicionados após o cursor informado, com somente os campos selecionados.
+     * @param categoriaId ID da categoria.
+     * @param dataCriacao Data de criação do último item da página anterior.
+     * @param id ID do último item da página anterior.
+     * @param campos Campos selecionados.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens.
+     */
+    List<ItemResumo> findPaginaByCategoriaIdAposCursor(UUID categoriaId, LocalDateTime dataCriacao, UUID id,
+                                                       Set<CampoDeItem> campos, Limit limite);
+
+    /**
+     * Retorna os itens pendentes vencidos de todas as categorias, com somente os campos selecionados.
+     * @param agora Data de referência.
+     * @param campos Campos selecionados.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens vencidos.
+     */
+    List<ItemResumo> findVencidos(LocalDateTime agora, Set<CampoDeItem> campos, Limit limite);
+
+    /**
+     * Retorna os próximos itens pendentes a vencer de todas as categorias, com somente os campos selecionados.
+     * @param agora Data de referência.
+     * @param campos Campos selecionados.
+     * @param limite Quantidade máxima de itens retornados.
+     * @return Lista com no máximo {@code limite} itens.
+     */
+    List<ItemResumo> findProximos(LocalDateTime agora, Set<CampoDeItem> campos, Limit limite);
+
+}
@@ -0,0 +1,273 @@
+package br.com.tarefas_api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.data.domain.Limit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação das operações customizadas de Item.
+ */
+class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+
+    private static final String CRIAR_TABELA_IMPORTACAO = """
+            CREATE TEMPORARY TABLE item_importacao (
+                id UUID NOT NULL,
+                descricao VARCHAR(255) NOT NULL,
+                concluido BOOLEAN NOT NULL,
+                data_limite TIMESTAMP,
+                categoria_id UUID NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPIAR_IMPORTACAO =
+            "COPY item_importacao (id, descricao, concluido, data_limite, categoria_id) FROM STDIN";
+
+    private static final String COPIAR_CSV = """
+            COPY (
+                SELECT i.id, i.descricao, i.concluido::text AS concluido,
+                       to_char(i.data_criacao, 'DD/MM/YYYY HH24:MI') AS "dataCriacao",
+                       to_char(i.data_atualizacao, 'DD/MM/YYYY HH24:MI') AS "dataAtualizacao",
+                       to_char(i.data_limite, 'DD/MM/YYYY HH24:MI') AS "dataLimite",
+                       i.categoria_id AS "categoriaId", i.versao
+                FROM item i %s
+            ) TO STDOUT WITH (FORMAT csv, HEADER)
+            """;
+
+    /**
+     * No formato texto o COPY duplicaria as barras invertidas do JSON. No formato CSV, com aspas e separador que o
+     * JSON nunca contém sem escape, cada documento é escrito sem alterações, um por linha.
+     */
+    private static final String COPIAR_NDJSON = """
+            COPY (
+                SELECT item_payload(i)::text FROM item i %s
+            ) TO STDOUT WITH (FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')
+            """;
+
+    private static final String DA_CATEGORIA = "WHERE i.categoria.id = :categoriaId";
+
+    private static final String POR_DATA_CRIACAO = " ORDER BY i.dataCriacao, i.id";
+
+    private static final String APOS_CURSOR = " AND (i.dataCriacao, i.id) > (:dataCriacao, :id)";
+
+    private static final String VENCIDOS = "WHERE i.concluido = false AND i.dataLimite < :agora ORDER BY i.dataLimite, i.id";
+
+    private static final String PROXIMOS = "WHERE i.concluido = false AND i.dataLimite >= :agora ORDER BY i.dataLimite, i.id";
+
+    /**
+     * Tamanho do buffer do COPY: as linhas são enviadas ao servidor em mensagens deste tamanho.
+     */
+    private static final int TAMANHO_BUFFER_COPY = 64 * 1024;
+
+    private final EntityManager entityManager;
+
+    ItemRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void copiarParaImportacao(Iterator<ItemImportado> itens) {
+        entityManager.unwrap(Session.class).doWork(conexao -> {
+            try (Statement comando = conexao.createStatement()) {
+                comando.execute(CRIAR_TABELA_IMPORTACAO);
+            }
+            PGCopyOutputStream copia = new PGCopyOutputStream(
+                    conexao.unwrap(PGConnection.class), COPIAR_IMPORTACAO, TAMANHO_BUFFER_COPY);
+            try {
+                Writer escritor = new OutputStreamWriter(copia, StandardCharsets.UTF_8);
+                StringBuilder linha = new StringBuilder();
+                while (itens.hasNext()) {
+                    linha.setLength(0);
+                    escreverLinha(itens.next(), linha);
+                    escritor.append(linha);
+                }
+                escritor.flush();
+                copia.endCopy();
+            } catch (IOException e) {
+                cancelar(copia);
+                throw new SQLException("Falha ao gravar os itens importados", e);
+            } catch (RuntimeException e) {
+                // Falha na leitura do arquivo: o COPY é abortado e a transação, desfeita pelo chamador
+                cancelar(copia);
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public long copiarParaCsv(UUID categoriaId, OutputStream saida) {
+        return copiarParaSaida(COPIAR_CSV, categoriaId, saida);
+    }
+
+    @Override
+    public long copiarParaNdjson(UUID categoriaId, OutputStream saida) {
+        return copiarParaSaida(COPIAR_NDJSON, categoriaId, saida);
+    }
+
+    @Override
+    public List<ItemResumo> findResumosByCategoriaId(UUID categoriaId, Set<CampoDeItem> campos) {
+        return consultar(campos, DA_CATEGORIA, Map.of("categoriaId", categoriaId), Limit.unlimited());
+    }
+
+    @Override
+    public List<ItemResumo> findPrimeiraPaginaByCategoriaId(UUID categoriaId, Set<CampoDeItem> campos, Limit limite) {
+        return consultar(campos, DA_CATEGORIA + POR_DATA_CRIACAO, Map.of("categoriaId", categoriaId), limite);
+    }
+
+    @Override
+    public List<ItemResumo> findPaginaByCategoriaIdAposCursor(UUID categoriaId, LocalDateTime dataCriacao, UUID id,
+                                                              Set<CampoDeItem> campos, Limit limite) {
+        return consultar(campos, DA_CATEGORIA + APOS_CURSOR + POR_DATA_CRIACAO,
+                Map.of("categoriaId", categoriaId, "dataCriacao", dataCriacao, "id", id), limite);
+    }
+
+    @Override
+    public List<ItemResumo> findVencidos(LocalDateTime agora, Set<CampoDeItem> campos, Limit limite) {
+        return consultar(campos, VENCIDOS, Map.of("agora", agora), limite);
+    }
+
+    @Override
+    public List<ItemResumo> findProximos(LocalDateTime agora, Set<CampoDeItem> campos, Limit limite) {
+        return consultar(campos, PROXIMOS, Map.of("agora", agora), limite);
+    }
+
+    /**
+     * Executa a consulta com somente as colunas dos campos selecionados. O SELECT é montado com os caminhos de
+     * CampoDeItem na ordem de declaração e os valores são sempre parâmetros: cada combinação de campos produz o mesmo
+     * JPQL, de modo que a interpretação do Hibernate e o comando preparado do PostgreSQL são reaproveitados.
+     */
+    private List<ItemResumo> consultar(Set<CampoDeItem> campos, String filtro, Map<String, Object> parametros,
+                                       Limit limite) {
+        List<CampoDeItem> selecionados = List.copyOf(campos);
+        String jpql = selecionados.stream()
+                .map(CampoDeItem::getCaminho)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM Item i " + filtro));
+
+        TypedQuery<Object[]> consulta = entityManager.createQuery(jpql, Object[].class);
+        parametros.forEach(consulta::setParameter);
+        if (limite.isLimited()) {
+            consulta.setMaxResults(limite.max());
+        }
+        return consulta.getResultList()
+                .stream()
+                .map(linha -> paraResumo(selecionados, linha))
+                .toList();
+    }
+
+    private static ItemResumo paraResumo(List<CampoDeItem> selecionados, Object[] linha) {
+        UUID id = null;
+        String descricao = null;
+        boolean concluido = false;
+        LocalDateTime dataCriacao = null;
+        LocalDateTime dataAtualizacao = null;
+        LocalDateTime dataLimite = null;
+        UUID categoriaId = null;
+        for (int i = 0; i < linha.length; i++) {
+            switch (selecionados.get(i)) {
+                case ID -> id = (UUID) linha[i];
+                case DESCRICAO -> descricao = (String) linha[i];
+                case CONCLUIDO -> concluido = (Boolean) linha[i];
+                case DATA_CRIACAO -> dataCriacao = (LocalDateTime) linha[i];
+                case DATA_ATUALIZACAO -> dataAtualizacao = (LocalDateTime) linha[i];
+                case DATA_LIMITE -> dataLimite = (LocalDateTime) linha[i];
+                case CATEGORIA_ID -> categoriaId = (UUID) linha[i];
+            }
+        }
+        return new ItemResumo(id, descricao, concluido, dataCriacao, dataAtualizacao, dataLimite, categoriaId);
+    }
+
+    private long copiarParaSaida(String copia, UUID categoriaId, OutputStream saida) {
+        // O COPY não aceita parâmetros; a representação de um UUID contém apenas dígitos hexadecimais e hífens
+        String sql = copia.formatted(categoriaId == null ? "" : "WHERE i.categoria_id = '" + categoriaId + "'");
+        return entityManager.unwrap(Session.class).doReturningWork(conexao -> {
+            PGConnection pgConexao = conexao.unwrap(PGConnection.class);
+            CopyOut exportacao = pgConexao.getCopyAPI().copyOut(sql);
+            try {
+                byte[] linha;
+                while ((linha = exportacao.readFromCopy()) != null) {
+                    saida.write(linha);
+                }
+                return exportacao.getHandledRowCount();
+            } catch (IOException e) {
+                cancelar(exportacao, pgConexao);
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Cancela um COPY TO STDOUT em andamento. O CopyOut.cancelCopy do driver libera a operação sem ler o restante da
+     * resposta do servidor, que seria atribuída ao rollback da transação. Por isso o cancelamento é pedido à parte e a
+     * resposta é lida, descartando as linhas já enviadas, até o erro do cancelamento.
+     */
+    private static void cancelar(CopyOut exportacao, PGConnection conexao) throws SQLException {
+        if (!exportacao.isActive()) {
+            return;
+        }
+        conexao.cancelQuery();
+        try {
+            while (exportacao.readFromCopy() != null) {
+                // Descarta as linhas enviadas antes do cancelamento
+            }
+        } catch (SQLException e) {
+            // Esperado: o cancelamento (57014) interrompe o COPY e aborta a transação, desfeita pelo chamador
+        }
+    }
+
+    /**
+     * Escreve o item no formato texto do COPY: colunas separadas por tabulação, \N para nulo.
+     */
+    private static void escreverLinha(ItemImportado item, StringBuilder linha) {
+        linha.append(item.id()).append('\t');
+        escreverTexto(item.descricao(), linha);
+        linha.append('\t').append(item.concluido() ? 't' : 'f').append('\t');
+        if (item.dataLimite() == null) {
+            linha.append("\\N");
+        } else {
+            linha.append(item.dataLimite());
+        }
+        linha.append('\t').append(item.categoriaId()).append('\n');
+    }
+
+    /**
+     * Escapa a barra invertida e os caracteres que delimitam colunas e linhas no formato texto do COPY.
+     */
+    private static void escreverTexto(String texto, StringBuilder linha) {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '\\' -> linha.append("\\\\");
+                case '\t' -> linha.append("\\t");
+                case '\n' -> linha.append("\\n");
+                case '\r' -> linha.append("\\r");
+                default -> linha.append(c);
+            }
+        }
+    }
+
+    private static void cancelar(PGCopyOutputStream copia) throws SQLException {
+        if (copia.isActive()) {
+            copia.cancelCopy();
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.com.tarefas_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção somente leitura com as colunas de um item exibidas nas listagens.
+ * Não é gerenciada pelo contexto de persistência: não gera snapshot para dirty checking nem proxy da categoria.
+ *
+ * @param id ID do item.
+ * @param descricao Descrição do item.
+ * @param concluido Indica se o item foi concluído.
+ * @param dataCriacao Data de criação do item.
+ * @param dataAtualizacao Data da última atualização do item.
+ * @param dataLimite Data limite para conclusão do item.
+ * @param categoriaId ID da categoria do item.
+ */
+public record ItemResumo(UUID id,
+                         String descricao,
+                         boolean concluido,
+                         LocalDateTime dataCriacao,
+                         LocalDateTime dataAtualizacao,
+                         LocalDateTime dataLimite,
+                         UUID categoriaId) {
+}
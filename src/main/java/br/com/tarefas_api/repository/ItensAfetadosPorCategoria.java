@@ -0,0 +1,20 @@
+package br.com.tarefas_api.repository;
+
+import java.util.UUID;
+
+/**
+ * Projeção com a quantidade de itens afetados por uma operação em massa em cada categoria.
+ */
+public interface ItensAfetadosPorCategoria {
+
+    /**
+     * @return ID da categoria (de origem, nas movimentações).
+     */
+    UUID getCategoriaId();
+
+    /**
+     * @return Quantidade de itens afetados na categoria.
+     */
+    long getAfetados();
+
+}
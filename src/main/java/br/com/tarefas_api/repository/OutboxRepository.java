@@ -0,0 +1,67 @@
+package br.com.tarefas_api.repository;
+
+import br.com.tarefas_api.domain.Outbox;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório do outbox transacional.
+ * Os comandos nativos declaram a tabela afetada (query spaces) para que o Hibernate não invalide
+ * o cache de segundo nível das demais entidades, como Categoria.
+ */
+public interface OutboxRepository extends JpaRepository<Outbox, Long> {
+
+    /**
+     * Grava os eventos de uma transação em um único comando, independentemente da quantidade.
+     * Os arrays têm o mesmo tamanho e cada posição corresponde a um evento.
+     * @param agregados Tipo do agregado de cada evento.
+     * @param agregadoIds ID do agregado de cada evento.
+     * @param tipos Tipo da alteração de cada evento.
+     * @param payloads Estado do agregado de cada evento, em JSON.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox"))
+    @Query(value = """
+            INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+            SELECT agregado, agregado_id, tipo, CAST(payload AS JSONB)
+            FROM unnest(CAST(:agregados AS VARCHAR[]), CAST(:agregadoIds AS UUID[]),
+                        CAST(:tipos AS VARCHAR[]), CAST(:payloads AS TEXT[]))
+                 WITH ORDINALITY AS e(agregado, agregado_id, tipo, payload, ordem)
+            ORDER BY ordem
+            """, nativeQuery = true)
+    void inserir(@Param("agregados") String[] agregados,
+                 @Param("agregadoIds") UUID[] agregadoIds,
+                 @Param("tipos") String[] tipos,
+                 @Param("payloads") String[] payloads);
+
+    /**
+     * Retira do outbox os eventos mais antigos que não estejam bloqueados por outra transação.
+     * As linhas permanecem bloqueadas, e os demais relays as ignoram (SKIP LOCKED), até o fim da transação:
+     * se a publicação falhar, o rollback as devolve ao outbox.
+     * @param quantidade Quantidade máxima de eventos.
+     * @return Eventos retirados, em qualquer ordem.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox"))
+    @Query(value = """
+            DELETE FROM outbox
+            WHERE id IN (
+                SELECT id
+                FROM outbox
+                ORDER BY id
+                LIMIT :quantidade
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, agregado, agregado_id AS "agregadoId", tipo, CAST(payload AS TEXT) AS payload,
+                      data_criacao AS "dataCriacao"
+            """, nativeQuery = true)
+    List<RegistroOutbox> retirarLote(@Param("quantidade") int quantidade);
+
+}
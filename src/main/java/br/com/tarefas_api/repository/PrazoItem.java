@@ -0,0 +1,13 @@
+package br.com.tarefas_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção com a data limite de um item pendente, utilizada pelo agendador de prazos.
+ *
+ * @param id ID do item.
+ * @param dataLimite Data limite para conclusão do item.
+ */
+public record PrazoItem(UUID id, LocalDateTime dataLimite) {
+}
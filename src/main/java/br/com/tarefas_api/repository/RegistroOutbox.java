@@ -0,0 +1,23 @@
+package br.com.tarefas_api.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projeção de um evento retirado do outbox pelo relay.
+ */
+public interface RegistroOutbox {
+
+    Long getId();
+
+    String getAgregado();
+
+    UUID getAgregadoId();
+
+    String getTipo();
+
+    String getPayload();
+
+    Instant getDataCriacao();
+
+}
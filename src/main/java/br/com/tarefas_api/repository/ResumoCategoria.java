@@ -0,0 +1,15 @@
+package br.com.tarefas_api.repository;
+
+import java.util.UUID;
+
+/**
+ * Projeção com os contadores de itens de uma categoria.
+ *
+ * @param id ID da categoria.
+ * @param nome Nome da categoria.
+ * @param total Quantidade total de itens.
+ * @param concluidos Quantidade de itens concluídos.
+ * @param vencidos Quantidade de itens pendentes com data limite anterior à data de referência.
+ */
+public record ResumoCategoria(UUID id, String nome, long total, long concluidos, long vencidos) {
+}
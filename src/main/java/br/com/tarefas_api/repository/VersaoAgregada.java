@@ -0,0 +1,12 @@
+package br.com.tarefas_api.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção com a versão agregada de um conjunto de registros: a quantidade e a data da última modificação.
+ *
+ * @param quantidade Quantidade de registros do conjunto.
+ * @param ultimaModificacao Maior data de modificação do conjunto, ou null se o conjunto estiver vazio.
+ */
+public record VersaoAgregada(Long quantidade, LocalDateTime ultimaModificacao) {
+}
@@ -0,0 +1,12 @@
+package br.com.tarefas_api.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção com a versão de um único registro: o número de versão e a data da última modificação.
+ *
+ * @param versao Número de versão do registro (coluna de concorrência otimista).
+ * @param ultimaModificacao Data da última modificação do registro.
+ */
+public record VersaoRegistro(Long versao, LocalDateTime ultimaModificacao) {
+}
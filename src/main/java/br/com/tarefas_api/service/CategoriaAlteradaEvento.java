@@ -0,0 +1,40 @@
+package br.com.tarefas_api.service;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo {@link CategoriaService} a cada criação, atualização ou remoção de uma categoria,
+ * dentro da transação da alteração.
+ *
+ * @param tipo Tipo da alteração.
+ * @param id ID da categoria.
+ * @param categoria Estado da categoria após a alteração, ou null se ela foi removida.
+ */
+public record CategoriaAlteradaEvento(Tipo tipo, UUID id, CategoriaDTO categoria) {
+
+    /**
+     * Tipos de alteração de uma categoria.
+     */
+    public enum Tipo {
+        CRIADO,
+        ATUALIZADO,
+        REMOVIDO
+    }
+
+    /**
+     * Cria o evento de criação ou atualização da categoria.
+     */
+    public static CategoriaAlteradaEvento de(Tipo tipo, CategoriaDTO categoria) {
+        return new CategoriaAlteradaEvento(tipo, categoria.getId(), categoria);
+    }
+
+    /**
+     * Cria o evento de remoção da categoria.
+     */
+    public static CategoriaAlteradaEvento removido(UUID id) {
+        return new CategoriaAlteradaEvento(Tipo.REMOVIDO, id, null);
+    }
+
+}
@@ -0,0 +1,39 @@
+package br.com.tarefas_api.service;
+
+import br.com.tarefas_api.repository.CategoriaEstatisticaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serviço responsável pela reconciliação dos contadores de itens por categoria.
+ * Os contadores são mantidos incrementalmente pelo {@link ItemService}; a reconciliação os reconstrói a partir
+ * da tabela de itens, corrigindo eventuais divergências (ex.: alterações feitas diretamente no banco).
+ */
+@Slf4j
+@Service
+public class CategoriaEstatisticaService {
+
+    private final CategoriaEstatisticaRepository categoriaEstatisticaRepository;
+
+    public CategoriaEstatisticaService(CategoriaEstatisticaRepository categoriaEstatisticaRepository) {
+        this.categoriaEstatisticaRepository = categoriaEstatisticaRepository;
+    }
+
+    /**
+     * Reconstrói os contadores de todas as categorias com um único GROUP BY.
+     * A tabela de contadores fica bloqueada durante a reconstrução para que nenhuma variação concorrente se perca.
+     *
+     * @return Quantidade de categorias reconciliadas.
+     */
+    @Transactional
+    @Scheduled(cron = "${tarefas.estatistica.reconciliacao.cron:0 0 3 * * *}")
+    public int reconciliar() {
+        categoriaEstatisticaRepository.bloquear();
+        int reconciliadas = categoriaEstatisticaRepository.reconstruir();
+        log.info("Contadores de {} categorias reconciliados", reconciliadas);
+        return reconciliadas;
+    }
+
+}
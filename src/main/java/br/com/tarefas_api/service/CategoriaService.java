@@ -2,16 +2,24 @@ package br.com.tarefas_api.service;
 
 import br.com.tarefas_api.domain.Categoria;
 import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ResumoCategoriaDTO;
+import br.com.tarefas_api.dto.VersaoDTO;
 import br.com.tarefas_api.exception.CategoriaComItensException;
 import br.com.tarefas_api.exception.CategoriaJaExistenteException;
 import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
+import br.com.tarefas_api.repository.CampoDeCategoria;
 import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.CategoriaResumo;
 import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.utils.EtagUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -22,10 +30,14 @@ public class CategoriaService {
 
     private final CategoriaRepository categoriaRepository;
     private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoriaService(CategoriaRepository categoriaRepository, ItemRepository itemRepository) {
+    public CategoriaService(CategoriaRepository categoriaRepository,
+                            ItemRepository itemRepository,
+                            ApplicationEventPublisher eventPublisher) {
         this.categoriaRepository = categoriaRepository;
         this.itemRepository = itemRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -40,7 +52,10 @@ public class CategoriaService {
 
         Categoria categoria = converterParaEntidade(categoriaDTO);
         Categoria salva = categoriaRepository.save(categoria);
-        return converterParaDTO(salva);
+
+        CategoriaDTO criada = converterParaDTO(salva);
+        eventPublisher.publishEvent(CategoriaAlteradaEvento.de(CategoriaAlteradaEvento.Tipo.CRIADO, criada));
+        return criada;
     }
 
     /**
@@ -50,12 +65,57 @@ public class CategoriaService {
      */
     @Transactional(readOnly = true)
     public List<CategoriaDTO> listarCategorias() {
-        return categoriaRepository.findAll()
+        return listarCategorias(CampoDeCategoria.TODOS);
+    }
+
+    /**
+     * Lista todas as categorias cadastradas, consultando somente as colunas dos campos selecionados.
+     * Os campos não selecionados ficam nulos nos DTOs e não são serializados.
+     *
+     * @param campos Campos das categorias incluídos na resposta.
+     * @return Lista de DTOs das categorias.
+     */
+    @Transactional(readOnly = true)
+    public List<CategoriaDTO> listarCategorias(Set<CampoDeCategoria> campos) {
+        List<CategoriaResumo> categorias = campos.containsAll(CampoDeCategoria.TODOS)
+                ? categoriaRepository.findResumos()
+                : categoriaRepository.findResumos(campos);
+        return categorias
                 .stream()
                 .map(this::converterParaDTO)
                 .toList();
     }
 
+    /**
+     * Lista o resumo de todas as categorias: total de itens, concluídos e vencidos.
+     * Os totais vêm dos contadores mantidos a cada escrita de item, sem varrer a tabela de itens.
+     *
+     * @return Lista com o resumo de cada categoria, ordenada pelo nome.
+     */
+    @Transactional(readOnly = true)
+    public List<ResumoCategoriaDTO> listarResumo() {
+        return categoriaRepository.findResumosComContadores(LocalDateTime.now())
+                .stream()
+                .map(resumo -> ResumoCategoriaDTO.builder()
+                        .id(resumo.id())
+                        .nome(resumo.nome())
+                        .total(resumo.total())
+                        .concluidos(resumo.concluidos())
+                        .vencidos(resumo.vencidos())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Retorna a versão da listagem de categorias, calculada sem carregar as categorias.
+     *
+     * @return Versão da listagem de categorias.
+     */
+    @Transactional(readOnly = true)
+    public VersaoDTO buscarVersaoDasCategorias() {
+        return EtagUtils.versaoDaColecao(categoriaRepository.findVersaoAgregada());
+    }
+
     /**
      * Busca uma categoria pelo ID.
      *
@@ -83,14 +143,13 @@ public class CategoriaService {
         validarCategoriaSemItens(id);
         validarNomeUnico(categoriaDTO.getNome());
 
-        Categoria categoriaAtualizada = Categoria.builder()
-                .id(categoriaExistente.getId())
-                .nome(categoriaDTO.getNome())
-                .build();
-
-        categoriaRepository.save(categoriaAtualizada);
+        // A entidade gerenciada é alterada diretamente: um merge carregaria a coleção de itens por causa do orphanRemoval
+        categoriaExistente.setNome(categoriaDTO.getNome());
+        categoriaExistente.setDataAtualizacao(LocalDateTime.now());
 
-        return converterParaDTO(categoriaAtualizada);
+        CategoriaDTO atualizada = converterParaDTO(categoriaExistente);
+        eventPublisher.publishEvent(CategoriaAlteradaEvento.de(CategoriaAlteradaEvento.Tipo.ATUALIZADO, atualizada));
+        return atualizada;
     }
 
     /**
@@ -101,10 +160,22 @@ public class CategoriaService {
      */
     @Transactional
     public void excluirCategoria(UUID id) {
-        Categoria categoria = buscarCategoria(id);
+        buscarCategoria(id);
         validarCategoriaSemItens(id);
 
-        categoriaRepository.delete(categoria);
+        categoriaRepository.excluirPorId(id);
+        eventPublisher.publishEvent(CategoriaAlteradaEvento.removido(id));
+    }
+
+    /**
+     * Verifica se a categoria existe.
+     * A categoria é mantida no cache de segundo nível, portanto a validação não vai ao banco.
+     *
+     * @param id ID da categoria.
+     * @throws CategoriaNaoEncontradaException Se a categoria não for encontrada.
+     */
+    public void validarCategoriaExistente(UUID id) {
+        buscarCategoria(id);
     }
 
     /**
@@ -126,10 +197,11 @@ public class CategoriaService {
     }
 
     /**
-     * Verifica se a categoria possui itens associados e lança exceção, se necessário.
+     * Verifica se a categoria possui itens associados, inclusive os arquivados, e lança exceção, se necessário.
+     * Os itens arquivados contam porque a exclusão da categoria removeria o seu arquivo em cascata.
      */
     private void validarCategoriaSemItens(UUID id) {
-        if (itemRepository.existsByCategoriaId(id)) {
+        if (itemRepository.existsAtivoOuArquivadoByCategoriaId(id)) {
             throw new CategoriaComItensException(id);
         }
     }
@@ -141,6 +213,17 @@ public class CategoriaService {
         return Categoria.builder()
                 .id(dto.getId())
                 .nome(dto.getNome())
+                .dataAtualizacao(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Converte uma projeção da listagem para DTO.
+     */
+    private CategoriaDTO converterParaDTO(CategoriaResumo resumo) {
+        return CategoriaDTO.builder()
+                .id(resumo.id())
+                .nome(resumo.nome())
                 .build();
     }
 
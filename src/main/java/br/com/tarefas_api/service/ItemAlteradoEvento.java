@@ -0,0 +1,50 @@
+package br.com.tarefas_api.service;
+
+import br.com.tarefas_api.dto.ItemDTO;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo {@link ItemService} a cada criação, atualização ou remoção de um item, dentro da transação
+ * da alteração. Os ouvintes transacionais o recebem somente após o commit.
+ *
+ * @param tipo Tipo da alteração.
+ * @param id ID do item.
+ * @param categoriaId ID da categoria do item.
+ * @param categoriaAnteriorId ID da categoria anterior, quando a atualização moveu o item de categoria.
+ * @param item Estado do item após a alteração, ou null se ele foi removido.
+ */
+public record ItemAlteradoEvento(Tipo tipo, UUID id, UUID categoriaId, UUID categoriaAnteriorId, ItemDTO item) {
+
+    /**
+     * Tipos de alteração de um item.
+     */
+    public enum Tipo {
+        CRIADO,
+        ATUALIZADO,
+        REMOVIDO
+    }
+
+    /**
+     * Cria o evento de criação do item.
+     */
+    public static ItemAlteradoEvento criado(ItemDTO item) {
+        return new ItemAlteradoEvento(Tipo.CRIADO, item.getId(), item.getCategoriaId(), null, item);
+    }
+
+    /**
+     * Cria o evento de atualização do item, registrando a categoria anterior se ela mudou.
+     */
+    public static ItemAlteradoEvento atualizado(ItemDTO item, UUID categoriaAnteriorId) {
+        UUID anterior = item.getCategoriaId().equals(categoriaAnteriorId) ? null : categoriaAnteriorId;
+        return new ItemAlteradoEvento(Tipo.ATUALIZADO, item.getId(), item.getCategoriaId(), anterior, item);
+    }
+
+    /**
+     * Cria o evento de remoção do item.
+     */
+    public static ItemAlteradoEvento removido(UUID id, UUID categoriaId) {
+        return new ItemAlteradoEvento(Tipo.REMOVIDO, id, categoriaId, null, null);
+    }
+
+}
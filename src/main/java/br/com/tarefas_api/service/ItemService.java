@@ -3,17 +3,50 @@ package br.com.tarefas_api.service;
 import br.com.tarefas_api.domain.Categoria;
 import br.com.tarefas_api.domain.Item;
 import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.ListaItensDTO;
+import br.com.tarefas_api.dto.OperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.PaginaItensDTO;
+import br.com.tarefas_api.dto.ResultadoLoteItemDTO;
+import br.com.tarefas_api.dto.ResultadoOperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.VersaoDTO;
+import br.com.tarefas_api.exception.AtualizacaoParcialInvalidaException;
 import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
+import br.com.tarefas_api.exception.ConflitoDeVersaoException;
 import br.com.tarefas_api.exception.ItemNaoEncontradoException;
+import br.com.tarefas_api.exception.LoteExcedeLimiteException;
+import br.com.tarefas_api.exception.OperacaoEmMassaInvalidaException;
+import br.com.tarefas_api.repository.CampoDeItem;
+import br.com.tarefas_api.repository.CategoriaEstatisticaRepository;
 import br.com.tarefas_api.repository.CategoriaRepository;
 import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.ItemResumo;
+import br.com.tarefas_api.repository.ItensAfetadosPorCategoria;
+import br.com.tarefas_api.repository.VersaoAgregada;
+import br.com.tarefas_api.utils.CursorUtils;
 import br.com.tarefas_api.utils.DateUtils;
+import br.com.tarefas_api.utils.EtagUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Serviço responsável pela lógica de negócios da entidade Item.
@@ -21,12 +54,34 @@ import java.util.UUID;
 @Service
 public class ItemService {
 
+    /**
+     * Quantidade máxima de itens retornados em uma página.
+     */
+    public static final int LIMITE_MAXIMO_PAGINA = 500;
+
+    /**
+     * Quantidade máxima de itens aceitos em um lote.
+     */
+    public static final int LIMITE_MAXIMO_LOTE = 10_000;
+
+    private static final Set<String> FKS_CATEGORIA = Set.of("fk_item_categoria", "fk_categoria_estatistica_categoria");
+
     private final ItemRepository itemRepository;
     private final CategoriaRepository categoriaRepository;
+    private final CategoriaEstatisticaRepository categoriaEstatisticaRepository;
+    private final CategoriaService categoriaService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ItemService(ItemRepository itemRepository, CategoriaRepository categoriaRepository) {
+    public ItemService(ItemRepository itemRepository,
+                       CategoriaRepository categoriaRepository,
+                       CategoriaEstatisticaRepository categoriaEstatisticaRepository,
+                       CategoriaService categoriaService,
+                       ApplicationEventPublisher eventPublisher) {
         this.itemRepository = itemRepository;
         this.categoriaRepository = categoriaRepository;
+        this.categoriaEstatisticaRepository = categoriaEstatisticaRepository;
+        this.categoriaService = categoriaService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -37,27 +92,242 @@ public class ItemService {
      */
     @Transactional
     public ItemDTO criarItem(ItemDTO itemDTO) {
-        Categoria categoria = categoriaRepository.findById(itemDTO.getCategoriaId())
-                .orElseThrow(() -> new CategoriaNaoEncontradaException(itemDTO.getCategoriaId()));
+        // A categoria é referenciada sem SELECT; sua existência é garantida pela FK fk_item_categoria
+        Categoria categoria = categoriaRepository.getReferenceById(itemDTO.getCategoriaId());
 
-        Item salvo = itemRepository.save(converterParaEntidade(itemDTO, categoria));
+        Item salvo = salvarItem(converterParaEntidade(itemDTO, categoria));
+        categoriaEstatisticaRepository.ajustar(categoria.getId(), 1, salvo.isConcluido() ? 1 : 0);
+
+        ItemDTO criado = converterParaDTO(salvo);
+        eventPublisher.publishEvent(ItemAlteradoEvento.criado(criado));
+        return criado;
+    }
+
+    /**
+     * Cria vários itens em uma única transação.
+     * As categorias de todo o lote são resolvidas em uma única consulta e os itens válidos são
+     * persistidos por meio do batching JDBC do Hibernate. Itens inválidos são rejeitados
+     * individualmente, sem impedir a criação dos demais.
+     * @param itensDTO Lista de DTOs com os dados dos itens.
+     * @return Resultado de cada linha do lote, na mesma ordem da lista recebida.
+     * @throws LoteExcedeLimiteException Se o lote exceder {@value #LIMITE_MAXIMO_LOTE} itens.
+     */
+    @Transactional
+    public List<ResultadoLoteItemDTO> criarItensEmLote(List<ItemDTO> itensDTO) {
+        if (itensDTO.size() > LIMITE_MAXIMO_LOTE) {
+            throw new LoteExcedeLimiteException(LIMITE_MAXIMO_LOTE);
+        }
+
+        List<UUID> idsCategorias = itensDTO.stream()
+                .map(ItemDTO::getCategoriaId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<UUID, Categoria> categorias = categoriaRepository.findAllById(idsCategorias)
+                .stream()
+                .collect(Collectors.toMap(Categoria::getId, Function.identity()));
+
+        ResultadoLoteItemDTO[] resultados = new ResultadoLoteItemDTO[itensDTO.size()];
+        List<Item> novosItens = new ArrayList<>();
+        List<Integer> linhasNovosItens = new ArrayList<>();
+
+        for (int linha = 0; linha < itensDTO.size(); linha++) {
+            ItemDTO itemDTO = itensDTO.get(linha);
+            String erro = validarItemDoLote(itemDTO, categorias);
+            if (erro != null) {
+                resultados[linha] = rejeitarLinha(linha, erro);
+                continue;
+            }
+            try {
+                novosItens.add(converterParaEntidade(itemDTO, categorias.get(itemDTO.getCategoriaId())));
+                linhasNovosItens.add(linha);
+            } catch (DateTimeParseException e) {
+                resultados[linha] = rejeitarLinha(linha, "Data inválida: " + e.getParsedString());
+            }
+        }
+
+        List<Item> salvos = itemRepository.saveAll(novosItens);
+
+        // Um único ajuste de contadores por categoria do lote: [total, concluídos]
+        Map<UUID, long[]> contadores = new HashMap<>();
+        for (Item salvo : salvos) {
+            eventPublisher.publishEvent(ItemAlteradoEvento.criado(converterParaDTO(salvo)));
+            long[] contador = contadores.computeIfAbsent(salvo.getCategoria().getId(), categoriaId -> new long[2]);
+            contador[0]++;
+            contador[1] += salvo.isConcluido() ? 1 : 0;
+        }
+        contadores.forEach((categoriaId, contador) ->
+                categoriaEstatisticaRepository.ajustar(categoriaId, contador[0], contador[1]));
+
+        for (int i = 0; i < salvos.size(); i++) {
+            int linha = linhasNovosItens.get(i);
+            resultados[linha] = ResultadoLoteItemDTO.builder()
+                    .linha(linha)
+                    .status(ResultadoLoteItemDTO.Status.CRIADO)
+                    .id(salvos.get(i).getId())
+                    .build();
+        }
 
-        return converterParaDTO(salvo);
+        return List.of(resultados);
     }
 
     /**
      * Lista os itens de uma categoria específica.
      * @param idCategoria ID da categoria.
-     * @return Lista de ItemDTOs.
+     * @return Lista de ItemDTOs, serializada diretamente a partir das projeções.
      */
-    public List<ItemDTO> listarItensDaCategoria(UUID idCategoria) {
-        Categoria categoria = categoriaRepository.findById(idCategoria)
-                .orElseThrow(() -> new CategoriaNaoEncontradaException(idCategoria));
+    @Transactional(readOnly = true)
+    public ListaItensDTO listarItensDaCategoria(UUID idCategoria) {
+        return listarItensDaCategoria(idCategoria, CampoDeItem.TODOS);
+    }
 
-        return itemRepository.findByCategoriaId(categoria.getId())
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+    /**
+     * Lista os itens de uma categoria específica, consultando somente as colunas dos campos selecionados.
+     * @param idCategoria ID da categoria.
+     * @param campos Campos dos itens incluídos na resposta.
+     * @return Lista de ItemDTOs, serializada diretamente a partir das projeções.
+     */
+    @Transactional(readOnly = true)
+    public ListaItensDTO listarItensDaCategoria(UUID idCategoria, Set<CampoDeItem> campos) {
+        categoriaService.validarCategoriaExistente(idCategoria);
+
+        List<ItemResumo> itens = todos(campos)
+                ? itemRepository.findResumosByCategoriaId(idCategoria)
+                : itemRepository.findResumosByCategoriaId(idCategoria, campos);
+        return new ListaItensDTO(itens, campos, this::converterParaDTO);
+    }
+
+    /**
+     * Retorna a versão da listagem de itens de uma categoria, calculada sem carregar os itens.
+     * @param idCategoria ID da categoria.
+     * @return Versão da listagem de itens da categoria.
+     * @throws CategoriaNaoEncontradaException Se a categoria não for encontrada.
+     */
+    @Transactional(readOnly = true)
+    public VersaoDTO buscarVersaoDosItensDaCategoria(UUID idCategoria) {
+        categoriaService.validarCategoriaExistente(idCategoria);
+        // Sem contadores, a categoria nunca teve itens
+        return EtagUtils.versaoDaColecao(itemRepository.findVersaoAgregadaByCategoriaId(idCategoria)
+                .orElse(new VersaoAgregada(0L, null)));
+    }
+
+    /**
+     * Lista os itens de uma categoria em páginas, utilizando paginação por cursor (keyset).
+     * O custo de cada página é constante, independentemente da profundidade da navegação.
+     * @param idCategoria ID da categoria.
+     * @param cursor Cursor retornado pela página anterior, ou null para a primeira página.
+     * @param limite Quantidade máxima de itens da página (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @return Página de itens com o cursor da próxima página, se houver.
+     * @throws CategoriaNaoEncontradaException Se a categoria não for encontrada.
+     */
+    @Transactional(readOnly = true)
+    public PaginaItensDTO listarItensDaCategoriaPaginado(UUID idCategoria, String cursor, int limite) {
+        return listarItensDaCategoriaPaginado(idCategoria, cursor, limite, CampoDeItem.TODOS);
+    }
+
+    /**
+     * Lista os itens de uma categoria em páginas, utilizando paginação por cursor (keyset), consultando somente as
+     * colunas dos campos selecionados e das que formam o cursor.
+     * @param idCategoria ID da categoria.
+     * @param cursor Cursor retornado pela página anterior, ou null para a primeira página.
+     * @param limite Quantidade máxima de itens da página (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @param campos Campos dos itens incluídos na resposta.
+     * @return Página de itens com o cursor da próxima página, se houver.
+     * @throws CategoriaNaoEncontradaException Se a categoria não for encontrada.
+     */
+    @Transactional(readOnly = true)
+    public PaginaItensDTO listarItensDaCategoriaPaginado(UUID idCategoria, String cursor, int limite,
+                                                         Set<CampoDeItem> campos) {
+        categoriaService.validarCategoriaExistente(idCategoria);
+
+        int tamanhoPagina = Math.clamp(limite, 1, LIMITE_MAXIMO_PAGINA);
+
+        // O cursor da próxima página é formado pela data de criação e pelo ID do último item, mesmo que não pedidos
+        Set<CampoDeItem> consultados = EnumSet.of(CampoDeItem.DATA_CRIACAO, CampoDeItem.ID);
+        consultados.addAll(campos);
+
+        // Busca um item a mais para saber se existe uma próxima página
+        Limit limiteDaConsulta = Limit.of(tamanhoPagina + 1);
+        List<ItemResumo> itens;
+        if (cursor == null || cursor.isBlank()) {
+            itens = todos(consultados)
+                    ? itemRepository.findPrimeiraPaginaByCategoriaId(idCategoria, limiteDaConsulta)
+                    : itemRepository.findPrimeiraPaginaByCategoriaId(idCategoria, consultados, limiteDaConsulta);
+        } else {
+            CursorUtils.Posicao posicao = CursorUtils.decodificar(cursor);
+            itens = todos(consultados)
+                    ? itemRepository.findPaginaByCategoriaIdAposCursor(
+                            idCategoria, posicao.data(), posicao.id(), limiteDaConsulta)
+                    : itemRepository.findPaginaByCategoriaIdAposCursor(
+                            idCategoria, posicao.data(), posicao.id(), consultados, limiteDaConsulta);
+        }
+
+        boolean possuiProximaPagina = itens.size() > tamanhoPagina;
+        List<ItemResumo> pagina = possuiProximaPagina ? itens.subList(0, tamanhoPagina) : itens;
+
+        String proximoCursor = null;
+        if (possuiProximaPagina) {
+            ItemResumo ultimo = pagina.get(pagina.size() - 1);
+            proximoCursor = CursorUtils.codificar(ultimo.dataCriacao(), ultimo.id());
+        }
+
+        return PaginaItensDTO.builder()
+                .itens(new ListaItensDTO(pagina, campos, this::converterParaDTO))
+                .proximoCursor(proximoCursor)
+                .build();
+    }
+
+    /**
+     * Lista os itens pendentes de todas as categorias cuja data limite já passou, dos mais atrasados
+     * para os mais recentes.
+     * @param limite Quantidade máxima de itens (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @return Lista de itens vencidos.
+     */
+    @Transactional(readOnly = true)
+    public ListaItensDTO listarItensVencidos(int limite) {
+        return listarItensVencidos(limite, CampoDeItem.TODOS);
+    }
+
+    /**
+     * Lista os itens pendentes vencidos de todas as categorias, consultando somente as colunas dos campos selecionados.
+     * @param limite Quantidade máxima de itens (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @param campos Campos dos itens incluídos na resposta.
+     * @return Lista de itens vencidos.
+     */
+    @Transactional(readOnly = true)
+    public ListaItensDTO listarItensVencidos(int limite, Set<CampoDeItem> campos) {
+        LocalDateTime agora = LocalDateTime.now();
+        Limit limiteDaConsulta = Limit.of(Math.clamp(limite, 1, LIMITE_MAXIMO_PAGINA));
+        List<ItemResumo> itens = todos(campos)
+                ? itemRepository.findVencidos(agora, limiteDaConsulta)
+                : itemRepository.findVencidos(agora, campos, limiteDaConsulta);
+        return new ListaItensDTO(itens, campos, this::converterParaDTO);
+    }
+
+    /**
+     * Lista os próximos itens pendentes a vencer, de todas as categorias, ordenados pela data limite.
+     * @param limite Quantidade de itens retornados (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @return Lista com os itens de data limite mais próxima.
+     */
+    @Transactional(readOnly = true)
+    public ListaItensDTO listarProximosItens(int limite) {
+        return listarProximosItens(limite, CampoDeItem.TODOS);
+    }
+
+    /**
+     * Lista os próximos itens pendentes a vencer, consultando somente as colunas dos campos selecionados.
+     * @param limite Quantidade de itens retornados (entre 1 e {@value #LIMITE_MAXIMO_PAGINA}).
+     * @param campos Campos dos itens incluídos na resposta.
+     * @return Lista com os itens de data limite mais próxima.
+     */
+    @Transactional(readOnly = true)
+    public ListaItensDTO listarProximosItens(int limite, Set<CampoDeItem> campos) {
+        LocalDateTime agora = LocalDateTime.now();
+        Limit limiteDaConsulta = Limit.of(Math.clamp(limite, 1, LIMITE_MAXIMO_PAGINA));
+        List<ItemResumo> itens = todos(campos)
+                ? itemRepository.findProximos(agora, limiteDaConsulta)
+                : itemRepository.findProximos(agora, campos, limiteDaConsulta);
+        return new ListaItensDTO(itens, campos, this::converterParaDTO);
     }
 
     /**
@@ -65,6 +335,7 @@ public class ItemService {
      * @param id ID do item.
      * @return DTO do item encontrado.
      */
+    @Transactional(readOnly = true)
     public ItemDTO buscarPorId(UUID id) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ItemNaoEncontradoException(id));
@@ -73,33 +344,108 @@ public class ItemService {
     }
 
     /**
-     * Atualiza um item existente.
+     * Retorna a versão de um item, consultando somente a sua versão e data de modificação.
+     * @param id ID do item.
+     * @return Versão do item.
+     * @throws ItemNaoEncontradoException Se o item não for encontrado.
+     */
+    @Transactional(readOnly = true)
+    public VersaoDTO buscarVersao(UUID id) {
+        return itemRepository.findVersaoById(id)
+                .map(EtagUtils::versaoDoRegistro)
+                .orElseThrow(() -> new ItemNaoEncontradoException(id));
+    }
+
+    /**
+     * Atualiza um item existente, sem validar a versão conhecida pelo cliente.
      * @param id ID do item a ser atualizado.
      * @param itemDTO DTO contendo os novos dados.
      * @return DTO do item atualizado.
+     * @throws ItemNaoEncontradoException Se o item não for encontrado.
+     * @throws CategoriaNaoEncontradaException Se a nova categoria informada não for encontrada.
      */
     @Transactional
     public ItemDTO atualizarItem(UUID id, ItemDTO itemDTO) {
-        Item itemExistente = itemRepository.findById(id)
+        return atualizarItem(id, itemDTO, null);
+    }
+
+    /**
+     * Atualiza um item existente (PUT). A situação de conclusão é sempre substituída, portanto um concluido ausente
+     * reabre o item; uma data limite ausente mantém a atual. Para alterar somente alguns
+     * campos, utilize {@link #atualizarItemParcialmente(UUID, JsonNode, List)}.
+     * @param id ID do item a ser atualizado.
+     * @param itemDTO DTO contendo os novos dados.
+     * @param versoesEsperadas Versões do item conhecidas pelo cliente (If-Match), ou null para não validar.
+     * @return DTO do item atualizado.
+     * @throws ItemNaoEncontradoException Se o item não for encontrado.
+     * @throws CategoriaNaoEncontradaException Se a nova categoria informada não for encontrada.
+     * @throws ConflitoDeVersaoException Se o item foi alterado desde as versões esperadas ou durante a atualização.
+     */
+    @Transactional
+    public ItemDTO atualizarItem(UUID id, ItemDTO itemDTO, List<Long> versoesEsperadas) {
+        Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ItemNaoEncontradoException(id));
+        validarVersao(item, versoesEsperadas);
+        UUID categoriaAnterior = item.getCategoria().getId();
+        boolean concluidoAnterior = item.isConcluido();
 
-        Categoria categoria = categoriaRepository.findById(itemExistente.getCategoria().getId())
-                .orElseThrow(() -> new CategoriaNaoEncontradaException(itemDTO.getCategoriaId()));
+        // Reaproveita a categoria já associada ao item e só referencia uma nova categoria quando ela muda
+        alterarCategoria(item, itemDTO.getCategoriaId());
+        if (itemDTO.getDescricao() != null) {
+            item.setDescricao(itemDTO.getDescricao());
+        }
+        item.setConcluido(itemDTO.isConcluido());
+        if (itemDTO.getDataLimite() != null) {
+            item.setDataLimite(DateUtils.parseDate(itemDTO.getDataLimite()));
+        }
+        item.setDataAtualizacao(LocalDateTime.now());
 
-        Item itemAtualizado = Item.builder()
-                .id(itemExistente.getId())
-                .descricao(itemDTO.getDescricao() != null ? itemDTO.getDescricao() : itemExistente.getDescricao())
-                .concluido(itemDTO.isConcluido())
-                .dataAtualizacao(LocalDateTime.now())
-                .dataLimite(itemDTO.getDataLimite() != null ? DateUtils.parseDate(itemDTO.getDataLimite()) : itemExistente.getDataLimite())
-                .categoria(categoria)
-                .build();
+        // A entidade gerenciada é gravada pelo dirty checking, somente com as colunas alteradas
+        Item salvo = salvarItem(item);
+        atualizarEstatisticas(categoriaAnterior, concluidoAnterior, salvo);
+        ItemDTO atualizado = converterParaDTO(salvo);
+        eventPublisher.publishEvent(ItemAlteradoEvento.atualizado(atualizado, categoriaAnterior));
+        return atualizado;
+    }
 
-        // Salva a entidade atualizada no banco
-        Item salvo = itemRepository.save(itemAtualizado);
+    /**
+     * Atualiza parcialmente um item, aplicando um documento JSON Merge Patch (RFC 7396).
+     * Somente os campos presentes no documento são alterados e o UPDATE contém somente as colunas modificadas,
+     * além da data de atualização e da versão.
+     * @param id ID do item a ser atualizado.
+     * @param patch Documento JSON Merge Patch com os campos descricao, concluido, dataLimite e/ou categoriaId.
+     * @param versoesEsperadas Versões do item conhecidas pelo cliente (If-Match), ou null para não validar.
+     * @return DTO do item atualizado.
+     * @throws ItemNaoEncontradoException Se o item não for encontrado.
+     * @throws ConflitoDeVersaoException Se o item foi alterado desde as versões esperadas ou durante a atualização.
+     * @throws AtualizacaoParcialInvalidaException Se o documento contiver campos ou valores inválidos.
+     */
+    @Transactional
+    public ItemDTO atualizarItemParcialmente(UUID id, JsonNode patch, List<Long> versoesEsperadas) {
+        if (patch == null || !patch.isObject()) {
+            throw new AtualizacaoParcialInvalidaException("O corpo da requisição deve ser um objeto JSON.");
+        }
 
-        // Retorna o DTO do item atualizado
-        return converterParaDTO(salvo);
+        Item item = itemRepository.findById(id)
+                .orElseThrow(() -> new ItemNaoEncontradoException(id));
+        validarVersao(item, versoesEsperadas);
+        UUID categoriaAnterior = item.getCategoria().getId();
+        boolean concluidoAnterior = item.isConcluido();
+
+        boolean alterado = false;
+        for (Map.Entry<String, JsonNode> campo : patch.properties()) {
+            alterado |= aplicarCampo(item, campo.getKey(), campo.getValue());
+        }
+        if (!alterado) {
+            return converterParaDTO(item);
+        }
+
+        item.setDataAtualizacao(LocalDateTime.now());
+        Item salvo = salvarItem(item);
+        atualizarEstatisticas(categoriaAnterior, concluidoAnterior, salvo);
+        ItemDTO atualizado = converterParaDTO(salvo);
+        eventPublisher.publishEvent(ItemAlteradoEvento.atualizado(atualizado, categoriaAnterior));
+        return atualizado;
     }
 
     /**
@@ -108,18 +454,272 @@ public class ItemService {
      */
     @Transactional
     public void removerItem(UUID id) {
-        if (!itemRepository.existsById(id)) {
-            throw new ItemNaoEncontradoException(id);
+        UUID categoriaId = itemRepository.excluirPorId(id)
+                .orElseThrow(() -> new ItemNaoEncontradoException(id));
+        eventPublisher.publishEvent(ItemAlteradoEvento.removido(id, categoriaId));
+    }
+
+    /**
+     * Marca como concluídos, em um único comando, os itens pendentes selecionados pela operação.
+     * @param operacao Seleção dos itens por categoria ou lista de IDs.
+     * @return Quantidade de itens atualizados.
+     */
+    @Transactional
+    public ResultadoOperacaoEmMassaDTO concluirItens(OperacaoEmMassaDTO operacao) {
+        UUID[] ids = validarSelecao(operacao);
+        LocalDateTime agora = LocalDateTime.now();
+        List<ItensAfetadosPorCategoria> afetados = ids == null
+                ? itemRepository.concluirPorCategoria(operacao.getIdCategoria(), agora)
+                : itemRepository.concluirPorIds(ids, agora);
+        return resultadoEmMassa(afetados, null);
+    }
+
+    /**
+     * Remove, em um único comando, os itens selecionados pela operação.
+     * @param operacao Seleção dos itens por categoria ou lista de IDs, opcionalmente somente os concluídos.
+     * @return Quantidade de itens removidos.
+     */
+    @Transactional
+    public ResultadoOperacaoEmMassaDTO excluirItens(OperacaoEmMassaDTO operacao) {
+        UUID[] ids = validarSelecao(operacao);
+        List<ItensAfetadosPorCategoria> afetados = ids == null
+                ? itemRepository.excluirPorCategoria(operacao.getIdCategoria(), operacao.isSomenteConcluidos())
+                : itemRepository.excluirPorIds(ids, operacao.isSomenteConcluidos());
+        return resultadoEmMassa(afetados, null);
+    }
+
+    /**
+     * Move, em um único comando, os itens selecionados pela operação para a categoria de destino.
+     * A existência da categoria de destino é garantida pela chave estrangeira, sem consulta prévia.
+     * @param operacao Seleção dos itens por categoria ou lista de IDs e a categoria de destino.
+     * @return Quantidade de itens movidos.
+     */
+    @Transactional
+    public ResultadoOperacaoEmMassaDTO moverItens(OperacaoEmMassaDTO operacao) {
+        UUID[] ids = validarSelecao(operacao);
+        UUID destino = operacao.getIdCategoriaDestino();
+        if (destino == null) {
+            throw new OperacaoEmMassaInvalidaException("A categoria de destino é obrigatória.");
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        try {
+            List<ItensAfetadosPorCategoria> afetados = ids == null
+                    ? itemRepository.moverPorCategoria(operacao.getIdCategoria(), destino, agora)
+                    : itemRepository.moverPorIds(ids, destino, agora);
+            return resultadoEmMassa(afetados, destino);
+        } catch (DataIntegrityViolationException e) {
+            if (violouCategoria(e)) {
+                throw new CategoriaNaoEncontradaException(destino);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Soma os itens afetados por uma operação em massa e publica o evento com as categorias alteradas.
+     * @param afetados Quantidade de itens afetados por categoria.
+     * @param destino Categoria que recebeu os itens, nas movimentações, ou null.
+     */
+    private ResultadoOperacaoEmMassaDTO resultadoEmMassa(List<ItensAfetadosPorCategoria> afetados, UUID destino) {
+        Set<UUID> categorias = new HashSet<>();
+        long total = 0;
+        for (ItensAfetadosPorCategoria linha : afetados) {
+            categorias.add(linha.getCategoriaId());
+            total += linha.getAfetados();
+        }
+        if (total > 0) {
+            if (destino != null) {
+                categorias.add(destino);
+            }
+            eventPublisher.publishEvent(new ItensAlteradosEmMassaEvento(categorias));
+        }
+        return new ResultadoOperacaoEmMassaDTO((int) total);
+    }
+
+    /**
+     * Aplica um campo do documento JSON Merge Patch ao item.
+     * @return true se o valor do campo foi alterado.
+     */
+    private boolean aplicarCampo(Item item, String nome, JsonNode valor) {
+        switch (nome) {
+            case "descricao" -> {
+                if (!valor.isTextual() || valor.asText().isBlank()) {
+                    throw new AtualizacaoParcialInvalidaException("A descrição do item é obrigatória.");
+                }
+                if (valor.asText().equals(item.getDescricao())) {
+                    return false;
+                }
+                item.setDescricao(valor.asText());
+                return true;
+            }
+            case "concluido" -> {
+                if (!valor.isBoolean()) {
+                    throw new AtualizacaoParcialInvalidaException("O campo concluido deve ser verdadeiro ou falso.");
+                }
+                if (valor.asBoolean() == item.isConcluido()) {
+                    return false;
+                }
+                item.setConcluido(valor.asBoolean());
+                return true;
+            }
+            case "dataLimite" -> {
+                LocalDateTime dataLimite = lerDataLimite(valor);
+                if (Objects.equals(dataLimite, item.getDataLimite())) {
+                    return false;
+                }
+                item.setDataLimite(dataLimite);
+                return true;
+            }
+            case "categoriaId" -> {
+                try {
+                    return alterarCategoria(item, UUID.fromString(valor.asText()));
+                } catch (IllegalArgumentException e) {
+                    throw new AtualizacaoParcialInvalidaException("A categoria do item é obrigatória.");
+                }
+            }
+            default -> throw new AtualizacaoParcialInvalidaException("O campo não pode ser alterado: " + nome);
+        }
+    }
+
+    /**
+     * Lê a data limite do documento JSON Merge Patch. O valor null remove a data limite.
+     */
+    private LocalDateTime lerDataLimite(JsonNode valor) {
+        if (valor.isNull()) {
+            return null;
+        }
+        try {
+            return DateUtils.parseDate(valor.asText());
+        } catch (DateTimeParseException e) {
+            throw new AtualizacaoParcialInvalidaException("Data inválida: " + valor.asText());
+        }
+    }
+
+    /**
+     * Associa o item a outra categoria por referência, sem SELECT, quando a categoria informada é diferente da atual.
+     * @return true se a categoria foi alterada.
+     */
+    private boolean alterarCategoria(Item item, UUID idCategoria) {
+        if (idCategoria == null || idCategoria.equals(item.getCategoria().getId())) {
+            return false;
+        }
+        item.setCategoria(categoriaRepository.getReferenceById(idCategoria));
+        return true;
+    }
+
+    /**
+     * Verifica se a versão atual do item está entre as versões conhecidas pelo cliente (If-Match).
+     */
+    private void validarVersao(Item item, List<Long> versoesEsperadas) {
+        if (versoesEsperadas != null && !versoesEsperadas.contains(item.getVersao())) {
+            throw new ConflitoDeVersaoException(item.getId());
+        }
+    }
+
+    /**
+     * Grava o item imediatamente para que os erros de gravação sejam detectados dentro do serviço:
+     * a violação da FK da categoria é traduzida para {@link CategoriaNaoEncontradaException} e a falha
+     * da concorrência otimista para {@link ConflitoDeVersaoException}.
+     */
+    private Item salvarItem(Item item) {
+        try {
+            return itemRepository.saveAndFlush(item);
+        } catch (DataIntegrityViolationException e) {
+            if (violouCategoria(e)) {
+                throw new CategoriaNaoEncontradaException(item.getCategoria().getId());
+            }
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConflitoDeVersaoException(item.getId());
         }
-        itemRepository.deleteById(id);
+    }
+
+    /**
+     * Aplica aos contadores das categorias a mudança de categoria e/ou de conclusão de um item.
+     */
+    private void atualizarEstatisticas(UUID categoriaAnterior, boolean concluidoAnterior, Item item) {
+        UUID categoriaAtual = item.getCategoria().getId();
+        int anterior = concluidoAnterior ? 1 : 0;
+        int atual = item.isConcluido() ? 1 : 0;
+        if (!categoriaAtual.equals(categoriaAnterior)) {
+            categoriaEstatisticaRepository.ajustar(categoriaAnterior, -1, -anterior);
+            categoriaEstatisticaRepository.ajustar(categoriaAtual, 1, atual);
+        } else if (atual != anterior) {
+            categoriaEstatisticaRepository.ajustar(categoriaAtual, 0, atual - anterior);
+        }
+    }
+
+    /**
+     * Verifica se a violação de integridade foi causada por uma chave estrangeira para a categoria.
+     */
+    private boolean violouCategoria(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violacao
+                && violacao.getConstraintName() != null
+                && FKS_CATEGORIA.contains(violacao.getConstraintName().toLowerCase());
+    }
+
+    /**
+     * Valida a seleção de uma operação em massa: exatamente uma entre categoria e lista de IDs.
+     * @return IDs selecionados, ou null quando a seleção é pela categoria.
+     */
+    private UUID[] validarSelecao(OperacaoEmMassaDTO operacao) {
+        if (operacao == null) {
+            throw new OperacaoEmMassaInvalidaException("Informe a categoria ou a lista de IDs dos itens.");
+        }
+
+        List<UUID> ids = operacao.getIds();
+        if ((operacao.getIdCategoria() == null) == (ids == null)) {
+            throw new OperacaoEmMassaInvalidaException("Informe a categoria ou a lista de IDs dos itens, mas não ambos.");
+        }
+        if (ids == null) {
+            return null;
+        }
+        if (ids.size() > LIMITE_MAXIMO_LOTE) {
+            throw new LoteExcedeLimiteException(LIMITE_MAXIMO_LOTE);
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new OperacaoEmMassaInvalidaException("A lista de IDs não pode conter valores nulos.");
+        }
+        return ids.toArray(UUID[]::new);
+    }
+
+    /**
+     * Valida um item do lote, retornando a mensagem de erro ou null se o item for válido.
+     */
+    private String validarItemDoLote(ItemDTO itemDTO, Map<UUID, Categoria> categorias) {
+        if (itemDTO == null) {
+            return "O item é obrigatório.";
+        }
+        if (itemDTO.getDescricao() == null || itemDTO.getDescricao().isBlank()) {
+            return "A descrição do item é obrigatória.";
+        }
+        if (itemDTO.getCategoriaId() == null) {
+            return "A categoria do item é obrigatória.";
+        }
+        if (!categorias.containsKey(itemDTO.getCategoriaId())) {
+            return new CategoriaNaoEncontradaException(itemDTO.getCategoriaId()).getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Monta o resultado de uma linha rejeitada do lote.
+     */
+    private ResultadoLoteItemDTO rejeitarLinha(int linha, String mensagem) {
+        return ResultadoLoteItemDTO.builder()
+                .linha(linha)
+                .status(ResultadoLoteItemDTO.Status.REJEITADO)
+                .mensagem(mensagem)
+                .build();
     }
 
     /**
      * Converte um ItemDTO para a entidade Item.
      */
     private Item converterParaEntidade(ItemDTO itemDTO, Categoria categoria) {
+        // O ID é sempre gerado pela aplicação (UUID v7)
         return Item.builder()
-                .id(itemDTO.getId())
                 .descricao(itemDTO.getDescricao())
                 .dataCriacao(LocalDateTime.now())
                 .concluido(itemDTO.isConcluido())
@@ -129,6 +729,28 @@ public class ItemService {
                 .build();
     }
 
+    /**
+     * Indica se todos os campos foram selecionados: nesse caso as listagens usam as consultas fixas do repositório.
+     */
+    private static boolean todos(Set<CampoDeItem> campos) {
+        return campos.containsAll(CampoDeItem.TODOS);
+    }
+
+    /**
+     * Converte uma projeção da listagem para ItemDTO.
+     */
+    private ItemDTO converterParaDTO(ItemResumo item) {
+        return ItemDTO.builder()
+                .id(item.id())
+                .descricao(item.descricao())
+                .concluido(item.concluido())
+                .dataCriacao(DateUtils.formatDate(item.dataCriacao()))
+                .dataAtualizacao(DateUtils.formatDate(item.dataAtualizacao()))
+                .dataLimite(DateUtils.formatDate(item.dataLimite()))
+                .categoriaId(item.categoriaId())
+                .build();
+    }
+
     /**
      * Converte uma entidade Item para ItemDTO.
      */
@@ -141,6 +763,7 @@ public class ItemService {
                 .dataAtualizacao(DateUtils.formatDate(item.getDataAtualizacao()))
                 .dataLimite(DateUtils.formatDate(item.getDataLimite()))
                 .categoriaId(item.getCategoria().getId())
+                .versao(item.getVersao())
                 .build();
     }
 
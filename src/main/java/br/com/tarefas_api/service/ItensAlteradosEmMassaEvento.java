@@ -0,0 +1,15 @@
+package br.com.tarefas_api.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo {@link ItemService} após uma operação em massa que alterou itens, e pelo arquivador a cada
+ * lote de itens movidos para o arquivo.
+ * As operações em massa não carregam os itens, portanto o evento informa apenas as categorias afetadas.
+ * Os ouvintes o recebem somente após o commit da transação.
+ *
+ * @param categoriaIds IDs das categorias que tiveram itens alterados, removidos, arquivados ou recebidos.
+ */
+public record ItensAlteradosEmMassaEvento(Set<UUID> categoriaIds) {
+}
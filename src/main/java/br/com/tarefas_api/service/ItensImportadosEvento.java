@@ -0,0 +1,18 @@
+package br.com.tarefas_api.service;
+
+import br.com.tarefas_api.service.arquivo.ImportacaoDeItensService;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo {@link ImportacaoDeItensService} após importar itens.
+ * A importação não carrega os itens, portanto o evento informa apenas as categorias que os receberam e o menor prazo
+ * pendente importado. Os ouvintes o recebem somente após o commit da transação.
+ *
+ * @param categoriaIds IDs das categorias que receberam itens.
+ * @param menorPrazo Menor data limite entre os itens pendentes importados, ou null se nenhum tiver prazo.
+ */
+public record ItensImportadosEvento(Set<UUID> categoriaIds, LocalDateTime menorPrazo) {
+}
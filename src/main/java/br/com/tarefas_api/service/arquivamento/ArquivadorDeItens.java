@@ -0,0 +1,114 @@
+package br.com.tarefas_api.service.arquivamento;
+
+import br.com.tarefas_api.repository.ItemArquivadoRepository;
+import br.com.tarefas_api.repository.ItensAfetadosPorCategoria;
+import br.com.tarefas_api.service.ItensAlteradosEmMassaEvento;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Arquivador que move os itens concluídos há mais de {@code tarefas.arquivo.idade} da tabela de itens para o arquivo
+ * (item_arquivo), mantendo a tabela de itens e os seus índices restritos aos itens em uso.
+ * <p>
+ * Os itens são movidos em lotes, cada um em uma transação curta: um único comando retira os itens mais antigos com
+ * DELETE ... RETURNING, grava-os no arquivo e atualiza os contadores e o outbox. As linhas bloqueadas por edições em
+ * andamento são ignoradas (SKIP LOCKED), de modo que várias instâncias podem arquivar ao mesmo tempo e nenhuma edição
+ * espera pelo arquivamento além de um lote. As partições mensais necessárias são criadas antes dos lotes.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tarefas.arquivo.habilitado", havingValue = "true", matchIfMissing = true)
+public class ArquivadorDeItens {
+
+    private final ItemArquivadoRepository itemArquivadoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration idade;
+    private final int tamanhoLote;
+
+    public ArquivadorDeItens(ItemArquivadoRepository itemArquivadoRepository,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${tarefas.arquivo.idade:P90D}") Duration idade,
+                             @Value("${tarefas.arquivo.tamanho-lote:1000}") int tamanhoLote) {
+        this.itemArquivadoRepository = itemArquivadoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.idade = idade;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * Executa o arquivamento periodicamente. Uma falha é registrada e os itens restantes são arquivados na próxima
+     * execução; os lotes já concluídos permanecem no arquivo.
+     */
+    @Scheduled(cron = "${tarefas.arquivo.cron:0 0 2 * * *}")
+    public void executar() {
+        try {
+            arquivar();
+        } catch (RuntimeException e) {
+            log.error("Falha ao arquivar os itens concluídos", e);
+        }
+    }
+
+    /**
+     * Arquiva, em lotes, os itens concluídos cuja última modificação é anterior à idade configurada.
+     *
+     * @return Quantidade de itens arquivados.
+     */
+    public long arquivar() {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime limite = agora.minus(idade);
+
+        Integer particoes = transactionTemplate.execute(status -> itemArquivadoRepository.criarParticoes(limite));
+        if (particoes != null && particoes > 0) {
+            log.info("{} partições mensais criadas no arquivo de itens", particoes);
+        }
+
+        long total = 0;
+        long arquivadosNoLote;
+        do {
+            arquivadosNoLote = arquivarLote(limite, agora);
+            total += arquivadosNoLote;
+        } while (arquivadosNoLote == tamanhoLote);
+
+        if (total > 0) {
+            log.info("{} itens concluídos antes de {} arquivados", total, limite);
+        }
+        return total;
+    }
+
+    /**
+     * Arquiva um lote em uma única transação e avisa os assinantes das categorias afetadas após o commit.
+     */
+    private long arquivarLote(LocalDateTime limite, LocalDateTime agora) {
+        Long arquivados = transactionTemplate.execute(status -> {
+            List<ItensAfetadosPorCategoria> afetados = itemArquivadoRepository.arquivarLote(limite, agora, tamanhoLote);
+            long quantidade = 0;
+            Set<UUID> categorias = new HashSet<>();
+            for (ItensAfetadosPorCategoria categoria : afetados) {
+                categorias.add(categoria.getCategoriaId());
+                quantidade += categoria.getAfetados();
+            }
+            if (!categorias.isEmpty()) {
+                eventPublisher.publishEvent(new ItensAlteradosEmMassaEvento(categorias));
+            }
+            return quantidade;
+        });
+        return arquivados != null ? arquivados : 0;
+    }
+
+}
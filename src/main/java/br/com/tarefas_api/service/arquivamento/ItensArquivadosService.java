@@ -0,0 +1,100 @@
+package br.com.tarefas_api.service.arquivamento;
+
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.ListaItensDTO;
+import br.com.tarefas_api.dto.PaginaItensDTO;
+import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
+import br.com.tarefas_api.exception.IntervaloInvalidoException;
+import br.com.tarefas_api.repository.ItemArquivadoRepository;
+import br.com.tarefas_api.repository.ItemResumo;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.ItemService;
+import br.com.tarefas_api.utils.CursorUtils;
+import br.com.tarefas_api.utils.DateUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consulta dos itens concluídos movidos para o arquivo pelo {@link ArquivadorDeItens}.
+ */
+@Service
+public class ItensArquivadosService {
+
+    private final ItemArquivadoRepository itemArquivadoRepository;
+    private final CategoriaService categoriaService;
+
+    public ItensArquivadosService(ItemArquivadoRepository itemArquivadoRepository,
+                                  CategoriaService categoriaService) {
+        this.itemArquivadoRepository = itemArquivadoRepository;
+        this.categoriaService = categoriaService;
+    }
+
+    /**
+     * Lista em páginas os itens arquivados de uma categoria cuja data de atualização (a da conclusão) está no
+     * intervalo, ordenados por essa data e ID. Somente as partições mensais do intervalo são lidas.
+     * @param idCategoria ID da categoria.
+     * @param inicio Início do intervalo, inclusive.
+     * @param fim Fim do intervalo, exclusive.
+     * @param cursor Cursor retornado pela página anterior, ou null para a primeira página.
+     * @param limite Quantidade máxima de itens da página (entre 1 e {@value ItemService#LIMITE_MAXIMO_PAGINA}).
+     * @return Página de itens arquivados com o cursor da próxima página, se houver.
+     * @throws CategoriaNaoEncontradaException Se a categoria não for encontrada.
+     * @throws IntervaloInvalidoException Se o início não for anterior ao fim.
+     */
+    @Transactional(readOnly = true)
+    public PaginaItensDTO listarItensArquivados(UUID idCategoria, LocalDateTime inicio, LocalDateTime fim,
+                                                String cursor, int limite) {
+        categoriaService.validarCategoriaExistente(idCategoria);
+        if (!inicio.isBefore(fim)) {
+            throw new IntervaloInvalidoException("O início do intervalo deve ser anterior ao fim.");
+        }
+
+        int tamanhoPagina = Math.clamp(limite, 1, ItemService.LIMITE_MAXIMO_PAGINA);
+
+        // Busca um item a mais para saber se existe uma próxima página
+        Limit limiteDaConsulta = Limit.of(tamanhoPagina + 1);
+        List<ItemResumo> itens;
+        if (cursor == null || cursor.isBlank()) {
+            itens = itemArquivadoRepository.findPrimeiraPagina(idCategoria, inicio, fim, limiteDaConsulta);
+        } else {
+            CursorUtils.Posicao posicao = CursorUtils.decodificar(cursor);
+            itens = itemArquivadoRepository.findPaginaAposCursor(
+                    idCategoria, inicio, fim, posicao.data(), posicao.id(), limiteDaConsulta);
+        }
+
+        boolean possuiProximaPagina = itens.size() > tamanhoPagina;
+        List<ItemResumo> pagina = possuiProximaPagina ? itens.subList(0, tamanhoPagina) : itens;
+
+        String proximoCursor = null;
+        if (possuiProximaPagina) {
+            ItemResumo ultimo = pagina.get(pagina.size() - 1);
+            proximoCursor = CursorUtils.codificar(ultimo.dataAtualizacao(), ultimo.id());
+        }
+
+        return PaginaItensDTO.builder()
+                .itens(new ListaItensDTO(pagina, this::converterParaDTO))
+                .proximoCursor(proximoCursor)
+                .build();
+    }
+
+    /**
+     * Converte uma projeção do arquivo para ItemDTO.
+     */
+    private ItemDTO converterParaDTO(ItemResumo item) {
+        return ItemDTO.builder()
+                .id(item.id())
+                .descricao(item.descricao())
+                .concluido(item.concluido())
+                .dataCriacao(DateUtils.formatDate(item.dataCriacao()))
+                .dataAtualizacao(DateUtils.formatDate(item.dataAtualizacao()))
+                .dataLimite(DateUtils.formatDate(item.dataLimite()))
+                .categoriaId(item.categoriaId())
+                .build();
+    }
+
+}
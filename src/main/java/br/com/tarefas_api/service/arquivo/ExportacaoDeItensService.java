@@ -0,0 +1,82 @@
+package br.com.tarefas_api.service.arquivo;
+
+import br.com.tarefas_api.config.replica.LeituraDasPropriasEscritas;
+import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.service.CategoriaService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Exportação de itens em CSV ou NDJSON.
+ * <p>
+ * O conteúdo é produzido pelo PostgreSQL (COPY TO STDOUT) e repassado à resposta à medida que chega, sem passar por
+ * entidades ou DTOs: a memória utilizada não depende da quantidade de itens. Se o cliente se desconectar, o COPY é
+ * cancelado e a conexão volta ao pool.
+ */
+@Service
+public class ExportacaoDeItensService {
+
+    private final ItemRepository itemRepository;
+    private final CategoriaService categoriaService;
+    private final ObjectProvider<LeituraDasPropriasEscritas> leituraDasPropriasEscritas;
+    private final TransactionTemplate transacaoSomenteLeitura;
+    private final TransactionTemplate transacaoNoPrimario;
+
+    public ExportacaoDeItensService(ItemRepository itemRepository,
+                                    CategoriaService categoriaService,
+                                    ObjectProvider<LeituraDasPropriasEscritas> leituraDasPropriasEscritas,
+                                    PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.categoriaService = categoriaService;
+        this.leituraDasPropriasEscritas = leituraDasPropriasEscritas;
+        this.transacaoSomenteLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoSomenteLeitura.setReadOnly(true);
+        this.transacaoNoPrimario = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Prepara a exportação dos itens, validando a categoria antes que a resposta comece a ser enviada.
+     * <p>
+     * O conteúdo é escrito fora da thread da requisição, em uma transação que mantém uma conexão do pool até o fim da
+     * exportação. A escolha entre o primário e uma réplica é feita aqui, na thread da requisição, onde a
+     * {@link LeituraDasPropriasEscritas} conhece o cliente: um cliente que escreveu dentro da janela exporta do primário,
+     * em uma transação que não é somente leitura; os demais, de uma réplica, se houver. Os itens não têm ordem definida.
+     *
+     * @param categoriaId ID da categoria dos itens, ou null para exportar todos os itens.
+     * @param formato Formato do arquivo.
+     * @return Corpo da resposta, que escreve os itens no formato informado.
+     * @throws CategoriaNaoEncontradaException Se a categoria não for encontrada.
+     */
+    public StreamingResponseBody exportar(UUID categoriaId, FormatoDeArquivo formato) {
+        if (categoriaId != null) {
+            categoriaService.validarCategoriaExistente(categoriaId);
+        }
+
+        LeituraDasPropriasEscritas leitura = leituraDasPropriasEscritas.getIfAvailable();
+        TransactionTemplate transacao = leitura != null && leitura.deveLerDoPrimario()
+                ? transacaoNoPrimario : transacaoSomenteLeitura;
+
+        return saida -> {
+            try {
+                transacao.executeWithoutResult(status -> {
+                    if (formato == FormatoDeArquivo.CSV) {
+                        itemRepository.copiarParaCsv(categoriaId, saida);
+                    } else {
+                        itemRepository.copiarParaNdjson(categoriaId, saida);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // Repassa a falha original, como a desconexão do cliente, para o tratamento do Spring MVC
+                throw e.getCause();
+            }
+        };
+    }
+
+}
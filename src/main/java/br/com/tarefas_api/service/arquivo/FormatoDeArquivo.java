@@ -0,0 +1,55 @@
+package br.com.tarefas_api.service.arquivo;
+
+import br.com.tarefas_api.exception.ImportacaoInvalidaException;
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos de arquivo da importação e da exportação de itens. Na importação, o formato é identificado pelo
+ * Content-Type.
+ */
+public enum FormatoDeArquivo {
+
+    /**
+     * CSV separado por vírgula, com cabeçalho na primeira linha.
+     */
+    CSV(new MediaType("text", "csv")),
+
+    /**
+     * Um objeto JSON por linha (newline-delimited JSON), no formato de ItemDTO.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    /**
+     * Valor de Content-Type do CSV, para uso em anotações.
+     */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType tipo;
+
+    FormatoDeArquivo(MediaType tipo) {
+        this.tipo = tipo;
+    }
+
+    /**
+     * @return Content-Type do formato.
+     */
+    public MediaType getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Identifica o formato a partir do Content-Type, ignorando parâmetros como charset.
+     * @param tipo Content-Type da requisição.
+     * @return Formato correspondente.
+     * @throws ImportacaoInvalidaException Se o tipo não corresponder a nenhum formato.
+     */
+    public static FormatoDeArquivo doTipo(MediaType tipo) {
+        for (FormatoDeArquivo formato : values()) {
+            if (formato.tipo.equalsTypeAndSubtype(tipo)) {
+                return formato;
+            }
+        }
+        throw new ImportacaoInvalidaException("Formato de arquivo não suportado: " + tipo);
+    }
+
+}
@@ -0,0 +1,312 @@
+package br.com.tarefas_api.service.arquivo;
+
+import br.com.tarefas_api.domain.UuidV7Generator;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.LinhaRejeitadaDTO;
+import br.com.tarefas_api.dto.ResultadoImportacaoDTO;
+import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
+import br.com.tarefas_api.exception.ImportacaoInvalidaException;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemImportado;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.ItensAfetadosPorCategoria;
+import br.com.tarefas_api.service.ItensImportadosEvento;
+import br.com.tarefas_api.utils.CsvUtils;
+import br.com.tarefas_api.utils.DateUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Importação de itens em massa a partir de arquivos CSV ou NDJSON.
+ * <p>
+ * O arquivo é lido em streaming: cada linha é validada contra as categorias existentes, carregadas uma única vez,
+ * e enviada ao PostgreSQL pelo COPY FROM STDIN para uma tabela temporária. Ao fim da leitura, um único comando copia
+ * os itens para a tabela de itens e atualiza os contadores e o outbox. A memória utilizada não depende do tamanho do
+ * arquivo: somente as primeiras rejeições são detalhadas, e as demais são apenas contadas.
+ * <p>
+ * A importação é atômica: se a leitura do arquivo for interrompida, nenhum item é importado.
+ */
+@Service
+public class ImportacaoDeItensService {
+
+    /**
+     * Tamanho máximo de uma linha do arquivo, em caracteres. Linhas maiores são rejeitadas.
+     */
+    public static final int TAMANHO_MAXIMO_LINHA = 8 * 1024;
+
+    private static final int TAMANHO_MAXIMO_DESCRICAO = 255;
+
+    private static final Set<String> COLUNAS_CSV = Set.of("descricao", "concluido", "dataLimite", "categoriaId");
+
+    private final ItemRepository itemRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int rejeicoesDetalhadas;
+
+    public ImportacaoDeItensService(ItemRepository itemRepository,
+                                    CategoriaRepository categoriaRepository,
+                                    ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${tarefas.importacao.rejeicoes-detalhadas:1000}") int rejeicoesDetalhadas) {
+        this.itemRepository = itemRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.rejeicoesDetalhadas = rejeicoesDetalhadas;
+    }
+
+    /**
+     * Importa os itens do arquivo. Linhas inválidas são rejeitadas individualmente, sem impedir a importação das demais;
+     * linhas em branco são ignoradas.
+     * @param entrada Conteúdo do arquivo.
+     * @param formato Formato do arquivo.
+     * @param charset Codificação do arquivo.
+     * @return Quantidade de itens importados e as linhas rejeitadas.
+     * @throws ImportacaoInvalidaException Se o cabeçalho do CSV for inválido.
+     */
+    @Transactional
+    public ResultadoImportacaoDTO importar(InputStream entrada, FormatoDeArquivo formato, Charset charset) {
+        Set<UUID> categorias = new HashSet<>(categoriaRepository.findIds());
+        Leitura leitura = new Leitura(
+                new LeitorDeLinhas(new InputStreamReader(entrada, charset), TAMANHO_MAXIMO_LINHA), formato, categorias);
+
+        itemRepository.copiarParaImportacao(leitura);
+
+        long importados = 0;
+        Set<UUID> categoriasAfetadas = new HashSet<>();
+        if (leitura.validas > 0) {
+            for (ItensAfetadosPorCategoria afetados : itemRepository.inserirImportados(LocalDateTime.now())) {
+                categoriasAfetadas.add(afetados.getCategoriaId());
+                importados += afetados.getAfetados();
+            }
+            eventPublisher.publishEvent(new ItensImportadosEvento(categoriasAfetadas, leitura.menorPrazo));
+        }
+
+        return ResultadoImportacaoDTO.builder()
+                .importados(importados)
+                .rejeitados(leitura.rejeitadas)
+                .linhasRejeitadas(leitura.linhasRejeitadas)
+                .build();
+    }
+
+    /**
+     * Percorre as linhas do arquivo, produzindo os itens válidos e registrando as rejeições.
+     */
+    private class Leitura implements Iterator<ItemImportado> {
+
+        private final LeitorDeLinhas leitor;
+        private final FormatoDeArquivo formato;
+        private final Set<UUID> categorias;
+        private final List<LinhaRejeitadaDTO> linhasRejeitadas = new ArrayList<>();
+        private Map<String, Integer> colunas;
+        private ItemImportado proximo;
+        private boolean fim;
+        private long validas;
+        private long rejeitadas;
+        private LocalDateTime menorPrazo;
+
+        Leitura(LeitorDeLinhas leitor, FormatoDeArquivo formato, Set<UUID> categorias) {
+            this.leitor = leitor;
+            this.formato = formato;
+            this.categorias = categorias;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (proximo == null && !fim) {
+                String linha = lerLinha();
+                if (linha == null) {
+                    fim = true;
+                } else if (leitor.excedida()) {
+                    rejeitar("A linha deve ter no máximo " + TAMANHO_MAXIMO_LINHA + " caracteres.");
+                } else if (!linha.isBlank()) {
+                    processar(linha);
+                }
+            }
+            return proximo != null;
+        }
+
+        @Override
+        public ItemImportado next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ItemImportado item = proximo;
+            proximo = null;
+            return item;
+        }
+
+        private String lerLinha() {
+            try {
+                return leitor.proxima();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o arquivo de importação", e);
+            }
+        }
+
+        private void processar(String linha) {
+            if (formato == FormatoDeArquivo.CSV && colunas == null) {
+                colunas = lerCabecalho(linha);
+                return;
+            }
+
+            ItemDTO itemDTO;
+            try {
+                itemDTO = formato == FormatoDeArquivo.CSV ? lerCsv(linha) : objectMapper.readValue(linha, ItemDTO.class);
+            } catch (JsonProcessingException e) {
+                rejeitar("JSON inválido: " + e.getOriginalMessage());
+                return;
+            } catch (IllegalArgumentException e) {
+                rejeitar(e.getMessage());
+                return;
+            }
+
+            String erro = validar(itemDTO);
+            if (erro != null) {
+                rejeitar(erro);
+                return;
+            }
+            LocalDateTime dataLimite;
+            try {
+                dataLimite = DateUtils.parseDate(itemDTO.getDataLimite());
+            } catch (DateTimeParseException e) {
+                rejeitar("Data inválida: " + e.getParsedString());
+                return;
+            }
+
+            if (dataLimite != null && !itemDTO.isConcluido() && (menorPrazo == null || dataLimite.isBefore(menorPrazo))) {
+                menorPrazo = dataLimite;
+            }
+            validas++;
+            proximo = new ItemImportado(UuidV7Generator.gerar(), itemDTO.getDescricao(), itemDTO.isConcluido(),
+                    dataLimite, itemDTO.getCategoriaId());
+        }
+
+        /**
+         * Lê o cabeçalho do CSV, que define a posição de cada coluna.
+         */
+        private Map<String, Integer> lerCabecalho(String linha) {
+            List<String> nomes;
+            try {
+                nomes = CsvUtils.separar(linha);
+            } catch (IllegalArgumentException e) {
+                throw new ImportacaoInvalidaException("Cabeçalho inválido: " + e.getMessage());
+            }
+            Map<String, Integer> posicoes = new HashMap<>();
+            for (int i = 0; i < nomes.size(); i++) {
+                String nome = nomes.get(i).trim();
+                if (!COLUNAS_CSV.contains(nome)) {
+                    throw new ImportacaoInvalidaException("Coluna desconhecida no cabeçalho: " + nome);
+                }
+                if (posicoes.put(nome, i) != null) {
+                    throw new ImportacaoInvalidaException("Coluna repetida no cabeçalho: " + nome);
+                }
+            }
+            if (!posicoes.containsKey("descricao") || !posicoes.containsKey("categoriaId")) {
+                throw new ImportacaoInvalidaException("O cabeçalho deve conter as colunas descricao e categoriaId.");
+            }
+            return posicoes;
+        }
+
+        /**
+         * Converte uma linha do CSV para ItemDTO, de acordo com as colunas do cabeçalho.
+         * @throws IllegalArgumentException Se a linha ou algum dos seus valores for inválido.
+         */
+        private ItemDTO lerCsv(String linha) {
+            List<String> campos = CsvUtils.separar(linha);
+            if (campos.size() != colunas.size()) {
+                throw new IllegalArgumentException("A linha deve ter " + colunas.size() + " colunas.");
+            }
+            String categoriaId = campo(campos, "categoriaId");
+            return ItemDTO.builder()
+                    .descricao(campo(campos, "descricao"))
+                    .concluido(lerConcluido(campo(campos, "concluido")))
+                    .dataLimite(campo(campos, "dataLimite"))
+                    .categoriaId(categoriaId == null ? null : lerCategoria(categoriaId))
+                    .build();
+        }
+
+        private String campo(List<String> campos, String coluna) {
+            Integer posicao = colunas.get(coluna);
+            if (posicao == null || campos.get(posicao).isEmpty()) {
+                return null;
+            }
+            return campos.get(posicao);
+        }
+
+        private boolean lerConcluido(String valor) {
+            if (valor == null || valor.equalsIgnoreCase("false")) {
+                return false;
+            }
+            if (valor.equalsIgnoreCase("true")) {
+                return true;
+            }
+            throw new IllegalArgumentException("O campo concluido deve ser verdadeiro ou falso.");
+        }
+
+        private UUID lerCategoria(String valor) {
+            try {
+                return UUID.fromString(valor.trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("ID de categoria inválido: " + valor);
+            }
+        }
+
+        /**
+         * Valida um item do arquivo, retornando a mensagem de erro ou null se o item for válido.
+         */
+        private String validar(ItemDTO itemDTO) {
+            if (itemDTO == null) {
+                return "O item é obrigatório.";
+            }
+            if (itemDTO.getDescricao() == null || itemDTO.getDescricao().isBlank()) {
+                return "A descrição do item é obrigatória.";
+            }
+            if (itemDTO.getDescricao().length() > TAMANHO_MAXIMO_DESCRICAO) {
+                return "A descrição deve ter no máximo " + TAMANHO_MAXIMO_DESCRICAO + " caracteres.";
+            }
+            // O PostgreSQL não aceita o caractere nulo em colunas de texto
+            if (itemDTO.getDescricao().indexOf('\0') >= 0) {
+                return "A descrição contém caracteres inválidos.";
+            }
+            if (itemDTO.getCategoriaId() == null) {
+                return "A categoria do item é obrigatória.";
+            }
+            if (!categorias.contains(itemDTO.getCategoriaId())) {
+                return new CategoriaNaoEncontradaException(itemDTO.getCategoriaId()).getMessage();
+            }
+            return null;
+        }
+
+        private void rejeitar(String mensagem) {
+            rejeitadas++;
+            if (linhasRejeitadas.size() < rejeicoesDetalhadas) {
+                linhasRejeitadas.add(new LinhaRejeitadaDTO(leitor.numero(), mensagem));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package br.com.tarefas_api.service.arquivo;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Lê um arquivo linha a linha com memória limitada, independentemente do tamanho do arquivo e das linhas.
+ * Os caracteres que passam do tamanho máximo são descartados, e a linha é marcada como excedida.
+ * Aceita os terminadores \n e \r\n e descarta o BOM do início do arquivo.
+ */
+class LeitorDeLinhas {
+
+    private static final int TAMANHO_BUFFER = 8 * 1024;
+
+    private final Reader reader;
+    private final int tamanhoMaximo;
+    private final char[] buffer = new char[TAMANHO_BUFFER];
+    private final StringBuilder linha = new StringBuilder();
+    private int posicao;
+    private int limite;
+    private long numero;
+    private boolean excedida;
+
+    LeitorDeLinhas(Reader reader, int tamanhoMaximo) {
+        this.reader = reader;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    /**
+     * Lê a próxima linha.
+     * @return Conteúdo da linha, sem o terminador e truncado no tamanho máximo, ou null no fim do arquivo.
+     */
+    String proxima() throws IOException {
+        linha.setLength(0);
+        excedida = false;
+        if (posicao == limite && !preencher()) {
+            return null;
+        }
+        numero++;
+        while (true) {
+            int inicio = posicao;
+            while (posicao < limite && buffer[posicao] != '\n') {
+                posicao++;
+            }
+            acrescentar(inicio, posicao);
+            if (posicao < limite) {
+                posicao++;
+                break;
+            }
+            if (!preencher()) {
+                break;
+            }
+        }
+        if (!linha.isEmpty() && linha.charAt(linha.length() - 1) == '\r') {
+            linha.setLength(linha.length() - 1);
+        }
+        if (numero == 1 && !linha.isEmpty() && linha.charAt(0) == '\uFEFF') {
+            linha.deleteCharAt(0);
+        }
+        return linha.toString();
+    }
+
+    /**
+     * @return Número da última linha lida, iniciando em 1.
+     */
+    long numero() {
+        return numero;
+    }
+
+    /**
+     * @return true se a última linha lida passou do tamanho máximo.
+     */
+    boolean excedida() {
+        return excedida;
+    }
+
+    private void acrescentar(int inicio, int fim) {
+        int disponivel = tamanhoMaximo - linha.length();
+        if (fim - inicio > disponivel) {
+            excedida = true;
+            fim = inicio + Math.max(disponivel, 0);
+        }
+        linha.append(buffer, inicio, fim - inicio);
+    }
+
+    private boolean preencher() throws IOException {
+        int lidos = reader.read(buffer);
+        if (lidos <= 0) {
+            return false;
+        }
+        posicao = 0;
+        limite = lidos;
+        return true;
+    }
+
+}
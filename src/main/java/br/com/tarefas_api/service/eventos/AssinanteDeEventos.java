@@ -0,0 +1,167 @@
+package br.com.tarefas_api.service.eventos;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Assinante do stream de eventos de uma categoria.
+ * <p>
+ * As notificações ficam em um buffer limitado, indexado pelo ID do item: uma nova alteração do mesmo item
+ * substitui a pendente. Quando o buffer enche, o consumidor é considerado lento e as notificações pendentes
+ * são colapsadas em um único evento RECARREGAR, que orienta o cliente a recarregar a listagem da categoria.
+ * O envio é feito por uma tarefa do executor somente enquanto há notificações pendentes, de modo que um
+ * assinante ocioso não ocupa thread, e a publicação nunca escreve no socket.
+ */
+class AssinanteDeEventos {
+
+    /**
+     * Nome do evento que orienta o cliente a recarregar a listagem da categoria.
+     */
+    static final String RECARREGAR = "RECARREGAR";
+
+    private final UUID categoriaId;
+    private final SseEmitter emitter;
+    private final int capacidade;
+    private final Executor envios;
+
+    private final Map<UUID, Notificacao> pendentes = new LinkedHashMap<>();
+    private boolean recarregar;
+    private boolean heartbeat;
+    private boolean enviando;
+    private boolean encerrado;
+
+    AssinanteDeEventos(UUID categoriaId, SseEmitter emitter, int capacidade, Executor envios) {
+        this.categoriaId = categoriaId;
+        this.emitter = emitter;
+        this.capacidade = capacidade;
+        this.envios = envios;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * Enfileira a notificação de um item, substituindo a notificação pendente do mesmo item.
+     */
+    synchronized void publicar(UUID itemId, Notificacao notificacao) {
+        if (encerrado || recarregar) {
+            // Uma recarga pendente já cobre qualquer alteração posterior
+            return;
+        }
+        pendentes.remove(itemId);
+        if (pendentes.size() >= capacidade) {
+            pendentes.clear();
+            recarregar = true;
+        } else {
+            pendentes.put(itemId, notificacao);
+        }
+        agendarEnvio();
+    }
+
+    /**
+     * Substitui as notificações pendentes por um único pedido de recarga da categoria.
+     */
+    synchronized void recarregar() {
+        if (encerrado) {
+            return;
+        }
+        pendentes.clear();
+        recarregar = true;
+        agendarEnvio();
+    }
+
+    /**
+     * Envia um comentário para manter a conexão ativa e detectar clientes desconectados.
+     */
+    synchronized void heartbeat() {
+        if (encerrado) {
+            return;
+        }
+        heartbeat = true;
+        agendarEnvio();
+    }
+
+    /**
+     * Descarta as notificações pendentes e deixa de aceitar novas.
+     */
+    synchronized void encerrar() {
+        encerrado = true;
+        pendentes.clear();
+    }
+
+    private void agendarEnvio() {
+        if (!enviando) {
+            enviando = true;
+            envios.execute(this::enviar);
+        }
+    }
+
+    /**
+     * Envia as notificações pendentes em uma única escrita por lote, até esvaziar o buffer.
+     */
+    private void enviar() {
+        while (true) {
+            List<Notificacao> lote;
+            boolean recarga;
+            boolean ping;
+            synchronized (this) {
+                if (encerrado || (pendentes.isEmpty() && !recarregar && !heartbeat)) {
+                    enviando = false;
+                    return;
+                }
+                lote = new ArrayList<>(pendentes.values());
+                pendentes.clear();
+                recarga = recarregar;
+                ping = heartbeat;
+                recarregar = false;
+                heartbeat = false;
+            }
+
+            Set<DataWithMediaType> dados = new LinkedHashSet<>();
+            if (recarga) {
+                dados.addAll(SseEmitter.event().name(RECARREGAR)
+                        .data(Map.of("categoriaId", categoriaId), MediaType.APPLICATION_JSON).build());
+            }
+            for (Notificacao notificacao : lote) {
+                dados.addAll(SseEmitter.event().name(notificacao.nome())
+                        .data(notificacao.dados(), MediaType.APPLICATION_JSON).build());
+            }
+            if (ping) {
+                dados.addAll(SseEmitter.event().comment("ping").build());
+            }
+            try {
+                emitter.send(dados);
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou emitter já concluído: os callbacks do emitter removem o assinante
+                synchronized (this) {
+                    encerrar();
+                    enviando = false;
+                }
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Notificação pendente de envio.
+     *
+     * @param nome Nome do evento SSE.
+     * @param dados Conteúdo do evento, serializado em JSON.
+     */
+    record Notificacao(String nome, Object dados) {
+    }
+
+}
@@ -0,0 +1,169 @@
+package br.com.tarefas_api.service.eventos;
+
+import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.ItemAlteradoEvento;
+import br.com.tarefas_api.service.ItensAlteradosEmMassaEvento;
+import br.com.tarefas_api.service.ItensImportadosEvento;
+import br.com.tarefas_api.service.eventos.AssinanteDeEventos.Notificacao;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serviço que distribui, por Server-Sent Events, as alterações de itens aos assinantes de cada categoria.
+ * <p>
+ * As alterações chegam como eventos do {@code ItemService} somente após o commit. A publicação apenas enfileira
+ * a notificação no buffer limitado de cada assinante; o envio é feito em threads virtuais, criadas somente
+ * enquanto um assinante tem notificações pendentes. Assim, assinantes ociosos custam apenas a conexão
+ * assíncrona e o seu buffer vazio, e um cliente lento não atrasa a transação nem os demais assinantes.
+ */
+@Service
+public class EventosDeCategoriaService {
+
+    private final CategoriaService categoriaService;
+    private final Duration timeout;
+    private final int capacidade;
+    private final Map<UUID, Set<AssinanteDeEventos>> assinantes = new ConcurrentHashMap<>();
+    private final ExecutorService envios = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EventosDeCategoriaService(CategoriaService categoriaService,
+                                     @Value("${tarefas.eventos.timeout:PT30M}") Duration timeout,
+                                     @Value("${tarefas.eventos.capacidade-por-assinante:256}") int capacidade) {
+        this.categoriaService = categoriaService;
+        this.timeout = timeout;
+        this.capacidade = capacidade;
+    }
+
+    /**
+     * Registra um assinante das alterações dos itens da categoria.
+     *
+     * @param categoriaId ID da categoria.
+     * @return Emitter SSE do assinante, concluído ao atingir o tempo limite ou quando o cliente se desconecta.
+     * @throws CategoriaNaoEncontradaException Se a categoria não for encontrada.
+     */
+    public SseEmitter assinar(UUID categoriaId) {
+        categoriaService.validarCategoriaExistente(categoriaId);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        AssinanteDeEventos assinante = new AssinanteDeEventos(categoriaId, emitter, capacidade, envios);
+        assinantes.compute(categoriaId, (id, daCategoria) -> {
+            Set<AssinanteDeEventos> conjunto = daCategoria != null ? daCategoria : ConcurrentHashMap.newKeySet();
+            conjunto.add(assinante);
+            return conjunto;
+        });
+
+        Runnable remover = () -> remover(categoriaId, assinante);
+        emitter.onCompletion(remover);
+        emitter.onTimeout(remover);
+        emitter.onError(erro -> remover.run());
+        // Sem uma primeira escrita, os cabeçalhos da resposta só seriam enviados com o primeiro evento
+        assinante.heartbeat();
+        return emitter;
+    }
+
+    /**
+     * Encaminha a alteração de um item aos assinantes da sua categoria e, se ele mudou de categoria,
+     * notifica a sua saída aos assinantes da categoria anterior.
+     *
+     * @param evento Alteração do item.
+     */
+    @TransactionalEventListener
+    public void aoAlterarItem(ItemAlteradoEvento evento) {
+        if (evento.categoriaAnteriorId() != null) {
+            publicar(evento.categoriaAnteriorId(), evento.id(),
+                    new Notificacao(ItemAlteradoEvento.Tipo.REMOVIDO.name(), Map.of("id", evento.id())));
+        }
+        Object dados = evento.item() != null ? evento.item() : Map.of("id", evento.id());
+        publicar(evento.categoriaId(), evento.id(), new Notificacao(evento.tipo().name(), dados));
+    }
+
+    /**
+     * Pede aos assinantes das categorias afetadas por uma operação em massa que recarreguem a listagem.
+     *
+     * @param evento Categorias afetadas.
+     */
+    @TransactionalEventListener
+    public void aoAlterarItensEmMassa(ItensAlteradosEmMassaEvento evento) {
+        for (UUID categoriaId : evento.categoriaIds()) {
+            assinantesDa(categoriaId).forEach(AssinanteDeEventos::recarregar);
+        }
+    }
+
+    /**
+     * Pede aos assinantes das categorias que receberam itens importados que recarreguem a listagem.
+     *
+     * @param evento Categorias que receberam itens.
+     */
+    @TransactionalEventListener
+    public void aoImportarItens(ItensImportadosEvento evento) {
+        for (UUID categoriaId : evento.categoriaIds()) {
+            assinantesDa(categoriaId).forEach(AssinanteDeEventos::recarregar);
+        }
+    }
+
+    /**
+     * Envia periodicamente um comentário a todos os assinantes, mantendo as conexões ativas em proxies
+     * e liberando as de clientes que se desconectaram.
+     */
+    @Scheduled(fixedRateString = "${tarefas.eventos.heartbeat:PT30S}")
+    public void enviarHeartbeat() {
+        assinantes.values().forEach(daCategoria -> daCategoria.forEach(AssinanteDeEventos::heartbeat));
+    }
+
+    /**
+     * @return Quantidade de assinantes conectados.
+     */
+    public int quantidadeDeAssinantes() {
+        return assinantes.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Conclui os streams abertos no início do encerramento da aplicação. Sem isso, o desligamento gracioso
+     * do servidor aguardaria essas requisições até o tempo limite.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void concluirAssinaturas() {
+        assinantes.values().forEach(daCategoria -> daCategoria.forEach(assinante -> {
+            assinante.encerrar();
+            assinante.emitter().complete();
+        }));
+    }
+
+    @PreDestroy
+    void encerrar() {
+        envios.shutdownNow();
+    }
+
+    private void publicar(UUID categoriaId, UUID itemId, Notificacao notificacao) {
+        for (AssinanteDeEventos assinante : assinantesDa(categoriaId)) {
+            assinante.publicar(itemId, notificacao);
+        }
+    }
+
+    private Set<AssinanteDeEventos> assinantesDa(UUID categoriaId) {
+        return assinantes.getOrDefault(categoriaId, Set.of());
+    }
+
+    private void remover(UUID categoriaId, AssinanteDeEventos assinante) {
+        assinante.encerrar();
+        assinantes.computeIfPresent(categoriaId, (id, daCategoria) -> {
+            daCategoria.remove(assinante);
+            return daCategoria.isEmpty() ? null : daCategoria;
+        });
+    }
+
+}
@@ -0,0 +1,23 @@
+package br.com.tarefas_api.service.outbox;
+
+import java.util.List;
+
+/**
+ * Destino para o qual o {@link RelayDeOutbox} publica os eventos do outbox, como um broker de mensagens.
+ * A aplicação usa o bean declarado desta interface; sem nenhum, os eventos são registrados no log.
+ * <p>
+ * A entrega é pelo menos uma vez: o lote só sai do outbox se este método retornar sem exceção, e uma falha
+ * após a publicação faz com que o lote seja publicado novamente. Os consumidores devem descartar repetições
+ * pelo ID do evento e, para itens, ordenar as alterações pela versão do payload.
+ */
+@FunctionalInterface
+public interface DestinoDeOutbox {
+
+    /**
+     * Publica um lote de eventos, ordenado pelo ID.
+     *
+     * @param mensagens Eventos a publicar.
+     */
+    void publicar(List<MensagemOutbox> mensagens);
+
+}
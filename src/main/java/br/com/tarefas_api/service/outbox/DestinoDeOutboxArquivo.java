@@ -0,0 +1,61 @@
+package br.com.tarefas_api.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Destino do outbox que acrescenta os eventos a um arquivo, um JSON por linha (NDJSON).
+ * Cada lote é gravado em disco (fsync) antes de sair do outbox. Habilitado pela propriedade tarefas.outbox.arquivo.
+ */
+@Component
+@ConditionalOnProperty(name = "tarefas.outbox.arquivo")
+public class DestinoDeOutboxArquivo implements DestinoDeOutbox {
+
+    private final Path arquivo;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Serializa a gravação dos lotes. Um ReentrantLock, e não synchronized, para não prender a thread portadora das
+     * threads virtuais durante a escrita e o fsync.
+     */
+    private final ReentrantLock trava = new ReentrantLock();
+
+    public DestinoDeOutboxArquivo(@Value("${tarefas.outbox.arquivo}") Path arquivo, ObjectMapper objectMapper) {
+        this.arquivo = arquivo;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publicar(List<MensagemOutbox> mensagens) {
+        trava.lock();
+        try (FileChannel canal = FileChannel.open(arquivo,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            StringBuilder linhas = new StringBuilder();
+            for (MensagemOutbox mensagem : mensagens) {
+                linhas.append(objectMapper.writeValueAsString(mensagem)).append('\n');
+            }
+            ByteBuffer conteudo = ByteBuffer.wrap(linhas.toString().getBytes(StandardCharsets.UTF_8));
+            while (conteudo.hasRemaining()) {
+                canal.write(conteudo);
+            }
+            canal.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar os eventos do outbox em " + arquivo, e);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+}
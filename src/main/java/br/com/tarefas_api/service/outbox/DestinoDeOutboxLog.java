@@ -0,0 +1,21 @@
+package br.com.tarefas_api.service.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Destino padrão do outbox, que registra cada evento no log da aplicação.
+ */
+@Slf4j
+public class DestinoDeOutboxLog implements DestinoDeOutbox {
+
+    @Override
+    public void publicar(List<MensagemOutbox> mensagens) {
+        for (MensagemOutbox mensagem : mensagens) {
+            log.info("Evento {} {} {} {}: {}", mensagem.id(), mensagem.agregado(), mensagem.tipo(),
+                    mensagem.agregadoId(), mensagem.payload());
+        }
+    }
+
+}
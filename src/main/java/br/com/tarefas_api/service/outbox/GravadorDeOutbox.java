@@ -0,0 +1,123 @@
+package br.com.tarefas_api.service.outbox;
+
+import br.com.tarefas_api.repository.OutboxRepository;
+import br.com.tarefas_api.service.CategoriaAlteradaEvento;
+import br.com.tarefas_api.service.ItemAlteradoEvento;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Grava no outbox, na mesma transação, os eventos de itens e categorias publicados pelos serviços.
+ * <p>
+ * Os eventos de uma transação são acumulados e gravados em um único INSERT imediatamente antes do commit,
+ * de modo que um lote de itens custa um comando a mais, e não um por item. Se a transação for desfeita,
+ * os eventos são descartados junto com a alteração. As operações em massa gravam o outbox no próprio
+ * comando SQL, pois não carregam os itens.
+ */
+@Component
+public class GravadorDeOutbox {
+
+    /**
+     * Agregado dos eventos de itens.
+     */
+    public static final String ITEM = "ITEM";
+
+    /**
+     * Agregado dos eventos de categorias.
+     */
+    public static final String CATEGORIA = "CATEGORIA";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public GravadorDeOutbox(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Registra a alteração de um item na transação atual.
+     *
+     * @param evento Alteração do item.
+     */
+    @EventListener
+    public void aoAlterarItem(ItemAlteradoEvento evento) {
+        if (evento.item() == null) {
+            registrar(ITEM, evento.id(), evento.tipo().name(), Map.of("id", evento.id(), "categoriaId", evento.categoriaId()));
+            return;
+        }
+        // A versão não faz parte do JSON da API, mas permite aos consumidores descartar alterações fora de ordem
+        ObjectNode estado = objectMapper.valueToTree(evento.item());
+        estado.put("versao", evento.item().getVersao());
+        registrar(ITEM, evento.id(), evento.tipo().name(), estado);
+    }
+
+    /**
+     * Registra a alteração de uma categoria na transação atual.
+     *
+     * @param evento Alteração da categoria.
+     */
+    @EventListener
+    public void aoAlterarCategoria(CategoriaAlteradaEvento evento) {
+        Object estado = evento.categoria() != null ? evento.categoria() : Map.of("id", evento.id());
+        registrar(CATEGORIA, evento.id(), evento.tipo().name(), estado);
+    }
+
+    private void registrar(String agregado, UUID agregadoId, String tipo, Object estado) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Eventos do outbox só podem ser registrados dentro de uma transação");
+        }
+        Pendentes pendentes = (Pendentes) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            pendentes = new Pendentes();
+            TransactionSynchronizationManager.bindResource(this, pendentes);
+            TransactionSynchronizationManager.registerSynchronization(pendentes);
+        }
+        try {
+            pendentes.adicionar(agregado, agregadoId, tipo, objectMapper.writeValueAsString(estado));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o evento do outbox de " + agregado + " " + agregadoId, e);
+        }
+    }
+
+    /**
+     * Eventos da transação atual, gravados antes do commit.
+     */
+    private class Pendentes implements TransactionSynchronization {
+
+        private final List<String> agregados = new ArrayList<>();
+        private final List<UUID> agregadoIds = new ArrayList<>();
+        private final List<String> tipos = new ArrayList<>();
+        private final List<String> payloads = new ArrayList<>();
+
+        void adicionar(String agregado, UUID agregadoId, String tipo, String payload) {
+            agregados.add(agregado);
+            agregadoIds.add(agregadoId);
+            tipos.add(tipo);
+            payloads.add(payload);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            outboxRepository.inserir(agregados.toArray(String[]::new), agregadoIds.toArray(UUID[]::new),
+                    tipos.toArray(String[]::new), payloads.toArray(String[]::new));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(GravadorDeOutbox.this);
+        }
+
+    }
+
+}
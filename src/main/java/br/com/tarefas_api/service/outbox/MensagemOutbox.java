@@ -0,0 +1,27 @@
+package br.com.tarefas_api.service.outbox;
+
+import br.com.tarefas_api.repository.RegistroOutbox;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Evento retirado do outbox e entregue ao {@link DestinoDeOutbox}.
+ *
+ * @param id Identificador sequencial do evento no outbox.
+ * @param agregado Tipo do agregado alterado: ITEM ou CATEGORIA.
+ * @param agregadoId ID do item ou da categoria.
+ * @param tipo Tipo da alteração: CRIADO, ATUALIZADO, REMOVIDO ou ARQUIVADO.
+ * @param payload Estado do agregado após a alteração, em JSON.
+ * @param dataCriacao Instante em que o evento foi gravado.
+ */
+public record MensagemOutbox(long id, String agregado, UUID agregadoId, String tipo,
+                             @JsonRawValue String payload, Instant dataCriacao) {
+
+    static MensagemOutbox de(RegistroOutbox registro) {
+        return new MensagemOutbox(registro.getId(), registro.getAgregado(), registro.getAgregadoId(),
+                registro.getTipo(), registro.getPayload(), registro.getDataCriacao());
+    }
+
+}
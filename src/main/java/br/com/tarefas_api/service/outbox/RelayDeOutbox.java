@@ -0,0 +1,123 @@
+package br.com.tarefas_api.service.outbox;
+
+import br.com.tarefas_api.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Relay que drena o outbox em lotes e publica os eventos no {@link DestinoDeOutbox}.
+ * <p>
+ * Cada lote é retirado com DELETE sobre um SELECT ... FOR UPDATE SKIP LOCKED e publicado na mesma transação:
+ * o commit só acontece após a publicação, e uma falha devolve o lote ao outbox. Como as linhas bloqueadas são
+ * ignoradas pelos demais relays, várias instâncias da aplicação drenam o outbox em paralelo sem se bloquearem
+ * nem publicarem o mesmo evento. A cada execução o relay drena lotes até encontrar um incompleto, portanto o
+ * atraso fica limitado ao intervalo entre execuções enquanto a vazão do relay superar a de escrita.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tarefas.outbox.relay.habilitado", havingValue = "true", matchIfMissing = true)
+public class RelayDeOutbox {
+
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DestinoDeOutbox destino;
+    private final int tamanhoLote;
+    private final Timer atraso;
+    private final Counter publicados;
+
+    @Autowired
+    public RelayDeOutbox(OutboxRepository outboxRepository,
+                         PlatformTransactionManager transactionManager,
+                         ObjectProvider<DestinoDeOutbox> destino,
+                         MeterRegistry meterRegistry,
+                         @Value("${tarefas.outbox.relay.tamanho-lote:500}") int tamanhoLote) {
+        this(outboxRepository, new TransactionTemplate(transactionManager),
+                destino.getIfAvailable(DestinoDeOutboxLog::new), meterRegistry, tamanhoLote);
+    }
+
+    RelayDeOutbox(OutboxRepository outboxRepository,
+                  TransactionTemplate transactionTemplate,
+                  DestinoDeOutbox destino,
+                  MeterRegistry meterRegistry,
+                  int tamanhoLote) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.destino = destino;
+        this.tamanhoLote = tamanhoLote;
+        this.atraso = Timer.builder("tarefas.outbox.atraso")
+                .description("Tempo entre a gravação de um evento no outbox e a sua publicação")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.publicados = Counter.builder("tarefas.outbox.publicados")
+                .description("Eventos publicados pelo relay do outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drena o outbox periodicamente. Uma falha é registrada e o lote é publicado novamente na próxima execução.
+     */
+    @Scheduled(fixedDelayString = "${tarefas.outbox.relay.intervalo:PT1S}")
+    public void executar() {
+        try {
+            drenar();
+        } catch (RuntimeException e) {
+            log.error("Falha ao publicar os eventos do outbox; o lote permanece no outbox", e);
+        }
+    }
+
+    /**
+     * Publica lotes até esvaziar o outbox ou encontrar um lote incompleto.
+     *
+     * @return Quantidade de eventos publicados.
+     */
+    public int drenar() {
+        int total = 0;
+        int publicadosNoLote;
+        do {
+            publicadosNoLote = publicarLote();
+            total += publicadosNoLote;
+        } while (publicadosNoLote == tamanhoLote);
+        return total;
+    }
+
+    /**
+     * Retira um lote do outbox e o publica em uma única transação.
+     *
+     * @return Quantidade de eventos publicados.
+     */
+    public int publicarLote() {
+        List<MensagemOutbox> lote = transactionTemplate.execute(status -> {
+            List<MensagemOutbox> mensagens = outboxRepository.retirarLote(tamanhoLote).stream()
+                    .map(MensagemOutbox::de)
+                    .sorted(Comparator.comparingLong(MensagemOutbox::id))
+                    .toList();
+            if (!mensagens.isEmpty()) {
+                destino.publicar(mensagens);
+            }
+            return mensagens;
+        });
+
+        Instant agora = Instant.now();
+        for (MensagemOutbox mensagem : lote) {
+            atraso.record(Duration.between(mensagem.dataCriacao(), agora));
+        }
+        publicados.increment(lote.size());
+        return lote.size();
+    }
+
+}
@@ -0,0 +1,344 @@
+package br.com.tarefas_api.service.prazo;
+
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.PrazoItem;
+import br.com.tarefas_api.service.ItemAlteradoEvento;
+import br.com.tarefas_api.service.ItensImportadosEvento;
+import br.com.tarefas_api.utils.DateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Agendador que notifica os {@link OuvinteDePrazos} quando a data limite de um item pendente passa,
+ * sem consultar periodicamente a tabela de itens.
+ * <p>
+ * Os prazos ficam em uma {@link RodaDeTempoHierarquica} e são carregados sob demanda, em janelas de tempo
+ * lidas pelo índice parcial de itens pendentes, até a capacidade configurada. Tudo o que vence até o horizonte
+ * (o último prazo carregado) está na roda; o que vence depois é carregado quando a janela avança.
+ * As criações, atualizações e remoções feitas pelo {@code ItemService} chegam como {@link ItemAlteradoEvento}
+ * após o commit e custam O(1); uma importação com prazos dentro do horizonte o recua, e a janela é relida a partir
+ * do menor prazo importado. Antes de notificar, os itens expirados são conferidos no banco, o que também
+ * descarta os alterados por operações em massa.
+ * <p>
+ * A roda é protegida por uma trava que nunca é mantida durante as consultas: cada página de prazos é lida sem a trava,
+ * e as alterações de itens recebidas durante a leitura são reaplicadas depois que a página é incluída na roda. Assim,
+ * as threads das requisições que reagendam itens após o commit não aguardam o banco.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tarefas.prazos.habilitado", havingValue = "true", matchIfMissing = true)
+public class AgendadorDePrazos {
+
+    /**
+     * Quantidade máxima de prazos lidos ou conferidos por consulta.
+     */
+    static final int TAMANHO_PAGINA = 1_000;
+
+    private static final int BALDES_POR_NIVEL = 64;
+    private static final UUID MENOR_ID = new UUID(0, 0);
+    private static final UUID MAIOR_ID = new UUID(-1, -1);
+
+    private final ItemRepository itemRepository;
+    private final List<OuvinteDePrazos> ouvintes;
+    private final Duration janela;
+    private final int capacidade;
+    private final RodaDeTempoHierarquica<UUID> roda;
+
+    /**
+     * Protege a roda, o horizonte, o relógio e os reagendamentos recebidos durante a leitura de uma página.
+     */
+    private final ReentrantLock trava = new ReentrantLock();
+
+    /**
+     * Impede que duas execuções de {@link #processar(LocalDateTime)} carreguem a janela ao mesmo tempo. Não é usada
+     * pelas threads das requisições.
+     */
+    private final ReentrantLock execucao = new ReentrantLock();
+
+    /**
+     * Alterações de itens recebidas enquanto uma página de prazos é lida do banco, ou null fora da leitura.
+     */
+    private List<Reagendamento> reagendadosDuranteLeitura;
+
+    /**
+     * Cursor (data limite, ID) do último prazo carregado. Prazos anteriores a ele estão na roda ou já venceram.
+     */
+    private LocalDateTime horizonteData;
+    private UUID horizonteId;
+
+    /**
+     * Instante do último avanço do relógio: os prazos anteriores a ele já foram entregues.
+     */
+    private LocalDateTime relogio;
+
+    public AgendadorDePrazos(ItemRepository itemRepository,
+                             ObjectProvider<OuvinteDePrazos> ouvintes,
+                             @Value("${tarefas.prazos.tick:PT1S}") Duration tick,
+                             @Value("${tarefas.prazos.janela:PT1H}") Duration janela,
+                             @Value("${tarefas.prazos.capacidade:1000000}") int capacidade) {
+        this(itemRepository, ouvintes.orderedStream().toList(), tick, janela, capacidade, LocalDateTime.now());
+    }
+
+    AgendadorDePrazos(ItemRepository itemRepository,
+                      List<OuvinteDePrazos> ouvintes,
+                      Duration tick,
+                      Duration janela,
+                      int capacidade,
+                      LocalDateTime inicio) {
+        this.itemRepository = itemRepository;
+        this.ouvintes = ouvintes.isEmpty() ? List.of(new OuvinteDePrazosLog()) : ouvintes;
+        this.janela = janela;
+        this.capacidade = capacidade;
+        this.roda = new RodaDeTempoHierarquica<>(tick.toMillis(), BALDES_POR_NIVEL, emMilissegundos(inicio));
+        // Somente os prazos que vencerem a partir da inicialização são notificados
+        this.horizonteData = inicio;
+        this.horizonteId = MENOR_ID;
+        this.relogio = inicio;
+    }
+
+    /**
+     * Avança o relógio do agendador a cada tick.
+     */
+    @Scheduled(fixedDelayString = "${tarefas.prazos.tick:PT1S}")
+    public void executar() {
+        processar(LocalDateTime.now());
+    }
+
+    /**
+     * Carrega a próxima janela de prazos, se necessário, e notifica os itens cujo prazo venceu até o instante informado.
+     *
+     * @param agora Instante atual.
+     */
+    public void processar(LocalDateTime agora) {
+        List<UUID> expirados = new ArrayList<>();
+        execucao.lock();
+        try {
+            carregarJanela(agora);
+            trava.lock();
+            try {
+                roda.avancar(emMilissegundos(agora), expirados::add);
+                relogio = agora;
+            } finally {
+                trava.unlock();
+            }
+        } finally {
+            execucao.unlock();
+        }
+        for (int i = 0; i < expirados.size(); i += TAMANHO_PAGINA) {
+            notificar(expirados.subList(i, Math.min(i + TAMANHO_PAGINA, expirados.size())), agora);
+        }
+    }
+
+    /**
+     * Atualiza o agendamento de um item após o commit da sua criação, atualização ou remoção.
+     *
+     * @param evento Estado do item após a alteração.
+     */
+    @TransactionalEventListener
+    public void aoAlterarItem(ItemAlteradoEvento evento) {
+        ItemDTO item = evento.item();
+        boolean pendente = evento.tipo() != ItemAlteradoEvento.Tipo.REMOVIDO
+                && !item.isConcluido() && item.getDataLimite() != null;
+        reagendar(evento.id(), pendente ? DateUtils.parseDate(item.getDataLimite()) : null);
+    }
+
+    /**
+     * Recua o horizonte até o menor prazo importado, para que a próxima carga da janela leia os prazos importados.
+     * Os prazos relidos que já estão na roda são substituídos; prazos importados já vencidos não são notificados.
+     *
+     * @param evento Itens importados.
+     */
+    @TransactionalEventListener
+    public void aoImportarItens(ItensImportadosEvento evento) {
+        LocalDateTime menorPrazo = evento.menorPrazo();
+        if (menorPrazo == null) {
+            return;
+        }
+        trava.lock();
+        try {
+            if (dentroDoHorizonte(menorPrazo, MENOR_ID)) {
+                horizonteData = menorPrazo.isAfter(relogio) ? menorPrazo : relogio;
+                horizonteId = MENOR_ID;
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * @return Quantidade de prazos mantidos em memória.
+     */
+    public int quantidadeAgendada() {
+        trava.lock();
+        try {
+            return roda.tamanho();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Agenda o prazo do item se ele estiver dentro do horizonte; caso contrário, ou se não houver prazo, cancela.
+     * Prazos além do horizonte serão lidos do banco quando a janela avançar. Durante a leitura de uma página, a
+     * alteração também é guardada para ser reaplicada com o novo horizonte.
+     */
+    private void reagendar(UUID id, LocalDateTime dataLimite) {
+        trava.lock();
+        try {
+            if (reagendadosDuranteLeitura != null) {
+                reagendadosDuranteLeitura.add(new Reagendamento(id, dataLimite));
+            }
+            aplicarReagendamento(id, dataLimite);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void aplicarReagendamento(UUID id, LocalDateTime dataLimite) {
+        if (dataLimite != null && dentroDoHorizonte(dataLimite, id)) {
+            roda.agendar(id, emMilissegundos(dataLimite));
+        } else {
+            roda.cancelar(id);
+        }
+    }
+
+    /**
+     * Lê os prazos pendentes posteriores ao horizonte até o fim da janela, respeitando a capacidade.
+     * Só consulta o banco quando metade da janela já foi consumida. As páginas são lidas sem a trava.
+     */
+    private void carregarJanela(LocalDateTime agora) {
+        LocalDateTime fim = agora.plus(janela);
+        trava.lock();
+        try {
+            if (!horizonteData.isBefore(agora.plus(janela.dividedBy(2)))) {
+                return;
+            }
+        } finally {
+            trava.unlock();
+        }
+        while (true) {
+            LocalDateTime cursorData;
+            UUID cursorId;
+            int quantidade;
+            trava.lock();
+            try {
+                quantidade = Math.min(capacidade - roda.tamanho(), TAMANHO_PAGINA);
+                if (!horizonteData.isBefore(fim) || quantidade <= 0) {
+                    return;
+                }
+                cursorData = horizonteData;
+                cursorId = horizonteId;
+                reagendadosDuranteLeitura = new ArrayList<>();
+            } finally {
+                trava.unlock();
+            }
+
+            List<PrazoItem> prazos;
+            try {
+                prazos = itemRepository.findPrazosPendentesAposCursor(cursorData, cursorId, fim, Limit.of(quantidade));
+            } catch (RuntimeException e) {
+                // O horizonte não avança; as alterações recebidas já foram aplicadas com o horizonte atual
+                trava.lock();
+                try {
+                    reagendadosDuranteLeitura = null;
+                } finally {
+                    trava.unlock();
+                }
+                throw e;
+            }
+            trava.lock();
+            try {
+                aplicarPagina(prazos, cursorData, cursorId, quantidade, fim);
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Inclui na roda uma página lida a partir do cursor e avança o horizonte. Se uma importação recuou o horizonte
+     * durante a leitura, ele não é avançado e a próxima página parte do novo horizonte. Os itens alterados durante a
+     * leitura podem estar ausentes da página, ou nela com o prazo anterior, e por isso são reagendados em seguida.
+     * Deve ser chamado com a trava.
+     */
+    private void aplicarPagina(List<PrazoItem> prazos, LocalDateTime cursorData, UUID cursorId, int quantidade,
+                               LocalDateTime fim) {
+        for (PrazoItem prazo : prazos) {
+            roda.agendar(prazo.id(), emMilissegundos(prazo.dataLimite()));
+        }
+        if (horizonteData.equals(cursorData) && horizonteId.equals(cursorId)) {
+            if (prazos.size() < quantidade) {
+                horizonteData = fim;
+                horizonteId = MAIOR_ID;
+            } else {
+                PrazoItem ultimo = prazos.get(prazos.size() - 1);
+                horizonteData = ultimo.dataLimite();
+                horizonteId = ultimo.id();
+            }
+        }
+        List<Reagendamento> reagendados = reagendadosDuranteLeitura;
+        reagendadosDuranteLeitura = null;
+        for (Reagendamento reagendamento : reagendados) {
+            aplicarReagendamento(reagendamento.id(), reagendamento.dataLimite());
+        }
+    }
+
+    /**
+     * Confere no banco os itens expirados e notifica os que continuam pendentes com o prazo vencido.
+     * Itens cuja data limite foi adiada fora deste agendador são reagendados.
+     */
+    private void notificar(List<UUID> expirados, LocalDateTime agora) {
+        for (PrazoItem prazo : itemRepository.findPrazosPendentesByIds(expirados)) {
+            if (prazo.dataLimite().isAfter(agora)) {
+                reagendar(prazo.id(), prazo.dataLimite());
+                continue;
+            }
+            for (OuvinteDePrazos ouvinte : ouvintes) {
+                try {
+                    ouvinte.prazoVencido(prazo.id(), prazo.dataLimite());
+                } catch (RuntimeException e) {
+                    log.error("Falha ao notificar o vencimento do prazo do item {}", prazo.id(), e);
+                }
+            }
+        }
+    }
+
+    private boolean dentroDoHorizonte(LocalDateTime dataLimite, UUID id) {
+        int comparacao = dataLimite.compareTo(horizonteData);
+        return comparacao < 0 || (comparacao == 0 && compararComoPostgres(id, horizonteId) <= 0);
+    }
+
+    /**
+     * Compara os UUIDs byte a byte, sem sinal, como o PostgreSQL (UUID.compareTo compara com sinal).
+     */
+    private static int compararComoPostgres(UUID a, UUID b) {
+        int comparacao = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return comparacao != 0 ? comparacao : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static long emMilissegundos(LocalDateTime data) {
+        return data.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Alteração de um item recebida durante a leitura de uma página de prazos.
+     */
+    private record Reagendamento(UUID id, LocalDateTime dataLimite) {
+    }
+
+}
@@ -0,0 +1,22 @@
+package br.com.tarefas_api.service.prazo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Ouvinte notificado pelo {@link AgendadorDePrazos} quando a data limite de um item pendente passa.
+ * Todos os beans deste tipo são notificados; se nenhum for declarado, o vencimento é registrado no log
+ * pelo {@link OuvinteDePrazosLog}.
+ */
+@FunctionalInterface
+public interface OuvinteDePrazos {
+
+    /**
+     * Chamado uma vez para cada item cuja data limite passou sem que ele fosse concluído.
+     *
+     * @param itemId ID do item.
+     * @param dataLimite Data limite do item.
+     */
+    void prazoVencido(UUID itemId, LocalDateTime dataLimite);
+
+}
@@ -0,0 +1,20 @@
+package br.com.tarefas_api.service.prazo;
+
+import br.com.tarefas_api.utils.DateUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Ouvinte padrão de prazos, que registra cada vencimento no log da aplicação.
+ */
+@Slf4j
+public class OuvinteDePrazosLog implements OuvinteDePrazos {
+
+    @Override
+    public void prazoVencido(UUID itemId, LocalDateTime dataLimite) {
+        log.info("Prazo do item {} venceu em {}", itemId, DateUtils.formatDate(dataLimite));
+    }
+
+}
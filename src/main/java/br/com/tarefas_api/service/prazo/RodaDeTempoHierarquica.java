@@ -0,0 +1,269 @@
+package br.com.tarefas_api.service.prazo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Roda de tempo hierárquica (hierarchical timing wheel) para agendar a expiração de chaves.
+ * <p>
+ * Cada nível é um anel de baldes: o nível 0 tem baldes de {@code tick} milissegundos e cada nível seguinte
+ * tem baldes do tamanho de uma volta inteira do nível anterior, criados sob demanda. Agendar e cancelar
+ * custam O(1) (listas duplamente encadeadas por balde e um mapa por chave); ao avançar o relógio, os baldes
+ * dos níveis superiores são redistribuídos para os inferiores quando o seu intervalo se torna o atual.
+ * <p>
+ * A classe não é thread-safe: o chamador deve sincronizar os acessos.
+ *
+ * @param <K> Tipo da chave agendada.
+ */
+public class RodaDeTempoHierarquica<K> {
+
+    private final long tick;
+    private final int tamanho;
+    private final List<Nivel> niveis = new ArrayList<>();
+    private final Map<K, Entrada<K>> entradas = new HashMap<>();
+
+    /**
+     * Entradas agendadas para um instante que já passou, expiradas no próximo avanço.
+     */
+    private final Balde<K> vencidas = new Balde<>();
+
+    /**
+     * Início do balde atual do nível 0: toda entrada com expiração anterior a ele já expirou.
+     */
+    private long tempoAtual;
+
+    /**
+     * @param tick Duração de um balde do nível 0, em milissegundos.
+     * @param tamanho Quantidade de baldes de cada nível.
+     * @param inicio Instante inicial do relógio, em milissegundos.
+     */
+    public RodaDeTempoHierarquica(long tick, int tamanho, long inicio) {
+        if (tick <= 0 || tamanho < 2) {
+            throw new IllegalArgumentException("O tick deve ser positivo e cada nível deve ter ao menos 2 baldes.");
+        }
+        this.tick = tick;
+        this.tamanho = tamanho;
+        this.tempoAtual = inicio - Math.floorMod(inicio, tick);
+        niveis.add(new Nivel(tick));
+    }
+
+    /**
+     * Agenda a expiração de uma chave, substituindo o agendamento anterior da mesma chave, se houver.
+     *
+     * @param chave Chave a ser agendada.
+     * @param expiracao Instante da expiração, em milissegundos.
+     */
+    public void agendar(K chave, long expiracao) {
+        Entrada<K> entrada = entradas.get(chave);
+        if (entrada == null) {
+            entrada = new Entrada<>(chave);
+            entradas.put(chave, entrada);
+        } else {
+            entrada.remover();
+        }
+        entrada.expiracao = expiracao;
+        inserir(entrada);
+    }
+
+    /**
+     * Cancela o agendamento de uma chave.
+     *
+     * @param chave Chave a ser cancelada.
+     * @return true se a chave estava agendada.
+     */
+    public boolean cancelar(K chave) {
+        Entrada<K> entrada = entradas.remove(chave);
+        if (entrada == null) {
+            return false;
+        }
+        entrada.remover();
+        return true;
+    }
+
+    /**
+     * Avança o relógio até o instante informado, entregando as chaves expiradas em ordem de balde.
+     *
+     * @param agora Instante atual, em milissegundos.
+     * @param expirada Consumidor das chaves expiradas.
+     */
+    public void avancar(long agora, Consumer<K> expirada) {
+        esvaziar(vencidas, expirada);
+
+        long alvo = agora - Math.floorMod(agora, tick);
+        if (entradas.isEmpty()) {
+            tempoAtual = Math.max(tempoAtual, alvo);
+            return;
+        }
+        while (tempoAtual < alvo) {
+            // Expira o balde do nível 0 que acabou de passar
+            esvaziar(niveis.get(0).balde(tempoAtual), expirada);
+            tempoAtual += tick;
+
+            // Traz para os níveis inferiores os baldes dos níveis superiores que passam a ser os atuais
+            for (int i = 1; i < niveis.size() && tempoAtual % niveis.get(i).tick == 0; i++) {
+                Balde<K> balde = niveis.get(i).balde(tempoAtual);
+                for (Entrada<K> entrada = balde.retirarTodas(); entrada != null; ) {
+                    Entrada<K> proxima = entrada.proxima;
+                    entrada.proxima = null;
+                    inserir(entrada);
+                    entrada = proxima;
+                }
+            }
+            esvaziar(vencidas, expirada);
+            if (entradas.isEmpty()) {
+                tempoAtual = alvo;
+            }
+        }
+    }
+
+    /**
+     * @return Quantidade de chaves agendadas.
+     */
+    public int tamanho() {
+        return entradas.size();
+    }
+
+    /**
+     * @param chave Chave procurada.
+     * @return true se a chave está agendada.
+     */
+    public boolean contem(K chave) {
+        return entradas.containsKey(chave);
+    }
+
+    /**
+     * @return Quantidade de níveis criados até o momento.
+     */
+    public int quantidadeDeNiveis() {
+        return niveis.size();
+    }
+
+    /**
+     * Insere a entrada no nível cujo intervalo a contém, criando os níveis superiores necessários.
+     */
+    private void inserir(Entrada<K> entrada) {
+        if (entrada.expiracao < tempoAtual) {
+            vencidas.adicionar(entrada);
+            return;
+        }
+        for (int i = 0; ; i++) {
+            if (i == niveis.size()) {
+                niveis.add(new Nivel(niveis.get(i - 1).tick * tamanho));
+            }
+            Nivel nivel = niveis.get(i);
+            long inicioDoNivel = tempoAtual - Math.floorMod(tempoAtual, nivel.tick);
+            if (entrada.expiracao < inicioDoNivel + nivel.tick * tamanho) {
+                nivel.balde(entrada.expiracao).adicionar(entrada);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove todas as entradas do balde e entrega as suas chaves como expiradas.
+     */
+    private void esvaziar(Balde<K> balde, Consumer<K> expirada) {
+        for (Entrada<K> entrada = balde.retirarTodas(); entrada != null; ) {
+            Entrada<K> proxima = entrada.proxima;
+            entrada.proxima = null;
+            entradas.remove(entrada.chave);
+            expirada.accept(entrada.chave);
+            entrada = proxima;
+        }
+    }
+
+    /**
+     * Anel de baldes de um nível da roda.
+     */
+    private final class Nivel {
+
+        private final long tick;
+        private final Balde<K>[] baldes;
+
+        @SuppressWarnings("unchecked")
+        private Nivel(long tick) {
+            this.tick = tick;
+            this.baldes = new Balde[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                baldes[i] = new Balde<>();
+            }
+        }
+
+        private Balde<K> balde(long instante) {
+            return baldes[(int) Math.floorMod(Math.floorDiv(instante, tick), (long) tamanho)];
+        }
+
+    }
+
+    /**
+     * Lista duplamente encadeada de entradas, com nó sentinela, que permite remoção em O(1).
+     */
+    private static final class Balde<K> {
+
+        private final Entrada<K> sentinela = new Entrada<>(null);
+
+        private Balde() {
+            sentinela.anterior = sentinela;
+            sentinela.proxima = sentinela;
+        }
+
+        private void adicionar(Entrada<K> entrada) {
+            entrada.balde = this;
+            entrada.anterior = sentinela.anterior;
+            entrada.proxima = sentinela;
+            sentinela.anterior.proxima = entrada;
+            sentinela.anterior = entrada;
+        }
+
+        /**
+         * Desliga todas as entradas do balde e as retorna como uma lista simples, encadeada por {@code proxima}.
+         */
+        private Entrada<K> retirarTodas() {
+            if (sentinela.proxima == sentinela) {
+                return null;
+            }
+            Entrada<K> primeira = sentinela.proxima;
+            sentinela.anterior.proxima = null;
+            for (Entrada<K> entrada = primeira; entrada != null; entrada = entrada.proxima) {
+                entrada.balde = null;
+                entrada.anterior = null;
+            }
+            sentinela.anterior = sentinela;
+            sentinela.proxima = sentinela;
+            return primeira;
+        }
+
+    }
+
+    /**
+     * Chave agendada e a sua posição no balde.
+     */
+    private static final class Entrada<K> {
+
+        private final K chave;
+        private long expiracao;
+        private Balde<K> balde;
+        private Entrada<K> anterior;
+        private Entrada<K> proxima;
+
+        private Entrada(K chave) {
+            this.chave = chave;
+        }
+
+        private void remover() {
+            if (balde == null) {
+                return;
+            }
+            anterior.proxima = proxima;
+            proxima.anterior = anterior;
+            anterior = null;
+            proxima = null;
+            balde = null;
+        }
+
+    }
+
+}
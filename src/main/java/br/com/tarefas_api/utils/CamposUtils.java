@@ -0,0 +1,80 @@
+package br.com.tarefas_api.utils;
+
+import br.com.tarefas_api.exception.CampoDeCategoriaInvalidoException;
+import br.com.tarefas_api.exception.CampoDeItemInvalidoException;
+import br.com.tarefas_api.repository.CampoDeCategoria;
+import br.com.tarefas_api.repository.CampoDeItem;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Classe utilitária para interpretar o parâmetro fields das listagens (sparse fieldsets): nomes de campos separados por
+ * vírgula, como em fields=id,descricao,concluido.
+ * Os nomes são somente comparados com os campos conhecidos; a ordem e as repetições não alteram a seleção.
+ */
+public class CamposUtils {
+
+    private static final List<String> NOMES_DE_ITEM = Arrays.stream(CampoDeItem.values())
+            .map(CampoDeItem::getNome)
+            .toList();
+
+    private static final List<String> NOMES_DE_CATEGORIA = Arrays.stream(CampoDeCategoria.values())
+            .map(CampoDeCategoria::getNome)
+            .toList();
+
+    /**
+     * Interpreta o parâmetro fields de uma listagem de itens.
+     * @param fields Valor do parâmetro, ou null se não informado.
+     * @return Campos selecionados, ou {@link CampoDeItem#TODOS} se o parâmetro não informar nenhum campo.
+     * @throws CampoDeItemInvalidoException Se algum nome não corresponder a um campo do item.
+     */
+    public static Set<CampoDeItem> camposDeItem(String fields) {
+        return selecionar(fields, CampoDeItem.class, CampoDeItem::getNome, CampoDeItem.TODOS,
+                campo -> new CampoDeItemInvalidoException(campo, NOMES_DE_ITEM));
+    }
+
+    /**
+     * Interpreta o parâmetro fields da listagem de categorias.
+     * @param fields Valor do parâmetro, ou null se não informado.
+     * @return Campos selecionados, ou {@link CampoDeCategoria#TODOS} se o parâmetro não informar nenhum campo.
+     * @throws CampoDeCategoriaInvalidoException Se algum nome não corresponder a um campo da categoria.
+     */
+    public static Set<CampoDeCategoria> camposDeCategoria(String fields) {
+        return selecionar(fields, CampoDeCategoria.class, CampoDeCategoria::getNome, CampoDeCategoria.TODOS,
+                campo -> new CampoDeCategoriaInvalidoException(campo, NOMES_DE_CATEGORIA));
+    }
+
+    private static <E extends Enum<E>> Set<E> selecionar(String fields, Class<E> tipo, Function<E, String> nome,
+                                                         Set<E> todos, Function<String, RuntimeException> invalido) {
+        if (fields == null || fields.isBlank()) {
+            return todos;
+        }
+        Set<E> campos = EnumSet.noneOf(tipo);
+        for (String informado : fields.split(",")) {
+            String campo = informado.strip();
+            if (campo.isEmpty()) {
+                continue;
+            }
+            E encontrado = buscar(tipo, nome, campo);
+            if (encontrado == null) {
+                throw invalido.apply(campo);
+            }
+            campos.add(encontrado);
+        }
+        return campos.isEmpty() || campos.size() == todos.size() ? todos : campos;
+    }
+
+    private static <E extends Enum<E>> E buscar(Class<E> tipo, Function<E, String> nome, String campo) {
+        for (E constante : tipo.getEnumConstants()) {
+            if (nome.apply(constante).equals(campo)) {
+                return constante;
+            }
+        }
+        return null;
+    }
+
+}
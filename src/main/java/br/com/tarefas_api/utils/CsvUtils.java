@@ -0,0 +1,54 @@
+package br.com.tarefas_api.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe utilitária para leitura e escrita de linhas CSV (RFC 4180), separadas por vírgula.
+ * Campos com vírgula ou aspas são delimitados por aspas, e as aspas internas são duplicadas.
+ * Quebras de linha dentro de um campo não são suportadas: cada linha do arquivo é um registro.
+ */
+public class CsvUtils {
+
+    private static final char SEPARADOR = ',';
+
+    private static final char ASPAS = '"';
+
+    /**
+     * Separa uma linha CSV em campos.
+     * @param linha Linha sem o terminador.
+     * @return Campos da linha, sem as aspas delimitadoras.
+     * @throws IllegalArgumentException Se um campo delimitado por aspas não for fechado.
+     */
+    public static List<String> separar(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c != ASPAS) {
+                    campo.append(c);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == ASPAS) {
+                    campo.append(ASPAS);
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (c == SEPARADOR) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == ASPAS && campo.isEmpty()) {
+                entreAspas = true;
+            } else {
+                campo.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("Campo entre aspas não foi fechado.");
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+}
@@ -0,0 +1,54 @@
+package br.com.tarefas_api.utils;
+
+import br.com.tarefas_api.exception.CursorInvalidoException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Classe utilitária para codificar e decodificar os cursores da paginação de itens.
+ * O cursor é opaco para o cliente e representa a posição (data, id) do último item retornado: a data de criação na
+ * listagem dos itens e a data de atualização na listagem do arquivo.
+ */
+public class CursorUtils {
+
+    private static final String SEPARADOR = "|";
+
+    /**
+     * Posição de um item na ordenação (data, id).
+     */
+    public record Posicao(LocalDateTime data, UUID id) {
+    }
+
+    /**
+     * Codifica a posição de um item em um cursor opaco.
+     * @param data Data do último item da página, na ordenação da listagem.
+     * @param id ID do último item da página.
+     * @return O cursor codificado em Base64 (URL safe).
+     */
+    public static String codificar(LocalDateTime data, UUID id) {
+        String valor = data + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor gerado por {@link #codificar(LocalDateTime, UUID)}.
+     * @param cursor O cursor recebido do cliente.
+     * @return A posição representada pelo cursor.
+     * @throws CursorInvalidoException Se o cursor não puder ser interpretado.
+     */
+    public static Posicao decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            return new Posicao(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new CursorInvalidoException(cursor);
+        }
+    }
+
+}
@@ -1,7 +1,10 @@
 package br.com.tarefas_api.utils;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Classe utilitária para manipulação de datas e formatos.
@@ -11,6 +14,16 @@ public class DateUtils {
 
     private static final String DD_MM_YYYY_HH_MM = "dd/MM/yyyy HH:mm";
 
+    /**
+     * Formatador do formato amigável. DateTimeFormatter é imutável e seguro entre threads, portanto é criado uma única vez.
+     */
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DD_MM_YYYY_HH_MM);
+
+    /**
+     * Quantidade de caracteres de uma data no formato amigável.
+     */
+    public static final int TAMANHO_DATA_FORMATADA = DD_MM_YYYY_HH_MM.length();
+
     /**
      * Converte um objeto LocalDateTime para uma string formatada de forma amigável.
      * @param dateTime O LocalDateTime a ser formatado.
@@ -20,8 +33,32 @@ public class DateUtils {
         if (dateTime == null) {
             return null;
         }
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DD_MM_YYYY_HH_MM);
-        return dateTime.format(formatter);
+        return dateTime.format(FORMATTER);
+    }
+
+    /**
+     * Escreve a data no formato amigável diretamente em um buffer de caracteres, sem alocar objetos.
+     * Produz os mesmos caracteres que {@link #formatDate(LocalDateTime)} para anos de 1 a 9999.
+     * @param dateTime O LocalDateTime a ser formatado.
+     * @param destino Buffer com ao menos {@value #TAMANHO_DATA_FORMATADA} posições.
+     * @return true se a data foi escrita; false se o ano estiver fora do intervalo de quatro dígitos.
+     */
+    public static boolean formatDate(LocalDateTime dateTime, char[] destino) {
+        int ano = dateTime.getYear();
+        if (ano < 1 || ano > 9999) {
+            return false;
+        }
+        escreverDigitos(destino, 0, dateTime.getDayOfMonth());
+        destino[2] = '/';
+        escreverDigitos(destino, 3, dateTime.getMonthValue());
+        destino[5] = '/';
+        escreverDigitos(destino, 6, ano / 100);
+        escreverDigitos(destino, 8, ano % 100);
+        destino[10] = ' ';
+        escreverDigitos(destino, 11, dateTime.getHour());
+        destino[13] = ':';
+        escreverDigitos(destino, 14, dateTime.getMinute());
+        return true;
     }
 
     /**
@@ -33,8 +70,31 @@ public class DateUtils {
         if (dateTimeString == null || dateTimeString.isEmpty()) {
             return null;
         }
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DD_MM_YYYY_HH_MM);
-        return LocalDateTime.parse(dateTimeString, formatter);
+        return LocalDateTime.parse(dateTimeString, FORMATTER);
+    }
+
+    /**
+     * Converte um objeto LocalDateTime para milissegundos desde a época (1970-01-01T00:00Z), no fuso horário do
+     * servidor e com a mesma precisão do formato amigável (minutos), usado pelos formatos binários.
+     * @param dateTime O LocalDateTime a ser convertido.
+     * @return Milissegundos desde a época.
+     */
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.MINUTES).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Converte milissegundos desde a época para um LocalDateTime no fuso horário do servidor.
+     * @param epochMilli Milissegundos desde a época.
+     * @return O LocalDateTime convertido.
+     */
+    public static LocalDateTime fromEpochMilli(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    private static void escreverDigitos(char[] destino, int posicao, int valor) {
+        destino[posicao] = (char) ('0' + valor / 10);
+        destino[posicao + 1] = (char) ('0' + valor % 10);
     }
 
 }
@@ -0,0 +1,140 @@
+package br.com.tarefas_api.utils;
+
+import br.com.tarefas_api.config.formato.ConversorProtobuf;
+import br.com.tarefas_api.dto.VersaoDTO;
+import br.com.tarefas_api.exception.EtagFracoException;
+import br.com.tarefas_api.repository.VersaoAgregada;
+import br.com.tarefas_api.repository.VersaoRegistro;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classe utilitária para gerar as versões (ETag) dos recursos da API.
+ */
+public class EtagUtils {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Sufixos das ETags de cada formato de resposta, na ordem de preferência dos conversores. O JSON não tem sufixo.
+     */
+    private static final Map<MediaType, String> SUFIXOS_DOS_FORMATOS = new LinkedHashMap<>();
+
+    static {
+        SUFIXOS_DOS_FORMATOS.put(MediaType.APPLICATION_JSON, "");
+        SUFIXOS_DOS_FORMATOS.put(MediaType.APPLICATION_CBOR, "-cbor");
+        SUFIXOS_DOS_FORMATOS.put(MediaType.parseMediaType("application/x-jackson-smile"), "-smile");
+        SUFIXOS_DOS_FORMATOS.put(ConversorProtobuf.APPLICATION_PROTOBUF, "-pb");
+    }
+
+    /**
+     * Gera a versão de um único registro a partir do seu número de versão.
+     * @param versao Número de versão e data da última modificação do registro.
+     * @return A versão do registro.
+     */
+    public static VersaoDTO versaoDoRegistro(VersaoRegistro versao) {
+        return new VersaoDTO(etagDaVersao(versao.versao()), versao.ultimaModificacao());
+    }
+
+    /**
+     * Gera a ETag de um registro a partir do seu número de versão.
+     * @param versao Número de versão do registro.
+     * @return A ETag, sem aspas.
+     */
+    public static String etagDaVersao(Long versao) {
+        return Long.toHexString(versao);
+    }
+
+    /**
+     * Acrescenta à ETag o sufixo do formato negociado pelo cabeçalho Accept, para que cada representação do recurso
+     * (JSON, CBOR, Smile ou Protobuf) tenha a sua própria ETag forte.
+     * @param etag ETag do recurso, sem aspas.
+     * @param accept Valores do cabeçalho Accept, ou null.
+     * @return A ETag do formato, sem aspas. A ETag do JSON não tem sufixo.
+     */
+    public static String etagDoFormato(String etag, String[] accept) {
+        if (accept == null || accept.length == 0) {
+            return etag;
+        }
+        try {
+            List<MediaType> aceitos = MediaType.parseMediaTypes(Arrays.asList(accept));
+            MimeTypeUtils.sortBySpecificity(aceitos);
+            for (MediaType aceito : aceitos) {
+                for (Map.Entry<MediaType, String> formato : SUFIXOS_DOS_FORMATOS.entrySet()) {
+                    if (aceito.getQualityValue() > 0 && aceito.isCompatibleWith(formato.getKey())) {
+                        return etag + formato.getValue();
+                    }
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Accept inválido: a negociação responde 406 ou JSON
+        }
+        return etag;
+    }
+
+    /**
+     * Extrai os números de versão das ETags de um cabeçalho If-Match gerado por {@link #etagDaVersao(Long)}, em qualquer
+     * formato. O If-Match usa a comparação forte (RFC 7232, seção 3.1), portanto ETags fracas nunca correspondem.
+     * @param ifMatch Valor do cabeçalho If-Match, com uma ou mais ETags separadas por vírgula, ou null.
+     * @return Os números de versão das ETags válidas, possivelmente vazio, ou null se o cabeçalho estiver ausente ou for "*".
+     * @throws EtagFracoException Se alguma ETag for fraca (W/"...").
+     */
+    public static List<Long> versoesDoIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        List<Long> versoes = new ArrayList<>();
+        for (String valor : ifMatch.split(",")) {
+            String etag = valor.trim();
+            if (etag.startsWith("W/")) {
+                throw new EtagFracoException(etag);
+            }
+            etag = etag.replace("\"", "");
+            int sufixo = etag.indexOf('-');
+            try {
+                versoes.add(Long.parseLong(sufixo < 0 ? etag : etag.substring(0, sufixo), 16));
+            } catch (NumberFormatException e) {
+                // Não é uma ETag gerada pela API e nunca corresponde à versão do item
+            }
+        }
+        return versoes;
+    }
+
+    /**
+     * Gera a versão de uma coleção a partir da quantidade de registros e da maior data de modificação.
+     * A quantidade diferencia coleções com exclusões, que não alteram a maior data de modificação. Pelo mesmo motivo,
+     * a data da versão não deve ser enviada como Last-Modified da coleção.
+     * @param versao Versão agregada da coleção.
+     * @return A versão da coleção.
+     */
+    public static VersaoDTO versaoDaColecao(VersaoAgregada versao) {
+        String etag = Long.toHexString(versao.quantidade()) + "-" + Long.toHexString(microssegundos(versao.ultimaModificacao()));
+        return new VersaoDTO(etag, versao.ultimaModificacao());
+    }
+
+    /**
+     * Converte a data de modificação para o timestamp em milissegundos usado no cabeçalho Last-Modified.
+     * @param ultimaModificacao Data da última modificação, ou null.
+     * @return O timestamp em milissegundos, ou -1 se a data for nula.
+     */
+    public static long timestampEmMilissegundos(LocalDateTime ultimaModificacao) {
+        if (ultimaModificacao == null) {
+            return -1;
+        }
+        return ultimaModificacao.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long microssegundos(LocalDateTime dataHora) {
+        return dataHora == null ? 0 : ChronoUnit.MICROS.between(EPOCH, dataHora);
+    }
+
+}
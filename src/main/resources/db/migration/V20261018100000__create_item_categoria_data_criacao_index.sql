@@ -0,0 +1,2 @@
+-- Índice composto para a paginação por cursor dos itens de uma categoria
+CREATE INDEX idx_item_categoria_data_criacao_id ON item (categoria_id, data_criacao, id);
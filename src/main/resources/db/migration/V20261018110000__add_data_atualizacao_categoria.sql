@@ -0,0 +1,2 @@
+-- Data de atualização da categoria, utilizada na versão (ETag) da listagem de categorias
+ALTER TABLE categoria ADD COLUMN data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
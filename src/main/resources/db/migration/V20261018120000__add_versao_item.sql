@@ -0,0 +1,2 @@
+-- Versão do item para controle de concorrência otimista
+ALTER TABLE item ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
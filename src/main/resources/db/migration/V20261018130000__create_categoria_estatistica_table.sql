@@ -0,0 +1,16 @@
+-- Contadores de itens por categoria, mantidos na mesma transação das escritas de itens
+CREATE TABLE categoria_estatistica (
+    categoria_id UUID PRIMARY KEY,
+    total BIGINT NOT NULL DEFAULT 0,
+    concluidos BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_categoria_estatistica_categoria FOREIGN KEY (categoria_id) REFERENCES categoria(id) ON DELETE CASCADE
+);
+
+INSERT INTO categoria_estatistica (categoria_id, total, concluidos)
+SELECT c.id, COUNT(i.id), COUNT(i.id) FILTER (WHERE i.concluido)
+FROM categoria c
+LEFT JOIN item i ON i.categoria_id = c.id
+GROUP BY c.id;
+
+-- Itens pendentes por categoria e data limite, para a contagem de itens vencidos do resumo
+CREATE INDEX idx_item_pendente_categoria_data_limite ON item (categoria_id, data_limite) WHERE concluido = false;
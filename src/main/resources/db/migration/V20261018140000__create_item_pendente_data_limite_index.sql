@@ -0,0 +1,3 @@
+-- Índice parcial dos itens pendentes por data limite, para as consultas de vencidos e próximos de todas as categorias.
+-- O ID desempata itens com a mesma data limite, de modo que o top-K é lido em ordem diretamente do índice.
+CREATE INDEX idx_item_pendente_data_limite_id ON item (data_limite, id) WHERE concluido = false;
@@ -0,0 +1,23 @@
+-- Outbox transacional: eventos de itens e categorias gravados na mesma transação das escritas
+-- e drenados em lotes pelo relay, que os remove após publicá-los
+CREATE TABLE outbox (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    agregado VARCHAR(20) NOT NULL,
+    agregado_id UUID NOT NULL,
+    tipo VARCHAR(20) NOT NULL,
+    payload JSONB NOT NULL,
+    data_criacao TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Representação JSON do item, no mesmo formato de ItemDTO acrescido da versão, usada pelas operações em massa
+CREATE FUNCTION item_payload(i item) RETURNS JSONB LANGUAGE sql STABLE AS $$
+    SELECT jsonb_strip_nulls(jsonb_build_object(
+        'id', i.id,
+        'descricao', i.descricao,
+        'concluido', i.concluido,
+        'dataCriacao', to_char(i.data_criacao, 'DD/MM/YYYY HH24:MI'),
+        'dataAtualizacao', to_char(i.data_atualizacao, 'DD/MM/YYYY HH24:MI'),
+        'dataLimite', to_char(i.data_limite, 'DD/MM/YYYY HH24:MI'),
+        'categoriaId', i.categoria_id,
+        'versao', i.versao))
+$$;
@@ -0,0 +1,52 @@
+-- Arquivo dos itens concluídos, retirados da tabela de itens pelo arquivador. Mantém as colunas do item, com a data
+-- de atualização (a da conclusão) obrigatória, e é particionado por mês dessa data: as consultas por intervalo leem
+-- somente as partições do intervalo, e um mês inteiro pode ser descartado com DROP TABLE
+CREATE TABLE item_arquivo (
+    id UUID NOT NULL,
+    descricao VARCHAR(255) NOT NULL,
+    data_limite TIMESTAMP,
+    data_atualizacao TIMESTAMP NOT NULL,
+    data_criacao TIMESTAMP NOT NULL,
+    categoria_id UUID NOT NULL,
+    versao BIGINT NOT NULL,
+    data_arquivamento TIMESTAMP NOT NULL,
+    CONSTRAINT pk_item_arquivo PRIMARY KEY (id, data_atualizacao),
+    CONSTRAINT fk_item_arquivo_categoria FOREIGN KEY (categoria_id) REFERENCES categoria(id) ON DELETE CASCADE
+) PARTITION BY RANGE (data_atualizacao);
+
+-- Consulta do arquivo por categoria e intervalo, em ordem de data de atualização e ID (criado em cada partição)
+CREATE INDEX idx_item_arquivo_categoria_data_atualizacao_id ON item_arquivo (categoria_id, data_atualizacao, id);
+
+-- Itens concluídos em ordem da última modificação, para que o arquivador encontre os mais antigos sem ler a tabela
+CREATE INDEX idx_item_concluido_data_modificacao_id ON item (COALESCE(data_atualizacao, data_criacao), id)
+    WHERE concluido = true;
+
+-- Cria as partições mensais do arquivo, do mês do item concluído mais antigo anterior ao limite até o mês do limite.
+-- A criação é serializada entre as instâncias por um advisory lock da transação
+CREATE FUNCTION item_arquivo_criar_particoes(limite TIMESTAMP) RETURNS INTEGER LANGUAGE plpgsql AS $$
+DECLARE
+    mes TIMESTAMP;
+    particao TEXT;
+    criadas INTEGER := 0;
+BEGIN
+    SELECT date_trunc('month', MIN(COALESCE(data_atualizacao, data_criacao))) INTO mes
+    FROM item
+    WHERE concluido = true AND COALESCE(data_atualizacao, data_criacao) < limite;
+
+    IF mes IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(hashtext('item_arquivo'));
+    WHILE mes < limite LOOP
+        particao := 'item_arquivo_' || to_char(mes, 'YYYY_MM');
+        IF to_regclass(particao) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF item_arquivo FOR VALUES FROM (%L) TO (%L)',
+                           particao, mes, mes + INTERVAL '1 month');
+            criadas := criadas + 1;
+        END IF;
+        mes := mes + INTERVAL '1 month';
+    END LOOP;
+    RETURN criadas;
+END
+$$;
@@ -0,0 +1,3 @@
+-- Índice da data de modificação dos itens de cada categoria, para que a maior data usada na versão da listagem
+-- (ETag de GET /itens) seja lida do fim do índice, sem percorrer os itens da categoria.
+CREATE INDEX idx_item_categoria_modificacao ON item (categoria_id, (COALESCE(data_atualizacao, data_criacao)));
@@ -0,0 +1,129 @@
+package br.com.tarefas_api.benchmark;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.ItemService;
+import br.com.tarefas_api.service.eventos.EventosDeCategoriaService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mede o custo de manter milhares de assinantes SSE ociosos e o tempo para distribuir uma alteração a todos eles.
+ * Cada conexão consome dois descritores de arquivo neste processo (cliente e servidor).
+ * Executar com: mvn test -Pbenchmark -Dbenchmark.assinantes=8000
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "tarefas.prazos.habilitado=false")
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class AssinantesOciososBenchmarkTest {
+
+    private static final int ASSINANTES = Integer.getInteger("benchmark.assinantes", 5_000);
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EventosDeCategoriaService eventosDeCategoriaService;
+
+    @Test
+    void medirAssinantesOciososEDistribuicao() throws Exception {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Eventos " + UUID.randomUUID()))
+                .getId();
+        int threadsAntes = ManagementFactory.getThreadMXBean().getThreadCount();
+        long memoriaAntes = memoriaUsada();
+
+        CountDownLatch recebidos = new CountDownLatch(ASSINANTES);
+        List<Socket> conexoes = new ArrayList<>(ASSINANTES);
+        try {
+            for (int i = 0; i < ASSINANTES; i++) {
+                conexoes.add(assinar(categoriaId, recebidos));
+            }
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while (eventosDeCategoriaService.quantidadeDeAssinantes() < ASSINANTES && System.nanoTime() < limite) {
+                Thread.sleep(50);
+            }
+            assertEquals(ASSINANTES, eventosDeCategoriaService.quantidadeDeAssinantes());
+
+            // Os leitores do lado cliente são threads virtuais e não entram na contagem de threads de plataforma
+            int threadsOciosas = ManagementFactory.getThreadMXBean().getThreadCount();
+            long memoriaOciosa = memoriaUsada();
+
+            long inicio = System.nanoTime();
+            itemService.criarItem(ItemDTO.builder()
+                    .descricao("Distribuir alteração")
+                    .categoriaId(categoriaId)
+                    .build());
+            assertTrue(recebidos.await(60, TimeUnit.SECONDS), "nem todos os assinantes receberam o evento");
+            long distribuicaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+            System.out.printf("Assinantes: %d | threads de plataforma: %d -> %d | memória por assinante: ~%d bytes "
+                            + "(cliente e servidor) | distribuição a todos: %d ms%n",
+                    ASSINANTES, threadsAntes, threadsOciosas,
+                    Math.max(0, memoriaOciosa - memoriaAntes) / ASSINANTES, distribuicaoMs);
+        } finally {
+            for (Socket conexao : conexoes) {
+                conexao.close();
+            }
+        }
+    }
+
+    /**
+     * Abre o stream da categoria em um socket e conta o assinante quando o primeiro evento chega.
+     */
+    private Socket assinar(UUID categoriaId, CountDownLatch recebidos) throws IOException {
+        Socket socket = new Socket("localhost", porta);
+        socket.getOutputStream().write(("GET /categorias/" + categoriaId + "/eventos HTTP/1.1\r\n"
+                + "Host: localhost\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        Thread.ofVirtual().start(() -> {
+            try {
+                BufferedReader leitor = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                String linha;
+                while ((linha = leitor.readLine()) != null) {
+                    if (linha.startsWith("event:")) {
+                        recebidos.countDown();
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                // Conexão encerrada ao final da medição
+            }
+        });
+        return socket;
+    }
+
+    private static long memoriaUsada() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,183 @@
+package br.com.tarefas_api.benchmark;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.ItemService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga HTTP com o pool de conexões saturado: muito mais requisições simultâneas do que conexões.
+ * As subclasses definem se o Tomcat atende em threads de plataforma ou em threads virtuais.
+ * Executar com: mvn test -Pbenchmark -Dbenchmark.clientes=400 -Dbenchmark.segundos=20
+ */
+@Tag("benchmark")
+@Import(CargaBenchmarkBase.PoolDeConexoes.class)
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+abstract class CargaBenchmarkBase {
+
+    /**
+     * Propriedades comuns: pool pequeno, para que as requisições disputem conexões, e espera longa por conexão,
+     * para que o excesso de carga apareça como latência e não como erro.
+     */
+    static final String POOL_SATURADO = "spring.datasource.hikari.maximum-pool-size=4";
+    static final String ESPERA_POR_CONEXAO = "spring.datasource.hikari.connection-timeout=60000";
+
+    private static final int CLIENTES = Integer.getInteger("benchmark.clientes", 400);
+    private static final int SEGUNDOS = Integer.getInteger("benchmark.segundos", 10);
+    private static final int ITENS_NA_CATEGORIA = 50;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Nome do modo de execução exibido no resultado.
+     */
+    abstract String modo();
+
+    @Test
+    void medirVazaoELatenciaComPoolSaturado() throws Exception {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Carga " + UUID.randomUUID()))
+                .getId();
+        itemService.criarItensEmLote(IntStream.range(0, ITENS_NA_CATEGORIA)
+                .mapToObj(i -> ItemDTO.builder()
+                        .descricao("Item de carga " + i)
+                        .dataLimite("31/12/2025 22:00")
+                        .categoriaId(categoriaId)
+                        .build())
+                .toList());
+        URI uri = URI.create("http://localhost:" + porta + "/itens?idCategoria=" + categoriaId);
+
+        try (HttpClient cliente = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            // Aquecimento da JVM, do Tomcat e do pool de conexões
+            executarCarga(cliente, uri, Math.max(1, SEGUNDOS / 3));
+
+            long inicio = System.nanoTime();
+            Resultado resultado = executarCarga(cliente, uri, SEGUNDOS);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            long[] latencias = resultado.latencias();
+            Arrays.sort(latencias);
+            System.out.printf("%s: %d clientes, pool de %d conexões, %d requisições em %.1fs (%.0f req/s), "
+                            + "p50 %.1fms, p99 %.1fms, erros %d%n",
+                    modo(), CLIENTES, ((HikariDataSource) dataSource).getMaximumPoolSize(), latencias.length,
+                    segundos, latencias.length / segundos, percentil(latencias, 0.50), percentil(latencias, 0.99),
+                    resultado.erros());
+
+            assertTrue(latencias.length > 0);
+            assertEquals(0, resultado.erros());
+        }
+    }
+
+    /**
+     * Dispara requisições de CLIENTES clientes simultâneos, cada um em sua thread virtual, durante o tempo informado.
+     */
+    private Resultado executarCarga(HttpClient cliente, URI uri, int segundos) throws Exception {
+        long fim = System.nanoTime() + Duration.ofSeconds(segundos).toNanos();
+        HttpRequest requisicao = HttpRequest.newBuilder(uri).GET().build();
+        AtomicInteger erros = new AtomicInteger();
+
+        List<Future<List<Long>>> clientes = new ArrayList<>(CLIENTES);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTES; i++) {
+                clientes.add(executor.submit(() -> {
+                    List<Long> latencias = new ArrayList<>();
+                    while (System.nanoTime() < fim) {
+                        long inicio = System.nanoTime();
+                        HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                        latencias.add(System.nanoTime() - inicio);
+                        if (resposta.statusCode() != 200) {
+                            erros.incrementAndGet();
+                        }
+                    }
+                    return latencias;
+                }));
+            }
+        }
+
+        List<Long> todas = new ArrayList<>();
+        for (Future<List<Long>> resultado : clientes) {
+            todas.addAll(resultado.get());
+        }
+        return new Resultado(todas.stream().mapToLong(Long::longValue).toArray(), erros.get());
+    }
+
+    private static double percentil(long[] latenciasOrdenadas, double percentil) {
+        if (latenciasOrdenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil * latenciasOrdenadas.length) - 1;
+        return latenciasOrdenadas[Math.max(0, indice)] / 1e6;
+    }
+
+    private record Resultado(long[] latencias, int erros) {
+    }
+
+    /**
+     * O banco embarcado expõe um DataSource sem pool; para reproduzir a produção, ele é envolvido por um pool
+     * Hikari configurado com as propriedades spring.datasource.hikari.*.
+     */
+    @TestConfiguration
+    static class PoolDeConexoes {
+
+        @Bean
+        static BeanPostProcessor poolSobreOBancoEmbarcado(Environment environment) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource banco) || bean instanceof HikariDataSource) {
+                        return bean;
+                    }
+                    HikariDataSource pool = new HikariDataSource();
+                    pool.setDataSource(banco);
+                    pool.setMaximumPoolSize(environment.getRequiredProperty(
+                            "spring.datasource.hikari.maximum-pool-size", Integer.class));
+                    pool.setConnectionTimeout(environment.getRequiredProperty(
+                            "spring.datasource.hikari.connection-timeout", Long.class));
+                    return pool;
+                }
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package br.com.tarefas_api.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Carga com o Tomcat atendendo em threads de plataforma (pool padrão de 200 threads).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        CargaBenchmarkBase.POOL_SATURADO,
+        CargaBenchmarkBase.ESPERA_POR_CONEXAO})
+class CargaThreadsPlataformaBenchmarkTest extends CargaBenchmarkBase {
+
+    @Override
+    String modo() {
+        return "Threads de plataforma";
+    }
+
+}
@@ -0,0 +1,19 @@
+package br.com.tarefas_api.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Carga com o Tomcat atendendo cada requisição em uma thread virtual.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        CargaBenchmarkBase.POOL_SATURADO,
+        CargaBenchmarkBase.ESPERA_POR_CONEXAO})
+class CargaThreadsVirtuaisBenchmarkTest extends CargaBenchmarkBase {
+
+    @Override
+    String modo() {
+        return "Threads virtuais";
+    }
+
+}
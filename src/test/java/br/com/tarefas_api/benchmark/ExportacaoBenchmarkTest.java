@@ -0,0 +1,117 @@
+package br.com.tarefas_api.benchmark;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.OutboxRepository;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.arquivo.ExportacaoDeItensService;
+import br.com.tarefas_api.service.arquivo.FormatoDeArquivo;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mede a vazão (linhas/s e MB/s) da exportação de itens pelo COPY TO STDOUT, em CSV e em NDJSON. A saída apenas conta
+ * os bytes, de modo que o resultado reflete o banco e a cópia para a resposta.
+ * Executar com: mvn test -Pbenchmark -Dtest=ExportacaoBenchmarkTest -Dbenchmark.linhas=10000000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"tarefas.prazos.habilitado=false", "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class ExportacaoBenchmarkTest {
+
+    private static final int QUANTIDADE_LINHAS = Integer.getInteger("benchmark.linhas", 1_000_000);
+
+    @Autowired
+    private ExportacaoDeItensService exportacaoDeItensService;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void medirVazaoDaExportacao() throws IOException {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Benchmark")).getId();
+        jdbcTemplate.update("""
+                INSERT INTO item (id, descricao, concluido, data_limite, categoria_id)
+                SELECT md5(n::text)::uuid, 'Item exportado ' || n, n % 3 = 0,
+                       CASE WHEN n % 2 = 0 THEN TIMESTAMP '2099-12-31 22:00' END, ?
+                FROM generate_series(1, ?) n
+                """, categoriaId, QUANTIDADE_LINHAS);
+        jdbcTemplate.execute("VACUUM ANALYZE item");
+
+        // Aquecimento da JVM e do cache de páginas do PostgreSQL
+        medir(FormatoDeArquivo.CSV, false);
+        medir(FormatoDeArquivo.NDJSON, false);
+
+        medir(FormatoDeArquivo.CSV, true);
+        medir(FormatoDeArquivo.NDJSON, true);
+    }
+
+    private void medir(FormatoDeArquivo formato, boolean registrar) throws IOException {
+        ContadorDeBytes saida = new ContadorDeBytes();
+        long inicio = System.nanoTime();
+        exportacaoDeItensService.exportar(null, formato).writeTo(saida);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        // O CSV tem uma linha de cabeçalho
+        assertEquals(QUANTIDADE_LINHAS + (formato == FormatoDeArquivo.CSV ? 1 : 0), saida.linhas);
+        if (registrar) {
+            System.out.printf("Exportação %s: %d itens em %.2fs (%.0f linhas/s, %.1f MB/s)%n", formato,
+                    QUANTIDADE_LINHAS, segundos, QUANTIDADE_LINHAS / segundos, saida.bytes / segundos / (1024 * 1024));
+        }
+    }
+
+    private static class ContadorDeBytes extends OutputStream {
+
+        private long bytes;
+        private long linhas;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int inicio, int tamanho) {
+            bytes += tamanho;
+            for (int i = inicio; i < inicio + tamanho; i++) {
+                if (b[i] == '\n') {
+                    linhas++;
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package br.com.tarefas_api.benchmark;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ResultadoImportacaoDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.OutboxRepository;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.arquivo.FormatoDeArquivo;
+import br.com.tarefas_api.service.arquivo.ImportacaoDeItensService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mede a vazão (linhas/s) da importação de itens pelo COPY, em CSV e em NDJSON. O arquivo é gerado sob demanda,
+ * sem ser mantido em memória, como um envio HTTP em streaming.
+ * Executar com: mvn test -Pbenchmark -Dbenchmark.linhas=1000000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"tarefas.prazos.habilitado=false", "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class ImportacaoBenchmarkTest {
+
+    private static final int QUANTIDADE_LINHAS = Integer.getInteger("benchmark.linhas", 200_000);
+
+    /**
+     * Vazão mínima esperada localmente, em linhas por segundo.
+     */
+    private static final double VAZAO_MINIMA = 20_000;
+
+    @Autowired
+    private ImportacaoDeItensService importacaoDeItensService;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void medirVazaoDaImportacao() {
+        List<UUID> categorias = List.of(
+                categoriaService.criarCategoria(new CategoriaDTO(null, "Benchmark A")).getId(),
+                categoriaService.criarCategoria(new CategoriaDTO(null, "Benchmark B")).getId());
+        IntFunction<String> csv = i -> i == 0 ? "descricao,concluido,dataLimite,categoriaId\n"
+                : "\"Item importado " + i + ", com vírgula\"," + (i % 3 == 0) + ",31/12/2099 22:00,"
+                + categorias.get(i % 2) + "\n";
+        IntFunction<String> ndjson = i -> "{\"descricao\":\"Item importado " + (i + 1) + "\",\"concluido\":" + (i % 3 == 0)
+                + ",\"dataLimite\":\"31/12/2099 22:00\",\"categoriaId\":\"" + categorias.get(i % 2) + "\"}\n";
+
+        // Aquecimento da JVM e do pool de conexões
+        importar(FormatoDeArquivo.CSV, csv, 10_000);
+        importar(FormatoDeArquivo.NDJSON, ndjson, 10_000);
+
+        double vazaoCsv = medir(FormatoDeArquivo.CSV, csv, QUANTIDADE_LINHAS + 1);
+        double vazaoNdjson = medir(FormatoDeArquivo.NDJSON, ndjson, QUANTIDADE_LINHAS);
+
+        assertTrue(vazaoCsv > VAZAO_MINIMA, "CSV: " + vazaoCsv + " linhas/s");
+        assertTrue(vazaoNdjson > VAZAO_MINIMA, "NDJSON: " + vazaoNdjson + " linhas/s");
+    }
+
+    private double medir(FormatoDeArquivo formato, IntFunction<String> linha, int linhas) {
+        long inicio = System.nanoTime();
+        ResultadoImportacaoDTO resultado = importar(formato, linha, linhas);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        assertEquals(QUANTIDADE_LINHAS, resultado.getImportados());
+        assertEquals(0, resultado.getRejeitados());
+        double vazao = QUANTIDADE_LINHAS / segundos;
+        System.out.printf("Importação %s: %d itens em %.2fs (%.0f linhas/s)%n", formato, QUANTIDADE_LINHAS, segundos, vazao);
+        return vazao;
+    }
+
+    private ResultadoImportacaoDTO importar(FormatoDeArquivo formato, IntFunction<String> linha, int linhas) {
+        return importacaoDeItensService.importar(new ArquivoGerado(linha, linhas), formato, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Arquivo produzido linha a linha à medida que é lido.
+     */
+    private static class ArquivoGerado extends InputStream {
+
+        private final IntFunction<String> linha;
+        private final int linhas;
+        private int proxima;
+        private byte[] atual = new byte[0];
+        private int posicao;
+
+        ArquivoGerado(IntFunction<String> linha, int linhas) {
+            this.linha = linha;
+            this.linhas = linhas;
+        }
+
+        @Override
+        public int read() {
+            byte[] um = new byte[1];
+            return read(um, 0, 1) < 0 ? -1 : um[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int tamanho) {
+            int lidos = 0;
+            while (lidos < tamanho) {
+                if (posicao == atual.length) {
+                    if (proxima == linhas) {
+                        break;
+                    }
+                    atual = linha.apply(proxima++).getBytes(StandardCharsets.UTF_8);
+                    posicao = 0;
+                }
+                int quantidade = Math.min(tamanho - lidos, atual.length - posicao);
+                System.arraycopy(atual, posicao, destino, inicio + lidos, quantidade);
+                posicao += quantidade;
+                lidos += quantidade;
+            }
+            return lidos == 0 && tamanho > 0 ? -1 : lidos;
+        }
+
+    }
+
+}
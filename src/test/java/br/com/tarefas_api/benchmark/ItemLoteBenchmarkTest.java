@@ -0,0 +1,78 @@
+package br.com.tarefas_api.benchmark;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.ResultadoLoteItemDTO;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.ItemService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara a vazão (linhas/s) da criação de itens um a um com a criação em lote.
+ * Executar com: mvn test -Pbenchmark -Dbenchmark.itens=20000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "zonky.test.database.postgres.client.properties.reWriteBatchedInserts=true")
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class ItemLoteBenchmarkTest {
+
+    private static final int QUANTIDADE_ITENS = Integer.getInteger("benchmark.itens", 5_000);
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Test
+    void compararCriacaoUnitariaComCriacaoEmLote() {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Benchmark " + UUID.randomUUID()))
+                .getId();
+        List<ItemDTO> itens = IntStream.range(0, QUANTIDADE_ITENS)
+                .mapToObj(i -> ItemDTO.builder()
+                        .descricao("Item de benchmark " + i)
+                        .dataLimite("31/12/2025 22:00")
+                        .categoriaId(categoriaId)
+                        .build())
+                .toList();
+
+        // Aquecimento da JVM e do pool de conexões
+        itens.stream().limit(200).forEach(itemService::criarItem);
+        itemService.criarItensEmLote(itens.subList(0, 200));
+
+        long inicioUnitario = System.nanoTime();
+        itens.forEach(itemService::criarItem);
+        double segundosUnitario = (System.nanoTime() - inicioUnitario) / 1e9;
+
+        long inicioLote = System.nanoTime();
+        List<ResultadoLoteItemDTO> resultados = new ArrayList<>();
+        for (int i = 0; i < itens.size(); i += ItemService.LIMITE_MAXIMO_LOTE) {
+            resultados.addAll(itemService.criarItensEmLote(
+                    itens.subList(i, Math.min(i + ItemService.LIMITE_MAXIMO_LOTE, itens.size()))));
+        }
+        double segundosLote = (System.nanoTime() - inicioLote) / 1e9;
+
+        double linhasPorSegundoUnitario = QUANTIDADE_ITENS / segundosUnitario;
+        double linhasPorSegundoLote = QUANTIDADE_ITENS / segundosLote;
+        System.out.printf("Criação unitária: %d itens em %.2fs (%.0f linhas/s)%n",
+                QUANTIDADE_ITENS, segundosUnitario, linhasPorSegundoUnitario);
+        System.out.printf("Criação em lote:  %d itens em %.2fs (%.0f linhas/s)%n",
+                QUANTIDADE_ITENS, segundosLote, linhasPorSegundoLote);
+
+        assertTrue(resultados.stream().allMatch(r -> r.getStatus() == ResultadoLoteItemDTO.Status.CRIADO));
+        assertTrue(linhasPorSegundoLote > linhasPorSegundoUnitario);
+    }
+
+}
@@ -0,0 +1,193 @@
+package br.com.tarefas_api.benchmark;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.repository.OutboxRepository;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.ItemService;
+import br.com.tarefas_api.service.outbox.DestinoDeOutbox;
+import br.com.tarefas_api.service.outbox.RelayDeOutbox;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mede a vazão do relay do outbox por tamanho de lote e o atraso de publicação sob escrita contínua.
+ * Executar com: mvn test -Pbenchmark -Dbenchmark.eventos=200000 -Dbenchmark.segundos=60
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"tarefas.prazos.habilitado=false", "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class OutboxRelayBenchmarkTest {
+
+    private static final int EVENTOS = Integer.getInteger("benchmark.eventos", 100_000);
+    private static final int SEGUNDOS = Integer.getInteger("benchmark.segundos", 20);
+    private static final int ESCRITORES = 2;
+    private static final int RELAYS = 2;
+    private static final int ITENS_POR_TRANSACAO = 50;
+    private static final long ATRASO_MAXIMO_MS = 5_000;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void medirVazaoPorTamanhoDeLote() {
+        for (int tamanhoLote : new int[]{100, 500, 1_000, 5_000}) {
+            outboxRepository.deleteAllInBatch();
+            // Payload com o tamanho aproximado do JSON de um item
+            jdbcTemplate.update("""
+                    INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                    SELECT 'ITEM', gen_random_uuid(), 'CRIADO', jsonb_build_object(
+                        'id', gen_random_uuid(), 'descricao', 'Item de benchmark ' || n, 'concluido', false,
+                        'dataCriacao', '18/10/2026 15:00', 'dataLimite', '31/12/2026 22:00',
+                        'categoriaId', gen_random_uuid(), 'versao', 0)
+                    FROM generate_series(1, ?) AS n
+                    """, EVENTOS);
+            jdbcTemplate.execute("ANALYZE outbox");
+
+            LongAdder recebidos = new LongAdder();
+            RelayDeOutbox relay = relay(mensagens -> recebidos.add(mensagens.size()), tamanhoLote,
+                    new SimpleMeterRegistry());
+            long inicio = System.nanoTime();
+            int publicados = relay.drenar();
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            System.out.printf("Lote de %5d: %d eventos em %.2fs (%.0f eventos/s)%n",
+                    tamanhoLote, publicados, segundos, publicados / segundos);
+            assertEquals(EVENTOS, publicados);
+            assertEquals(EVENTOS, recebidos.sum());
+        }
+    }
+
+    @Test
+    void medirAtrasoSobEscritaContinua() throws Exception {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Outbox " + UUID.randomUUID()))
+                .getId();
+        outboxRepository.deleteAllInBatch();
+        List<ItemDTO> lote = IntStream.range(0, ITENS_POR_TRANSACAO)
+                .mapToObj(i -> ItemDTO.builder()
+                        .descricao("Item de benchmark " + i)
+                        .dataLimite("31/12/2026 22:00")
+                        .categoriaId(categoriaId)
+                        .build())
+                .toList();
+
+        Set<Long> publicados = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicados = new AtomicInteger();
+        DestinoDeOutbox destino = mensagens -> mensagens.forEach(mensagem -> {
+            if (!publicados.add(mensagem.id())) {
+                duplicados.incrementAndGet();
+            }
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        AtomicBoolean escrevendo = new AtomicBoolean(true);
+        AtomicBoolean drenando = new AtomicBoolean(true);
+        LongAdder escritos = new LongAdder();
+        long atrasoMaximoMs = 0;
+        List<Future<?>> tarefas = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(ESCRITORES + RELAYS)) {
+            for (int i = 0; i < ESCRITORES; i++) {
+                tarefas.add(executor.submit(() -> {
+                    while (escrevendo.get()) {
+                        itemService.criarItensEmLote(lote);
+                        escritos.add(lote.size());
+                    }
+                }));
+            }
+            // Cada relay representa uma instância da aplicação executando o agendamento com intervalo de 100 ms
+            for (int i = 0; i < RELAYS; i++) {
+                RelayDeOutbox relay = relay(destino, 500, meterRegistry);
+                tarefas.add(executor.submit(() -> {
+                    while (drenando.get()) {
+                        relay.drenar();
+                        Thread.sleep(100);
+                    }
+                    return null;
+                }));
+            }
+
+            long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(SEGUNDOS);
+            while (System.nanoTime() < fim) {
+                Thread.sleep(200);
+                Long atraso = jdbcTemplate.queryForObject(
+                        "SELECT CAST(EXTRACT(EPOCH FROM now() - min(data_criacao)) * 1000 AS BIGINT) FROM outbox",
+                        Long.class);
+                if (atraso != null) {
+                    atrasoMaximoMs = Math.max(atrasoMaximoMs, atraso);
+                }
+            }
+            escrevendo.set(false);
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (publicados.size() < escritos.sum() && System.nanoTime() < limite) {
+                Thread.sleep(50);
+            }
+            drenando.set(false);
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        }
+
+        HistogramSnapshot atraso = meterRegistry.get("tarefas.outbox.atraso").timer().takeSnapshot();
+        Map<Double, Double> percentis = new HashMap<>();
+        for (ValueAtPercentile percentil : atraso.percentileValues()) {
+            percentis.put(percentil.percentile(), percentil.value(TimeUnit.MILLISECONDS));
+        }
+        System.out.printf("Escrita contínua por %ds: %d eventos (%.0f eventos/s) | atraso p50: %.0f ms | "
+                        + "p99: %.0f ms | máximo observado no outbox: %d ms | duplicados: %d%n",
+                SEGUNDOS, escritos.sum(), escritos.sum() / (double) SEGUNDOS,
+                percentis.get(0.5), percentis.get(0.99), atrasoMaximoMs, duplicados.get());
+
+        assertEquals(escritos.sum(), publicados.size());
+        assertEquals(0, duplicados.get());
+        assertEquals(0, outboxRepository.count());
+        assertTrue(atrasoMaximoMs < ATRASO_MAXIMO_MS, "atraso de " + atrasoMaximoMs + " ms");
+    }
+
+    private RelayDeOutbox relay(DestinoDeOutbox destino, int tamanhoLote, SimpleMeterRegistry meterRegistry) {
+        StaticListableBeanFactory destinos = new StaticListableBeanFactory(Map.of("destino", destino));
+        return new RelayDeOutbox(outboxRepository, transactionManager, destinos.getBeanProvider(DestinoDeOutbox.class),
+                meterRegistry, tamanhoLote);
+    }
+
+}
@@ -0,0 +1,68 @@
+package br.com.tarefas_api.benchmark;
+
+import br.com.tarefas_api.service.prazo.RodaDeTempoHierarquica;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Carga da roda de tempo com milhões de prazos distribuídos em um dia: cada prazo agendado e não cancelado deve
+ * expirar uma única vez, dentro do tick em que vence. O tempo para expirar todos os prazos é registrado no log.
+ * Executar com: mvn test -Pbenchmark -Dtest=RodaDeTempoBenchmarkTest -Dbenchmark.prazos=2000000
+ */
+@Tag("benchmark")
+class RodaDeTempoBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RodaDeTempoBenchmarkTest.class);
+
+    private static final int QUANTIDADE_PRAZOS = Integer.getInteger("benchmark.prazos", 2_000_000);
+
+    private static final long TICK = 1_000;
+
+    @Test
+    void deveExpirarMilhoesDePrazosUmaUnicaVez() {
+        int quantidade = QUANTIDADE_PRAZOS;
+        long dia = 86_400_000L;
+        RodaDeTempoHierarquica<Integer> roda = new RodaDeTempoHierarquica<>(TICK, 64, 0);
+        Random random = new Random(42);
+        long[] expiracoes = new long[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            expiracoes[i] = random.nextLong(dia);
+            roda.agendar(i, expiracoes[i]);
+        }
+        // Reagenda um terço e cancela outro terço, como atualizações e remoções de itens
+        for (int i = 0; i < quantidade; i += 3) {
+            expiracoes[i] = random.nextLong(dia);
+            roda.agendar(i, expiracoes[i]);
+            assertTrue(roda.cancelar(i + 1));
+        }
+        int esperadas = quantidade - (quantidade + 2) / 3;
+        assertEquals(esperadas, roda.tamanho());
+
+        BitSet expiradas = new BitSet(quantidade);
+        long inicio = System.nanoTime();
+        long anterior = 0;
+        for (long agora = 0; agora <= dia + TICK; agora += 30_000) {
+            long de = anterior;
+            long ate = agora;
+            roda.avancar(agora, chave -> {
+                assertFalse(expiradas.get(chave), "chave expirada duas vezes");
+                assertTrue(expiracoes[chave] >= de && expiracoes[chave] < ate, "chave expirada fora do intervalo");
+                expiradas.set(chave);
+            });
+            anterior = agora;
+        }
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        assertEquals(esperadas, expiradas.cardinality());
+        assertEquals(0, roda.tamanho());
+        log.info("{} prazos expirados em {} ms", esperadas, duracaoMs);
+    }
+
+}
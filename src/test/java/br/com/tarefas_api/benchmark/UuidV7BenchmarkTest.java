@@ -0,0 +1,75 @@
+package br.com.tarefas_api.benchmark;
+
+import br.com.tarefas_api.domain.UuidV7Generator;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara a vazão de inserção e o tamanho do índice da chave primária entre UUIDs aleatórios (v4)
+ * e UUIDs ordenados pelo tempo (v7).
+ * Executar com: mvn test -Pbenchmark -Dtest=UuidV7BenchmarkTest -Dbenchmark.linhas=10000000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "zonky.test.database.postgres.client.properties.reWriteBatchedInserts=true")
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class UuidV7BenchmarkTest {
+
+    private static final int QUANTIDADE_LINHAS = Integer.getInteger("benchmark.linhas", 10_000_000);
+
+    private static final int TAMANHO_LOTE = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compararUuidAleatorioComUuidV7() {
+        Resultado aleatorio = inserir("benchmark_uuid_v4", UUID::randomUUID);
+        Resultado ordenado = inserir("benchmark_uuid_v7", UuidV7Generator::gerar);
+
+        System.out.printf("UUID v4: %d linhas em %.2fs (%.0f linhas/s), índice PK com %d MB%n",
+                QUANTIDADE_LINHAS, aleatorio.segundos(), QUANTIDADE_LINHAS / aleatorio.segundos(),
+                aleatorio.bytesIndice() / (1024 * 1024));
+        System.out.printf("UUID v7: %d linhas em %.2fs (%.0f linhas/s), índice PK com %d MB%n",
+                QUANTIDADE_LINHAS, ordenado.segundos(), QUANTIDADE_LINHAS / ordenado.segundos(),
+                ordenado.bytesIndice() / (1024 * 1024));
+
+        assertTrue(ordenado.bytesIndice() <= aleatorio.bytesIndice());
+    }
+
+    private Resultado inserir(String tabela, Supplier<UUID> gerador) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + tabela);
+        jdbcTemplate.execute("CREATE TABLE " + tabela + " (id UUID PRIMARY KEY, descricao VARCHAR(255) NOT NULL)");
+
+        long inicio = System.nanoTime();
+        for (int inseridas = 0; inseridas < QUANTIDADE_LINHAS; inseridas += TAMANHO_LOTE) {
+            int tamanho = Math.min(TAMANHO_LOTE, QUANTIDADE_LINHAS - inseridas);
+            List<Object[]> linhas = new ArrayList<>(tamanho);
+            for (int i = 0; i < tamanho; i++) {
+                linhas.add(new Object[]{gerador.get(), "Item de benchmark"});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO " + tabela + " (id, descricao) VALUES (?, ?)", linhas);
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        Long bytesIndice = jdbcTemplate.queryForObject(
+                "SELECT pg_relation_size(?::regclass)", Long.class, tabela + "_pkey");
+        jdbcTemplate.execute("DROP TABLE " + tabela);
+        return new Resultado(segundos, bytesIndice);
+    }
+
+    private record Resultado(double segundos, long bytesIndice) {
+    }
+
+}
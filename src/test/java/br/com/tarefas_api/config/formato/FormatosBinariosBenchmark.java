@@ -0,0 +1,120 @@
+package br.com.tarefas_api.config.formato;
+
+import br.com.tarefas_api.domain.UuidV7Generator;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.ListaItensDTO;
+import br.com.tarefas_api.repository.ItemResumo;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Microbenchmark da listagem de itens em JSON, CBOR, Smile e Protobuf: serialização das projeções (o caminho de
+ * GET /itens) e leitura da resposta para uma lista de ItemDTO, como faria um cliente Java. O tamanho da resposta, sem e
+ * com gzip, é exibido na preparação de cada formato.
+ * Executar com: mvn test -Pjmh -Djmh.filtro=FormatosBinariosBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatosBinariosBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    private String formato;
+
+    @Param({"10000"})
+    private int tamanho;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private Object resposta;
+
+    private byte[] serializada;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        UUID categoriaId = UuidV7Generator.gerar();
+        LocalDateTime agora = LocalDateTime.of(2025, 1, 10, 9, 30);
+        List<ItemResumo> resumos = IntStream.range(0, tamanho)
+                .mapToObj(i -> new ItemResumo(UuidV7Generator.gerar(), "Item de benchmark " + i, i % 2 == 0, agora,
+                        agora.plusMinutes(i), i % 3 == 0 ? null : agora.plusDays(i % 30), categoriaId))
+                .toList();
+        ListaItensDTO lista = new ListaItensDTO(resumos, item -> null);
+
+        TypeReference<List<ItemDTO>> listaDeItens = new TypeReference<>() {
+        };
+        switch (formato) {
+            case "JSON" -> usar(Jackson2ObjectMapperBuilder.json().build(), listaDeItens, lista);
+            case "CBOR" -> usar(binario(Jackson2ObjectMapperBuilder.cbor()), listaDeItens, lista);
+            case "SMILE" -> usar(binario(Jackson2ObjectMapperBuilder.smile()), listaDeItens, lista);
+            default -> {
+                ProtobufMapper protobufMapper = new ProtobufMapper();
+                Jackson2ObjectMapperBuilder.json().modulesToInstall(new FormatosBinariosModule()).configure(protobufMapper);
+                ConversorProtobuf conversor = new ConversorProtobuf(protobufMapper);
+                writer = protobufMapper.writer(conversor.getSchema(ConversorProtobuf.ListaDeItens.class));
+                reader = protobufMapper.readerFor(ConversorProtobuf.ListaDeItens.class)
+                        .with(conversor.getSchema(ConversorProtobuf.ListaDeItens.class));
+                resposta = new ConversorProtobuf.ListaDeItens(lista);
+            }
+        }
+        serializada = writer.writeValueAsBytes(resposta);
+
+        ByteArrayOutputStream compactada = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compactada)) {
+            gzip.write(serializada);
+        }
+        System.out.printf("%n%s: %d bytes para %d itens (%.1f bytes/item), %d bytes com gzip%n", formato,
+                serializada.length, tamanho, (double) serializada.length / tamanho, compactada.size());
+    }
+
+    @Benchmark
+    public void serializar() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), resposta);
+    }
+
+    @Benchmark
+    public Object desserializar() throws IOException {
+        return reader.readValue(serializada);
+    }
+
+    private void usar(ObjectMapper mapper, TypeReference<List<ItemDTO>> tipo, ListaItensDTO lista) {
+        writer = mapper.writer();
+        reader = mapper.readerFor(tipo);
+        resposta = lista;
+    }
+
+    private static ObjectMapper binario(Jackson2ObjectMapperBuilder builder) {
+        return builder.modulesToInstall(new FormatosBinariosModule()).build();
+    }
+
+}
@@ -0,0 +1,298 @@
+package br.com.tarefas_api.config.formato;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.PaginaItensDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.OutboxRepository;
+import br.com.tarefas_api.utils.DateUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufField;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica a negociação de CBOR, Smile e Protobuf pelos cabeçalhos Accept e Content-Type, com as datas em milissegundos
+ * desde a época e o mesmo conteúdo das respostas JSON.
+ */
+@SpringBootTest(properties = {"tarefas.prazos.habilitado=false", "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@AutoConfigureMockMvc
+@DirtiesContext
+class FormatosBinariosIntegracaoTest {
+
+    private static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    private static final UUID ITEM_ID = UUID.fromString("0190a000-0000-7000-8000-000000000001");
+
+    private static final LocalDateTime DATA_CRIACAO = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private static final LocalDateTime DATA_LIMITE = LocalDateTime.of(2025, 3, 30, 22, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+
+    private final ProtobufMapper protobufMapper = new ProtobufMapper();
+
+    private ConversorProtobuf conversorProtobuf;
+
+    private UUID categoriaId;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder.json().modulesToInstall(new FormatosBinariosModule()).configure(protobufMapper);
+        conversorProtobuf = new ConversorProtobuf(protobufMapper);
+
+        categoriaId = categoriaRepository.save(Categoria.builder()
+                .nome("Trabalho")
+                .dataAtualizacao(LocalDateTime.now())
+                .build()).getId();
+        jdbcTemplate.update("""
+                INSERT INTO item (id, descricao, concluido, data_limite, data_criacao, data_atualizacao, categoria_id)
+                VALUES (?, 'Estudar Spring', false, ?, ?, ?, ?)
+                """, ITEM_ID, DATA_LIMITE, DATA_CRIACAO, DATA_CRIACAO, categoriaId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE})
+    void listarItens_DeveResponderNoFormatoBinarioComDatasEmEpochEIdsEmBytes(String formato) throws Exception {
+        byte[] corpo = mockMvc.perform(get("/itens").param("idCategoria", categoriaId.toString())
+                        .accept(formato))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(formato))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ObjectMapper leitor = formato.equals(APPLICATION_SMILE)
+                ? Jackson2ObjectMapperBuilder.smile().build() : cbor;
+        JsonNode item = leitor.readTree(corpo).get(0);
+        assertArrayEquals(bytes(ITEM_ID), item.get("id").binaryValue());
+        assertEquals("Estudar Spring", item.get("descricao").asText());
+        assertEquals(DATA_CRIACAO.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                item.get("dataCriacao").longValue());
+        assertEquals(DateUtils.toEpochMilli(DATA_LIMITE), item.get("dataLimite").longValue());
+        assertArrayEquals(bytes(categoriaId), item.get("categoriaId").binaryValue());
+    }
+
+    @Test
+    void protobuf_DeveProduzirOMesmoConteudoDoJson() throws Exception {
+        ConversorProtobuf.ListaDeItens lista = lerProtobuf(get("/itens").param("idCategoria", categoriaId.toString()),
+                ConversorProtobuf.ListaDeItens.class);
+        ItemDTO item = lerProtobuf(get("/itens/" + ITEM_ID), ItemDTO.class);
+        Pagina pagina = lerProtobuf(get("/itens/pagina").param("idCategoria", categoriaId.toString()),
+                PaginaItensDTO.class, Pagina.class);
+        ConversorProtobuf.ListaDeCategorias categorias = lerProtobuf(get("/categorias"),
+                ConversorProtobuf.ListaDeCategorias.class);
+
+        String json = mockMvc.perform(get("/itens/" + ITEM_ID)).andReturn().getResponse().getContentAsString();
+        assertEquals(json, objectMapper.writeValueAsString(item));
+        assertEquals(json, objectMapper.writeValueAsString(lista.itens().get(0)));
+        assertEquals(json, objectMapper.writeValueAsString(pagina.itens().get(0)));
+        assertEquals(List.of(categoriaId), categorias.categorias().stream().map(CategoriaDTO::getId).toList());
+    }
+
+    @Test
+    void schemasProtobuf_DevemManterOsNumerosETiposDosCampos() {
+        // Alterar um número ou tipo quebra os clientes que já têm o schema; campos novos recebem o próximo número livre
+        assertEquals(List.of("1 id BYTES", "2 descricao STRING", "3 concluido BOOLEAN", "4 dataCriacao VINT64_STD",
+                        "5 dataAtualizacao VINT64_STD", "6 dataLimite VINT64_STD", "7 categoriaId BYTES"),
+                campos(ItemDTO.class));
+        assertEquals(List.of("1 id BYTES", "2 nome STRING"), campos(CategoriaDTO.class));
+        assertEquals(List.of("1 itens MESSAGE", "2 proximoCursor STRING"), campos(PaginaItensDTO.class));
+        assertEquals(List.of("1 itens MESSAGE"), campos(ConversorProtobuf.ListaDeItens.class));
+        assertEquals(List.of("1 categorias MESSAGE"), campos(ConversorProtobuf.ListaDeCategorias.class));
+    }
+
+    @Test
+    void schemasProtobuf_DevemTerOsMesmosCamposDosDTOs() throws Exception {
+        // Um campo acrescentado ao DTO e esquecido no .proto não seria enviado aos clientes
+        for (Class<?> mensagem : List.of(ItemDTO.class, CategoriaDTO.class, PaginaItensDTO.class,
+                ConversorProtobuf.ListaDeItens.class, ConversorProtobuf.ListaDeCategorias.class)) {
+            assertEquals(nomesETipos(protobufMapper.generateSchemaFor(mensagem).getRootType().fields()),
+                    nomesETipos(conversorProtobuf.getSchema(mensagem).getRootType().fields()), mensagem.getSimpleName());
+        }
+    }
+
+    @Test
+    void schemaProtobuf_DeveSerPublicado() throws Exception {
+        String publicado = mockMvc.perform(get("/protobuf/tarefas.proto"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals(new ClassPathResource(ConversorProtobuf.SCHEMA).getContentAsString(StandardCharsets.UTF_8),
+                publicado);
+    }
+
+    @Test
+    void protobuf_DeveResponderNotAcceptableParaRespostasSemSchema() throws Exception {
+        mockMvc.perform(get("/categorias/resumo").accept(ConversorProtobuf.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void semAccept_DeveResponderEmJson() throws Exception {
+        mockMvc.perform(get("/itens/" + ITEM_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"item", "itens", "categorias"})
+    void etag_DeveDiferenciarOsFormatos(String recurso) throws Exception {
+        String url = switch (recurso) {
+            case "item" -> "/itens/" + ITEM_ID;
+            case "itens" -> "/itens?idCategoria=" + categoriaId;
+            default -> "/categorias";
+        };
+        String etagJson = mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String etagCbor = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, etagJson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(etagJson, etagCbor);
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, etagCbor))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void criarItem_DeveLerCorpoEmCborComDataEmEpoch() throws Exception {
+        byte[] corpo = cbor.writeValueAsBytes(new FormatosBinariosModule.ItemBinario(null, "Item enviado em CBOR",
+                false, null, null, DateUtils.toEpochMilli(LocalDateTime.of(2099, 12, 31, 22, 0)), categoriaId));
+
+        String resposta = mockMvc.perform(post("/itens")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(corpo))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("31/12/2099 22:00", objectMapper.readTree(resposta).get("dataLimite").asText());
+    }
+
+    @Test
+    void criarCategoria_DeveLerCorpoEmProtobuf() throws Exception {
+        byte[] corpo = protobufMapper.writer(conversorProtobuf.getSchema(CategoriaDTO.class))
+                .writeValueAsBytes(new CategoriaDTO(null, "Enviada em Protobuf"));
+
+        byte[] resposta = mockMvc.perform(post("/categorias")
+                        .contentType(ConversorProtobuf.APPLICATION_PROTOBUF)
+                        .accept(ConversorProtobuf.APPLICATION_PROTOBUF)
+                        .content(corpo))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        CategoriaDTO criada = protobufMapper.readerFor(CategoriaDTO.class)
+                .with(conversorProtobuf.getSchema(CategoriaDTO.class)).readValue(resposta);
+        assertEquals("Enviada em Protobuf", criada.getNome());
+        assertNotNull(criada.getId());
+    }
+
+    private <T> T lerProtobuf(MockHttpServletRequestBuilder requisicao, Class<T> mensagem) throws Exception {
+        return lerProtobuf(requisicao, mensagem, mensagem);
+    }
+
+    private <T> T lerProtobuf(MockHttpServletRequestBuilder requisicao, Class<?> mensagem, Class<T> tipo)
+            throws Exception {
+        byte[] corpo = mockMvc.perform(requisicao.accept(ConversorProtobuf.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ConversorProtobuf.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+        return protobufMapper.readerFor(tipo).with(conversorProtobuf.getSchema(mensagem)).readValue(corpo);
+    }
+
+    /**
+     * Leitura da mensagem PaginaItensDTO, cuja lista de itens só é serializada.
+     */
+    private record Pagina(List<ItemDTO> itens, String proximoCursor) {
+    }
+
+    private List<String> campos(Class<?> mensagem) {
+        List<String> campos = new ArrayList<>();
+        for (ProtobufField campo : conversorProtobuf.getSchema(mensagem).getRootType().fields()) {
+            campos.add(campo.id + " " + campo.name + " " + campo.type);
+        }
+        return campos;
+    }
+
+    private static Set<String> nomesETipos(Iterable<ProtobufField> campos) {
+        Set<String> nomesETipos = new TreeSet<>();
+        for (ProtobufField campo : campos) {
+            nomesETipos.add(campo.name + " " + campo.type + (campo.isArray() ? " repeated" : ""));
+        }
+        return nomesETipos;
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
@@ -0,0 +1,149 @@
+package br.com.tarefas_api.config.metricas;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.service.ItemService;
+import br.com.tarefas_api.support.ContadorDeQueries;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica as métricas de acesso ao banco por requisição, comparando a contagem de comandos com a do
+ * {@link ContadorDeQueries}, e o log de requisições lentas.
+ */
+// Com limite zero, todas as requisições são registradas como lentas
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.tarefas_api.support.ContadorDeQueries",
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false",
+        "tarefas.requisicoes.lentas.limite=PT0S"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class MetricasDeRequisicaoIntegracaoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    private Categoria categoria;
+
+    @BeforeEach
+    void setUp() {
+        categoria = categoriaRepository.save(Categoria.builder()
+                .nome("Trabalho")
+                .dataAtualizacao(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deveRegistrarOsComandosEAsEntidadesDeCadaRequisicaoPorMetodo() throws Exception {
+        UUID itemId = null;
+        for (int i = 0; i < 3; i++) {
+            itemId = itemService.criarItem(ItemDTO.builder()
+                    .descricao("Item " + i)
+                    .categoriaId(categoria.getId())
+                    .build()).getId();
+        }
+
+        ContadorDeQueries.zerar();
+        mockMvc.perform(get("/itens").param("idCategoria", categoria.getId().toString()))
+                .andExpect(status().isOk());
+        int comandosDaListagem = ContadorDeQueries.total();
+
+        ContadorDeQueries.zerar();
+        mockMvc.perform(get("/itens/{id}", itemId)).andExpect(status().isOk());
+        mockMvc.perform(get("/itens/{id}", itemId)).andExpect(status().isOk());
+        int comandosDasBuscas = ContadorDeQueries.total();
+
+        ContadorDeQueries.zerar();
+        mockMvc.perform(post("/itens")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"descricao\": \"Novo item\", \"categoriaId\": \"" + categoria.getId() + "\"}"))
+                .andExpect(status().isCreated());
+        int comandosDaCriacao = ContadorDeQueries.total();
+
+        // Os itens da listagem vêm de projeções; somente a categoria é carregada, do cache, em cada uma das duas transações
+        assertEquals(1, comandos("ItemController.listarItens").count());
+        assertEquals(comandosDaListagem, comandos("ItemController.listarItens").totalAmount());
+        assertEquals(2, entidades("ItemController.listarItens").totalAmount());
+
+        assertEquals(2, comandos("ItemController.buscarItemPorId").count());
+        assertEquals(comandosDasBuscas, comandos("ItemController.buscarItemPorId").totalAmount());
+        assertTrue(entidades("ItemController.buscarItemPorId").totalAmount() >= 2);
+
+        assertEquals(comandosDaCriacao, comandos("ItemController.criarItem").totalAmount());
+        assertEquals(1, meterRegistry.get("tarefas.requisicao.jdbc").tag("metodo", "ItemController.criarItem")
+                .timer().count());
+    }
+
+    @Test
+    void naoDeveRegistrarAsRequisicoesQueUsamCopy() throws Exception {
+        mockMvc.perform(post("/itens/importacao")
+                        .contentType("text/csv")
+                        .content("descricao,categoriaId\nItem importado," + categoria.getId() + "\n"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/itens/exportacao")).andExpect(status().isOk());
+
+        assertNull(meterRegistry.find("tarefas.requisicao.comandos").tag("metodo", "ItemController.importarItens").summary());
+        assertNull(meterRegistry.find("tarefas.requisicao.comandos").tag("metodo", "ItemController.exportarItens").summary());
+    }
+
+    @Test
+    void deveRegistrarNoLogAsRequisicoesAcimaDoLimite(CapturedOutput saida) throws Exception {
+        mockMvc.perform(get("/categorias/{id}", categoria.getId())).andExpect(status().isOk());
+
+        assertTrue(saida.getOut().contains("Requisição lenta: GET /categorias/" + categoria.getId()
+                + " (CategoriaController.buscarCategoriaPorId) respondeu 200"), saida.getOut());
+    }
+
+    private DistributionSummary comandos(String metodo) {
+        return meterRegistry.get("tarefas.requisicao.comandos").tag("metodo", metodo).summary();
+    }
+
+    private DistributionSummary entidades(String metodo) {
+        return meterRegistry.get("tarefas.requisicao.entidades").tag("metodo", metodo).summary();
+    }
+
+}
@@ -0,0 +1,183 @@
+package br.com.tarefas_api.config.replica;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.CategoriaResumo;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.service.CategoriaService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica o roteamento das leituras com duas instâncias locais do PostgreSQL, uma como primário e outra como réplica.
+ * As instâncias não replicam entre si: o conteúdo diferente de cada uma mostra qual delas atendeu a consulta.
+ * A segunda réplica configurada aponta para uma porta sem servidor e deve ser descartada pela verificação.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false",
+        "tarefas.replicas.habilitado=true",
+        "tarefas.replicas.verificacao=PT1H",
+        "tarefas.replicas.leitura-das-proprias-escritas=PT5S"})
+@DirtiesContext
+class ReplicaLeituraIntegracaoTest {
+
+    private static final EmbeddedPostgres PRIMARIO = iniciar();
+
+    private static final EmbeddedPostgres REPLICA = iniciar();
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private RoteadorDeDataSource roteadorDeDataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final JdbcTemplate replica = new JdbcTemplate(REPLICA.getPostgresDatabase());
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void bancos(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> PRIMARIO.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("tarefas.replicas.urls",
+                () -> REPLICA.getJdbcUrl("postgres", "postgres") + ",jdbc:postgresql://localhost:1/postgres");
+    }
+
+    @BeforeEach
+    void setUp() {
+        roteadorDeDataSource.verificarReplicas();
+        replica.update("INSERT INTO categoria (id, nome) VALUES (gen_random_uuid(), 'Somente na réplica')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        replica.update("DELETE FROM categoria");
+    }
+
+    @AfterAll
+    static void encerrar() throws IOException {
+        PRIMARIO.close();
+        REPLICA.close();
+    }
+
+    @Test
+    void transacoesSomenteLeitura_DevemLerDaReplicaEAsDemaisDoPrimario() {
+        categoriaService.criarCategoria(new CategoriaDTO(null, "Trabalho"));
+
+        assertEquals(1, roteadorDeDataSource.replicasDisponiveis());
+        assertEquals(List.of("Somente na réplica"),
+                categoriaService.listarCategorias().stream().map(CategoriaDTO::getNome).toList());
+        assertEquals(List.of("Trabalho"), transactionTemplate.execute(status ->
+                categoriaRepository.findResumos().stream().map(CategoriaResumo::nome).toList()));
+    }
+
+    @Test
+    void clienteQueEscreveu_DeveLerDoPrimarioDuranteAJanela() throws Exception {
+        HttpResponse<String> criacao = httpClient.send(HttpRequest.newBuilder(uri("/categorias"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"nome\": \"Pessoal\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(201, criacao.statusCode());
+        String cookie = criacao.headers().firstValue("Set-Cookie").orElseThrow().split(";")[0];
+        assertTrue(cookie.startsWith(LeituraDasPropriasEscritas.COOKIE + "="), cookie);
+
+        String doCliente = listar(cookie);
+        String deOutroCliente = listar(null);
+
+        assertTrue(doCliente.contains("Pessoal") && !doCliente.contains("Somente na réplica"), doCliente);
+        assertTrue(deOutroCliente.contains("Somente na réplica") && !deOutroCliente.contains("Pessoal"), deOutroCliente);
+    }
+
+    @Test
+    void clienteQueEscreveu_DeveExportarDoPrimarioDuranteAJanela() throws Exception {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Pessoal")).getId();
+        HttpResponse<String> importacao = httpClient.send(HttpRequest.newBuilder(uri("/itens/importacao"))
+                        .header("Content-Type", "text/csv")
+                        .POST(HttpRequest.BodyPublishers.ofString("descricao,categoriaId\nItem importado," + categoriaId + "\n"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, importacao.statusCode(), importacao.body());
+        String cookie = importacao.headers().firstValue("Set-Cookie").orElseThrow().split(";")[0];
+
+        // A exportação é escrita em outra thread, depois que a requisição deixou o filtro da janela
+        String doCliente = get("/itens/exportacao", cookie);
+        String deOutroCliente = get("/itens/exportacao", null);
+
+        assertTrue(doCliente.contains("Item importado"), doCliente);
+        assertFalse(deOutroCliente.contains("Item importado"), deOutroCliente);
+    }
+
+    private String listar(String cookie) throws Exception {
+        return get("/categorias", cookie);
+    }
+
+    private String get(String caminho, String cookie) throws Exception {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(uri(caminho));
+        if (cookie != null) {
+            requisicao.header("Cookie", cookie);
+        }
+        return httpClient.send(requisicao.build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + caminho);
+    }
+
+    /**
+     * Inicia uma instância do PostgreSQL com o esquema da aplicação já migrado.
+     */
+    private static EmbeddedPostgres iniciar() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.start();
+            Flyway.configure()
+                    .dataSource(postgres.getPostgresDatabase())
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
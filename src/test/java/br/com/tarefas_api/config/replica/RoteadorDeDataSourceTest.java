@@ -0,0 +1,197 @@
+package br.com.tarefas_api.config.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoteadorDeDataSourceTest {
+
+    private static final Duration ATRASO_MAXIMO = Duration.ofSeconds(10);
+
+    private static final Duration TEMPO_LIMITE = Duration.ofSeconds(1);
+
+    @Mock
+    private DataSource primario;
+
+    @Mock
+    private Connection conexaoPrimario;
+
+    private final LeituraDasPropriasEscritas leitura = new LeituraDasPropriasEscritas(Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primario.getConnection()).thenReturn(conexaoPrimario);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void transacaoDeEscrita_DeveUsarOPrimario() throws Exception {
+        Replica replica = replica("replica-1", 0);
+        RoteadorDeDataSource roteador = roteador(EstrategiaDeReplica.ROUND_ROBIN, replica);
+        roteador.verificarReplicas();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThat(roteador.getConnection()).isSameAs(conexaoPrimario);
+    }
+
+    @Test
+    void transacaoSomenteLeitura_DeveAlternarEntreAsReplicasDisponiveis() throws Exception {
+        Replica primeira = replica("replica-1", 0);
+        Replica atrasada = replica("replica-2", 30);
+        Replica terceira = replica("replica-3", 0);
+        RoteadorDeDataSource roteador = roteador(EstrategiaDeReplica.ROUND_ROBIN, primeira, atrasada, terceira);
+        roteador.verificarReplicas();
+        somenteLeitura();
+
+        List<Connection> conexoes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            conexoes.add(roteador.getConnection());
+        }
+
+        assertThat(roteador.replicasDisponiveis()).isEqualTo(2);
+        assertThat(conexoes).containsExactly(primeira.getConnection(), terceira.getConnection(),
+                primeira.getConnection(), terceira.getConnection());
+    }
+
+    @Test
+    void menosConexoes_DeveEscolherAReplicaMenosOcupada() throws Exception {
+        HikariDataSource ocupada = dataSourceReplica(0);
+        HikariDataSource livre = dataSourceReplica(0);
+        conexoesAtivas(ocupada, 7);
+        conexoesAtivas(livre, 2);
+        RoteadorDeDataSource roteador = roteador(EstrategiaDeReplica.MENOS_CONEXOES,
+                new Replica("replica-1", ocupada), new Replica("replica-2", livre));
+        roteador.verificarReplicas();
+        somenteLeitura();
+
+        assertThat(roteador.getConnection()).isSameAs(livre.getConnection());
+    }
+
+    @Test
+    void falhaAoConectarNaReplica_DeveUsarOPrimarioEDesativarAReplica() throws Exception {
+        HikariDataSource dataSource = dataSourceReplica(0);
+        Replica replica = new Replica("replica-1", dataSource);
+        RoteadorDeDataSource roteador = roteador(EstrategiaDeReplica.ROUND_ROBIN, replica);
+        roteador.verificarReplicas();
+        somenteLeitura();
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertThat(roteador.getConnection()).isSameAs(conexaoPrimario);
+        assertThat(replica.disponivel()).isFalse();
+    }
+
+    @Test
+    void semReplicaDisponivel_DeveUsarOPrimario() throws Exception {
+        RoteadorDeDataSource roteador = roteador(EstrategiaDeReplica.ROUND_ROBIN, replica("replica-1", 30));
+        roteador.verificarReplicas();
+        somenteLeitura();
+
+        assertThat(roteador.replicasDisponiveis()).isZero();
+        assertThat(roteador.getConnection()).isSameAs(conexaoPrimario);
+    }
+
+    @Test
+    void leituraAposEscrita_DeveUsarOPrimarioDuranteAJanela() throws Exception {
+        Replica replica = replica("replica-1", 0);
+        RoteadorDeDataSource roteador = roteador(EstrategiaDeReplica.ROUND_ROBIN, replica);
+        roteador.verificarReplicas();
+
+        // Escrita seguida de leitura na mesma requisição
+        MockHttpServletResponse resposta = new MockHttpServletResponse();
+        List<Connection> conexoes = new ArrayList<>();
+        leitura.doFilter(new MockHttpServletRequest(), resposta, (request, response) -> {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            conectar(roteador, conexoes);
+            somenteLeitura();
+            conectar(roteador, conexoes);
+        });
+        assertThat(conexoes).containsExactly(conexaoPrimario, conexaoPrimario);
+        Cookie cookie = resposta.getCookie(LeituraDasPropriasEscritas.COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+
+        // Requisição seguinte do mesmo cliente, e de um cliente cuja escrita saiu da janela
+        MockHttpServletRequest comCookie = new MockHttpServletRequest();
+        comCookie.setCookies(cookie);
+        MockHttpServletRequest foraDaJanela = new MockHttpServletRequest();
+        foraDaJanela.setCookies(new Cookie(LeituraDasPropriasEscritas.COOKIE,
+                String.valueOf(System.currentTimeMillis() - 6_000)));
+        conexoes.clear();
+        leitura.doFilter(comCookie, new MockHttpServletResponse(),
+                (request, response) -> conectar(roteador, conexoes));
+        leitura.doFilter(foraDaJanela, new MockHttpServletResponse(),
+                (request, response) -> conectar(roteador, conexoes));
+        assertThat(conexoes).containsExactly(conexaoPrimario, replica.getConnection());
+    }
+
+    private RoteadorDeDataSource roteador(EstrategiaDeReplica estrategia, Replica... replicas) {
+        return new RoteadorDeDataSource(primario, List.of(replicas), estrategia, leitura, ATRASO_MAXIMO, TEMPO_LIMITE);
+    }
+
+    private static void conectar(RoteadorDeDataSource roteador, List<Connection> conexoes) {
+        try {
+            conexoes.add(roteador.getConnection());
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void somenteLeitura() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private static Replica replica(String nome, double atrasoEmSegundos) throws SQLException {
+        return new Replica(nome, dataSourceReplica(atrasoEmSegundos));
+    }
+
+    /**
+     * Pool de réplica cuja consulta de atraso de replicação retorna o valor informado.
+     */
+    private static HikariDataSource dataSourceReplica(double atrasoEmSegundos) throws SQLException {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        Connection conexao = mock(Connection.class);
+        Statement comando = mock(Statement.class);
+        ResultSet resultado = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(conexao);
+        when(conexao.createStatement()).thenReturn(comando);
+        when(comando.executeQuery(anyString())).thenReturn(resultado);
+        when(resultado.next()).thenReturn(true);
+        when(resultado.getDouble(1)).thenReturn(atrasoEmSegundos);
+        return dataSource;
+    }
+
+    private static void conexoesAtivas(HikariDataSource dataSource, int quantidade) {
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(pool.getActiveConnections()).thenReturn(quantidade);
+    }
+
+}
@@ -1,22 +1,35 @@
 package br.com.tarefas_api.controller;
 
 import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ResumoCategoriaDTO;
+import br.com.tarefas_api.dto.VersaoDTO;
+import br.com.tarefas_api.repository.CampoDeCategoria;
 import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.eventos.EventosDeCategoriaService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +38,9 @@ class CategoriaControllerTest {
     @Mock
     private CategoriaService categoriaService;
 
+    @Mock
+    private EventosDeCategoriaService eventosDeCategoriaService;
+
     @InjectMocks
     private CategoriaController categoriaController;
 
@@ -51,13 +67,65 @@ class CategoriaControllerTest {
     @Test
     void deveListarCategorias() {
         List<CategoriaDTO> categorias = Collections.singletonList(categoriaDTO);
-        when(categoriaService.listarCategorias()).thenReturn(categorias);
+        when(categoriaService.buscarVersaoDasCategorias()).thenReturn(new VersaoDTO("1-abc", null));
+        when(categoriaService.listarCategorias(CampoDeCategoria.TODOS)).thenReturn(categorias);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
 
-        ResponseEntity<List<CategoriaDTO>> response = categoriaController.listarCategorias();
+        ResponseEntity<List<CategoriaDTO>> response = categoriaController.listarCategorias(null,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/categorias"), servletResponse));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, Objects.requireNonNull(response.getBody()).size());
         assertEquals(categoriaDTO, response.getBody().getFirst());
+        assertEquals("\"1-abc\"", servletResponse.getHeader("ETag"));
+    }
+
+    @Test
+    void deveResponderNaoModificado_QuandoEtagDaListagemNaoMudou() {
+        when(categoriaService.buscarVersaoDasCategorias()).thenReturn(new VersaoDTO("1-abc", null));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/categorias");
+        servletRequest.addHeader("If-None-Match", "\"1-abc\"");
+
+        ResponseEntity<List<CategoriaDTO>> response = categoriaController.listarCategorias(null,
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(categoriaService, never()).listarCategorias(CampoDeCategoria.TODOS);
+    }
+
+    @Test
+    void deveIgnorarIfModifiedSinceDaListagem_QuandoCategoriaMaisRecenteFoiExcluida() {
+        LocalDateTime maisRecente = LocalDateTime.of(2025, 3, 10, 9, 51);
+        when(categoriaService.buscarVersaoDasCategorias()).thenReturn(new VersaoDTO("1-abc", maisRecente.minusDays(1)));
+        when(categoriaService.listarCategorias(CampoDeCategoria.TODOS)).thenReturn(List.of(categoriaDTO));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/categorias");
+        servletRequest.addHeader("If-Modified-Since", maisRecente.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        ResponseEntity<List<CategoriaDTO>> response = categoriaController.listarCategorias(null,
+                new ServletWebRequest(servletRequest, servletResponse));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(servletResponse.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void deveListarResumoDasCategorias() {
+        ResumoCategoriaDTO resumo = new ResumoCategoriaDTO(categoriaId, "Trabalho", 5, 2, 1);
+        when(categoriaService.listarResumo()).thenReturn(List.of(resumo));
+
+        ResponseEntity<List<ResumoCategoriaDTO>> response = categoriaController.listarResumo();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(resumo), response.getBody());
+    }
+
+    @Test
+    void deveAssinarEventosDaCategoria() {
+        SseEmitter emitter = new SseEmitter();
+        when(eventosDeCategoriaService.assinar(categoriaId)).thenReturn(emitter);
+
+        assertSame(emitter, categoriaController.assinarEventos(categoriaId));
     }
 
     @Test
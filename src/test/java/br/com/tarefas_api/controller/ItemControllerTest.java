@@ -1,21 +1,50 @@
 package br.com.tarefas_api.controller;
 
 import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.ListaItensDTO;
+import br.com.tarefas_api.dto.OperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.PaginaItensDTO;
+import br.com.tarefas_api.dto.ResultadoImportacaoDTO;
+import br.com.tarefas_api.dto.ResultadoLoteItemDTO;
+import br.com.tarefas_api.dto.ResultadoOperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.VersaoDTO;
+import br.com.tarefas_api.exception.EtagFracoException;
+import br.com.tarefas_api.repository.CampoDeItem;
+import br.com.tarefas_api.repository.ItemResumo;
 import br.com.tarefas_api.service.ItemService;
+import br.com.tarefas_api.service.arquivamento.ItensArquivadosService;
+import br.com.tarefas_api.service.arquivo.ExportacaoDeItensService;
+import br.com.tarefas_api.service.arquivo.FormatoDeArquivo;
+import br.com.tarefas_api.service.arquivo.ImportacaoDeItensService;
 import br.com.tarefas_api.utils.DateUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Collections;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +53,15 @@ class ItemControllerTest {
     @Mock
     private ItemService itemService;
 
+    @Mock
+    private ImportacaoDeItensService importacaoDeItensService;
+
+    @Mock
+    private ExportacaoDeItensService exportacaoDeItensService;
+
+    @Mock
+    private ItensArquivadosService itensArquivadosService;
+
     @InjectMocks
     private ItemController itemController;
 
@@ -56,38 +94,226 @@ class ItemControllerTest {
         verify(itemService, times(1)).criarItem(any(ItemDTO.class));
     }
 
+    @Test
+    void criarItensEmLote_DeveRetornarResultadoDasLinhas() {
+        List<ResultadoLoteItemDTO> resultados = List.of(ResultadoLoteItemDTO.builder()
+                .linha(0)
+                .status(ResultadoLoteItemDTO.Status.CRIADO)
+                .id(itemId)
+                .build());
+        when(itemService.criarItensEmLote(anyList())).thenReturn(resultados);
+
+        ResponseEntity<List<ResultadoLoteItemDTO>> response = itemController.criarItensEmLote(List.of(itemDTO));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(resultados, response.getBody());
+        verify(itemService, times(1)).criarItensEmLote(anyList());
+    }
+
+    @Test
+    void importarItens_DeveIdentificarOFormatoEACodificacaoPeloContentType() {
+        ResultadoImportacaoDTO resultado = ResultadoImportacaoDTO.builder().importados(2).linhasRejeitadas(List.of()).build();
+        InputStream arquivo = new ByteArrayInputStream(new byte[0]);
+        when(importacaoDeItensService.importar(arquivo, FormatoDeArquivo.CSV, StandardCharsets.ISO_8859_1))
+                .thenReturn(resultado);
+
+        ResponseEntity<ResultadoImportacaoDTO> response = itemController.importarItens(
+                MediaType.parseMediaType("text/csv; charset=ISO-8859-1"), arquivo);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(resultado, response.getBody());
+    }
+
+    @Test
+    void exportarItens_DeveEnviarOArquivoEmAnexoNoFormatoSolicitado() {
+        StreamingResponseBody arquivo = saida -> saida.write('{');
+        when(exportacaoDeItensService.exportar(categoriaId, FormatoDeArquivo.NDJSON)).thenReturn(arquivo);
+
+        ResponseEntity<StreamingResponseBody> response = itemController.exportarItens(categoriaId, FormatoDeArquivo.NDJSON);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(arquivo, response.getBody());
+        assertEquals(MediaType.parseMediaType("application/x-ndjson;charset=UTF-8"), response.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"itens.ndjson\"", response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+    }
+
     @Test
     void listarItens_DeveRetornarListaDeItens() {
-        List<ItemDTO> itens = Collections.singletonList(itemDTO);
-        when(itemService.listarItensDaCategoria(categoriaId)).thenReturn(itens);
+        ListaItensDTO itens = new ListaItensDTO(List.of(resumo()), item -> itemDTO);
+        when(itemService.buscarVersaoDosItensDaCategoria(categoriaId)).thenReturn(new VersaoDTO("1-abc", null));
+        when(itemService.listarItensDaCategoria(categoriaId, CampoDeItem.TODOS)).thenReturn(itens);
+
+        ResponseEntity<ListaItensDTO> response = itemController.listarItens(categoriaId, null, requisicaoGet(null));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(itens, response.getBody());
+        verify(itemService, times(1)).listarItensDaCategoria(categoriaId, CampoDeItem.TODOS);
+    }
+
+    @Test
+    void listarItens_DeveResponderNaoModificado_QuandoEtagNaoMudou() {
+        when(itemService.buscarVersaoDosItensDaCategoria(categoriaId)).thenReturn(new VersaoDTO("1-abc", null));
+
+        ResponseEntity<ListaItensDTO> response = itemController.listarItens(categoriaId, null, requisicaoGet("\"1-abc\""));
+
+        assertEquals(304, response.getStatusCode().value());
+        verify(itemService, never()).listarItensDaCategoria(categoriaId, CampoDeItem.TODOS);
+    }
+
+    @Test
+    void listarItens_DeveIgnorarIfModifiedSince_QuandoItemMaisRecenteFoiRemovido() {
+        LocalDateTime maisRecente = LocalDateTime.of(2025, 3, 10, 9, 51);
+        ListaItensDTO itens = new ListaItensDTO(List.of(resumo()), item -> itemDTO);
+        when(itemService.buscarVersaoDosItensDaCategoria(categoriaId))
+                .thenReturn(new VersaoDTO("2-abc", maisRecente))
+                .thenReturn(new VersaoDTO("1-9f", maisRecente.minusMinutes(5)));
+        when(itemService.listarItensDaCategoria(categoriaId, CampoDeItem.TODOS)).thenReturn(itens);
+        MockHttpServletResponse primeiraResposta = new MockHttpServletResponse();
 
-        ResponseEntity<List<ItemDTO>> response = itemController.listarItens(categoriaId);
+        itemController.listarItens(categoriaId, null,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/itens"), primeiraResposta));
+        // O item mais recente é removido e o cliente revalida somente pela data
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/itens");
+        servletRequest.addHeader("If-Modified-Since", maisRecente.atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli());
+        ResponseEntity<ListaItensDTO> response = itemController.listarItens(categoriaId, null,
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()));
 
+        assertNull(primeiraResposta.getHeader(HttpHeaders.LAST_MODIFIED));
         assertEquals(200, response.getStatusCode().value());
         assertEquals(itens, response.getBody());
-        verify(itemService, times(1)).listarItensDaCategoria(categoriaId);
+    }
+
+    @Test
+    void listarItensPaginados_DeveRetornarPagina() {
+        PaginaItensDTO pagina = PaginaItensDTO.builder()
+                .itens(new ListaItensDTO(List.of(resumo()), item -> itemDTO))
+                .proximoCursor("cursor")
+                .build();
+        when(itemService.listarItensDaCategoriaPaginado(categoriaId, null, 50, CampoDeItem.TODOS)).thenReturn(pagina);
+
+        ResponseEntity<PaginaItensDTO> response = itemController.listarItensPaginados(categoriaId, null, 50, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(pagina, response.getBody());
+        verify(itemService, times(1)).listarItensDaCategoriaPaginado(categoriaId, null, 50, CampoDeItem.TODOS);
+    }
+
+    @Test
+    void listarItensArquivados_DeveRetornarPaginaDoArquivo() {
+        LocalDateTime inicio = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime fim = LocalDateTime.of(2025, 2, 1, 0, 0);
+        PaginaItensDTO pagina = PaginaItensDTO.builder()
+                .itens(new ListaItensDTO(List.of(resumo()), item -> itemDTO))
+                .build();
+        when(itensArquivadosService.listarItensArquivados(categoriaId, inicio, fim, "cursor", 20)).thenReturn(pagina);
+
+        ResponseEntity<PaginaItensDTO> response =
+                itemController.listarItensArquivados(categoriaId, inicio, fim, "cursor", 20);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(pagina, response.getBody());
+        verify(itensArquivadosService, times(1)).listarItensArquivados(categoriaId, inicio, fim, "cursor", 20);
+    }
+
+    @Test
+    void listarItensVencidosEProximos_DevemRetornarListasDoServico() {
+        ListaItensDTO vencidos = new ListaItensDTO(List.of(resumo()), item -> itemDTO);
+        ListaItensDTO proximos = new ListaItensDTO(List.of(), item -> itemDTO);
+        when(itemService.listarItensVencidos(50, CampoDeItem.TODOS)).thenReturn(vencidos);
+        when(itemService.listarProximosItens(10, CampoDeItem.TODOS)).thenReturn(proximos);
+
+        assertEquals(vencidos, itemController.listarItensVencidos(50, null).getBody());
+        assertEquals(proximos, itemController.listarProximosItens(10, null).getBody());
     }
 
     @Test
     void buscarItemPorId_DeveRetornarItem() {
+        when(itemService.buscarVersao(itemId)).thenReturn(new VersaoDTO("abc", LocalDateTime.now()));
         when(itemService.buscarPorId(itemId)).thenReturn(itemDTO);
 
-        ResponseEntity<ItemDTO> response = itemController.buscarItemPorId(itemId);
+        ResponseEntity<ItemDTO> response = itemController.buscarItemPorId(itemId, requisicaoGet("\"outra\""));
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(itemDTO, response.getBody());
         verify(itemService, times(1)).buscarPorId(itemId);
     }
 
+    @Test
+    void buscarItemPorId_DeveResponderNaoModificado_QuandoIfModifiedSinceNaoMudou() {
+        LocalDateTime ultimaModificacao = LocalDateTime.of(2025, 3, 10, 9, 51);
+        when(itemService.buscarVersao(itemId)).thenReturn(new VersaoDTO("abc", ultimaModificacao));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/itens/" + itemId);
+        servletRequest.addHeader("If-Modified-Since",
+                ultimaModificacao.atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        ResponseEntity<ItemDTO> response = itemController.buscarItemPorId(itemId,
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()));
+
+        assertEquals(304, response.getStatusCode().value());
+        verify(itemService, never()).buscarPorId(itemId);
+    }
+
     @Test
     void atualizarItem_DeveRetornarItemAtualizado() {
-        when(itemService.atualizarItem(eq(itemId), any(ItemDTO.class))).thenReturn(itemDTO);
+        ItemDTO atualizado = ItemDTO.builder().id(itemId).descricao("Finalizar relatório").categoriaId(categoriaId)
+                .versao(2L).build();
+        when(itemService.atualizarItem(eq(itemId), any(ItemDTO.class), eq(List.of(1L)))).thenReturn(atualizado);
 
-        ResponseEntity<ItemDTO> response = itemController.atualizarItem(itemId, itemDTO);
+        ResponseEntity<ItemDTO> response = itemController.atualizarItem(itemId, itemDTO, "\"1\"", requisicao("PUT"));
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(itemDTO, response.getBody());
-        verify(itemService, times(1)).atualizarItem(eq(itemId), any(ItemDTO.class));
+        assertEquals(atualizado, response.getBody());
+        assertEquals("\"2\"", response.getHeaders().getETag());
+    }
+
+    private ServletWebRequest requisicaoGet(String ifNoneMatch) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/itens");
+        if (ifNoneMatch != null) {
+            servletRequest.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(servletRequest, new MockHttpServletResponse());
+    }
+
+    private ServletWebRequest requisicao(String metodo) {
+        return new ServletWebRequest(new MockHttpServletRequest(metodo, "/itens/" + itemId), new MockHttpServletResponse());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveRetornarItemComEtag() throws Exception {
+        JsonNode patch = new ObjectMapper().readTree("{\"concluido\": true}");
+        ItemDTO atualizado = ItemDTO.builder().id(itemId).concluido(true).categoriaId(categoriaId).versao(10L).build();
+        when(itemService.atualizarItemParcialmente(itemId, patch, List.of(9L))).thenReturn(atualizado);
+
+        ResponseEntity<ItemDTO> response = itemController.atualizarItemParcialmente(itemId, patch, "\"9\"", requisicao("PATCH"));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(atualizado, response.getBody());
+        assertEquals("\"a\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveAceitarVariasEtagsNoIfMatch() throws Exception {
+        JsonNode patch = new ObjectMapper().readTree("{\"concluido\": true}");
+        ItemDTO atualizado = ItemDTO.builder().id(itemId).concluido(true).categoriaId(categoriaId).versao(28L).build();
+        when(itemService.atualizarItemParcialmente(itemId, patch, List.of(26L, 27L))).thenReturn(atualizado);
+
+        ResponseEntity<ItemDTO> response = itemController.atualizarItemParcialmente(itemId, patch, "\"1a\", \"1b\"",
+                requisicao("PATCH"));
+
+        assertEquals("\"1c\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveRejeitarEtagFraca() throws Exception {
+        JsonNode patch = new ObjectMapper().readTree("{\"concluido\": true}");
+
+        EtagFracoException excecao = assertThrows(EtagFracoException.class,
+                () -> itemController.atualizarItemParcialmente(itemId, patch, "W/\"9\"", requisicao("PATCH")));
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED,
+                EtagFracoException.class.getAnnotation(ResponseStatus.class).value());
+        assertEquals("W/\"9\"", excecao.getEtag());
+        verifyNoInteractions(itemService);
     }
 
     @Test
@@ -100,4 +326,19 @@ class ItemControllerTest {
         verify(itemService, times(1)).removerItem(itemId);
     }
 
+    @Test
+    void concluirItens_DeveRetornarQuantidadeAfetada() {
+        OperacaoEmMassaDTO operacao = OperacaoEmMassaDTO.builder().idCategoria(categoriaId).build();
+        when(itemService.concluirItens(operacao)).thenReturn(new ResultadoOperacaoEmMassaDTO(4));
+
+        ResponseEntity<ResultadoOperacaoEmMassaDTO> response = itemController.concluirItens(operacao);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(4, response.getBody().getAfetados());
+    }
+
+    private ItemResumo resumo() {
+        return new ItemResumo(itemId, itemDTO.getDescricao(), itemDTO.isConcluido(), null, null, null, categoriaId);
+    }
+
 }
@@ -0,0 +1,189 @@
+package br.com.tarefas_api.controller;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.support.ContadorDeQueries;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica, contra um PostgreSQL real, que o parâmetro fields seleciona somente as colunas pedidas no SQL e os campos
+ * da resposta, e que cada combinação de campos reaproveita a consulta já interpretada.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.tarefas_api.support.ContadorDeQueries",
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@AutoConfigureMockMvc
+class SelecaoDeCamposIntegracaoTest {
+
+    private static final LocalDateTime DATA_CRIACAO = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID categoriaId;
+
+    @BeforeEach
+    void setUp() {
+        categoriaId = categoriaRepository.save(Categoria.builder()
+                .nome("Trabalho")
+                .dataAtualizacao(LocalDateTime.now())
+                .build()).getId();
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO item (id, descricao, concluido, data_limite, data_criacao, categoria_id)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    """, UUID.randomUUID(), "Item " + i, i == 0, DATA_CRIACAO.minusDays(1).plusMinutes(i),
+                    DATA_CRIACAO.plusMinutes(i), categoriaId);
+        }
+        ContadorDeQueries.zerar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void listarItens_DeveConsultarESerializarSomenteOsCamposPedidos() throws Exception {
+        JsonNode itens = listar("/itens?idCategoria=" + categoriaId + "&fields=id,descricao,concluido");
+
+        assertEquals(3, itens.size());
+        for (JsonNode item : itens) {
+            assertEquals(List.of("id", "descricao", "concluido"),
+                    item.properties().stream().map(Map.Entry::getKey).toList());
+        }
+        String sql = consultaDeItens();
+        assertTrue(sql.startsWith("select i1_0.id,i1_0.descricao,i1_0.concluido from item i1_0"), sql);
+    }
+
+    @Test
+    void listarItens_DeveGerarAMesmaConsultaParaAMesmaCombinacaoEmQualquerOrdem() throws Exception {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        listar("/itens?idCategoria=" + categoriaId + "&fields=descricao,dataLimite");
+        String primeira = consultaDeItens();
+        long interpretacoes = estatisticas.getQueryPlanCacheMissCount();
+        long reaproveitamentos = estatisticas.getQueryPlanCacheHitCount();
+        ContadorDeQueries.zerar();
+
+        listar("/itens?idCategoria=" + categoriaId + "&fields=dataLimite,descricao,descricao");
+
+        assertEquals(primeira, consultaDeItens());
+        assertEquals(interpretacoes, estatisticas.getQueryPlanCacheMissCount());
+        assertTrue(estatisticas.getQueryPlanCacheHitCount() > reaproveitamentos);
+    }
+
+    @Test
+    void listarItens_DeveResponderBadRequestSemConsultarOsItens_QuandoCampoDesconhecido() throws Exception {
+        mockMvc.perform(get("/itens")
+                        .param("idCategoria", categoriaId.toString())
+                        .param("fields", "id,descricao FROM Item i; DROP TABLE item; --"))
+                .andExpect(status().isBadRequest());
+
+        assertTrue(ContadorDeQueries.comandos().isEmpty());
+        assertEquals(3, itemRepository.count());
+    }
+
+    @Test
+    void listarItensPaginados_DeveManterOCursor_QuandoIdEDataDeCriacaoNaoForemPedidos() throws Exception {
+        JsonNode pagina = objectMapper.readTree(mockMvc.perform(get("/itens/pagina")
+                        .param("idCategoria", categoriaId.toString())
+                        .param("limite", "2")
+                        .param("fields", "descricao"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+
+        assertEquals("[{\"descricao\":\"Item 0\"},{\"descricao\":\"Item 1\"}]", pagina.get("itens").toString());
+
+        JsonNode proxima = objectMapper.readTree(mockMvc.perform(get("/itens/pagina")
+                        .param("idCategoria", categoriaId.toString())
+                        .param("cursor", pagina.get("proximoCursor").asText())
+                        .param("fields", "descricao"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+
+        assertEquals("[{\"descricao\":\"Item 2\"}]", proxima.get("itens").toString());
+        assertFalse(proxima.has("proximoCursor"));
+    }
+
+    @Test
+    void listarItensVencidos_DeveSelecionarOsCamposPedidos() throws Exception {
+        JsonNode itens = listar("/itens/vencidos?fields=descricao,dataLimite");
+
+        // O item concluído não está vencido
+        assertEquals(2, itens.size());
+        assertEquals("{\"descricao\":\"Item 1\",\"dataLimite\":\"28/02/2025 10:01\"}", itens.get(0).toString());
+        assertTrue(consultaDeItens().startsWith("select i1_0.descricao,i1_0.data_limite from item i1_0"));
+    }
+
+    @Test
+    void listarCategorias_DeveConsultarESerializarSomenteONome() throws Exception {
+        JsonNode categorias = listar("/categorias?fields=nome");
+
+        assertEquals("[{\"nome\":\"Trabalho\"}]", categorias.toString());
+        assertTrue(ContadorDeQueries.comandos().contains("select c1_0.nome from categoria c1_0"),
+                ContadorDeQueries.comandos().toString());
+
+        mockMvc.perform(get("/categorias").param("fields", "total"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode listar(String url) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+    }
+
+    /**
+     * Retorna o SQL da listagem de itens, ignorando as consultas de versão e de existência da categoria.
+     */
+    private String consultaDeItens() {
+        return ContadorDeQueries.comandos().stream()
+                .filter(sql -> sql.contains(" from item i1_0") && !sql.contains("count("))
+                .reduce((primeiro, ultimo) -> ultimo)
+                .orElseThrow();
+    }
+
+}
@@ -0,0 +1,40 @@
+package br.com.tarefas_api.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void gerar_DeveRetornarUuidVersao7ComVarianteRfc() {
+        UUID uuid = UuidV7Generator.gerar();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void gerar_DeveConterInstanteAtualEmMilissegundos() {
+        long antes = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.gerar();
+
+        long instante = uuid.getMostSignificantBits() >>> 16;
+
+        assertTrue(instante >= antes);
+        assertTrue(instante <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void gerar_DeveRetornarIdsEstritamenteCrescentes() {
+        String anterior = UuidV7Generator.gerar().toString();
+        for (int i = 0; i < 100_000; i++) {
+            String atual = UuidV7Generator.gerar().toString();
+            assertTrue(atual.compareTo(anterior) > 0, () -> atual + " deveria ser maior que o ID anterior");
+            anterior = atual;
+        }
+    }
+
+}
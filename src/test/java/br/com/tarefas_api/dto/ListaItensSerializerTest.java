@@ -0,0 +1,137 @@
+package br.com.tarefas_api.dto;
+
+import br.com.tarefas_api.config.formato.FormatosBinariosModule;
+import br.com.tarefas_api.domain.UuidV7Generator;
+import br.com.tarefas_api.repository.CampoDeItem;
+import br.com.tarefas_api.repository.ItemResumo;
+import br.com.tarefas_api.utils.DateUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que a serialização direta das projeções produz os mesmos bytes que a serialização da lista de ItemDTO, em
+ * JSON e nos formatos binários.
+ */
+class ListaItensSerializerTest {
+
+    /**
+     * Mesma configuração padrão do ObjectMapper criado pelo Spring Boot.
+     */
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final Function<ItemResumo, ItemDTO> conversor = item -> ItemDTO.builder()
+            .id(item.id())
+            .descricao(item.descricao())
+            .concluido(item.concluido())
+            .dataCriacao(DateUtils.formatDate(item.dataCriacao()))
+            .dataAtualizacao(DateUtils.formatDate(item.dataAtualizacao()))
+            .dataLimite(DateUtils.formatDate(item.dataLimite()))
+            .categoriaId(item.categoriaId())
+            .build();
+
+    @Test
+    void serialize_DeveProduzirOsMesmosBytesQueAListaDeItemDTO() throws Exception {
+        UUID categoriaId = UUID.fromString("0ec97cbd-d730-475a-bbe9-76ef76edf952");
+        List<ItemResumo> itens = List.of(
+                new ItemResumo(UuidV7Generator.gerar(),
+                        "Enviar relatório \"mensal\" \\ até 5ª-feira\n\t☕",
+                        true,
+                        LocalDateTime.of(2025, 3, 9, 15, 0, 59),
+                        LocalDateTime.of(2025, 12, 31, 23, 59),
+                        LocalDateTime.of(1, 1, 1, 0, 0),
+                        categoriaId),
+                new ItemResumo(UUID.fromString("00000000-0000-0000-0000-000000000000"),
+                        "Sem datas opcionais",
+                        false,
+                        LocalDateTime.of(2025, 1, 1, 8, 5),
+                        null,
+                        null,
+                        categoriaId),
+                new ItemResumo(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"),
+                        null,
+                        false,
+                        LocalDateTime.of(12025, 6, 15, 10, 30),
+                        null,
+                        null,
+                        null));
+        ListaItensDTO lista = new ListaItensDTO(itens, conversor);
+
+        byte[] esperado = objectMapper.writeValueAsBytes(itens.stream().map(conversor).toList());
+
+        assertArrayEquals(esperado, objectMapper.writeValueAsBytes(lista));
+        assertArrayEquals(esperado, objectMapper.writerFor(ListaItensDTO.class).writeValueAsBytes(lista));
+        assertEquals("{\"itens\":" + new String(esperado, "UTF-8") + "}",
+                objectMapper.writeValueAsString(PaginaItensDTO.builder().itens(lista).build()));
+    }
+
+    @Test
+    void serialize_Binario_DeveProduzirOsMesmosBytesQueAListaDeItemDTO() throws Exception {
+        UUID categoriaId = UUID.fromString("0ec97cbd-d730-475a-bbe9-76ef76edf952");
+        List<ItemResumo> itens = List.of(
+                new ItemResumo(UuidV7Generator.gerar(), "Enviar relatório", true,
+                        LocalDateTime.of(2025, 3, 9, 15, 0, 59), LocalDateTime.of(2025, 12, 31, 23, 59),
+                        LocalDateTime.of(1970, 1, 1, 0, 0), categoriaId),
+                new ItemResumo(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"), null, false,
+                        LocalDateTime.of(2025, 1, 1, 8, 5), null, null, categoriaId));
+        ListaItensDTO lista = new ListaItensDTO(itens, conversor);
+
+        for (ObjectMapper binario : List.<ObjectMapper>of(
+                Jackson2ObjectMapperBuilder.cbor().modulesToInstall(new FormatosBinariosModule()).build(),
+                Jackson2ObjectMapperBuilder.smile().modulesToInstall(new FormatosBinariosModule()).build())) {
+            byte[] esperado = binario.writeValueAsBytes(itens.stream().map(conversor).toList());
+
+            assertArrayEquals(esperado, binario.writeValueAsBytes(lista));
+            // As datas são escritas em milissegundos, na precisão de minutos do formato amigável
+            JsonNode primeiro = binario.readTree(esperado).get(0);
+            assertEquals(DateUtils.toEpochMilli(LocalDateTime.of(2025, 3, 9, 15, 0)), primeiro.get("dataCriacao").asLong());
+            assertArrayEquals(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1},
+                    binario.readTree(esperado).get(1).get("id").binaryValue());
+        }
+    }
+
+    @Test
+    void serialize_DeveEscreverSomenteOsCamposSelecionados() throws Exception {
+        UUID id = UUID.fromString("0190a000-0000-7000-8000-000000000001");
+        List<ItemResumo> itens = List.of(new ItemResumo(id, "Enviar relatório", false,
+                LocalDateTime.of(2025, 3, 9, 15, 0), null, LocalDateTime.of(2025, 3, 10, 18, 0), null));
+
+        assertEquals("[{\"id\":\"" + id + "\",\"dataLimite\":\"10/03/2025 18:00\"}]",
+                objectMapper.writeValueAsString(new ListaItensDTO(itens,
+                        EnumSet.of(CampoDeItem.DATA_LIMITE, CampoDeItem.ID), conversor)));
+        // concluido, que não é omitido quando falso, também só é escrito quando selecionado
+        assertEquals("[{\"descricao\":\"Enviar relatório\",\"concluido\":false}]",
+                objectMapper.writeValueAsString(new ListaItensDTO(itens,
+                        EnumSet.of(CampoDeItem.DESCRICAO, CampoDeItem.CONCLUIDO), conversor)));
+    }
+
+    @Test
+    void serialize_DeveEscreverListaVazia() throws Exception {
+        assertEquals("[]", objectMapper.writeValueAsString(new ListaItensDTO(List.of(), conversor)));
+    }
+
+    @Test
+    void formatDate_ComBuffer_DeveEscreverOMesmoTextoQueAFormatacaoPadrao() {
+        char[] buffer = new char[DateUtils.TAMANHO_DATA_FORMATADA];
+        LocalDateTime data = LocalDateTime.of(1999, 1, 1, 0, 0);
+        for (int i = 0; i < 100_000; i++, data = data.plusMinutes(7919)) {
+            assertTrue(DateUtils.formatDate(data, buffer));
+            assertEquals(DateUtils.formatDate(data), new String(buffer));
+        }
+        assertFalse(DateUtils.formatDate(LocalDateTime.of(10000, 1, 1, 0, 0), buffer));
+        // O ano 0 é o ano 1 a.C., que o padrão yyyy (ano da era) escreve como 0001
+        assertFalse(DateUtils.formatDate(LocalDateTime.of(0, 1, 1, 0, 0), buffer));
+        assertTrue(DateUtils.formatDate(LocalDateTime.of(1, 1, 1, 0, 0), buffer));
+        assertEquals(DateUtils.formatDate(LocalDateTime.of(1, 1, 1, 0, 0)), new String(buffer));
+    }
+
+}
@@ -0,0 +1,107 @@
+package br.com.tarefas_api.repository;
+
+import br.com.tarefas_api.support.ContadorDeQueries;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, com o EXPLAIN do PostgreSQL sobre uma massa de dados sintética, que as consultas de itens vencidos
+ * e próximos de todas as categorias são servidas pelo índice parcial, sem ordenar nem varrer a tabela.
+ */
+// O agendador de prazos e o relay do outbox consultam o banco em segundo plano e interfeririam na contagem de comandos
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.tarefas_api.support.ContadorDeQueries",
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemPrazoExplainTest {
+
+    private static final int QUANTIDADE_ITENS = 200_000;
+
+    private static final String INDICE = "idx_item_pendente_data_limite_id";
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setUp() {
+        UUID categoriaId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO categoria (id, nome) VALUES (?, 'Massa sintética')", categoriaId);
+        // 10% dos itens pendentes, com datas limite espalhadas em um ano antes e depois de agora
+        jdbcTemplate.update("""
+                INSERT INTO item (id, descricao, concluido, data_limite, categoria_id)
+                SELECT md5(n::text)::uuid, 'Item ' || n, n % 10 <> 0,
+                       now() + (random() * 730 - 365) * interval '1 day', ?
+                FROM generate_series(1, ?) n
+                """, categoriaId, QUANTIDADE_ITENS);
+        jdbcTemplate.execute("ANALYZE item");
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE item, item_arquivo, categoria_estatistica, categoria");
+    }
+
+    @Test
+    void findProximos_DeveLerOTopKDiretamenteDoIndiceParcial() {
+        LocalDateTime agora = LocalDateTime.now();
+        ContadorDeQueries.zerar();
+
+        List<ItemResumo> proximos = itemRepository.findProximos(agora, Limit.of(10));
+
+        assertEquals(10, proximos.size());
+        for (int i = 0; i < proximos.size(); i++) {
+            assertFalse(proximos.get(i).concluido());
+            assertFalse(proximos.get(i).dataLimite().isBefore(agora));
+            if (i > 0) {
+                assertFalse(proximos.get(i).dataLimite().isBefore(proximos.get(i - 1).dataLimite()));
+            }
+        }
+        assertPlanoUsaSomenteOIndice(ContadorDeQueries.comandos().get(0), agora, 10);
+    }
+
+    @Test
+    void findVencidos_DeveLerDoIndiceParcial() {
+        LocalDateTime agora = LocalDateTime.now();
+        ContadorDeQueries.zerar();
+
+        List<ItemResumo> vencidos = itemRepository.findVencidos(agora, Limit.of(50));
+
+        assertEquals(50, vencidos.size());
+        assertTrue(vencidos.stream().allMatch(item -> !item.concluido() && item.dataLimite().isBefore(agora)));
+        assertPlanoUsaSomenteOIndice(ContadorDeQueries.comandos().get(0), agora, 50);
+    }
+
+    /**
+     * Executa o EXPLAIN do SQL gerado pelo Hibernate e verifica que o plano percorre o índice parcial em ordem.
+     */
+    private void assertPlanoUsaSomenteOIndice(String sql, LocalDateTime agora, int limite) {
+        String plano = String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, Timestamp.valueOf(agora), limite));
+
+        assertTrue(plano.contains("Index Scan using " + INDICE), plano);
+        assertFalse(plano.contains("Sort"), plano);
+        assertFalse(plano.contains("Seq Scan"), plano);
+    }
+
+}
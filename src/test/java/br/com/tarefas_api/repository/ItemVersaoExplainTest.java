@@ -0,0 +1,94 @@
+package br.com.tarefas_api.repository;
+
+import br.com.tarefas_api.support.ContadorDeQueries;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, com o EXPLAIN do PostgreSQL sobre uma massa de dados sintética, que a versão da listagem de itens de uma
+ * categoria é lida do registro de contadores e do fim do índice da data de modificação, sem percorrer os itens.
+ */
+// O agendador de prazos e o relay do outbox consultam o banco em segundo plano e interfeririam na contagem de comandos
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.tarefas_api.support.ContadorDeQueries",
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemVersaoExplainTest {
+
+    private static final int QUANTIDADE_ITENS = 200_000;
+
+    private static final String INDICE = "idx_item_categoria_modificacao";
+
+    private static final LocalDateTime ULTIMA_MODIFICACAO = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final UUID categoriaId = UUID.randomUUID();
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setUp() {
+        UUID outraCategoriaId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO categoria (id, nome) VALUES (?, 'Massa sintética'), (?, 'Outra massa')",
+                categoriaId, outraCategoriaId);
+        // Itens alternados entre as duas categorias, com o último item atualizado da primeira em ULTIMA_MODIFICACAO
+        jdbcTemplate.update("""
+                INSERT INTO item (id, descricao, concluido, data_criacao, data_atualizacao, categoria_id)
+                SELECT md5(n::text)::uuid, 'Item ' || n, false,
+                       timestamp '2025-01-01' + n * interval '1 minute',
+                       CASE WHEN n = 2 THEN ? END,
+                       CASE WHEN n % 2 = 0 THEN ? ELSE ? END
+                FROM generate_series(1, ?) n
+                """, ULTIMA_MODIFICACAO, categoriaId, outraCategoriaId, QUANTIDADE_ITENS);
+        jdbcTemplate.update("""
+                INSERT INTO categoria_estatistica (categoria_id, total, concluidos)
+                SELECT categoria_id, COUNT(*), 0 FROM item GROUP BY categoria_id
+                """);
+        jdbcTemplate.execute("ANALYZE item");
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE item, item_arquivo, categoria_estatistica, categoria");
+    }
+
+    @Test
+    void findVersaoAgregadaByCategoriaId_DeveLerOContadorEOFimDoIndice() {
+        ContadorDeQueries.zerar();
+
+        VersaoAgregada versao = itemRepository.findVersaoAgregadaByCategoriaId(categoriaId).orElseThrow();
+
+        assertEquals(QUANTIDADE_ITENS / 2, versao.quantidade());
+        assertEquals(ULTIMA_MODIFICACAO, versao.ultimaModificacao());
+        assertEquals(1, ContadorDeQueries.total());
+
+        String sql = ContadorDeQueries.comandos().get(0);
+        Object[] parametros = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        Arrays.fill(parametros, categoriaId);
+        String plano = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parametros));
+
+        assertTrue(plano.contains("using " + INDICE), plano);
+        assertFalse(plano.contains("Seq Scan on item"), plano);
+        assertFalse(plano.contains("Aggregate"), plano);
+    }
+
+}
@@ -0,0 +1,82 @@
+package br.com.tarefas_api.service;
+
+import br.com.tarefas_api.config.CacheConfig;
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.exception.CategoriaJaExistenteException;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.support.ContadorDeQueries;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, contra um PostgreSQL real, que as leituras de Categoria por nome são servidas pelo cache de natural-id,
+ * inclusive depois de uma renomeação, e as métricas do cache. O orçamento de comandos de cada método fica em
+ * {@link OrcamentoDeQueriesTest}.
+ */
+// O agendador de prazos e o relay do outbox consultam o banco em segundo plano e interfeririam na contagem de comandos
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.tarefas_api.support.ContadorDeQueries",
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class CategoriaServiceQueryCountTest {
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private CategoriaDTO categoria;
+
+    @BeforeEach
+    void setUp() {
+        categoria = categoriaService.criarCategoria(new CategoriaDTO(null, "Trabalho"));
+        ContadorDeQueries.zerar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoriaRepository.deleteAll();
+    }
+
+    @Test
+    void criarCategoria_DeveValidarNomeDuplicadoPeloCacheDeNaturalId() {
+        CategoriaDTO duplicada = new CategoriaDTO(null, "Trabalho");
+
+        assertThrows(CategoriaJaExistenteException.class, () -> categoriaService.criarCategoria(duplicada));
+        assertEquals(0, ContadorDeQueries.total());
+    }
+
+    @Test
+    void atualizarCategoria_DeveManterCacheDeNaturalIdConsistente() {
+        categoriaService.atualizarCategoria(categoria.getId(), new CategoriaDTO(null, "Estudos"));
+
+        assertTrue(categoriaRepository.findByNome("Trabalho").isEmpty());
+        assertEquals(categoria.getId(), categoriaRepository.findByNome("Estudos").map(Categoria::getId).orElseThrow());
+    }
+
+    @Test
+    void cache_DeveExporMetricasDeAcertoPorRegiao() {
+        categoriaService.buscarCategoriaPorId(categoria.getId());
+
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", CacheConfig.REGIAO_CATEGORIA)
+                .tag("result", "hit")
+                .functionCounter());
+    }
+
+}
@@ -6,6 +6,7 @@ import br.com.tarefas_api.exception.CategoriaComItensException;
 import br.com.tarefas_api.exception.CategoriaJaExistenteException;
 import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
 import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.CategoriaResumo;
 import br.com.tarefas_api.repository.ItemRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +36,9 @@ class CategoriaServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Categoria categoria;
 
     private CategoriaDTO categoriaDTO;
@@ -78,7 +83,7 @@ class CategoriaServiceTest {
 
     @Test
     void deveListarTodasCategorias() {
-        when(categoriaRepository.findAll()).thenReturn(List.of(categoria));
+        when(categoriaRepository.findResumos()).thenReturn(List.of(new CategoriaResumo(categoriaId, "Trabalho")));
 
         List<CategoriaDTO> resultado = categoriaService.listarCategorias();
 
@@ -108,18 +113,36 @@ class CategoriaServiceTest {
                 .hasMessage("Categoria não encontrada com ID: " + categoriaId);
     }
 
+    @Test
+    void deveValidarCategoriaExistente() {
+        when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.of(categoria));
+
+        categoriaService.validarCategoriaExistente(categoriaId);
+
+        verify(categoriaRepository).findById(categoriaId);
+    }
+
+    @Test
+    void deveLancarExcecaoAoValidarCategoriaInexistente() {
+        when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> categoriaService.validarCategoriaExistente(categoriaId))
+                .isInstanceOf(CategoriaNaoEncontradaException.class);
+    }
+
     @Test
     void deveAtualizarCategoriaComSucesso() {
         when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.of(categoria));
-        when(itemRepository.existsByCategoriaId(categoriaId)).thenReturn(false);
+        when(itemRepository.existsAtivoOuArquivadoByCategoriaId(categoriaId)).thenReturn(false);
         when(categoriaRepository.findByNome("Trabalho Atualizado")).thenReturn(Optional.empty());
-        when(categoriaRepository.save(any())).thenReturn(categoria);
 
         CategoriaDTO atualizadoDTO = new CategoriaDTO(null, "Trabalho Atualizado");
         CategoriaDTO resultado = categoriaService.atualizarCategoria(categoriaId, atualizadoDTO);
 
         assertThat(resultado.getNome()).isEqualTo("Trabalho Atualizado");
-        verify(categoriaRepository).save(any());
+        assertThat(categoria.getNome()).isEqualTo("Trabalho Atualizado");
+        assertThat(categoria.getDataAtualizacao()).isNotNull();
+        verify(categoriaRepository, never()).save(any());
     }
 
     @Test
@@ -133,7 +156,7 @@ class CategoriaServiceTest {
     @Test
     void deveLancarExcecaoAoAtualizarCategoriaComItens() {
         when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.of(categoria));
-        when(itemRepository.existsByCategoriaId(categoriaId)).thenReturn(true);
+        when(itemRepository.existsAtivoOuArquivadoByCategoriaId(categoriaId)).thenReturn(true);
 
         assertThatThrownBy(() -> categoriaService.atualizarCategoria(categoriaId, categoriaDTO))
                 .isInstanceOf(CategoriaComItensException.class);
@@ -142,11 +165,12 @@ class CategoriaServiceTest {
     @Test
     void deveExcluirCategoriaComSucesso() {
         when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.of(categoria));
-        when(itemRepository.existsByCategoriaId(categoriaId)).thenReturn(false);
+        when(itemRepository.existsAtivoOuArquivadoByCategoriaId(categoriaId)).thenReturn(false);
 
         categoriaService.excluirCategoria(categoriaId);
 
-        verify(categoriaRepository).delete(categoria);
+        verify(categoriaRepository).excluirPorId(categoriaId);
+        verify(eventPublisher).publishEvent(CategoriaAlteradaEvento.removido(categoriaId));
     }
 
     @Test
@@ -160,7 +184,7 @@ class CategoriaServiceTest {
     @Test
     void deveLancarExcecaoAoExcluirCategoriaComItens() {
         when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.of(categoria));
-        when(itemRepository.existsByCategoriaId(categoriaId)).thenReturn(true);
+        when(itemRepository.existsAtivoOuArquivadoByCategoriaId(categoriaId)).thenReturn(true);
 
         assertThatThrownBy(() -> categoriaService.excluirCategoria(categoriaId))
                 .isInstanceOf(CategoriaComItensException.class);
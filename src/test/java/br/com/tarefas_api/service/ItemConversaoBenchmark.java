@@ -0,0 +1,116 @@
+package br.com.tarefas_api.service;
+
+import br.com.tarefas_api.domain.UuidV7Generator;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.repository.CategoriaEstatisticaRepository;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.ItemResumo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Microbenchmark do caminho de resposta das listagens de itens: conversão projeção → DTO,
+ * serialização JSON da lista de ItemDTO e serialização direta das projeções, para listas de 1 a 100 mil itens.
+ * A lista é obtida de {@link ItemService#listarItensDaCategoria(UUID)}, com os repositórios substituídos por stubs,
+ * de modo que a conversão medida é a mesma da aplicação.
+ * Executar com: mvn test -Pjmh -Djmh.filtro=ItemConversaoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemConversaoBenchmark {
+
+    @Param({"1", "100", "1000", "10000", "100000"})
+    private int tamanho;
+
+    private final UUID categoriaId = UuidV7Generator.gerar();
+
+    private ItemService itemService;
+
+    /**
+     * Mesma configuração padrão do ObjectMapper criado pelo Spring Boot.
+     */
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<ItemDTO> itensDTO;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        LocalDateTime agora = LocalDateTime.of(2025, 1, 10, 9, 30);
+        List<ItemResumo> resumos = IntStream.range(0, tamanho)
+                .mapToObj(i -> new ItemResumo(
+                        UuidV7Generator.gerar(),
+                        "Item de benchmark " + i,
+                        i % 2 == 0,
+                        agora,
+                        agora.plusMinutes(i),
+                        i % 3 == 0 ? null : agora.plusDays(i % 30),
+                        categoriaId))
+                .toList();
+        // stubOnly: as chamadas não são registradas para verificação, evitando acumular memória entre as iterações
+        ItemRepository itemRepository = mock(ItemRepository.class, withSettings().stubOnly());
+        when(itemRepository.findResumosByCategoriaId(categoriaId)).thenReturn(resumos);
+        itemService = new ItemService(itemRepository,
+                mock(CategoriaRepository.class, withSettings().stubOnly()),
+                mock(CategoriaEstatisticaRepository.class, withSettings().stubOnly()),
+                mock(CategoriaService.class, withSettings().stubOnly()),
+                mock(ApplicationEventPublisher.class, withSettings().stubOnly()));
+        itensDTO = converter();
+    }
+
+    /**
+     * Conversão de cada projeção para ItemDTO, pelo acesso à listagem como List.
+     */
+    @Benchmark
+    public List<ItemDTO> converter() {
+        return List.copyOf(itemService.listarItensDaCategoria(categoriaId));
+    }
+
+    @Benchmark
+    public void serializar() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), itensDTO);
+    }
+
+    @Benchmark
+    public void converterESerializar() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), converter());
+    }
+
+    /**
+     * Caminho usado pelas listagens: as projeções são escritas diretamente no JsonGenerator.
+     */
+    @Benchmark
+    public void serializarProjecoes() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), itemService.listarItensDaCategoria(categoriaId));
+    }
+
+}
@@ -0,0 +1,275 @@
+package br.com.tarefas_api.service;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.ListaItensDTO;
+import br.com.tarefas_api.dto.OperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.PaginaItensDTO;
+import br.com.tarefas_api.dto.ResultadoOperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.ResumoCategoriaDTO;
+import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
+import br.com.tarefas_api.exception.ConflitoDeVersaoException;
+import br.com.tarefas_api.repository.CategoriaEstatisticaRepository;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.ResumoCategoria;
+import br.com.tarefas_api.support.ContadorDeQueries;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, contra um PostgreSQL real, o SQL executado pelas operações de itens: colunas do update, contadores da
+ * categoria, cache e projeções. A quantidade de comandos de cada método fica em {@link OrcamentoDeQueriesTest}.
+ */
+// O agendador de prazos e o relay do outbox consultam o banco em segundo plano e interfeririam na contagem de comandos
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.tarefas_api.support.ContadorDeQueries",
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class ItemServiceQueryCountTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private CategoriaEstatisticaService categoriaEstatisticaService;
+
+    @Autowired
+    private CategoriaEstatisticaRepository categoriaEstatisticaRepository;
+
+    private Categoria categoria;
+
+    private ItemDTO itemDTO;
+
+    @BeforeEach
+    void setUp() {
+        categoria = categoriaRepository.save(Categoria.builder()
+                .nome("Trabalho")
+                .dataAtualizacao(LocalDateTime.now())
+                .build());
+        itemDTO = ItemDTO.builder()
+                .descricao("Finalizar relatório")
+                .dataLimite("31/12/2025 22:00")
+                .categoriaId(categoria.getId())
+                .build();
+        ContadorDeQueries.zerar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void criarItem_DeveGravarOOutboxPorUltimo() {
+        itemService.criarItem(itemDTO);
+
+        assertTrue(ContadorDeQueries.comandos().get(2).startsWith("INSERT INTO outbox"));
+    }
+
+    @Test
+    void criarItem_DeveTraduzirViolacaoDaChaveEstrangeira() {
+        ItemDTO semCategoria = ItemDTO.builder()
+                .descricao("Finalizar relatório")
+                .categoriaId(UUID.randomUUID())
+                .build();
+
+        assertThrows(CategoriaNaoEncontradaException.class, () -> itemService.criarItem(semCategoria));
+        assertEquals(0, itemRepository.count());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveAtualizarSomenteAsColunasAlteradas() throws Exception {
+        UUID itemId = itemService.criarItem(itemDTO).getId();
+        ContadorDeQueries.zerar();
+
+        itemService.atualizarItemParcialmente(itemId, new ObjectMapper().readTree("{\"concluido\": true}"), List.of(0L));
+
+        assertEquals("update item set concluido=?,data_atualizacao=?,versao=? where id=? and versao=?",
+                ContadorDeQueries.comandos().get(1));
+        assertEquals(1L, itemRepository.findById(itemId).orElseThrow().getVersao());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveLancarConflito_QuandoVersaoDesatualizada() throws Exception {
+        UUID itemId = itemService.criarItem(itemDTO).getId();
+        itemService.atualizarItemParcialmente(itemId, new ObjectMapper().readTree("{\"concluido\": true}"), List.of(0L));
+
+        assertThrows(ConflitoDeVersaoException.class, () -> itemService.atualizarItemParcialmente(
+                itemId, new ObjectMapper().readTree("{\"descricao\": \"Revisar relatório\"}"), List.of(0L)));
+        assertEquals("Finalizar relatório", itemRepository.findById(itemId).orElseThrow().getDescricao());
+    }
+
+    @Test
+    void removerItem_DeveExcluirOItem() {
+        UUID itemId = itemService.criarItem(itemDTO).getId();
+
+        itemService.removerItem(itemId);
+
+        assertFalse(itemRepository.existsById(itemId));
+    }
+
+    @Test
+    void operacoesEmMassa_DevemAjustarItensEContadores() {
+        Categoria destino = categoriaRepository.save(Categoria.builder()
+                .nome("Pessoal")
+                .dataAtualizacao(LocalDateTime.now())
+                .build());
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(itemService.criarItem(itemDTO).getId());
+        }
+
+        ResultadoOperacaoEmMassaDTO concluidos = itemService.concluirItens(
+                OperacaoEmMassaDTO.builder().ids(ids.subList(0, 3)).build());
+        assertEquals(3, concluidos.getAfetados());
+        assertEquals(1L, itemRepository.findById(ids.get(0)).orElseThrow().getVersao());
+
+        ResultadoOperacaoEmMassaDTO movidos = itemService.moverItens(OperacaoEmMassaDTO.builder()
+                .idCategoria(categoria.getId())
+                .idCategoriaDestino(destino.getId())
+                .build());
+        assertEquals(5, movidos.getAfetados());
+
+        ResultadoOperacaoEmMassaDTO excluidos = itemService.excluirItens(OperacaoEmMassaDTO.builder()
+                .idCategoria(destino.getId())
+                .somenteConcluidos(true)
+                .build());
+        assertEquals(3, excluidos.getAfetados());
+        assertEquals(2, itemRepository.count());
+        assertEquals(0, resumo(categoria.getId()).total());
+        assertEquals(new ResumoCategoria(destino.getId(), "Pessoal", 2, 0, 2), resumo(destino.getId()));
+    }
+
+    @Test
+    void escritasDeItens_DevemManterOsContadoresDaCategoria() throws Exception {
+        Categoria destino = categoriaRepository.save(Categoria.builder()
+                .nome("Pessoal")
+                .dataAtualizacao(LocalDateTime.now())
+                .build());
+        UUID vencido = itemService.criarItem(itemDTO).getId();
+        UUID concluido = itemService.criarItem(itemDTO).getId();
+        UUID movido = itemService.criarItem(itemDTO).getId();
+        itemService.criarItensEmLote(List.of(itemDTO, itemDTO));
+
+        itemService.atualizarItemParcialmente(concluido, new ObjectMapper().readTree("{\"concluido\": true}"), List.of(0L));
+        itemService.atualizarItem(movido, ItemDTO.builder()
+                .descricao("Finalizar relatório")
+                .concluido(true)
+                .categoriaId(destino.getId())
+                .build());
+        itemService.removerItem(vencido);
+
+        assertEquals(new ResumoCategoria(categoria.getId(), "Trabalho", 3, 1, 2), resumo(categoria.getId()));
+        assertEquals(new ResumoCategoria(destino.getId(), "Pessoal", 1, 1, 0), resumo(destino.getId()));
+    }
+
+    @Test
+    void escritasDeItens_NaoDevemInvalidarOCacheDeCategoria() {
+        itemService.criarItem(itemDTO);
+        ContadorDeQueries.zerar();
+
+        categoriaRepository.findById(categoria.getId());
+
+        assertEquals(0, ContadorDeQueries.total());
+    }
+
+    @Test
+    void reconciliar_DeveReconstruirContadoresDivergentes() {
+        itemService.criarItem(itemDTO);
+        itemService.criarItem(itemDTO);
+        categoriaEstatisticaRepository.deleteAllInBatch();
+        assertEquals(0, resumo(categoria.getId()).total());
+
+        ContadorDeQueries.zerar();
+        int reconciliadas = categoriaEstatisticaService.reconciliar();
+
+        assertEquals(1, reconciliadas);
+        assertEquals(2, ContadorDeQueries.total());
+        assertEquals(2, resumo(categoria.getId()).total());
+    }
+
+    @Test
+    void listarResumo_DeveTrazerTotaisEVencidosDosContadores() {
+        for (int i = 0; i < 3; i++) {
+            itemService.criarItem(itemDTO);
+        }
+
+        List<ResumoCategoriaDTO> resumo = categoriaService.listarResumo();
+
+        assertEquals(1, resumo.size());
+        assertEquals(3, resumo.get(0).getTotal());
+        assertEquals(3, resumo.get(0).getVencidos());
+    }
+
+    @Test
+    void moverItens_DeveTraduzirViolacaoDaChaveEstrangeira() {
+        UUID itemId = itemService.criarItem(itemDTO).getId();
+        OperacaoEmMassaDTO operacao = OperacaoEmMassaDTO.builder()
+                .ids(List.of(itemId))
+                .idCategoriaDestino(UUID.randomUUID())
+                .build();
+
+        assertThrows(CategoriaNaoEncontradaException.class, () -> itemService.moverItens(operacao));
+        assertEquals(categoria.getId(), itemRepository.findById(itemId).orElseThrow().getCategoria().getId());
+    }
+
+    @Test
+    void listagens_DevemConsultarProjecoesSemCarregarEntidades() {
+        for (int i = 0; i < 5; i++) {
+            itemService.criarItem(itemDTO);
+        }
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        ListaItensDTO itens = itemService.listarItensDaCategoria(categoria.getId());
+        PaginaItensDTO primeiraPagina = itemService.listarItensDaCategoriaPaginado(categoria.getId(), null, 3);
+        PaginaItensDTO segundaPagina = itemService.listarItensDaCategoriaPaginado(
+                categoria.getId(), primeiraPagina.getProximoCursor(), 3);
+
+        assertEquals(5, itens.size());
+        assertEquals(3, primeiraPagina.getItens().size());
+        assertEquals(2, segundaPagina.getItens().size());
+        assertNull(segundaPagina.getProximoCursor());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+    }
+
+    private ResumoCategoria resumo(UUID categoriaId) {
+        return categoriaRepository.findResumosComContadores(LocalDateTime.now()).stream()
+                .filter(resumo -> resumo.id().equals(categoriaId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+}
@@ -3,22 +3,49 @@ package br.com.tarefas_api.service;
 import br.com.tarefas_api.domain.Categoria;
 import br.com.tarefas_api.domain.Item;
 import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.OperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.PaginaItensDTO;
+import br.com.tarefas_api.dto.ResultadoLoteItemDTO;
+import br.com.tarefas_api.dto.ResultadoOperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.VersaoDTO;
+import br.com.tarefas_api.exception.AtualizacaoParcialInvalidaException;
 import br.com.tarefas_api.exception.CategoriaNaoEncontradaException;
+import br.com.tarefas_api.exception.ConflitoDeVersaoException;
+import br.com.tarefas_api.exception.CursorInvalidoException;
 import br.com.tarefas_api.exception.ItemNaoEncontradoException;
+import br.com.tarefas_api.exception.LoteExcedeLimiteException;
+import br.com.tarefas_api.exception.OperacaoEmMassaInvalidaException;
+import br.com.tarefas_api.repository.CategoriaEstatisticaRepository;
 import br.com.tarefas_api.repository.CategoriaRepository;
 import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.ItemResumo;
+import br.com.tarefas_api.repository.ItensAfetadosPorCategoria;
+import br.com.tarefas_api.repository.VersaoAgregada;
+import br.com.tarefas_api.repository.VersaoRegistro;
+import br.com.tarefas_api.utils.CursorUtils;
 import br.com.tarefas_api.utils.DateUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +60,15 @@ class ItemServiceTest {
     @Mock
     private CategoriaRepository categoriaRepository;
 
+    @Mock
+    private CategoriaEstatisticaRepository categoriaEstatisticaRepository;
+
+    @Mock
+    private CategoriaService categoriaService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ItemService itemService;
 
@@ -51,7 +87,7 @@ class ItemServiceTest {
         categoriaId = UUID.randomUUID();
         itemId = UUID.randomUUID();
 
-        categoria = new Categoria(categoriaId, "Trabalho", new ArrayList<>());
+        categoria = Categoria.builder().id(categoriaId).nome("Trabalho").itens(new ArrayList<>()).build();
         item = Item.builder()
                 .id(itemId)
                 .descricao("Finalizar relatório")
@@ -70,34 +106,86 @@ class ItemServiceTest {
 
     @Test
     void criarItem_DeveCriarItemComSucesso() {
-        when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.of(categoria));
-        when(itemRepository.save(any(Item.class))).thenReturn(item);
+        when(categoriaRepository.getReferenceById(categoriaId)).thenReturn(categoria);
+        when(itemRepository.saveAndFlush(any(Item.class))).thenReturn(item);
 
         ItemDTO resultado = itemService.criarItem(itemDTO);
 
         assertNotNull(resultado);
         assertEquals(itemDTO.getDescricao(), resultado.getDescricao());
-        verify(itemRepository).save(any(Item.class));
+        verify(itemRepository).saveAndFlush(any(Item.class));
+        verify(categoriaRepository, never()).findById(any());
+        verify(categoriaEstatisticaRepository).ajustar(categoriaId, 1, 0);
+        verify(eventPublisher).publishEvent(argThat((Object evento) -> evento instanceof ItemAlteradoEvento alterado
+        && alterado.tipo() == ItemAlteradoEvento.Tipo.CRIADO
+        && alterado.id().equals(itemId)
+        && alterado.categoriaId().equals(categoriaId)));
     }
 
     @Test
     void criarItem_DeveLancarExcecao_QuandoCategoriaNaoExiste() {
-        when(categoriaRepository.findById(itemDTO.getCategoriaId())).thenReturn(Optional.empty());
+        when(categoriaRepository.getReferenceById(categoriaId)).thenReturn(categoria);
+        when(itemRepository.saveAndFlush(any(Item.class))).thenThrow(violacaoDaChaveEstrangeira("fk_item_categoria"));
 
         assertThrows(CategoriaNaoEncontradaException.class, () -> itemService.criarItem(itemDTO));
     }
 
+    @Test
+    void criarItem_DevePropagarOutrasViolacoesDeIntegridade() {
+        when(categoriaRepository.getReferenceById(categoriaId)).thenReturn(categoria);
+        when(itemRepository.saveAndFlush(any(Item.class))).thenThrow(violacaoDaChaveEstrangeira("outra_constraint"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> itemService.criarItem(itemDTO));
+    }
+
     @Test
     void atualizarItem_DeveAtualizarComSucesso() {
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
-        when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.of(categoria));
-        when(itemRepository.save(any(Item.class))).thenReturn(item);
+        when(itemRepository.saveAndFlush(any(Item.class))).thenReturn(item);
 
         ItemDTO resultado = itemService.atualizarItem(itemId, itemDTO);
 
         assertNotNull(resultado);
         assertEquals(itemDTO.getDescricao(), resultado.getDescricao());
-        verify(itemRepository).save(any(Item.class));
+        verify(itemRepository).saveAndFlush(any(Item.class));
+        verifyNoInteractions(categoriaRepository);
+        verifyNoInteractions(categoriaEstatisticaRepository);
+    }
+
+    @Test
+    void atualizarItem_DeveReferenciarNovaCategoria_QuandoCategoriaMuda() {
+        UUID novaCategoriaId = UUID.randomUUID();
+        Categoria novaCategoria = Categoria.builder().id(novaCategoriaId).nome("Pessoal").itens(new ArrayList<>()).build();
+        ItemDTO dtoComNovaCategoria = ItemDTO.builder()
+                .descricao("Finalizar relatório")
+                .categoriaId(novaCategoriaId)
+                .build();
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(categoriaRepository.getReferenceById(novaCategoriaId)).thenReturn(novaCategoria);
+        when(itemRepository.saveAndFlush(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ItemDTO resultado = itemService.atualizarItem(itemId, dtoComNovaCategoria);
+
+        assertEquals(novaCategoriaId, resultado.getCategoriaId());
+        verify(categoriaRepository, never()).findById(any());
+        verify(categoriaEstatisticaRepository).ajustar(categoriaId, -1, 0);
+        verify(categoriaEstatisticaRepository).ajustar(novaCategoriaId, 1, 0);
+    }
+
+    @Test
+    void atualizarItem_DeveLancarExcecao_QuandoNovaCategoriaNaoExiste() {
+        UUID novaCategoriaId = UUID.randomUUID();
+        ItemDTO dtoComNovaCategoria = ItemDTO.builder()
+                .descricao("Finalizar relatório")
+                .categoriaId(novaCategoriaId)
+                .build();
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(categoriaRepository.getReferenceById(novaCategoriaId))
+                .thenReturn(Categoria.builder().id(novaCategoriaId).build());
+        when(itemRepository.saveAndFlush(any(Item.class))).thenThrow(violacaoDaChaveEstrangeira("fk_item_categoria"));
+
+        assertThrows(CategoriaNaoEncontradaException.class, () -> itemService.atualizarItem(itemId, dtoComNovaCategoria));
+        verifyNoInteractions(categoriaEstatisticaRepository);
     }
 
     @Test
@@ -107,10 +195,28 @@ class ItemServiceTest {
         assertThrows(ItemNaoEncontradoException.class, () -> itemService.atualizarItem(itemId, itemDTO));
     }
 
+    @Test
+    void listarItensVencidos_DeveLimitarQuantidadeDeItens() {
+        when(itemRepository.findVencidos(any(LocalDateTime.class), eq(Limit.of(ItemService.LIMITE_MAXIMO_PAGINA))))
+                .thenReturn(List.of(resumo(item)));
+
+        List<ItemDTO> resultado = itemService.listarItensVencidos(100_000);
+
+        assertEquals(1, resultado.size());
+        assertEquals(itemId, resultado.get(0).getId());
+    }
+
+    @Test
+    void listarProximosItens_DeveConsultarOTopKPelaDataLimite() {
+        when(itemRepository.findProximos(any(LocalDateTime.class), eq(Limit.of(5)))).thenReturn(List.of());
+
+        assertTrue(itemService.listarProximosItens(5).isEmpty());
+        verifyNoInteractions(categoriaRepository);
+    }
+
     @Test
     void listarItens_DeveRetornarListaDeItens() {
-        when(categoriaRepository.findById(categoriaId)).thenReturn(Optional.of(categoria));
-        when(itemRepository.findByCategoriaId(categoriaId)).thenReturn(List.of(item));
+        when(itemRepository.findResumosByCategoriaId(categoriaId)).thenReturn(List.of(resumo(item)));
 
         List<ItemDTO> resultado = itemService.listarItensDaCategoria(categoriaId);
 
@@ -135,20 +241,293 @@ class ItemServiceTest {
         assertThrows(ItemNaoEncontradoException.class, () -> itemService.buscarPorId(itemId));
     }
 
+    @Test
+    void buscarVersao_DeveGerarEtagPelaVersaoDoItem() {
+        LocalDateTime ultimaModificacao = LocalDateTime.of(2025, 3, 10, 9, 51);
+        when(itemRepository.findVersaoById(itemId)).thenReturn(Optional.of(new VersaoRegistro(26L, ultimaModificacao)));
+
+        VersaoDTO versao = itemService.buscarVersao(itemId);
+
+        assertEquals(ultimaModificacao, versao.getUltimaModificacao());
+        assertEquals("1a", versao.getEtag());
+        verify(itemRepository, never()).findById(any());
+    }
+
+    @Test
+    void buscarVersao_DeveLancarExcecao_QuandoItemNaoExiste() {
+        when(itemRepository.findVersaoById(itemId)).thenReturn(Optional.empty());
+
+        assertThrows(ItemNaoEncontradoException.class, () -> itemService.buscarVersao(itemId));
+    }
+
+    @Test
+    void buscarVersaoDosItensDaCategoria_DeveMudarQuandoQuantidadeMuda() {
+        LocalDateTime ultimaModificacao = LocalDateTime.of(2025, 3, 10, 9, 51);
+        when(itemRepository.findVersaoAgregadaByCategoriaId(categoriaId))
+                .thenReturn(Optional.of(new VersaoAgregada(2L, ultimaModificacao)),
+                        Optional.of(new VersaoAgregada(1L, ultimaModificacao)));
+
+        VersaoDTO antes = itemService.buscarVersaoDosItensDaCategoria(categoriaId);
+        VersaoDTO depois = itemService.buscarVersaoDosItensDaCategoria(categoriaId);
+
+        assertNotEquals(antes.getEtag(), depois.getEtag());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveAlterarSomenteOsCamposInformados() throws Exception {
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(itemRepository.saveAndFlush(item)).thenReturn(item);
+
+        ItemDTO resultado = itemService.atualizarItemParcialmente(itemId, json("{\"concluido\": true}"), null);
+
+        assertTrue(resultado.isConcluido());
+        assertEquals("Finalizar relatório", resultado.getDescricao());
+        assertEquals(LocalDate.of(2025, 12, 31).atStartOfDay(), item.getDataLimite());
+        assertNotNull(item.getDataAtualizacao());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveRemoverDataLimite_QuandoValorNulo() throws Exception {
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(itemRepository.saveAndFlush(item)).thenReturn(item);
+
+        itemService.atualizarItemParcialmente(itemId, json("{\"dataLimite\": null}"), null);
+
+        assertNull(item.getDataLimite());
+    }
+
+    @Test
+    void atualizarItemParcialmente_NaoDeveGravar_QuandoNadaMuda() throws Exception {
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+
+        itemService.atualizarItemParcialmente(itemId, json("{\"concluido\": false}"), null);
+
+        verify(itemRepository, never()).saveAndFlush(any());
+        assertNull(item.getDataAtualizacao());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveLancarConflito_QuandoVersaoEsperadaDiverge() throws Exception {
+        item = Item.builder().id(itemId).descricao("Finalizar relatório").categoria(categoria).versao(3L).build();
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+
+        assertThrows(ConflitoDeVersaoException.class,
+                () -> itemService.atualizarItemParcialmente(itemId, json("{\"concluido\": true}"), List.of(2L)));
+        verify(itemRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveAtualizar_QuandoAlgumaVersaoEsperadaCorresponde() throws Exception {
+        item = Item.builder().id(itemId).descricao("Finalizar relatório").categoria(categoria).versao(3L).build();
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(itemRepository.saveAndFlush(item)).thenReturn(item);
+
+        ItemDTO resultado = itemService.atualizarItemParcialmente(itemId, json("{\"concluido\": true}"), List.of(2L, 3L));
+
+        assertTrue(resultado.isConcluido());
+    }
+
+    @Test
+    void atualizarItem_DeveLancarConflito_QuandoVersaoEsperadaDiverge() {
+        item = Item.builder().id(itemId).descricao("Finalizar relatório").categoria(categoria).versao(3L).build();
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+
+        assertThrows(ConflitoDeVersaoException.class, () -> itemService.atualizarItem(itemId, itemDTO, List.of(2L)));
+        verify(itemRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveLancarConflito_QuandoItemAlteradoDuranteAtualizacao() throws Exception {
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(itemRepository.saveAndFlush(item)).thenThrow(new ObjectOptimisticLockingFailureException(Item.class, itemId));
+
+        assertThrows(ConflitoDeVersaoException.class,
+                () -> itemService.atualizarItemParcialmente(itemId, json("{\"concluido\": true}"), null));
+    }
+
+    @Test
+    void atualizarItemParcialmente_DeveLancarExcecao_QuandoCampoInvalido() throws Exception {
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+
+        assertThrows(AtualizacaoParcialInvalidaException.class,
+                () -> itemService.atualizarItemParcialmente(itemId, json("{\"dataCriacao\": \"01/01/2025 10:00\"}"), null));
+        assertThrows(AtualizacaoParcialInvalidaException.class,
+                () -> itemService.atualizarItemParcialmente(itemId, json("{\"concluido\": \"sim\"}"), null));
+        assertThrows(AtualizacaoParcialInvalidaException.class,
+                () -> itemService.atualizarItemParcialmente(itemId, json("{\"descricao\": null}"), null));
+    }
+
     @Test
     void removerItem_DeveRemoverComSucesso() {
-        when(itemRepository.existsById(itemId)).thenReturn(true);
-        doNothing().when(itemRepository).deleteById(itemId);
+        when(itemRepository.excluirPorId(itemId)).thenReturn(Optional.of(categoriaId));
 
         assertDoesNotThrow(() -> itemService.removerItem(itemId));
-        verify(itemRepository).deleteById(itemId);
+        verify(itemRepository).excluirPorId(itemId);
+        verify(eventPublisher).publishEvent(ItemAlteradoEvento.removido(itemId, categoriaId));
     }
 
     @Test
     void removerItem_DeveLancarExcecao_QuandoItemNaoExiste() {
-        when(itemRepository.existsById(itemId)).thenReturn(false);
+        when(itemRepository.excluirPorId(itemId)).thenReturn(Optional.empty());
 
         assertThrows(ItemNaoEncontradoException.class, () -> itemService.removerItem(itemId));
     }
 
+    @Test
+    void concluirItens_DeveConcluirPorCategoria() {
+        when(itemRepository.concluirPorCategoria(eq(categoriaId), any(LocalDateTime.class))).thenReturn(List.of(afetados(categoriaId, 3)));
+
+        ResultadoOperacaoEmMassaDTO resultado = itemService.concluirItens(
+                OperacaoEmMassaDTO.builder().idCategoria(categoriaId).build());
+
+        assertEquals(3, resultado.getAfetados());
+        verify(eventPublisher).publishEvent(new ItensAlteradosEmMassaEvento(Set.of(categoriaId)));
+    }
+
+    @Test
+    void excluirItens_DeveExcluirSomenteConcluidosPorIds() {
+        when(itemRepository.excluirPorIds(new UUID[]{itemId}, true)).thenReturn(List.of(afetados(categoriaId, 1)));
+
+        ResultadoOperacaoEmMassaDTO resultado = itemService.excluirItens(
+                OperacaoEmMassaDTO.builder().ids(List.of(itemId)).somenteConcluidos(true).build());
+
+        assertEquals(1, resultado.getAfetados());
+    }
+
+    @Test
+    void operacoesEmMassa_DevemRejeitarSelecaoInvalida() {
+        assertThrows(OperacaoEmMassaInvalidaException.class,
+                () -> itemService.concluirItens(OperacaoEmMassaDTO.builder().build()));
+        assertThrows(OperacaoEmMassaInvalidaException.class, () -> itemService.excluirItens(
+                OperacaoEmMassaDTO.builder().idCategoria(categoriaId).ids(List.of(itemId)).build()));
+        assertThrows(OperacaoEmMassaInvalidaException.class,
+                () -> itemService.moverItens(OperacaoEmMassaDTO.builder().ids(List.of(itemId)).build()));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void listarItensPaginado_DeveRetornarPrimeiraPaginaComCursor() {
+        Item segundo = Item.builder()
+                .id(UUID.randomUUID())
+                .descricao("Revisar relatório")
+                .dataCriacao(LocalDateTime.of(2025, 3, 10, 9, 51))
+                .categoria(categoria)
+                .build();
+        item = Item.builder()
+                .id(itemId)
+                .descricao("Finalizar relatório")
+                .dataCriacao(LocalDateTime.of(2025, 3, 10, 9, 50))
+                .categoria(categoria)
+                .build();
+        when(itemRepository.findPrimeiraPaginaByCategoriaId(categoriaId, Limit.of(2)))
+                .thenReturn(List.of(resumo(item), resumo(segundo)));
+
+        PaginaItensDTO resultado = itemService.listarItensDaCategoriaPaginado(categoriaId, null, 1);
+
+        assertEquals(1, resultado.getItens().size());
+        assertEquals(itemId, resultado.getItens().get(0).getId());
+        CursorUtils.Posicao posicao = CursorUtils.decodificar(resultado.getProximoCursor());
+        assertEquals(item.getDataCriacao(), posicao.data());
+        assertEquals(itemId, posicao.id());
+    }
+
+    @Test
+    void listarItensPaginado_DeveBuscarAposCursor_SemProximaPaginaNaUltimaPagina() {
+        LocalDateTime dataCriacao = LocalDateTime.of(2025, 3, 10, 9, 50);
+        String cursor = CursorUtils.codificar(dataCriacao, itemId);
+        when(itemRepository.findPaginaByCategoriaIdAposCursor(categoriaId, dataCriacao, itemId, Limit.of(51)))
+                .thenReturn(List.of(resumo(item)));
+
+        PaginaItensDTO resultado = itemService.listarItensDaCategoriaPaginado(categoriaId, cursor, 50);
+
+        assertEquals(1, resultado.getItens().size());
+        assertNull(resultado.getProximoCursor());
+    }
+
+    @Test
+    void listarItensPaginado_DeveLimitarTamanhoDaPagina() {
+        when(itemRepository.findPrimeiraPaginaByCategoriaId(categoriaId, Limit.of(ItemService.LIMITE_MAXIMO_PAGINA + 1)))
+                .thenReturn(List.of());
+
+        PaginaItensDTO resultado = itemService.listarItensDaCategoriaPaginado(categoriaId, null, 100_000);
+
+        assertTrue(resultado.getItens().isEmpty());
+        assertNull(resultado.getProximoCursor());
+    }
+
+    @Test
+    void listarItensPaginado_DeveLancarExcecao_QuandoCursorInvalido() {
+
+        assertThrows(CursorInvalidoException.class,
+                () -> itemService.listarItensDaCategoriaPaginado(categoriaId, "cursor-invalido", 10));
+    }
+
+    @Test
+    void listarItensPaginado_DeveLancarExcecao_QuandoCategoriaNaoExiste() {
+        doThrow(new CategoriaNaoEncontradaException(categoriaId)).when(categoriaService)
+                .validarCategoriaExistente(categoriaId);
+
+        assertThrows(CategoriaNaoEncontradaException.class,
+                () -> itemService.listarItensDaCategoriaPaginado(categoriaId, null, 10));
+    }
+
+    @Test
+    void criarItensEmLote_DeveCriarValidosERejeitarInvalidos() {
+        UUID categoriaInexistente = UUID.randomUUID();
+        ItemDTO semDescricao = ItemDTO.builder().categoriaId(categoriaId).build();
+        ItemDTO categoriaNaoEncontrada = ItemDTO.builder().descricao("Outra tarefa").categoriaId(categoriaInexistente).build();
+        ItemDTO dataInvalida = ItemDTO.builder().descricao("Outra tarefa").dataLimite("2025-12-31").categoriaId(categoriaId).build();
+        when(categoriaRepository.findAllById(List.of(categoriaId, categoriaInexistente))).thenReturn(List.of(categoria));
+        when(itemRepository.saveAll(anyList())).thenReturn(List.of(item));
+
+        List<ResultadoLoteItemDTO> resultados = itemService.criarItensEmLote(
+                List.of(semDescricao, itemDTO, categoriaNaoEncontrada, dataInvalida));
+
+        assertEquals(4, resultados.size());
+        assertEquals(ResultadoLoteItemDTO.Status.REJEITADO, resultados.get(0).getStatus());
+        assertEquals(ResultadoLoteItemDTO.Status.CRIADO, resultados.get(1).getStatus());
+        assertEquals(itemId, resultados.get(1).getId());
+        assertEquals(ResultadoLoteItemDTO.Status.REJEITADO, resultados.get(2).getStatus());
+        assertEquals(ResultadoLoteItemDTO.Status.REJEITADO, resultados.get(3).getStatus());
+        assertEquals(3, resultados.get(3).getLinha());
+        verify(categoriaRepository, times(1)).findAllById(anyList());
+        verify(categoriaRepository, never()).findById(any());
+    }
+
+    @Test
+    void criarItensEmLote_DeveLancarExcecao_QuandoLoteExcedeLimite() {
+        List<ItemDTO> itens = Collections.nCopies(ItemService.LIMITE_MAXIMO_LOTE + 1, itemDTO);
+
+        assertThrows(LoteExcedeLimiteException.class, () -> itemService.criarItensEmLote(itens));
+        verifyNoInteractions(itemRepository);
+    }
+
+    private JsonNode json(String conteudo) throws Exception {
+        return new ObjectMapper().readTree(conteudo);
+    }
+
+    private DataIntegrityViolationException violacaoDaChaveEstrangeira(String constraint) {
+        return new DataIntegrityViolationException("violação de integridade",
+                new ConstraintViolationException("violação de integridade", new SQLException(), constraint));
+    }
+
+    private static ItemResumo resumo(Item item) {
+        return new ItemResumo(item.getId(), item.getDescricao(), item.isConcluido(), item.getDataCriacao(),
+                item.getDataAtualizacao(), item.getDataLimite(), item.getCategoria().getId());
+    }
+
+    private static ItensAfetadosPorCategoria afetados(UUID categoriaId, long quantidade) {
+        return new ItensAfetadosPorCategoria() {
+            @Override
+            public UUID getCategoriaId() {
+                return categoriaId;
+            }
+
+            @Override
+            public long getAfetados() {
+                return quantidade;
+            }
+        };
+    }
+
 }
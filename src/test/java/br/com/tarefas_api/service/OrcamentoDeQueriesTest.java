@@ -0,0 +1,268 @@
+package br.com.tarefas_api.service;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.OperacaoEmMassaDTO;
+import br.com.tarefas_api.dto.ResultadoLoteItemDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.OutboxRepository;
+import br.com.tarefas_api.service.arquivamento.ItensArquivadosService;
+import br.com.tarefas_api.service.arquivo.ExportacaoDeItensService;
+import br.com.tarefas_api.service.arquivo.FormatoDeArquivo;
+import br.com.tarefas_api.service.arquivo.ImportacaoDeItensService;
+import br.com.tarefas_api.support.ContadorDeQueries;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Orçamento exato de comandos SQL de cada método público de {@link ItemService}, {@link CategoriaService},
+ * {@link ImportacaoDeItensService}, {@link ExportacaoDeItensService} e {@link ItensArquivadosService},
+ * medido contra um PostgreSQL real. Cada método é executado com 3 e com 30 itens na categoria (ou no lote), de modo
+ * que um N+1 ou uma ida e volta a mais ao banco quebram o build. Um método público novo sem orçamento também quebra.
+ * <p>
+ * Ao alterar um orçamento, registre no commit o motivo do comando a mais (ou a menos).
+ */
+// O agendador de prazos e o relay do outbox consultam o banco em segundo plano e interfeririam na contagem de comandos
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.tarefas_api.support.ContadorDeQueries",
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class OrcamentoDeQueriesTest {
+
+    private static final List<Integer> QUANTIDADES = List.of(3, 30);
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private ImportacaoDeItensService importacaoDeItensService;
+
+    @Autowired
+    private ExportacaoDeItensService exportacaoDeItensService;
+
+    @Autowired
+    private ItensArquivadosService itensArquivadosService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        limpar();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> itemService() {
+        return verificar(List.of(
+                // Insert do item, ajuste do contador da categoria e outbox; a categoria vem do cache
+                new Orcamento("criarItem", 3, massa -> itemService.criarItem(item(massa.categoriaId(), 0))),
+                // Uma consulta para todas as categorias do lote, insert em lote dos itens, contadores e outbox,
+                // independentemente do tamanho do lote
+                new Orcamento("criarItensEmLote", 4, massa -> itemService.criarItensEmLote(
+                        IntStream.range(0, massa.quantidade()).mapToObj(i -> item(massa.categoriaId(), i)).toList())),
+                new Orcamento("listarItensDaCategoria", 1,
+                        massa -> itemService.listarItensDaCategoria(massa.categoriaId())),
+                new Orcamento("buscarVersaoDosItensDaCategoria", 1,
+                        massa -> itemService.buscarVersaoDosItensDaCategoria(massa.categoriaId())),
+                new Orcamento("listarItensDaCategoriaPaginado", 1,
+                        massa -> itemService.listarItensDaCategoriaPaginado(massa.categoriaId(), null, 10)),
+                new Orcamento("listarItensVencidos", 1, massa -> itemService.listarItensVencidos(50)),
+                new Orcamento("listarProximosItens", 1, massa -> itemService.listarProximosItens(10)),
+                new Orcamento("buscarPorId", 1, massa -> itemService.buscarPorId(massa.itemId())),
+                new Orcamento("buscarVersao", 1, massa -> itemService.buscarVersao(massa.itemId())),
+                // Select do item, update e outbox
+                new Orcamento("atualizarItem", 3, massa -> itemService.atualizarItem(massa.itemId(), ItemDTO.builder()
+                        .descricao("Revisar relatório")
+                        .categoriaId(massa.categoriaId())
+                        .build())),
+                // Select do item, update, ajuste do contador de concluídos e outbox
+                new Orcamento("atualizarItemParcialmente", 4, massa -> itemService.atualizarItemParcialmente(
+                        massa.itemId(), objectMapper.readTree("{\"concluido\": true}"), null)),
+                // Delete com ajuste dos contadores e outbox
+                new Orcamento("removerItem", 2, massa -> itemService.removerItem(massa.itemId())),
+                // Operações em massa: um único comando com contadores e outbox
+                new Orcamento("concluirItens", 1, massa -> itemService.concluirItens(
+                        OperacaoEmMassaDTO.builder().idCategoria(massa.categoriaId()).build())),
+                new Orcamento("excluirItens", 1, massa -> itemService.excluirItens(
+                        OperacaoEmMassaDTO.builder().idCategoria(massa.categoriaId()).build())),
+                new Orcamento("moverItens", 1, massa -> itemService.moverItens(OperacaoEmMassaDTO.builder()
+                        .idCategoria(massa.categoriaId())
+                        .idCategoriaDestino(massa.destinoId())
+                        .build()))));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> categoriaService() {
+        return verificar(List.of(
+                // Nome novo (ausente do cache de natural-id), insert da categoria e outbox
+                new Orcamento("criarCategoria", 3,
+                        massa -> categoriaService.criarCategoria(new CategoriaDTO(null, "Estudos"))),
+                new Orcamento("listarCategorias", 1, massa -> categoriaService.listarCategorias()),
+                new Orcamento("listarResumo", 1, massa -> categoriaService.listarResumo()),
+                new Orcamento("buscarVersaoDasCategorias", 1, massa -> categoriaService.buscarVersaoDasCategorias()),
+                // Servida pelo cache de segundo nível
+                new Orcamento("buscarCategoriaPorId", 0,
+                        massa -> categoriaService.buscarCategoriaPorId(massa.categoriaId())),
+                new Orcamento("validarCategoriaExistente", 0,
+                        massa -> categoriaService.validarCategoriaExistente(massa.categoriaId())),
+                // Existência de itens, nome novo (ausente do cache de natural-id), outbox e update da entidade
+                // gerenciada; a categoria vem do cache
+                new Orcamento("atualizarCategoria", 4, massa -> categoriaService.atualizarCategoria(
+                        massa.destinoId(), new CategoriaDTO(null, "Estudos"))),
+                // Existência de itens, outbox e delete pelo ID, sem o cascade; a categoria vem do cache
+                new Orcamento("excluirCategoria", 3, massa -> categoriaService.excluirCategoria(massa.destinoId()))));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> importacaoDeItensService() {
+        return verificar(List.of(
+                // IDs das categorias e insert a partir da tabela temporária, com contadores e outbox. O CREATE TEMPORARY
+                // TABLE e o COPY são executados diretamente na conexão e não passam pelo Hibernate
+                new Orcamento("importar", 2, massa -> {
+                    StringBuilder csv = new StringBuilder("descricao,categoriaId\n");
+                    for (int i = 0; i < massa.quantidade(); i++) {
+                        csv.append("Item ").append(i).append(',').append(massa.categoriaId()).append('\n');
+                    }
+                    importacaoDeItensService.importar(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                            FormatoDeArquivo.CSV, StandardCharsets.UTF_8);
+                })));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> exportacaoDeItensService() {
+        return verificar(List.of(
+                // A categoria vem do cache e o COPY TO STDOUT é executado diretamente na conexão
+                new Orcamento("exportar", 0, massa -> exportacaoDeItensService
+                        .exportar(massa.categoriaId(), FormatoDeArquivo.CSV)
+                        .writeTo(OutputStream.nullOutputStream()))));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> itensArquivadosService() {
+        return verificar(List.of(
+                // A categoria vem do cache e a página é lida somente das partições do intervalo
+                new Orcamento("listarItensArquivados", 1, massa -> itensArquivadosService.listarItensArquivados(
+                        massa.categoriaId(), LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0),
+                        null, 50))));
+    }
+
+    @Test
+    void todosOsMetodosPublicos_DevemTerOrcamento() {
+        assertEquals(metodosPublicos(ItemService.class), nomes(itemService()));
+        assertEquals(metodosPublicos(CategoriaService.class), nomes(categoriaService()));
+        assertEquals(metodosPublicos(ImportacaoDeItensService.class), nomes(importacaoDeItensService()));
+        assertEquals(metodosPublicos(ExportacaoDeItensService.class), nomes(exportacaoDeItensService()));
+        assertEquals(metodosPublicos(ItensArquivadosService.class), nomes(itensArquivadosService()));
+    }
+
+    private Stream<DynamicTest> verificar(List<Orcamento> orcamentos) {
+        return orcamentos.stream().map(orcamento -> DynamicTest.dynamicTest(orcamento.metodo(), () -> {
+            for (int quantidade : QUANTIDADES) {
+                Massa massa = preparar(quantidade);
+                ContadorDeQueries.zerar();
+                orcamento.cenario().executar(massa);
+                assertEquals(orcamento.comandos(), ContadorDeQueries.total(), () -> orcamento.metodo() + " com "
+                        + quantidade + " itens executou: " + String.join("\n", ContadorDeQueries.comandos()));
+            }
+        }));
+    }
+
+    /**
+     * Categoria com a quantidade informada de itens (com prazos vencidos, futuros e sem prazo) e uma categoria vazia.
+     */
+    private Massa preparar(int quantidade) {
+        limpar();
+        Categoria categoria = categoriaRepository.save(Categoria.builder()
+                .nome("Trabalho")
+                .dataAtualizacao(LocalDateTime.now())
+                .build());
+        Categoria destino = categoriaRepository.save(Categoria.builder()
+                .nome("Pessoal")
+                .dataAtualizacao(LocalDateTime.now())
+                .build());
+        List<ResultadoLoteItemDTO> criados = itemService.criarItensEmLote(
+                IntStream.range(0, quantidade).mapToObj(i -> item(categoria.getId(), i)).toList());
+        return new Massa(categoria.getId(), destino.getId(), criados.get(0).getId(), quantidade);
+    }
+
+    private void limpar() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    private static ItemDTO item(UUID categoriaId, int indice) {
+        String[] prazos = {"01/01/2020 10:00", "31/12/2099 22:00", null};
+        return ItemDTO.builder()
+                .descricao("Item " + indice)
+                .dataLimite(prazos[indice % prazos.length])
+                .categoriaId(categoriaId)
+                .build();
+    }
+
+    private static Set<String> metodosPublicos(Class<?> servico) {
+        return Arrays.stream(servico.getDeclaredMethods())
+                .filter(metodo -> Modifier.isPublic(metodo.getModifiers()) && !Modifier.isStatic(metodo.getModifiers()))
+                .filter(metodo -> !metodo.isSynthetic())
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> nomes(Stream<DynamicTest> testes) {
+        return testes.map(DynamicTest::getDisplayName).collect(Collectors.toSet());
+    }
+
+    /**
+     * Quantidade exata de comandos SQL de um método do serviço.
+     */
+    private record Orcamento(String metodo, int comandos, Cenario cenario) {
+    }
+
+    @FunctionalInterface
+    private interface Cenario {
+        void executar(Massa massa) throws Exception;
+    }
+
+    private record Massa(UUID categoriaId, UUID destinoId, UUID itemId, int quantidade) {
+    }
+
+}
@@ -0,0 +1,215 @@
+package br.com.tarefas_api.service.arquivamento;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica, contra um PostgreSQL real, o arquivamento dos itens concluídos em partições mensais: itens movidos em lotes,
+ * contadores e outbox, leitura somente das partições do intervalo e a listagem paginada do arquivo.
+ */
+@SpringBootTest(properties = {
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false",
+        "tarefas.arquivo.cron=-",
+        "tarefas.arquivo.idade=P90D",
+        "tarefas.arquivo.tamanho-lote=2"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@AutoConfigureMockMvc
+class ArquivadorDeItensIntegracaoTest {
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArquivadorDeItens arquivadorDeItens;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID categoriaId;
+
+    /**
+     * Primeiro dia do mês, seis meses atrás: os itens concluídos nesse mês e no seguinte já passaram da idade.
+     */
+    private LocalDateTime mes;
+
+    @BeforeEach
+    void setUp() {
+        categoriaId = categoriaRepository.save(Categoria.builder()
+                .nome("Trabalho")
+                .dataAtualizacao(LocalDateTime.now())
+                .build()).getId();
+        mes = LocalDate.now().minusMonths(6).withDayOfMonth(1).atStartOfDay();
+
+        inserirItem("0190a000-0000-7000-8000-000000000001", true, mes.plusDays(10), mes.plusDays(2));
+        inserirItem("0190a000-0000-7000-8000-000000000002", true, mes.plusDays(12), mes.plusDays(5));
+        inserirItem("0190a000-0000-7000-8000-000000000003", true, mes.plusMonths(1).plusDays(3), mes.plusDays(1));
+        // Concluído sem data de atualização: a última modificação é a criação
+        inserirItem("0190a000-0000-7000-8000-000000000004", true, null, mes.plusMonths(1).plusDays(5));
+        inserirItem("0190a000-0000-7000-8000-000000000005", true, LocalDateTime.now().minusDays(1), mes);
+        inserirItem("0190a000-0000-7000-8000-000000000006", false, mes.plusDays(1), mes);
+        jdbcTemplate.update("INSERT INTO categoria_estatistica (categoria_id, total, concluidos) VALUES (?, 6, 5)",
+                categoriaId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void arquivar_DeveMoverEmLotesSomenteOsItensConcluidosAntigos() {
+        long arquivados = arquivadorDeItens.arquivar();
+
+        assertEquals(4, arquivados);
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000005", "0190a000-0000-7000-8000-000000000006"),
+                jdbcTemplate.queryForList("SELECT id::text FROM item ORDER BY id", String.class));
+        assertEquals(List.of(
+                        Map.of("id", "0190a000-0000-7000-8000-000000000001", "particao", particao(mes)),
+                        Map.of("id", "0190a000-0000-7000-8000-000000000002", "particao", particao(mes)),
+                        Map.of("id", "0190a000-0000-7000-8000-000000000003", "particao", particao(mes.plusMonths(1))),
+                        Map.of("id", "0190a000-0000-7000-8000-000000000004", "particao", particao(mes.plusMonths(1)))),
+                jdbcTemplate.queryForList("""
+                        SELECT id::text AS id, tableoid::regclass::text AS particao FROM item_arquivo ORDER BY id
+                        """));
+        assertEquals(mes.plusMonths(1).plusDays(5), jdbcTemplate.queryForObject(
+                "SELECT data_atualizacao FROM item_arquivo WHERE id = '0190a000-0000-7000-8000-000000000004'",
+                LocalDateTime.class));
+        assertEquals(Map.of("total", 2L, "concluidos", 1L), jdbcTemplate.queryForMap(
+                "SELECT total, concluidos FROM categoria_estatistica WHERE categoria_id = ?", categoriaId));
+        assertEquals(4, jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM outbox
+                WHERE agregado = 'ITEM' AND tipo = 'ARQUIVADO' AND payload ->> 'categoriaId' = ?
+                """, Integer.class, categoriaId.toString()));
+
+        // Uma nova execução não encontra itens a arquivar nem recria as partições
+        assertEquals(0, arquivadorDeItens.arquivar());
+    }
+
+    @Test
+    void excluirCategoria_DeveSerRecusada_QuandoSomenteItensArquivadosRestarem() throws Exception {
+        arquivadorDeItens.arquivar();
+        jdbcTemplate.update("DELETE FROM item");
+
+        mockMvc.perform(delete("/categorias/{id}", categoriaId)).andExpect(status().isBadRequest());
+
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT count(*) FROM item_arquivo WHERE categoria_id = ?",
+                Integer.class, categoriaId));
+    }
+
+    @Test
+    void consultaPorIntervalo_DeveLerSomenteAsParticoesDoIntervalo() {
+        arquivadorDeItens.arquivar();
+
+        String plano = String.join("\n", jdbcTemplate.queryForList("""
+                        EXPLAIN SELECT * FROM item_arquivo
+                        WHERE categoria_id = ? AND data_atualizacao >= ? AND data_atualizacao < ?
+                        """, String.class, categoriaId, mes, mes.plusMonths(1)));
+
+        assertTrue(plano.contains(particao(mes)), plano);
+        assertFalse(plano.contains(particao(mes.plusMonths(1))), plano);
+    }
+
+    @Test
+    void listarItensArquivados_DevePaginarPelaDataDeConclusao() throws Exception {
+        arquivadorDeItens.arquivar();
+
+        JsonNode primeiraPagina = listar(mes, mes.plusMonths(2), null, 3);
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000001", "0190a000-0000-7000-8000-000000000002",
+                "0190a000-0000-7000-8000-000000000003"), ids(primeiraPagina));
+        assertTrue(primeiraPagina.get("itens").get(0).get("concluido").asBoolean());
+        assertEquals(FORMATO_DATA.format(mes.plusDays(10)),
+                primeiraPagina.get("itens").get(0).get("dataAtualizacao").asText());
+
+        JsonNode segundaPagina = listar(mes, mes.plusMonths(2), primeiraPagina.get("proximoCursor").asText(), 3);
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000004"), ids(segundaPagina));
+        assertFalse(segundaPagina.has("proximoCursor"));
+
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000001", "0190a000-0000-7000-8000-000000000002"),
+                ids(listar(mes, mes.plusMonths(1), null, 50)));
+    }
+
+    @Test
+    void listarItensArquivados_DeveRejeitarIntervaloInvalidoECategoriaInexistente() throws Exception {
+        mockMvc.perform(get("/itens/arquivados")
+                        .param("idCategoria", categoriaId.toString())
+                        .param("inicio", FORMATO_DATA.format(mes.plusMonths(1)))
+                        .param("fim", FORMATO_DATA.format(mes)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/itens/arquivados")
+                        .param("idCategoria", UUID.randomUUID().toString())
+                        .param("inicio", FORMATO_DATA.format(mes))
+                        .param("fim", FORMATO_DATA.format(mes.plusMonths(1))))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode listar(LocalDateTime inicio, LocalDateTime fim, String cursor, int limite) throws Exception {
+        String resposta = mockMvc.perform(get("/itens/arquivados")
+                        .param("idCategoria", categoriaId.toString())
+                        .param("inicio", FORMATO_DATA.format(inicio))
+                        .param("fim", FORMATO_DATA.format(fim))
+                        .param("cursor", cursor)
+                        .param("limite", String.valueOf(limite)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resposta);
+    }
+
+    private static List<String> ids(JsonNode pagina) {
+        return pagina.get("itens").findValuesAsText("id");
+    }
+
+    private static String particao(LocalDateTime data) {
+        return "item_arquivo_" + DateTimeFormatter.ofPattern("yyyy_MM").format(data);
+    }
+
+    private void inserirItem(String id, boolean concluido, LocalDateTime dataAtualizacao, LocalDateTime dataCriacao) {
+        jdbcTemplate.update("""
+                INSERT INTO item (id, descricao, concluido, data_criacao, data_atualizacao, categoria_id)
+                VALUES (?::uuid, ?, ?, ?, ?, ?)
+                """, id, "Item " + id.substring(id.length() - 1), concluido, dataCriacao, dataAtualizacao, categoriaId);
+    }
+
+}
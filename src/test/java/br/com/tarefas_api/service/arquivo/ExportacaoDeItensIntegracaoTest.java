@@ -0,0 +1,215 @@
+package br.com.tarefas_api.service.arquivo;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica, contra um PostgreSQL real, a exportação de itens pelo COPY TO STDOUT: formato das linhas, filtro por
+ * categoria e cancelamento quando a escrita na resposta falha.
+ */
+@SpringBootTest(properties = {"tarefas.prazos.habilitado=false", "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@AutoConfigureMockMvc
+class ExportacaoDeItensIntegracaoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExportacaoDeItensService exportacaoDeItensService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID categoriaId;
+
+    private UUID outraCategoriaId;
+
+    @BeforeEach
+    void setUp() {
+        categoriaId = salvarCategoria("Trabalho");
+        outraCategoriaId = salvarCategoria("Pessoal");
+        inserirItem("0190a000-0000-7000-8000-000000000001", "Estudar Spring, JPA e \"Flyway\"", false,
+                "2025-03-30 22:00", 0, categoriaId);
+        inserirItem("0190a000-0000-7000-8000-000000000002", "C:\\temp\tcom tabulação", true, null, 2, categoriaId);
+        inserirItem("0190a000-0000-7000-8000-000000000003", "Linha 1\nLinha 2", false, null, 0, outraCategoriaId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void csv_DeveExportarOsItensDaCategoriaComCabecalhoENoFormatoDeDatas() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/itens/exportacao").param("idCategoria", categoriaId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String csv = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"itens.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> linhas = Arrays.asList(csv.split("\n"));
+        assertEquals("id,descricao,concluido,dataCriacao,dataAtualizacao,dataLimite,categoriaId,versao", linhas.get(0));
+        assertEquals(List.of(
+                        "0190a000-0000-7000-8000-000000000001,\"Estudar Spring, JPA e \"\"Flyway\"\"\",false,"
+                                + "01/03/2025 10:00,01/03/2025 10:00,30/03/2025 22:00," + categoriaId + ",0",
+                        "0190a000-0000-7000-8000-000000000002,C:\\temp\tcom tabulação,true,"
+                                + "01/03/2025 10:00,01/03/2025 10:00,," + categoriaId + ",2"),
+                linhas.subList(1, linhas.size()).stream().sorted().toList());
+    }
+
+    @Test
+    void ndjson_DeveExportarTodosOsItensSemAlterarOsCaracteresEspeciais() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/itens/exportacao").param("formato", "NDJSON"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String ndjson = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<JsonNode> itens = ndjson.lines().map(this::lerJson)
+                .sorted((a, b) -> a.get("id").asText().compareTo(b.get("id").asText()))
+                .toList();
+        assertEquals(3, itens.size());
+        assertEquals("Estudar Spring, JPA e \"Flyway\"", itens.get(0).get("descricao").asText());
+        assertEquals("30/03/2025 22:00", itens.get(0).get("dataLimite").asText());
+        assertEquals("01/03/2025 10:00", itens.get(0).get("dataCriacao").asText());
+        assertEquals(categoriaId.toString(), itens.get(0).get("categoriaId").asText());
+        assertEquals("C:\\temp\tcom tabulação", itens.get(1).get("descricao").asText());
+        assertTrue(itens.get(1).get("concluido").asBoolean());
+        assertFalse(itens.get(1).has("dataLimite"));
+        assertEquals("Linha 1\nLinha 2", itens.get(2).get("descricao").asText());
+    }
+
+    @Test
+    void categoriaInexistente_DeveResponderNotFoundAntesDeIniciarAExportacao() throws Exception {
+        mockMvc.perform(get("/itens/exportacao").param("idCategoria", UUID.randomUUID().toString()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void falhaNaEscrita_DeveCancelarOCopyEDevolverAConexao() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO item (id, descricao, concluido, categoria_id)
+                SELECT md5(n::text)::uuid, 'Item ' || n, false, ? FROM generate_series(1, 50000) n
+                """, categoriaId);
+        IOException desconexao = new IOException("Conexão encerrada pelo cliente");
+        OutputStream clienteDesconectado = new OutputStream() {
+            private int escritos;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int inicio, int tamanho) throws IOException {
+                escritos += tamanho;
+                if (escritos > 64 * 1024) {
+                    throw desconexao;
+                }
+            }
+        };
+
+        IOException erro = assertThrows(IOException.class,
+                () -> exportacaoDeItensService.exportar(null, FormatoDeArquivo.CSV).writeTo(clienteDesconectado));
+
+        assertSame(desconexao, erro);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE state = 'active' AND query LIKE 'COPY (%'", Integer.class));
+        // A conexão voltou ao pool sem um COPY pendente e a exportação seguinte é completa
+        ContadorDeLinhas contador = new ContadorDeLinhas();
+        exportacaoDeItensService.exportar(null, FormatoDeArquivo.NDJSON).writeTo(contador);
+        assertEquals(50_003, contador.linhas);
+    }
+
+    private UUID salvarCategoria(String nome) {
+        return categoriaRepository.save(Categoria.builder()
+                .nome(nome)
+                .dataAtualizacao(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    private void inserirItem(String id, String descricao, boolean concluido, String dataLimite, long versao,
+                             UUID categoria) {
+        jdbcTemplate.update("""
+                INSERT INTO item (id, descricao, concluido, data_limite, data_criacao, data_atualizacao, categoria_id, versao)
+                VALUES (?::uuid, ?, ?, ?::timestamp, '2025-03-01 10:00', '2025-03-01 10:00', ?, ?)
+                """, id, descricao, concluido, dataLimite, categoria, versao);
+    }
+
+    private JsonNode lerJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class ContadorDeLinhas extends OutputStream {
+
+        private long linhas;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                linhas++;
+            }
+        }
+
+    }
+
+}
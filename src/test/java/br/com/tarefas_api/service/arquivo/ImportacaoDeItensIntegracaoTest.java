@@ -0,0 +1,235 @@
+package br.com.tarefas_api.service.arquivo;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.dto.LinhaRejeitadaDTO;
+import br.com.tarefas_api.dto.ResultadoImportacaoDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica, contra um PostgreSQL real, a importação de itens pelo COPY: validação por linha, escape dos caracteres
+ * especiais, contadores, outbox e atomicidade.
+ */
+@SpringBootTest(properties = {
+        "tarefas.prazos.habilitado=false",
+        "tarefas.outbox.relay.habilitado=false",
+        "tarefas.importacao.rejeicoes-detalhadas=5"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@AutoConfigureMockMvc
+class ImportacaoDeItensIntegracaoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImportacaoDeItensService importacaoDeItensService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID categoriaId;
+
+    @BeforeEach
+    void setUp() {
+        categoriaId = categoriaRepository.save(Categoria.builder()
+                .nome("Trabalho")
+                .dataAtualizacao(LocalDateTime.now())
+                .build()).getId();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void csv_DeveImportarAsLinhasValidasEInformarAsRejeitadasPeloNumeroDaLinha() throws Exception {
+        UUID inexistente = UUID.randomUUID();
+        String csv = String.join("\r\n",
+                "categoriaId,descricao,dataLimite,concluido",
+                categoriaId + ",\"Estudar Spring, JPA e \"\"Flyway\"\"\",30/03/2025 22:00,false",
+                categoriaId + ",\"C:\\temp\tcom tabulação\",,true",
+                "",
+                inexistente + ",Item de categoria inexistente,,",
+                categoriaId + ",,,",
+                categoriaId + ",Data inválida,31/02/2025,",
+                categoriaId + ",Colunas a menos",
+                categoriaId + ",Sem prazo,,");
+
+        mockMvc.perform(post("/itens/importacao")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(3))
+                .andExpect(jsonPath("$.rejeitados").value(4))
+                .andExpect(jsonPath("$.linhasRejeitadas[0].linha").value(5))
+                .andExpect(jsonPath("$.linhasRejeitadas[0].mensagem").value("Categoria não encontrada com ID: " + inexistente))
+                .andExpect(jsonPath("$.linhasRejeitadas[1].linha").value(6))
+                .andExpect(jsonPath("$.linhasRejeitadas[1].mensagem").value("A descrição do item é obrigatória."))
+                .andExpect(jsonPath("$.linhasRejeitadas[2].linha").value(7))
+                .andExpect(jsonPath("$.linhasRejeitadas[2].mensagem").value("Data inválida: 31/02/2025"))
+                .andExpect(jsonPath("$.linhasRejeitadas[3].linha").value(8))
+                .andExpect(jsonPath("$.linhasRejeitadas[3].mensagem").value("A linha deve ter 4 colunas."));
+
+        assertEquals(List.of(
+                        Map.of("descricao", "Estudar Spring, JPA e \"Flyway\"", "concluido", false,
+                                "data_limite", "2025-03-30 22:00:00", "versao", 0L),
+                        Map.of("descricao", "C:\\temp\tcom tabulação", "concluido", true, "versao", 0L),
+                        Map.of("descricao", "Sem prazo", "concluido", false, "versao", 0L)),
+                jdbcTemplate.queryForList("""
+                        SELECT descricao, concluido, to_char(data_limite, 'YYYY-MM-DD HH24:MI:SS') AS data_limite, versao
+                        FROM item ORDER BY id
+                        """).stream().map(this::semNulos).toList());
+        assertEquals(Map.of("total", 3L, "concluidos", 1L), jdbcTemplate.queryForMap(
+                "SELECT total, concluidos FROM categoria_estatistica WHERE categoria_id = ?", categoriaId));
+
+        // Um evento CRIADO por item, no mesmo formato dos eventos gravados pelo ItemService
+        List<JsonNode> eventos = jdbcTemplate.queryForList(
+                        "SELECT payload::text FROM outbox WHERE agregado = 'ITEM' AND tipo = 'CRIADO' ORDER BY id", String.class)
+                .stream().map(this::lerJson).toList();
+        assertEquals(3, eventos.size());
+        assertEquals("30/03/2025 22:00", eventos.get(0).get("dataLimite").asText());
+        assertEquals(categoriaId.toString(), eventos.get(0).get("categoriaId").asText());
+        assertEquals(0, eventos.get(0).get("versao").asInt());
+    }
+
+    @Test
+    void ndjson_DeveRejeitarJsonInvalidoSemInterromperAImportacao() {
+        String ndjson = String.join("\n",
+                "{\"descricao\": \"Primeiro\", \"categoriaId\": \"" + categoriaId + "\", \"dataLimite\": \"01/04/2025 08:00\"}",
+                "{\"descricao\": \"Quebrado\", ",
+                "null",
+                "{\"descricao\": \"" + "x".repeat(256) + "\", \"categoriaId\": \"" + categoriaId + "\"}",
+                "{\"descricao\": \"Segundo\", \"concluido\": true, \"categoriaId\": \"" + categoriaId + "\"}",
+                "");
+
+        ResultadoImportacaoDTO resultado = importar(ndjson, FormatoDeArquivo.NDJSON);
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(List.of(2L, 3L, 4L), resultado.getLinhasRejeitadas().stream().map(LinhaRejeitadaDTO::getLinha).toList());
+        assertTrue(resultado.getLinhasRejeitadas().get(0).getMensagem().startsWith("JSON inválido"));
+        assertEquals("O item é obrigatório.", resultado.getLinhasRejeitadas().get(1).getMensagem());
+        assertEquals("A descrição deve ter no máximo 255 caracteres.", resultado.getLinhasRejeitadas().get(2).getMensagem());
+        assertEquals(2, itemRepository.count());
+    }
+
+    @Test
+    void rejeicoes_DevemSerDetalhadasAteOLimiteEContadasAlemDele() {
+        StringBuilder csv = new StringBuilder("descricao,categoriaId\n");
+        for (int i = 0; i < 7; i++) {
+            csv.append("Item ").append(i).append(",nao-e-uuid\n");
+        }
+        csv.append("x".repeat(ImportacaoDeItensService.TAMANHO_MAXIMO_LINHA * 2)).append('\n');
+        csv.append("Válido,").append(categoriaId).append('\n');
+
+        ResultadoImportacaoDTO resultado = importar(csv.toString(), FormatoDeArquivo.CSV);
+
+        assertEquals(1, resultado.getImportados());
+        assertEquals(8, resultado.getRejeitados());
+        assertEquals(5, resultado.getLinhasRejeitadas().size());
+        assertEquals("ID de categoria inválido: nao-e-uuid", resultado.getLinhasRejeitadas().get(0).getMensagem());
+    }
+
+    @Test
+    void cabecalhoInvalido_DeveResponderBadRequest() throws Exception {
+        mockMvc.perform(post("/itens/importacao")
+                        .contentType("text/csv")
+                        .content("descricao,categoria\nItem," + categoriaId))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/itens/importacao")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        assertEquals(0, itemRepository.count());
+    }
+
+    @Test
+    void envioInterrompido_NaoDeveImportarNenhumItem() {
+        StringBuilder csv = new StringBuilder("descricao,categoriaId\n");
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("Item ").append(i).append(',').append(categoriaId).append('\n');
+        }
+        InputStream interrompido = new SequenceInputStream(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Conexão encerrada pelo cliente");
+                    }
+                });
+
+        assertThrows(UncheckedIOException.class,
+                () -> importacaoDeItensService.importar(interrompido, FormatoDeArquivo.CSV, StandardCharsets.UTF_8));
+
+        assertEquals(0, itemRepository.count());
+        assertEquals(0, outboxRepository.count());
+        // A tabela temporária foi descartada com a transação e a próxima importação pode criá-la novamente
+        assertEquals(1, importar("descricao,categoriaId\nDepois," + categoriaId, FormatoDeArquivo.CSV).getImportados());
+    }
+
+    private ResultadoImportacaoDTO importar(String conteudo, FormatoDeArquivo formato) {
+        return importacaoDeItensService.importar(
+                new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)), formato, StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Object> semNulos(Map<String, Object> linha) {
+        linha.values().removeIf(Objects::isNull);
+        return Map.copyOf(linha);
+    }
+
+    private JsonNode lerJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package br.com.tarefas_api.service.eventos;
+
+import br.com.tarefas_api.service.eventos.AssinanteDeEventos.Notificacao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssinanteDeEventosTest {
+
+    private final Queue<Runnable> envios = new ArrayDeque<>();
+
+    private EmitterDeTeste emitter;
+
+    private UUID categoriaId;
+
+    @BeforeEach
+    void setUp() {
+        emitter = new EmitterDeTeste();
+        categoriaId = UUID.randomUUID();
+    }
+
+    @Test
+    void publicar_DeveColapsarAlteracoesDoMesmoItem() {
+        AssinanteDeEventos assinante = new AssinanteDeEventos(categoriaId, emitter, 10, envios::add);
+        UUID itemA = UUID.randomUUID();
+        UUID itemB = UUID.randomUUID();
+
+        assinante.publicar(itemA, new Notificacao("CRIADO", Map.of("versao", 1)));
+        assinante.publicar(itemB, new Notificacao("CRIADO", Map.of("versao", 1)));
+        assinante.publicar(itemA, new Notificacao("ATUALIZADO", Map.of("versao", 2)));
+        assertEquals(1, envios.size());
+        executarEnvios();
+
+        String enviado = emitter.texto();
+        assertEquals(1, emitter.escritas);
+        assertEquals(1, ocorrencias(enviado, "event:CRIADO"));
+        assertEquals(1, ocorrencias(enviado, "event:ATUALIZADO"));
+        assertTrue(enviado.indexOf("event:CRIADO") < enviado.indexOf("event:ATUALIZADO"));
+    }
+
+    @Test
+    void publicar_DeveSubstituirOBufferPorRecarga_QuandoCapacidadeEsgota() {
+        AssinanteDeEventos assinante = new AssinanteDeEventos(categoriaId, emitter, 2, envios::add);
+
+        for (int i = 0; i < 5; i++) {
+            assinante.publicar(UUID.randomUUID(), new Notificacao("CRIADO", Map.of("indice", i)));
+        }
+        executarEnvios();
+
+        String enviado = emitter.texto();
+        assertEquals(1, ocorrencias(enviado, "event:" + AssinanteDeEventos.RECARREGAR));
+        assertEquals(0, ocorrencias(enviado, "event:CRIADO"));
+        assertTrue(enviado.contains(categoriaId.toString()));
+    }
+
+    @Test
+    void enviar_DeveEncerrarOAssinante_QuandoClienteDesconecta() {
+        emitter.falhar = true;
+        AssinanteDeEventos assinante = new AssinanteDeEventos(categoriaId, emitter, 10, envios::add);
+
+        assinante.heartbeat();
+        executarEnvios();
+        assinante.publicar(UUID.randomUUID(), new Notificacao("CRIADO", Map.of()));
+
+        assertTrue(envios.isEmpty());
+        assertEquals(1, emitter.escritas);
+    }
+
+    private void executarEnvios() {
+        while (!envios.isEmpty()) {
+            envios.poll().run();
+        }
+    }
+
+    private static int ocorrencias(String texto, String trecho) {
+        return texto.split(trecho, -1).length - 1;
+    }
+
+    /**
+     * Emitter que registra as escritas em vez de enviá-las a uma resposta HTTP.
+     */
+    private static class EmitterDeTeste extends SseEmitter {
+
+        private final List<Object> dados = new ArrayList<>();
+        private int escritas;
+        private boolean falhar;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> itens) throws IOException {
+            escritas++;
+            if (falhar) {
+                throw new IOException("conexão encerrada");
+            }
+            itens.forEach(item -> dados.add(item.getData()));
+        }
+
+        private String texto() {
+            StringBuilder texto = new StringBuilder();
+            dados.forEach(texto::append);
+            return texto.toString();
+        }
+
+    }
+
+}
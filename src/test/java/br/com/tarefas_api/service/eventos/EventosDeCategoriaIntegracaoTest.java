@@ -0,0 +1,183 @@
+package br.com.tarefas_api.service.eventos;
+
+import br.com.tarefas_api.domain.Categoria;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.OperacaoEmMassaDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.service.ItemService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, de ponta a ponta, o stream de alterações de itens por categoria.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "tarefas.prazos.habilitado=false")
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class EventosDeCategoriaIntegracaoTest {
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EventosDeCategoriaService eventosDeCategoriaService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final List<InputStream> conexoes = new ArrayList<>();
+
+    private Categoria trabalho;
+
+    private Categoria pessoal;
+
+    @BeforeEach
+    void setUp() {
+        trabalho = categoriaRepository.save(Categoria.builder().nome("Trabalho").dataAtualizacao(LocalDateTime.now()).build());
+        pessoal = categoriaRepository.save(Categoria.builder().nome("Pessoal").dataAtualizacao(LocalDateTime.now()).build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        desconectar();
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deveEnviarAsAlteracoesDosItensSomenteAosAssinantesDaCategoria() throws Exception {
+        BlockingQueue<String> eventosTrabalho = assinar(trabalho.getId());
+        BlockingQueue<String> eventosPessoal = assinar(pessoal.getId());
+
+        ItemDTO criado = itemService.criarItem(item(trabalho.getId()));
+        assertEvento(eventosTrabalho, "CRIADO", criado.getId());
+
+        ItemDTO movido = itemService.atualizarItem(criado.getId(), ItemDTO.builder()
+                .descricao("Finalizar relatório anual")
+                .categoriaId(pessoal.getId())
+                .build());
+        assertEvento(eventosTrabalho, "REMOVIDO", movido.getId());
+        assertEvento(eventosPessoal, "ATUALIZADO", movido.getId());
+
+        itemService.removerItem(movido.getId());
+        assertEvento(eventosPessoal, "REMOVIDO", movido.getId());
+
+        ItemDTO pendente = itemService.criarItem(item(pessoal.getId()));
+        assertEvento(eventosPessoal, "CRIADO", pendente.getId());
+        itemService.concluirItens(OperacaoEmMassaDTO.builder().idCategoria(pessoal.getId()).build());
+        assertEvento(eventosPessoal, AssinanteDeEventos.RECARREGAR, pessoal.getId());
+        assertNull(eventosTrabalho.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void naoDeveEnviarAlteracoesDeTransacoesDesfeitas() throws Exception {
+        BlockingQueue<String> eventos = assinar(trabalho.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.criarItem(item(trabalho.getId()));
+            status.setRollbackOnly();
+        });
+        ItemDTO confirmado = itemService.criarItem(item(trabalho.getId()));
+
+        assertEvento(eventos, "CRIADO", confirmado.getId());
+    }
+
+    @Test
+    void deveRemoverOAssinante_QuandoClienteDesconecta() throws Exception {
+        assinar(trabalho.getId());
+        desconectar();
+
+        // A desconexão só é percebida na próxima escrita
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (eventosDeCategoriaService.quantidadeDeAssinantes() > 0 && System.nanoTime() < limite) {
+            eventosDeCategoriaService.enviarHeartbeat();
+            Thread.sleep(50);
+        }
+        assertEquals(0, eventosDeCategoriaService.quantidadeDeAssinantes());
+    }
+
+    /**
+     * Assina o stream da categoria e retorna as linhas "event:" e "data:" recebidas, na ordem de chegada.
+     */
+    private BlockingQueue<String> assinar(UUID categoriaId) throws Exception {
+        HttpRequest requisicao = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + porta + "/categorias/" + categoriaId + "/eventos")).build();
+        // O assinante é registrado antes do envio dos cabeçalhos da resposta
+        InputStream corpo = httpClient.send(requisicao, HttpResponse.BodyHandlers.ofInputStream()).body();
+        conexoes.add(corpo);
+
+        BlockingQueue<String> linhas = new LinkedBlockingQueue<>();
+        Thread.ofVirtual().start(() -> {
+            try (BufferedReader leitor = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8))) {
+                leitor.lines()
+                        .filter(linha -> linha.startsWith("event:") || linha.startsWith("data:"))
+                        .forEach(linhas::add);
+            } catch (IOException | UncheckedIOException e) {
+                // Conexão encerrada pelo teste
+            }
+        });
+        return linhas;
+    }
+
+    private void desconectar() throws IOException {
+        for (InputStream conexao : conexoes) {
+            conexao.close();
+        }
+        conexoes.clear();
+    }
+
+    private static void assertEvento(BlockingQueue<String> linhas, String nome, UUID id) throws InterruptedException {
+        assertEquals("event:" + nome, linhas.poll(5, TimeUnit.SECONDS));
+        String dados = linhas.poll(5, TimeUnit.SECONDS);
+        assertNotNull(dados);
+        assertTrue(dados.contains(id.toString()), dados);
+    }
+
+    private static ItemDTO item(UUID categoriaId) {
+        return ItemDTO.builder()
+                .descricao("Finalizar relatório")
+                .dataLimite("31/12/2025 22:00")
+                .categoriaId(categoriaId)
+                .build();
+    }
+
+}
@@ -0,0 +1,202 @@
+package br.com.tarefas_api.service.outbox;
+
+import br.com.tarefas_api.dto.CategoriaDTO;
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.dto.OperacaoEmMassaDTO;
+import br.com.tarefas_api.repository.CategoriaRepository;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.OutboxRepository;
+import br.com.tarefas_api.service.CategoriaService;
+import br.com.tarefas_api.service.ItemService;
+import br.com.tarefas_api.support.DestinoDeOutboxEmMemoria;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, contra um PostgreSQL real, a gravação do outbox nas transações dos serviços e a drenagem pelo relay.
+ */
+// O relay é instanciado pelos testes, para controlar o destino e o momento da drenagem
+@SpringBootTest(properties = {"tarefas.prazos.habilitado=false", "tarefas.outbox.relay.habilitado=false"})
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES,
+        provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class OutboxIntegracaoTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final DestinoDeOutboxEmMemoria destino = new DestinoDeOutboxEmMemoria();
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void escritasDosServicos_DevemSerPublicadasNaOrdemDoCommit() throws Exception {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Trabalho")).getId();
+        ItemDTO criado = itemService.criarItem(item(categoriaId));
+        itemService.criarItensEmLote(List.of(item(categoriaId), item(categoriaId)));
+        itemService.atualizarItem(criado.getId(), ItemDTO.builder()
+                .descricao("Revisar relatório")
+                .categoriaId(categoriaId)
+                .build());
+        itemService.concluirItens(OperacaoEmMassaDTO.builder().ids(List.of(criado.getId())).build());
+        itemService.removerItem(criado.getId());
+
+        assertEquals(7, relay(100).drenar());
+
+        List<MensagemOutbox> mensagens = destino.mensagens();
+        assertEquals(List.of("CATEGORIA CRIADO", "ITEM CRIADO", "ITEM CRIADO", "ITEM CRIADO",
+                        "ITEM ATUALIZADO", "ITEM ATUALIZADO", "ITEM REMOVIDO"),
+                mensagens.stream().map(mensagem -> mensagem.agregado() + " " + mensagem.tipo()).toList());
+        assertEquals(0, outboxRepository.count());
+
+        // O payload gravado pelo comando em massa tem o mesmo formato do gravado a partir do ItemDTO
+        ItemDTO concluido = ItemDTO.builder()
+                .id(criado.getId())
+                .descricao("Revisar relatório")
+                .concluido(true)
+                .dataLimite(criado.getDataLimite())
+                .dataCriacao(criado.getDataCriacao())
+                .dataAtualizacao(payload(mensagens.get(5)).get("dataAtualizacao").asText())
+                .categoriaId(categoriaId)
+                .build();
+        JsonNode esperado = objectMapper.<ObjectNode>valueToTree(concluido).put("versao", 2);
+        assertEquals(esperado, objectMapper.readTree(mensagens.get(5).payload()));
+        assertEquals(List.of(0, 1, 2), mensagens.subList(0, 6).stream()
+                .filter(mensagem -> mensagem.agregadoId().equals(criado.getId()))
+                .map(mensagem -> payload(mensagem).get("versao").asInt())
+                .toList());
+        assertEquals(objectMapper.readTree("{\"id\": \"" + criado.getId() + "\", \"categoriaId\": \"" + categoriaId + "\"}"),
+                payload(mensagens.get(6)));
+    }
+
+    @Test
+    void transacaoDesfeita_NaoDeveGravarOOutbox() {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Trabalho")).getId();
+        outboxRepository.deleteAllInBatch();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.criarItem(item(categoriaId));
+            itemService.criarItem(item(categoriaId));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void falhaNoDestino_DeveManterOLoteNoOutbox() {
+        UUID categoriaId = categoriaService.criarCategoria(new CategoriaDTO(null, "Trabalho")).getId();
+        itemService.criarItem(item(categoriaId));
+        RelayDeOutbox relay = relay(100);
+
+        destino.falhar(true);
+        assertThrows(IllegalStateException.class, relay::drenar);
+        assertEquals(2, outboxRepository.count());
+
+        destino.falhar(false);
+        assertEquals(2, relay.drenar());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void relaysEmParalelo_DevemPublicarCadaEventoUmaUnicaVez() throws Exception {
+        int quantidade = 5_000;
+        jdbcTemplate.update("""
+                INSERT INTO outbox (agregado, agregado_id, tipo, payload)
+                SELECT 'ITEM', gen_random_uuid(), 'CRIADO', jsonb_build_object('indice', n)
+                FROM generate_series(1, ?) AS n
+                """, quantidade);
+
+        // Quatro relays, como quatro instâncias da aplicação, drenando o mesmo outbox ao mesmo tempo
+        List<Future<Integer>> drenagens = new ArrayList<>();
+        try (ExecutorService relays = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                RelayDeOutbox relay = relay(100);
+                drenagens.add(relays.submit(relay::drenar));
+            }
+        }
+
+        int publicados = 0;
+        for (Future<Integer> drenagem : drenagens) {
+            publicados += drenagem.get();
+        }
+        Set<Long> ids = new HashSet<>();
+        destino.mensagens().forEach(mensagem -> ids.add(mensagem.id()));
+        assertEquals(quantidade, publicados);
+        assertEquals(quantidade, ids.size());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    private RelayDeOutbox relay(int tamanhoLote) {
+        return new RelayDeOutbox(outboxRepository, transactionTemplate, destino, new SimpleMeterRegistry(), tamanhoLote);
+    }
+
+    private JsonNode payload(MensagemOutbox mensagem) {
+        try {
+            return objectMapper.readTree(mensagem.payload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ItemDTO item(UUID categoriaId) {
+        return ItemDTO.builder()
+                .descricao("Finalizar relatório")
+                .dataLimite("31/12/2025 22:00")
+                .categoriaId(categoriaId)
+                .build();
+    }
+
+}
@@ -0,0 +1,214 @@
+package br.com.tarefas_api.service.prazo;
+
+import br.com.tarefas_api.dto.ItemDTO;
+import br.com.tarefas_api.repository.ItemRepository;
+import br.com.tarefas_api.repository.PrazoItem;
+import br.com.tarefas_api.service.ItemAlteradoEvento;
+import br.com.tarefas_api.service.ItensImportadosEvento;
+import br.com.tarefas_api.utils.DateUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AgendadorDePrazosTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 10, 18, 10, 0);
+
+    private static final UUID CATEGORIA = UUID.randomUUID();
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private OuvinteDePrazos ouvinte;
+
+    private UUID itemA;
+
+    private UUID itemB;
+
+    @BeforeEach
+    void setUp() {
+        itemA = UUID.randomUUID();
+        itemB = UUID.randomUUID();
+    }
+
+    @Test
+    void processar_DeveCarregarAJanelaRespeitandoACapacidade() {
+        AgendadorDePrazos agendador = agendador(2);
+        PrazoItem prazoA = new PrazoItem(itemA, INICIO.plusMinutes(10));
+        PrazoItem prazoB = new PrazoItem(itemB, INICIO.plusMinutes(20));
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenReturn(List.of(prazoA, prazoB));
+
+        agendador.processar(INICIO);
+
+        assertEquals(2, agendador.quantidadeAgendada());
+        verify(itemRepository).findPrazosPendentesAposCursor(
+                eq(INICIO), eq(new UUID(0, 0)), eq(INICIO.plusHours(1)), eq(Limit.of(2)));
+
+        // O vencimento de A libera espaço e a janela continua a partir do último prazo carregado (B)
+        when(itemRepository.findPrazosPendentesByIds(List.of(itemA))).thenReturn(List.of(prazoA));
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenReturn(List.of());
+        agendador.processar(INICIO.plusMinutes(15));
+        agendador.processar(INICIO.plusMinutes(16));
+
+        verify(ouvinte).prazoVencido(itemA, prazoA.dataLimite());
+        verify(itemRepository).findPrazosPendentesAposCursor(
+                eq(prazoB.dataLimite()), eq(itemB), eq(INICIO.plusMinutes(76)), eq(Limit.of(1)));
+        assertEquals(1, agendador.quantidadeAgendada());
+    }
+
+    @Test
+    void aoAlterarItem_DeveAgendarSomentePrazosDentroDoHorizonte() {
+        AgendadorDePrazos agendador = agendador(100);
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenReturn(List.of());
+        agendador.processar(INICIO);
+
+        agendador.aoAlterarItem(atualizado(itemA, false, INICIO.plusMinutes(30)));
+        agendador.aoAlterarItem(atualizado(itemB, false, INICIO.plusHours(3)));
+        assertEquals(1, agendador.quantidadeAgendada());
+
+        agendador.aoAlterarItem(atualizado(itemA, true, INICIO.plusMinutes(30)));
+        assertEquals(0, agendador.quantidadeAgendada());
+
+        agendador.aoAlterarItem(atualizado(itemA, false, INICIO.plusMinutes(30)));
+        agendador.aoAlterarItem(ItemAlteradoEvento.removido(itemA, CATEGORIA));
+        assertEquals(0, agendador.quantidadeAgendada());
+    }
+
+    @Test
+    void aoImportarItens_DeveRelerAJanelaAPartirDoMenorPrazoDentroDoHorizonte() {
+        AgendadorDePrazos agendador = agendador(100);
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenReturn(List.of());
+        agendador.processar(INICIO);
+
+        // Prazo além do horizonte: será lido quando a janela avançar
+        agendador.aoImportarItens(new ItensImportadosEvento(Set.of(CATEGORIA), INICIO.plusHours(3)));
+        agendador.processar(INICIO.plusMinutes(1));
+        verify(itemRepository, times(1)).findPrazosPendentesAposCursor(any(), any(), any(), any());
+
+        PrazoItem importado = new PrazoItem(itemA, INICIO.plusMinutes(40));
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenReturn(List.of(importado));
+        agendador.aoImportarItens(new ItensImportadosEvento(Set.of(CATEGORIA), importado.dataLimite()));
+        agendador.processar(INICIO.plusMinutes(15));
+
+        verify(itemRepository).findPrazosPendentesAposCursor(
+                eq(importado.dataLimite()), eq(new UUID(0, 0)), eq(INICIO.plusMinutes(75)), eq(Limit.of(100)));
+        assertEquals(1, agendador.quantidadeAgendada());
+    }
+
+    @Test
+    void processar_NaoDeveBloquearAlteracoesDuranteALeituraDaJanela_EDeveReaplicaLas() {
+        AgendadorDePrazos agendador = agendador(100);
+        PrazoItem prazoB = new PrazoItem(itemB, INICIO.plusMinutes(20));
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenAnswer(invocacao -> {
+            // Outra thread altera itens enquanto a página é lida: A passa a vencer dentro da janela, mas a leitura
+            // não o viu; B foi concluído depois de lido
+            CompletableFuture.runAsync(() -> {
+                agendador.aoAlterarItem(atualizado(itemA, false, INICIO.plusMinutes(30)));
+                agendador.aoAlterarItem(atualizado(itemB, true, prazoB.dataLimite()));
+            }).get(5, TimeUnit.SECONDS);
+            return List.of(prazoB);
+        });
+
+        agendador.processar(INICIO);
+
+        assertEquals(1, agendador.quantidadeAgendada());
+        when(itemRepository.findPrazosPendentesByIds(List.of(itemA)))
+                .thenReturn(List.of(new PrazoItem(itemA, INICIO.plusMinutes(30))));
+        agendador.processar(INICIO.plusMinutes(31));
+        verify(ouvinte).prazoVencido(itemA, INICIO.plusMinutes(30));
+    }
+
+    @Test
+    void processar_NaoDeveAvancarOHorizonte_QuandoALeituraFalha() {
+        AgendadorDePrazos agendador = agendador(100);
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("banco indisponível"))
+                .thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> agendador.processar(INICIO));
+        agendador.processar(INICIO);
+
+        verify(itemRepository, times(2)).findPrazosPendentesAposCursor(
+                eq(INICIO), eq(new UUID(0, 0)), eq(INICIO.plusHours(1)), eq(Limit.of(100)));
+    }
+
+    @Test
+    void processar_NaoDeveNotificar_QuandoItemFoiConcluidoForaDoAgendador() {
+        AgendadorDePrazos agendador = agendador(100);
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenReturn(List.of());
+        agendador.processar(INICIO);
+        agendador.aoAlterarItem(atualizado(itemA, false, INICIO.plusMinutes(5)));
+        when(itemRepository.findPrazosPendentesByIds(List.of(itemA))).thenReturn(List.of());
+
+        agendador.processar(INICIO.plusMinutes(6));
+
+        verifyNoInteractions(ouvinte);
+        assertEquals(0, agendador.quantidadeAgendada());
+    }
+
+    @Test
+    void processar_DeveReagendar_QuandoDataLimiteFoiAdiadaForaDoAgendador() {
+        AgendadorDePrazos agendador = agendador(100);
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenReturn(List.of());
+        agendador.processar(INICIO);
+        agendador.aoAlterarItem(atualizado(itemA, false, INICIO.plusMinutes(5)));
+        PrazoItem adiado = new PrazoItem(itemA, INICIO.plusMinutes(10));
+        when(itemRepository.findPrazosPendentesByIds(List.of(itemA))).thenReturn(List.of(adiado));
+
+        agendador.processar(INICIO.plusMinutes(6));
+        verifyNoInteractions(ouvinte);
+        assertEquals(1, agendador.quantidadeAgendada());
+
+        agendador.processar(INICIO.plusMinutes(11));
+        verify(ouvinte).prazoVencido(itemA, adiado.dataLimite());
+    }
+
+    @Test
+    void processar_DeveNotificarTodosOsOuvintes_MesmoQuandoUmFalha() {
+        OuvinteDePrazos comFalha = mock(OuvinteDePrazos.class);
+        doThrow(new IllegalStateException("indisponível")).when(comFalha).prazoVencido(any(), any());
+        AgendadorDePrazos agendador = new AgendadorDePrazos(itemRepository, List.of(comFalha, ouvinte),
+                Duration.ofSeconds(1), Duration.ofHours(1), 100, INICIO);
+        PrazoItem prazo = new PrazoItem(itemA, INICIO.plusMinutes(1));
+        when(itemRepository.findPrazosPendentesAposCursor(any(), any(), any(), any())).thenReturn(List.of(prazo));
+        when(itemRepository.findPrazosPendentesByIds(List.of(itemA))).thenReturn(List.of(prazo));
+
+        agendador.processar(INICIO);
+        agendador.processar(INICIO.plusMinutes(2));
+
+        verify(comFalha).prazoVencido(itemA, prazo.dataLimite());
+        verify(ouvinte).prazoVencido(itemA, prazo.dataLimite());
+    }
+
+    private static ItemAlteradoEvento atualizado(UUID id, boolean concluido, LocalDateTime dataLimite) {
+        ItemDTO item = ItemDTO.builder()
+                .id(id)
+                .concluido(concluido)
+                .dataLimite(DateUtils.formatDate(dataLimite))
+                .categoriaId(CATEGORIA)
+                .build();
+        return ItemAlteradoEvento.atualizado(item, CATEGORIA);
+    }
+
+    private AgendadorDePrazos agendador(int capacidade) {
+        return new AgendadorDePrazos(itemRepository, List.of(ouvinte),
+                Duration.ofSeconds(1), Duration.ofHours(1), capacidade, INICIO);
+    }
+
+}
@@ -0,0 +1,98 @@
+package br.com.tarefas_api.service.prazo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RodaDeTempoHierarquicaTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    void avancar_DeveExpirarSomenteAsChavesVencidas() {
+        RodaDeTempoHierarquica<String> roda = new RodaDeTempoHierarquica<>(TICK, 8, 0);
+        roda.agendar("a", 1_500);
+        roda.agendar("b", 3_000);
+        List<String> expiradas = new ArrayList<>();
+
+        roda.avancar(2_999, expiradas::add);
+        assertEquals(List.of("a"), expiradas);
+
+        roda.avancar(3_000, expiradas::add);
+        assertEquals(List.of("a"), expiradas);
+
+        roda.avancar(4_000, expiradas::add);
+        assertEquals(List.of("a", "b"), expiradas);
+        assertEquals(0, roda.tamanho());
+    }
+
+    @Test
+    void avancar_DeveRedistribuirOsNiveisSuperiores() {
+        RodaDeTempoHierarquica<Integer> roda = new RodaDeTempoHierarquica<>(TICK, 4, 0);
+        // Com 4 baldes por nível: nível 0 cobre 4 s, nível 1 cobre 16 s e nível 2 cobre 64 s
+        roda.agendar(1, 60_500);
+        roda.agendar(2, 17_000);
+        roda.agendar(3, 5_000);
+        assertEquals(3, roda.quantidadeDeNiveis());
+        List<Integer> expiradas = new ArrayList<>();
+
+        for (long agora = 0; agora <= 61_000; agora += TICK) {
+            long instante = agora;
+            roda.avancar(agora, chave -> {
+                expiradas.add(chave);
+                assertTrue(instante > switch (chave) {
+                    case 1 -> 60_000L;
+                    case 2 -> 17_000L;
+                    default -> 5_000L;
+                }, "chave " + chave + " expirou cedo em " + instante);
+            });
+        }
+
+        assertEquals(List.of(3, 2, 1), expiradas);
+    }
+
+    @Test
+    void agendar_DeveSubstituirOAgendamentoAnterior() {
+        RodaDeTempoHierarquica<String> roda = new RodaDeTempoHierarquica<>(TICK, 8, 0);
+        roda.agendar("a", 2_000);
+        roda.agendar("a", 20_000);
+        List<String> expiradas = new ArrayList<>();
+
+        roda.avancar(10_000, expiradas::add);
+        assertTrue(expiradas.isEmpty());
+        assertEquals(1, roda.tamanho());
+
+        roda.avancar(21_000, expiradas::add);
+        assertEquals(List.of("a"), expiradas);
+    }
+
+    @Test
+    void cancelar_DeveImpedirAExpiracao() {
+        RodaDeTempoHierarquica<String> roda = new RodaDeTempoHierarquica<>(TICK, 8, 0);
+        roda.agendar("a", 2_000);
+        roda.agendar("b", 500_000);
+
+        assertTrue(roda.cancelar("a"));
+        assertTrue(roda.cancelar("b"));
+        assertFalse(roda.cancelar("a"));
+
+        List<String> expiradas = new ArrayList<>();
+        roda.avancar(1_000_000, expiradas::add);
+        assertTrue(expiradas.isEmpty());
+    }
+
+    @Test
+    void agendar_DeveExpirarNoProximoAvanco_QuandoOInstanteJaPassou() {
+        RodaDeTempoHierarquica<String> roda = new RodaDeTempoHierarquica<>(TICK, 8, 10_000);
+        roda.agendar("atrasada", 1_000);
+        List<String> expiradas = new ArrayList<>();
+
+        roda.avancar(10_000, expiradas::add);
+
+        assertEquals(List.of("atrasada"), expiradas);
+    }
+
+}
@@ -0,0 +1,43 @@
+package br.com.tarefas_api.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * StatementInspector do Hibernate que conta os comandos SQL preparados durante os testes de integração.
+ * Registrado pela propriedade hibernate.session_factory.statement_inspector.
+ */
+public class ContadorDeQueries implements StatementInspector {
+
+    private static final List<String> COMANDOS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        COMANDOS.add(sql);
+        return sql;
+    }
+
+    /**
+     * Zera a contagem de comandos.
+     */
+    public static void zerar() {
+        COMANDOS.clear();
+    }
+
+    /**
+     * Retorna a quantidade de comandos preparados desde a última chamada a {@link #zerar()}.
+     */
+    public static int total() {
+        return COMANDOS.size();
+    }
+
+    /**
+     * Retorna os comandos preparados desde a última chamada a {@link #zerar()}.
+     */
+    public static List<String> comandos() {
+        return List.copyOf(COMANDOS);
+    }
+
+}
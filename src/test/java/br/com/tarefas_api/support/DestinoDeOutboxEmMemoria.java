@@ -0,0 +1,40 @@
+package br.com.tarefas_api.support;
+
+import br.com.tarefas_api.service.outbox.DestinoDeOutbox;
+import br.com.tarefas_api.service.outbox.MensagemOutbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Destino do outbox que acumula os eventos publicados em memória, para os testes.
+ * Com a falha ativada, rejeita os lotes como um broker indisponível.
+ */
+public class DestinoDeOutboxEmMemoria implements DestinoDeOutbox {
+
+    private final List<MensagemOutbox> mensagens = new CopyOnWriteArrayList<>();
+    private volatile boolean falhar;
+
+    @Override
+    public void publicar(List<MensagemOutbox> lote) {
+        if (falhar) {
+            throw new IllegalStateException("Destino indisponível");
+        }
+        mensagens.addAll(lote);
+    }
+
+    /**
+     * Retorna os eventos publicados, na ordem de publicação.
+     */
+    public List<MensagemOutbox> mensagens() {
+        return List.copyOf(mensagens);
+    }
+
+    /**
+     * Define se os próximos lotes devem ser rejeitados.
+     */
+    public void falhar(boolean falhar) {
+        this.falhar = falhar;
+    }
+
+}
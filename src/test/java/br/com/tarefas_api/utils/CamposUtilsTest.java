@@ -0,0 +1,56 @@
+package br.com.tarefas_api.utils;
+
+import br.com.tarefas_api.exception.CampoDeCategoriaInvalidoException;
+import br.com.tarefas_api.exception.CampoDeItemInvalidoException;
+import br.com.tarefas_api.repository.CampoDeCategoria;
+import br.com.tarefas_api.repository.CampoDeItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica a interpretação do parâmetro fields, que só aceita os nomes dos campos conhecidos.
+ */
+class CamposUtilsTest {
+
+    @Test
+    void camposDeItem_DeveSelecionarTodos_QuandoParametroAusenteOuVazio() {
+        assertSame(CampoDeItem.TODOS, CamposUtils.camposDeItem(null));
+        assertSame(CampoDeItem.TODOS, CamposUtils.camposDeItem(" "));
+        assertSame(CampoDeItem.TODOS, CamposUtils.camposDeItem(","));
+    }
+
+    @Test
+    void camposDeItem_DeveIgnorarOrdemEspacosERepeticoes() {
+        Set<CampoDeItem> campos = CamposUtils.camposDeItem("concluido, id,descricao,id");
+
+        assertEquals(List.of(CampoDeItem.ID, CampoDeItem.DESCRICAO, CampoDeItem.CONCLUIDO), List.copyOf(campos));
+        assertEquals(campos, CamposUtils.camposDeItem("id,descricao,concluido"));
+    }
+
+    @Test
+    void camposDeItem_DeveRecusarCampoDesconhecido() {
+        CampoDeItemInvalidoException excecao = assertThrows(CampoDeItemInvalidoException.class,
+                () -> CamposUtils.camposDeItem("id,i.versao FROM Item i --"));
+
+        assertEquals("i.versao FROM Item i --", excecao.getCampo());
+        assertTrue(excecao.getMessage().endsWith(
+                "id, descricao, concluido, dataCriacao, dataAtualizacao, dataLimite, categoriaId"));
+    }
+
+    @Test
+    void camposDeItem_DeveDiferenciarMaiusculas() {
+        assertThrows(CampoDeItemInvalidoException.class, () -> CamposUtils.camposDeItem("ID"));
+    }
+
+    @Test
+    void camposDeCategoria_DeveSelecionarCamposOuRecusarDesconhecidos() {
+        assertEquals(Set.of(CampoDeCategoria.NOME), CamposUtils.camposDeCategoria("nome"));
+        assertSame(CampoDeCategoria.TODOS, CamposUtils.camposDeCategoria("nome,id"));
+        assertThrows(CampoDeCategoriaInvalidoException.class, () -> CamposUtils.camposDeCategoria("dataAtualizacao"));
+    }
+
+}
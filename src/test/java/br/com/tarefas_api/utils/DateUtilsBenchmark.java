@@ -0,0 +1,42 @@
+package br.com.tarefas_api.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark da formatação e da conversão de datas usadas em todas as respostas de itens.
+ * Executar com: mvn test -Pjmh -Djmh.filtro=DateUtilsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private final LocalDateTime data = LocalDateTime.of(2025, 12, 31, 22, 0);
+
+    private final String texto = "31/12/2025 22:00";
+
+    @Benchmark
+    public String formatDate() {
+        return DateUtils.formatDate(data);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDate() {
+        return DateUtils.parseDate(texto);
+    }
+
+}